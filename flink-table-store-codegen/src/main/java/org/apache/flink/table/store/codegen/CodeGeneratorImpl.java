@@ -21,6 +21,7 @@ package org.apache.flink.table.store.codegen;
 import org.apache.flink.table.runtime.generated.GeneratedNormalizedKeyComputer;
 import org.apache.flink.table.runtime.generated.GeneratedProjection;
 import org.apache.flink.table.runtime.generated.GeneratedRecordComparator;
+import org.apache.flink.table.store.file.predicate.Predicate;
 import org.apache.flink.table.store.utils.TypeUtils;
 import org.apache.flink.table.types.logical.LogicalType;
 import org.apache.flink.table.types.logical.RowType;
@@ -56,6 +57,12 @@ public class CodeGeneratorImpl implements CodeGenerator {
                 getAscendingSortSpec(fieldTypes.size()));
     }
 
+    @Override
+    public GeneratedPredicateEvaluator generatePredicateEvaluator(
+            String name, Predicate predicate) {
+        return PredicateCodeGenerator.gen(name, predicate);
+    }
+
     private SortSpec getAscendingSortSpec(int numFields) {
         SortSpec.SortSpecBuilder builder = SortSpec.builder();
         for (int i = 0; i < numFields; i++) {
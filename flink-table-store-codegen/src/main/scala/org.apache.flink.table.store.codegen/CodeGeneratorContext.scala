@@ -81,6 +81,16 @@ class CodeGeneratorContext {
     reusableMemberStatements.add(memberStatement)
   }
 
+  /**
+   * Adds a reusable init statement which will be placed in constructor.
+   *
+   * @param initStatement
+   *   the init statement
+   */
+  def addReusableInitStatement(initStatement: String): Unit = {
+    reusableInitStatements.add(initStatement)
+  }
+
   /**
    * Adds a reusable Object to the member area of the generated class
    * @param obj
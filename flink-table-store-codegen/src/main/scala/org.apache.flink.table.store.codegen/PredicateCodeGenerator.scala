@@ -0,0 +1,399 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.flink.table.store.codegen
+
+import org.apache.flink.table.data.RowData
+import org.apache.flink.table.store.codegen.GenerateUtils.{boxedTypeTermForType, className, primitiveTypeTermForType, rowFieldReadAccess, ROW_DATA}
+import org.apache.flink.table.store.file.predicate._
+import org.apache.flink.table.store.format.FieldStats
+import org.apache.flink.table.types.logical.LogicalType
+import org.apache.flink.table.types.logical.LogicalTypeRoot._
+
+import java.lang.{Boolean => JBoolean, Double => JDouble, Float => JFloat}
+import java.util.{Arrays, HashSet => JHashSet}
+
+import scala.collection.JavaConverters._
+import scala.collection.mutable
+
+/**
+ * A code generator for generating [[PredicateEvaluator]].
+ *
+ * Leaves on primitive, string, decimal and timestamp fields are compiled into direct field reads
+ * and comparisons against literals. Other leaves delegate to the original [[LeafPredicate]], so
+ * that the generated evaluator always produces the same results as the interpreted predicate.
+ *
+ * Literals are passed to the generated class by its references, and names are numbered within each
+ * generated class. So the code only depends on the shape of the predicate and the types of its
+ * fields, and the compiled class can be reused for predicates with other literals.
+ */
+object PredicateCodeGenerator {
+
+  private val FIELD_STATS: String = className[FieldStats]
+
+  private val ARRAYS: String = className[Arrays]
+
+  private val HASH_SET: String = className[JHashSet[_]]
+
+  private val ROW_TERM = "row"
+
+  private val ROW_COUNT_TERM = "rowCount"
+
+  private val FIELD_STATS_TERM = "fieldStats"
+
+  /**
+   * Generates a [[PredicateEvaluator]] that can be passed to a Java compiler.
+   *
+   * @param name
+   *   Class name of the function. Does not need to be unique but has to be a valid Java class
+   *   identifier.
+   * @param predicate
+   *   the predicate to evaluate.
+   * @return
+   *   A GeneratedPredicateEvaluator
+   */
+  def gen(name: String, predicate: Predicate): GeneratedPredicateEvaluator = {
+    val className = name
+    val baseClass = classOf[PredicateEvaluator]
+
+    val ctx = new PredicateContext()
+    val methods = new mutable.ArrayBuffer[String]()
+    val (rowTest, statsTest) = generatePredicate(ctx, methods, predicate)
+
+    val code =
+      s"""
+      public class $className implements ${baseClass.getCanonicalName} {
+
+        private final Object[] references;
+        ${ctx.reuseMemberCode()}
+
+        public $className(Object[] references) {
+          this.references = references;
+          ${ctx.reuseInitCode()}
+        }
+
+        @Override
+        public boolean test($ROW_DATA $ROW_TERM) {
+          return $rowTest;
+        }
+
+        @Override
+        public boolean test(long $ROW_COUNT_TERM, $FIELD_STATS[] $FIELD_STATS_TERM) {
+          return $statsTest;
+        }
+
+        ${methods.mkString("\n")}
+      }
+      """.stripMargin
+
+    new GeneratedPredicateEvaluator(className, code, ctx.references.toArray)
+  }
+
+  /** Returns the expressions testing a row and testing field stats. */
+  private def generatePredicate(
+      ctx: PredicateContext,
+      methods: mutable.ArrayBuffer[String],
+      predicate: Predicate): (String, String) = predicate match {
+    case compound: CompoundPredicate =>
+      val children = compound.children().asScala.map(generatePredicate(ctx, methods, _))
+      val (operator, empty) = compound.function() match {
+        case _: And => ("&&", "true")
+        case _: Or => ("||", "false")
+        case f => throw new CodeGenException(s"Unsupported compound function: $f")
+      }
+      def combine(terms: Seq[String]): String =
+        if (terms.isEmpty) empty else terms.mkString("(", s" $operator ", ")")
+      (combine(children.map(_._1)), combine(children.map(_._2)))
+    case leaf: LeafPredicate =>
+      val rowMethod = ctx.newName("testRow")
+      val statsMethod = ctx.newName("testStats")
+      val (rowCode, statsCode) = generateLeaf(ctx, leaf)
+      methods +=
+        s"""
+           |private boolean $rowMethod($ROW_DATA $ROW_TERM) {
+           |  $rowCode
+           |}
+           |
+           |private boolean $statsMethod(long $ROW_COUNT_TERM, $FIELD_STATS[] $FIELD_STATS_TERM) {
+           |  $statsCode
+           |}
+           |""".stripMargin
+      (s"$rowMethod($ROW_TERM)", s"$statsMethod($ROW_COUNT_TERM, $FIELD_STATS_TERM)")
+    case _ => throw new CodeGenException(s"Unsupported predicate: $predicate")
+  }
+
+  /** Returns the method bodies testing a row and testing field stats. */
+  private def generateLeaf(ctx: PredicateContext, leaf: LeafPredicate): (String, String) = {
+    val t = leaf.`type`()
+    val index = leaf.index()
+    val literals = leaf.literals().asScala
+    val nonNullLiterals = literals.filter(_ != null)
+
+    val isNull = s"$ROW_TERM.isNullAt($index)"
+    val field = rowFieldReadAccess(index, ROW_TERM, t)
+    // same as the check in LeafPredicate, stats without min or max value are not filtered
+    val statsPrefix =
+      s"""
+         |$FIELD_STATS stats = $FIELD_STATS_TERM[$index];
+         |java.lang.Long nullCount = stats.nullCount();
+         |if ((nullCount == null || $ROW_COUNT_TERM != nullCount.longValue())
+         |    && (stats.minValue() == null || stats.maxValue() == null)) {
+         |  return true;
+         |}
+         |""".stripMargin
+    val allNull = s"nullCount != null && $ROW_COUNT_TERM == nullCount.longValue()"
+    val minMax =
+      s"""
+         |${primitiveTypeTermForType(t)} min = ${unboxStats(t, "stats.minValue()")};
+         |${primitiveTypeTermForType(t)} max = ${unboxStats(t, "stats.maxValue()")};
+         |""".stripMargin
+
+    def binary(rowRelation: String, statsTest: (String, String, String) => String) = {
+      if (literals.head == null) {
+        ("return false;", s"$statsPrefix return false;")
+      } else {
+        val literal = literalTerm(ctx, leaf, t, 0)
+        val row =
+          s"""
+             |if ($isNull) {
+             |  return false;
+             |}
+             |return ${relation(t, literal, field, rowRelation)};
+             |""".stripMargin
+        val stats =
+          s"""
+             |$statsPrefix
+             |if ($allNull) {
+             |  return false;
+             |}
+             |$minMax
+             |return ${statsTest(literal, "min", "max")};
+             |""".stripMargin
+        (row, stats)
+      }
+    }
+
+    leaf.function() match {
+      case _: IsNull =>
+        (s"return $isNull;", s"$statsPrefix return nullCount == null || nullCount.longValue() > 0;")
+      case _: IsNotNull =>
+        (
+          s"return !$isNull;",
+          s"$statsPrefix return nullCount == null || nullCount.longValue() < $ROW_COUNT_TERM;")
+      case _ if !isSupported(t) =>
+        generateFallback(ctx, leaf)
+      case _: Equal =>
+        binary(
+          "==",
+          (l, min, max) => s"${relation(t, l, min, ">=")} && ${relation(t, l, max, "<=")}")
+      case _: NotEqual =>
+        binary(
+          "!=",
+          (l, min, max) => s"${relation(t, l, min, "!=")} || ${relation(t, l, max, "!=")}")
+      case _: LessThan =>
+        binary(">", (l, min, _) => relation(t, l, min, ">"))
+      case _: LessOrEqual =>
+        binary(">=", (l, min, _) => relation(t, l, min, ">="))
+      case _: GreaterThan =>
+        binary("<", (l, _, max) => relation(t, l, max, "<"))
+      case _: GreaterOrEqual =>
+        binary("<=", (l, _, max) => relation(t, l, max, "<="))
+      case _: In if nonNullLiterals.isEmpty =>
+        ("return false;", s"$statsPrefix return false;")
+      case _: NotIn if nonNullLiterals.size < literals.size =>
+        ("return false;", s"$statsPrefix return false;")
+      case f @ (_: In | _: NotIn) if isSortable(t) =>
+        val isIn = f.isInstanceOf[In]
+        val sorted = ctx.addReference(
+          sortedArray(t, nonNullLiterals),
+          "literals",
+          s"${primitiveTypeTermForType(t)}[]")
+        val row =
+          s"""
+             |if ($isNull) {
+             |  return false;
+             |}
+             |return $ARRAYS.binarySearch($sorted, $field) ${if (isIn) ">=" else "<"} 0;
+             |""".stripMargin
+        // the smallest literal not less than min is the only candidate within [min, max]
+        val statsTest = if (isIn) {
+          s"""
+             |int i = $ARRAYS.binarySearch($sorted, min);
+             |if (i >= 0) {
+             |  return true;
+             |}
+             |i = -i - 1;
+             |return i < $sorted.length && ${relation(t, s"$sorted[i]", "max", "<=")};
+             |""".stripMargin
+        } else {
+          val single = relation(t, "min", "max", "==")
+          s"return !($single && $ARRAYS.binarySearch($sorted, min) >= 0);"
+        }
+        val stats =
+          s"""
+             |$statsPrefix
+             |if ($allNull) {
+             |  return false;
+             |}
+             |$minMax
+             |$statsTest
+             |""".stripMargin
+        (row, stats)
+      case f @ (_: In | _: NotIn) if isString(t) =>
+        // BinaryStringData compares equal exactly when its bytes are equal
+        val leafTerm = ctx.addReference(leaf, "leaf", className[LeafPredicate])
+        val set = ctx.newName("literalSet")
+        ctx.addReusableMember(s"private transient $HASH_SET $set;")
+        ctx.addReusableInitStatement(s"$set = new $HASH_SET($leafTerm.literals());")
+        ctx.addReusableInitStatement(s"$set.remove(null);")
+        val row =
+          s"""
+             |if ($isNull) {
+             |  return false;
+             |}
+             |return ${if (f.isInstanceOf[In]) "" else "!"}$set.contains($field);
+             |""".stripMargin
+        (row, s"return $leafTerm.test($ROW_COUNT_TERM, $FIELD_STATS_TERM);")
+      case _ =>
+        generateFallback(ctx, leaf)
+    }
+  }
+
+  /** Delegates to the interpreted leaf predicate. */
+  private def generateFallback(ctx: PredicateContext, leaf: LeafPredicate): (String, String) = {
+    val leafTerm = ctx.addReference(leaf, "leaf", className[LeafPredicate])
+    val getterTerm = ctx.addReference(
+      RowData.createFieldGetter(leaf.`type`(), leaf.index()),
+      "fieldGetter",
+      className[RowData.FieldGetter])
+    val row =
+      s"return $leafTerm.function().test(" +
+        s"$leafTerm.type(), $getterTerm.getFieldOrNull($ROW_TERM), $leafTerm.literals());"
+    (row, s"return $leafTerm.test($ROW_COUNT_TERM, $FIELD_STATS_TERM);")
+  }
+
+  private def isSupported(t: LogicalType): Boolean = isSortable(t) || (t.getTypeRoot match {
+    case BOOLEAN | CHAR | VARCHAR | DECIMAL | TIMESTAMP_WITHOUT_TIME_ZONE |
+        TIMESTAMP_WITH_LOCAL_TIME_ZONE =>
+      true
+    case _ => false
+  })
+
+  /** Types whose values are held in primitive arrays which can be sorted and searched. */
+  private def isSortable(t: LogicalType): Boolean = t.getTypeRoot match {
+    case TINYINT | SMALLINT | INTEGER | DATE | TIME_WITHOUT_TIME_ZONE | BIGINT | FLOAT | DOUBLE =>
+      true
+    case _ => false
+  }
+
+  private def isString(t: LogicalType): Boolean = t.getTypeRoot match {
+    case CHAR | VARCHAR => true
+    case _ => false
+  }
+
+  /**
+   * Generates `compare(left, right) operator 0` with the same ordering as
+   * [[CompareUtils.compareLiteral]].
+   */
+  private def relation(t: LogicalType, left: String, right: String, operator: String): String =
+    t.getTypeRoot match {
+      case TINYINT | SMALLINT | INTEGER | DATE | TIME_WITHOUT_TIME_ZONE | BIGINT =>
+        s"$left $operator $right"
+      case BOOLEAN => s"${className[JBoolean]}.compare($left, $right) $operator 0"
+      case FLOAT => s"${className[JFloat]}.compare($left, $right) $operator 0"
+      case DOUBLE => s"${className[JDouble]}.compare($left, $right) $operator 0"
+      case _ => s"$left.compareTo($right) $operator 0"
+    }
+
+  private def unboxStats(t: LogicalType, term: String): String = {
+    val primitive = primitiveTypeTermForType(t)
+    val boxed = boxedTypeTermForType(t)
+    if (primitive == boxed) s"(($boxed) $term)" else s"(($boxed) $term).${primitive}Value()"
+  }
+
+  /** Returns a member holding the literal, which is initialized from the references. */
+  private def literalTerm(
+      ctx: PredicateContext,
+      leaf: LeafPredicate,
+      t: LogicalType,
+      i: Int): String = {
+    val literal = leaf.literals().get(i)
+    val primitive = primitiveTypeTermForType(t)
+    val boxed = boxedTypeTermForType(t)
+    val literalTerm = ctx.newName("literal")
+    ctx.addReusableMember(s"private transient $primitive $literalTerm;")
+    t.getTypeRoot match {
+      case BOOLEAN =>
+        val reference = ctx.addReference(literal, "literalReference", boxed)
+        ctx.addReusableInitStatement(s"$literalTerm = $reference.booleanValue();")
+      case _ if isSortable(t) =>
+        val reference = ctx.addReference(literal, "literalReference", className[Number])
+        ctx.addReusableInitStatement(s"$literalTerm = $reference.${primitive}Value();")
+      case _ =>
+        // literals such as BinaryStringData are not serializable on their own
+        val leafTerm = ctx.addReference(leaf, "leaf", className[LeafPredicate])
+        ctx.addReusableInitStatement(s"$literalTerm = ($boxed) $leafTerm.literals().get($i);")
+    }
+    literalTerm
+  }
+
+  private def sortedArray(t: LogicalType, literals: Seq[AnyRef]): AnyRef = {
+    val numbers = literals.map(_.asInstanceOf[Number])
+    t.getTypeRoot match {
+      case TINYINT =>
+        val array = numbers.map(_.byteValue()).toArray
+        Arrays.sort(array)
+        array
+      case SMALLINT =>
+        val array = numbers.map(_.shortValue()).toArray
+        Arrays.sort(array)
+        array
+      case INTEGER | DATE | TIME_WITHOUT_TIME_ZONE =>
+        val array = numbers.map(_.intValue()).toArray
+        Arrays.sort(array)
+        array
+      case BIGINT =>
+        val array = numbers.map(_.longValue()).toArray
+        Arrays.sort(array)
+        array
+      case FLOAT =>
+        val array = numbers.map(_.floatValue()).toArray
+        Arrays.sort(array)
+        array
+      case DOUBLE =>
+        val array = numbers.map(_.doubleValue()).toArray
+        Arrays.sort(array)
+        array
+      case _ => throw new CodeGenException(s"Unsupported type: $t")
+    }
+  }
+
+  /** A [[CodeGeneratorContext]] which numbers the names of one generated class from zero. */
+  private class PredicateContext extends CodeGeneratorContext {
+
+    private var nameCounter = 0
+
+    def newName(name: String): String = {
+      val newName = s"$name$$$nameCounter"
+      nameCounter += 1
+      newName
+    }
+
+    def addReference(obj: AnyRef, fieldNamePrefix: String, fieldTypeTerm: String): String =
+      addReusableObjectWithName(obj, newName(fieldNamePrefix), fieldTypeTerm)
+  }
+}
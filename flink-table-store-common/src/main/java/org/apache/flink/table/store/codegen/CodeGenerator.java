@@ -22,6 +22,7 @@ import org.apache.flink.table.runtime.generated.GeneratedClass;
 import org.apache.flink.table.runtime.generated.GeneratedNormalizedKeyComputer;
 import org.apache.flink.table.runtime.generated.GeneratedProjection;
 import org.apache.flink.table.runtime.generated.GeneratedRecordComparator;
+import org.apache.flink.table.store.file.predicate.Predicate;
 import org.apache.flink.table.types.logical.LogicalType;
 import org.apache.flink.table.types.logical.RowType;
 
@@ -50,4 +51,12 @@ public interface CodeGenerator {
      *     fields are compared in ascending order.
      */
     GeneratedRecordComparator generateRecordComparator(List<LogicalType> fieldTypes, String name);
+
+    /**
+     * Generate a {@link GeneratedPredicateEvaluator}.
+     *
+     * @param predicate The predicate to evaluate. Field indices of its leaves refer to the rows and
+     *     field statistics passed to the generated evaluator.
+     */
+    GeneratedPredicateEvaluator generatePredicateEvaluator(String name, Predicate predicate);
 }
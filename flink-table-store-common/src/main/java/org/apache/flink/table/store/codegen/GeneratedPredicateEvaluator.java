@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.codegen;
+
+import org.apache.flink.table.runtime.generated.CompileUtils;
+import org.apache.flink.table.store.file.predicate.PredicateEvaluator;
+
+import java.io.Serializable;
+
+/** Describes a generated {@link PredicateEvaluator}. */
+public class GeneratedPredicateEvaluator implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String className;
+    private final String code;
+    private final Object[] references;
+
+    public GeneratedPredicateEvaluator(String className, String code, Object[] references) {
+        this.className = className;
+        this.code = code;
+        this.references = references;
+    }
+
+    public PredicateEvaluator newInstance(ClassLoader classLoader) {
+        return newInstance(compile(classLoader));
+    }
+
+    public Class<PredicateEvaluator> compile(ClassLoader classLoader) {
+        return CompileUtils.compile(classLoader, className, code);
+    }
+
+    /**
+     * Instantiates a class compiled from the code of this or another evaluator with the same code,
+     * using the references of this evaluator.
+     */
+    public PredicateEvaluator newInstance(Class<PredicateEvaluator> clazz) {
+        try {
+            return clazz.getConstructor(Object[].class).newInstance(new Object[] {references});
+        } catch (Exception e) {
+            throw new RuntimeException(
+                    "Could not instantiate generated class '" + className + "'", e);
+        }
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public Object[] getReferences() {
+        return references;
+    }
+}
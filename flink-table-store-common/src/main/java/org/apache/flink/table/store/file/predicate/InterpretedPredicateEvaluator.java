@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.file.predicate;
+
+import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.store.format.FieldStats;
+import org.apache.flink.table.store.utils.RowDataToObjectArrayConverter;
+import org.apache.flink.table.types.logical.RowType;
+
+/**
+ * A {@link PredicateEvaluator} which converts rows into object arrays to test a {@link Predicate}.
+ */
+public class InterpretedPredicateEvaluator implements PredicateEvaluator {
+
+    private final Predicate predicate;
+    private final RowDataToObjectArrayConverter converter;
+
+    public InterpretedPredicateEvaluator(Predicate predicate, RowType rowType) {
+        this.predicate = predicate;
+        this.converter = new RowDataToObjectArrayConverter(rowType);
+    }
+
+    @Override
+    public boolean test(RowData row) {
+        return predicate.test(converter.convert(row));
+    }
+
+    @Override
+    public boolean test(long rowCount, FieldStats[] fieldStats) {
+        return predicate.test(rowCount, fieldStats);
+    }
+}
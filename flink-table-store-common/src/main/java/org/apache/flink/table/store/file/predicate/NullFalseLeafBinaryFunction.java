@@ -44,7 +44,8 @@ public abstract class NullFalseLeafBinaryFunction extends LeafFunction {
     @Override
     public boolean test(
             LogicalType type, long rowCount, FieldStats fieldStats, List<Object> literals) {
-        if (rowCount == fieldStats.nullCount() || literals.get(0) == null) {
+        Long nullCount = fieldStats.nullCount();
+        if ((nullCount != null && rowCount == nullCount) || literals.get(0) == null) {
             return false;
         }
         return test(type, rowCount, fieldStats, literals.get(0));
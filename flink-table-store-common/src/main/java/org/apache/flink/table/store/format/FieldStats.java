@@ -22,14 +22,26 @@ import javax.annotation.Nullable;
 
 import java.util.Objects;
 
-/** Statistics for each field. */
+/**
+ * Statistics for each field.
+ *
+ * <p>A null {@link #nullCount()} means that the file format does not record the number of nulls,
+ * for example Parquet statistics with a null count of -1. Such a field may or may not contain
+ * nulls, so filters must not skip files by it and the number of non-null values cannot be derived
+ * from it.
+ */
 public class FieldStats {
 
     @Nullable private final Object minValue;
     @Nullable private final Object maxValue;
-    private final long nullCount;
+    @Nullable private final Long nullCount;
 
     public FieldStats(@Nullable Object minValue, @Nullable Object maxValue, long nullCount) {
+        this(minValue, maxValue, Long.valueOf(nullCount));
+    }
+
+    public FieldStats(
+            @Nullable Object minValue, @Nullable Object maxValue, @Nullable Long nullCount) {
         this.minValue = minValue;
         this.maxValue = maxValue;
         this.nullCount = nullCount;
@@ -43,7 +55,9 @@ public class FieldStats {
         return maxValue;
     }
 
-    public long nullCount() {
+    /** Returns the number of nulls, or null if the file format does not record it. */
+    @Nullable
+    public Long nullCount() {
         return nullCount;
     }
 
@@ -55,7 +69,7 @@ public class FieldStats {
         FieldStats that = (FieldStats) o;
         return Objects.equals(minValue, that.minValue)
                 && Objects.equals(maxValue, that.maxValue)
-                && nullCount == that.nullCount;
+                && Objects.equals(nullCount, that.nullCount);
     }
 
     @Override
@@ -65,6 +79,6 @@ public class FieldStats {
 
     @Override
     public String toString() {
-        return String.format("{%s, %s, %d}", minValue, maxValue, nullCount);
+        return String.format("{%s, %s, %s}", minValue, maxValue, nullCount);
     }
 }
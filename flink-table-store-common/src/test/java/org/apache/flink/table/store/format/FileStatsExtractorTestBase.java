@@ -52,7 +52,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 /** Tests for {@link org.apache.flink.table.store.format.FileStatsExtractor}. */
 public abstract class FileStatsExtractorTestBase {
 
-    @TempDir java.nio.file.Path tempDir;
+    @TempDir protected java.nio.file.Path tempDir;
 
     @Test
     public void testExtract() throws Exception {
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.flink.table.store.connector.source;
+
+import org.apache.flink.table.connector.source.ScanTableSource;
+import org.apache.flink.table.connector.source.abilities.SupportsAggregatePushDown;
+import org.apache.flink.table.expressions.AggregateExpression;
+import org.apache.flink.table.functions.FunctionDefinition;
+import org.apache.flink.table.store.table.source.StatsAggregator.AggregateCall;
+import org.apache.flink.table.types.DataType;
+import org.apache.flink.table.types.logical.RowType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@link ScanTableSource} accepting the local aggregates pushed down by the planner. Only
+ * aggregates without grouping are accepted.
+ */
+public abstract class AggregatePushDownTableSource
+        implements ScanTableSource, SupportsAggregatePushDown {
+
+    @Override
+    public boolean applyAggregates(
+            List<int[]> groupingSets,
+            List<AggregateExpression> aggregateExpressions,
+            DataType producedDataType) {
+        if (groupingSets.size() != 1 || groupingSets.get(0).length > 0) {
+            return false;
+        }
+
+        List<AggregateCall> calls = new ArrayList<>();
+        for (AggregateExpression expression : aggregateExpressions) {
+            if (expression.isDistinct() || expression.getFilterExpression().isPresent()) {
+                return false;
+            }
+            // planner functions are not visible to connectors, so they are matched by name
+            String function = functionName(expression.getFunctionDefinition());
+            int numArgs = expression.getArgs().size();
+            if ("Count1AggFunction".equals(function)
+                    || ("CountAggFunction".equals(function) && numArgs == 0)) {
+                calls.add(AggregateCall.countStar());
+            } else if (numArgs != 1) {
+                return false;
+            } else {
+                int field = expression.getArgs().get(0).getFieldIndex();
+                if ("CountAggFunction".equals(function)) {
+                    calls.add(AggregateCall.count(field));
+                } else if ("MinAggFunction".equals(function)) {
+                    calls.add(AggregateCall.min(field));
+                } else if ("MaxAggFunction".equals(function)) {
+                    calls.add(AggregateCall.max(field));
+                } else {
+                    return false;
+                }
+            }
+        }
+        return applyAggregates(calls, (RowType) producedDataType.getLogicalType());
+    }
+
+    private static String functionName(FunctionDefinition definition) {
+        // MinAggFunction and MaxAggFunction have one nested subclass for each type
+        Class<?> clazz = definition.getClass();
+        while (clazz.getEnclosingClass() != null) {
+            clazz = clazz.getSuperclass();
+        }
+        return clazz.getSimpleName();
+    }
+
+    /**
+     * Returns true if the results of the given aggregate calls are produced by this source. Fields
+     * of the calls are indexes of the produced fields before aggregation.
+     */
+    protected abstract boolean applyAggregates(List<AggregateCall> calls, RowType producedType);
+}
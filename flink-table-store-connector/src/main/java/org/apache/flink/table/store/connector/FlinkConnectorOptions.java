@@ -22,10 +22,12 @@ import org.apache.flink.annotation.Internal;
 import org.apache.flink.annotation.docs.Documentation;
 import org.apache.flink.configuration.ConfigOption;
 import org.apache.flink.configuration.ConfigOptions;
+import org.apache.flink.configuration.MemorySize;
 import org.apache.flink.table.catalog.ObjectIdentifier;
 import org.apache.flink.table.factories.FactoryUtil;
 
 import java.lang.reflect.Field;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -77,6 +79,63 @@ public class FlinkConnectorOptions {
                                     + "By default, if this option is not defined, the planner will derive the parallelism "
                                     + "for each statement individually by also considering the global configuration.");
 
+    public static final ConfigOption<Boolean> SINK_USE_MANAGED_MEMORY =
+            ConfigOptions.key("sink.use-managed-memory-allocator")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "If true, flink sink will use managed memory for the write buffers of merge tree; "
+                                    + "otherwise, it will create an independent memory pool according to "
+                                    + "'write-buffer-size'.");
+
+    public static final ConfigOption<Boolean> SINK_PARTITION_SHUFFLE =
+            ConfigOptions.key("sink.partition-shuffle")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "If true, flink sink will shuffle records to writers by both partition and bucket, "
+                                    + "so that the buckets of each partition are spread evenly over the writers; "
+                                    + "otherwise, records are shuffled by bucket only, and the same bucket of "
+                                    + "all partitions is written by the same writer.");
+
+    public static final ConfigOption<MemorySize> SINK_MANAGED_WRITER_BUFFER_MEMORY =
+            ConfigOptions.key("sink.managed.writer-buffer-memory")
+                    .memoryType()
+                    .defaultValue(MemorySize.ofMebiBytes(256))
+                    .withDescription(
+                            "Weight of writer buffer in managed memory, Flink will compute the memory size "
+                                    + "for writer according to the weight, the actual memory used depends on "
+                                    + "the running environment.");
+
+    public static final ConfigOption<Boolean> SINK_COMMIT_ASYNC =
+            ConfigOptions.key("sink.commit.async")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "If true, the committer commits snapshots in a separate thread, so that slow "
+                                    + "commits do not block the processing of records and checkpoints. "
+                                    + "Checkpoints completed while a commit is running are committed together "
+                                    + "by the next commit.");
+
+    public static final ConfigOption<Boolean> SINK_COMMIT_MERGE_CHECKPOINTS =
+            ConfigOptions.key("sink.commit.merge-checkpoints")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "If true, the changes of all completed checkpoints committed together are merged "
+                                    + "into one snapshot, instead of one snapshot for each checkpoint. "
+                                    + "This keeps up the commit throughput under short checkpoint intervals.");
+
+    public static final ConfigOption<Duration> LOOKUP_RELOAD_INTERVAL =
+            ConfigOptions.key("lookup.reload-interval")
+                    .durationType()
+                    .defaultValue(Duration.ofMinutes(1))
+                    .withDescription(
+                            "Minimum interval between two full reloads of a lookup join index. New snapshots of "
+                                    + "tables using the partial-update or aggregation merge engine can not be applied "
+                                    + "to the index incrementally, so the whole index is rebuilt from the latest "
+                                    + "snapshot instead, at most once per this interval.");
+
     public static String relativeTablePath(ObjectIdentifier tableIdentifier) {
         return String.format(
                 "%s.catalog/%s.db/%s",
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.connector;
+
+import org.apache.flink.metrics.Gauge;
+import org.apache.flink.metrics.MetricGroup;
+import org.apache.flink.table.store.file.manifest.ManifestCache;
+
+import org.apache.flink.shaded.guava30.com.google.common.cache.CacheStats;
+
+import java.util.function.ToLongFunction;
+
+/** Registers the hit, miss and eviction counts of the process-wide {@link ManifestCache}. */
+public class ManifestCacheMetrics {
+
+    private ManifestCacheMetrics() {}
+
+    public static void register(MetricGroup group) {
+        group.gauge("manifestCacheHits", gauge(CacheStats::hitCount));
+        group.gauge("manifestCacheMisses", gauge(CacheStats::missCount));
+        group.gauge("manifestCacheEvictions", gauge(CacheStats::evictionCount));
+    }
+
+    private static Gauge<Long> gauge(ToLongFunction<CacheStats> stat) {
+        return () -> {
+            // the cache is created lazily by the first scan and is absent if it is disabled
+            ManifestCache cache = ManifestCache.instance();
+            return cache == null ? 0L : stat.applyAsLong(cache.stats());
+        };
+    }
+}
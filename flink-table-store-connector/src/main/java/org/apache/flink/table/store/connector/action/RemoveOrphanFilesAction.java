@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.connector.action;
+
+import org.apache.flink.api.java.utils.ParameterTool;
+import org.apache.flink.core.fs.Path;
+import org.apache.flink.table.store.file.operation.OrphanFilesClean;
+import org.apache.flink.table.store.table.FileStoreTable;
+import org.apache.flink.table.store.table.FileStoreTableFactory;
+import org.apache.flink.util.TimeUtils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Action to remove files in a table directory which are not referenced by any snapshot, for example
+ * files left behind by failed jobs or interrupted expirations.
+ *
+ * <p>Only data files and manifest files are removed. Snapshot and schema files and the hash index
+ * files of dynamic bucket mode under {@code index/} are never touched.
+ *
+ * <p>Usage: {@code --path /path/to/table [--older-than 1d]}.
+ */
+public class RemoveOrphanFilesAction {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RemoveOrphanFilesAction.class);
+
+    private final FileStoreTable table;
+
+    private Duration olderThan = Duration.ofDays(1);
+
+    public RemoveOrphanFilesAction(Path tablePath) {
+        this(FileStoreTableFactory.create(tablePath));
+    }
+
+    public RemoveOrphanFilesAction(FileStoreTable table) {
+        this.table = table;
+    }
+
+    /** Only files older than this duration are removed, so files of running jobs are kept. */
+    public RemoveOrphanFilesAction olderThan(Duration olderThan) {
+        this.olderThan = olderThan;
+        return this;
+    }
+
+    public List<Path> run() throws Exception {
+        OrphanFilesClean clean =
+                table.newOrphanFilesClean()
+                        .olderThan(System.currentTimeMillis() - olderThan.toMillis());
+        List<Path> removed = clean.clean();
+        LOG.info("Removed {} orphan files from table {}.", removed.size(), table.location());
+        return removed;
+    }
+
+    public static void main(String[] args) throws Exception {
+        ParameterTool params = ParameterTool.fromArgs(args);
+        if (!params.has("path")) {
+            throw new IllegalArgumentException(
+                    "Usage: --path <table-path> [--older-than <duration>]");
+        }
+
+        RemoveOrphanFilesAction action = new RemoveOrphanFilesAction(new Path(params.get("path")));
+        if (params.has("older-than")) {
+            action.olderThan(TimeUtils.parseDuration(params.get("older-than")));
+        }
+        action.run();
+    }
+}
@@ -0,0 +1,274 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.connector.lookup;
+
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.configuration.ConfigurationUtils;
+import org.apache.flink.table.data.GenericRowData;
+import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.data.binary.BinaryRowData;
+import org.apache.flink.table.functions.FunctionContext;
+import org.apache.flink.table.functions.TableFunction;
+import org.apache.flink.table.runtime.typeutils.RowDataSerializer;
+import org.apache.flink.table.store.CoreOptions;
+import org.apache.flink.table.store.connector.FlinkConnectorOptions;
+import org.apache.flink.table.store.file.Snapshot;
+import org.apache.flink.table.store.file.utils.RecordReaderIterator;
+import org.apache.flink.table.store.file.utils.SnapshotManager;
+import org.apache.flink.table.store.table.FileStoreTable;
+import org.apache.flink.table.store.table.source.Split;
+import org.apache.flink.table.store.table.source.TableRead;
+import org.apache.flink.table.store.table.source.TableScan;
+import org.apache.flink.table.types.logical.LogicalType;
+import org.apache.flink.table.types.logical.RowType;
+import org.apache.flink.types.RowKind;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+import static org.apache.flink.table.store.file.utils.SerializationUtils.deserializeBinaryRow;
+import static org.apache.flink.table.store.file.utils.SerializationUtils.serializeBinaryRow;
+
+/**
+ * A lookup {@link TableFunction} for tables with primary keys. The (projected) rows of the latest
+ * snapshot are loaded into a local {@link RocksDBLookupIndex} keyed by the join keys, and the index
+ * is kept up to date by applying the changes of each new {@link Snapshot.CommitKind#APPEND}
+ * snapshot through the incremental scan.
+ *
+ * <p>Changes of tables using the partial-update or aggregation merge engine are not complete rows,
+ * so the index of such tables is rebuilt from the latest snapshot instead, at most once per {@link
+ * FlinkConnectorOptions#LOOKUP_RELOAD_INTERVAL}.
+ */
+public class FileStoreLookupFunction extends TableFunction<RowData> {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Logger LOG = LoggerFactory.getLogger(FileStoreLookupFunction.class);
+
+    private final FileStoreTable table;
+    private final int[] projection;
+    private final int[] joinKeyIndex;
+
+    private transient File tmpDirectory;
+    private transient long refreshIntervalMillis;
+    private transient long reloadIntervalMillis;
+    private transient boolean incrementalRefresh;
+    private transient RowData.FieldGetter[] keyGetters;
+    private transient RowDataSerializer keySerializer;
+    private transient RowDataSerializer valueSerializer;
+
+    @Nullable private transient RocksDBLookupIndex index;
+    private transient long nextSnapshotId;
+    private transient long nextRefreshTime;
+    private transient long nextReloadTime;
+
+    /**
+     * @param table the table to look up
+     * @param projection indices of the table fields produced by this function
+     * @param joinKeyIndex indices of the join keys in the projected row, they must form the primary
+     *     key of the table
+     */
+    public FileStoreLookupFunction(FileStoreTable table, int[] projection, int[] joinKeyIndex) {
+        this.table = table;
+        this.projection = projection;
+        this.joinKeyIndex = joinKeyIndex;
+    }
+
+    @Override
+    public void open(FunctionContext context) throws Exception {
+        super.open(context);
+        this.tmpDirectory = tmpDirectory(context);
+        Configuration options = Configuration.fromMap(table.schema().options());
+        this.refreshIntervalMillis =
+                options.get(CoreOptions.CONTINUOUS_DISCOVERY_INTERVAL).toMillis();
+        this.reloadIntervalMillis =
+                options.get(FlinkConnectorOptions.LOOKUP_RELOAD_INTERVAL).toMillis();
+        // partial updates are not complete rows, so they cannot be applied to the index directly
+        this.incrementalRefresh =
+                options.get(CoreOptions.MERGE_ENGINE) == CoreOptions.MergeEngine.DEDUPLICATE;
+
+        RowType rowType = table.schema().logicalRowType();
+        RowType projectedType =
+                RowType.of(
+                        IntStream.of(projection)
+                                .mapToObj(rowType::getTypeAt)
+                                .toArray(LogicalType[]::new),
+                        IntStream.of(projection)
+                                .mapToObj(i -> rowType.getFieldNames().get(i))
+                                .toArray(String[]::new));
+        LogicalType[] keyTypes =
+                IntStream.of(joinKeyIndex)
+                        .mapToObj(projectedType::getTypeAt)
+                        .toArray(LogicalType[]::new);
+        this.keyGetters = new RowData.FieldGetter[joinKeyIndex.length];
+        for (int i = 0; i < joinKeyIndex.length; i++) {
+            keyGetters[i] = RowData.createFieldGetter(keyTypes[i], joinKeyIndex[i]);
+        }
+        this.keySerializer = new RowDataSerializer(keyTypes);
+        this.valueSerializer = new RowDataSerializer(projectedType);
+
+        reload();
+    }
+
+    /** Used by code generated by the planner, keys are internal data structures. */
+    public void eval(Object... values) throws IOException {
+        refreshIfNeeded();
+        byte[] value = index.get(serializeKey(GenericRowData.of(values)));
+        if (value != null) {
+            BinaryRowData row = deserializeBinaryRow(value);
+            row.setRowKind(RowKind.INSERT);
+            collect(row);
+        }
+    }
+
+    private void refreshIfNeeded() throws IOException {
+        long now = System.currentTimeMillis();
+        if (now < nextRefreshTime) {
+            return;
+        }
+        nextRefreshTime = now + refreshIntervalMillis;
+
+        SnapshotManager snapshotManager = table.snapshotManager();
+        while (true) {
+            if (!snapshotManager.snapshotExists(nextSnapshotId)) {
+                Long latest = snapshotManager.latestSnapshotId();
+                if (latest != null && latest > nextSnapshotId) {
+                    LOG.info("Snapshot {} has expired, reloading lookup index.", nextSnapshotId);
+                    reload();
+                }
+                return;
+            }
+
+            Snapshot snapshot = snapshotManager.snapshot(nextSnapshotId);
+            switch (snapshot.commitKind()) {
+                case APPEND:
+                    if (!incrementalRefresh) {
+                        // rebuilding the whole index is expensive, the snapshot is checked again
+                        // by the next refresh if the last reload is too recent
+                        if (now >= nextReloadTime) {
+                            reload();
+                        }
+                        return;
+                    }
+                    TableScan.Plan plan =
+                            table.newScan()
+                                    .withIncremental(true)
+                                    .withSnapshot(nextSnapshotId)
+                                    .plan();
+                    load(plan);
+                    break;
+                case OVERWRITE:
+                    reload();
+                    return;
+                default:
+                    // compaction does not change the content of the table
+                    break;
+            }
+            nextSnapshotId++;
+        }
+    }
+
+    /** Rebuilds the index from the latest snapshot. */
+    private void reload() throws IOException {
+        closeIndex();
+        File path = new File(tmpDirectory, "lookup-" + UUID.randomUUID());
+        index = new RocksDBLookupIndex(path);
+        nextReloadTime = System.currentTimeMillis() + reloadIntervalMillis;
+
+        TableScan.Plan plan = table.newScan().plan();
+        load(plan);
+        nextSnapshotId = plan.snapshotId == null ? Snapshot.FIRST_SNAPSHOT_ID : plan.snapshotId + 1;
+        LOG.info(
+                "Loaded lookup index of table {} up to snapshot {}.",
+                table.location(),
+                plan.snapshotId);
+    }
+
+    private void load(TableScan.Plan plan) throws IOException {
+        TableRead read = table.newRead().withProjection(projection);
+        for (Split split : plan.splits) {
+            try (RecordReaderIterator<RowData> iterator =
+                    new RecordReaderIterator<>(read.createReader(split))) {
+                while (iterator.hasNext()) {
+                    RowData row = iterator.next();
+                    byte[] key = toKeyBytes(row);
+                    if (row.getRowKind() == RowKind.INSERT
+                            || row.getRowKind() == RowKind.UPDATE_AFTER) {
+                        index.put(key, serializeBinaryRow(valueSerializer.toBinaryRow(row)));
+                    } else {
+                        index.delete(key);
+                    }
+                }
+            } catch (IOException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IOException(e);
+            }
+        }
+    }
+
+    /**
+     * Picks one of the temporary directories given by the job parameter {@code io.tmp.dirs}, which
+     * are meant for spilling to local disks, falling back to {@code java.io.tmpdir}.
+     */
+    private static File tmpDirectory(FunctionContext context) {
+        String[] dirs =
+                ConfigurationUtils.splitPaths(
+                        context.getJobParameter(
+                                org.apache.flink.configuration.CoreOptions.TMP_DIRS.key(), ""));
+        if (dirs.length > 0) {
+            return new File(dirs[ThreadLocalRandom.current().nextInt(dirs.length)]);
+        }
+        return new File(System.getProperty("java.io.tmpdir"));
+    }
+
+    private byte[] toKeyBytes(RowData row) {
+        // copy the keys into a new row, as the row kind is part of the serialized bytes
+        GenericRowData key = new GenericRowData(keyGetters.length);
+        for (int i = 0; i < keyGetters.length; i++) {
+            key.setField(i, keyGetters[i].getFieldOrNull(row));
+        }
+        return serializeKey(key);
+    }
+
+    private byte[] serializeKey(GenericRowData key) {
+        return serializeBinaryRow(keySerializer.toBinaryRow(key));
+    }
+
+    private void closeIndex() throws IOException {
+        if (index != null) {
+            index.close();
+            index = null;
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        closeIndex();
+        super.close();
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.connector.lookup;
+
+import org.apache.flink.util.FileUtils;
+import org.apache.flink.util.ShutdownHookUtil;
+
+import org.rocksdb.Options;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.WriteOptions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * A local key-value index backed by an embedded RocksDB instance. Data spills to the local disk
+ * under the given directory, which is removed on {@link #close()}, or when the process exits if the
+ * index is not closed.
+ */
+public class RocksDBLookupIndex implements Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RocksDBLookupIndex.class);
+
+    static {
+        RocksDB.loadLibrary();
+    }
+
+    private final File path;
+    private final Options options;
+    private final WriteOptions writeOptions;
+    private final RocksDB db;
+    private final Thread shutdownHook;
+
+    public RocksDBLookupIndex(File path) throws IOException {
+        this.path = path;
+        this.options = new Options().setCreateIfMissing(true);
+        // the index can always be rebuilt from the table, so no write-ahead log is needed
+        this.writeOptions = new WriteOptions().setDisableWAL(true);
+        try {
+            this.db = RocksDB.open(options, path.getAbsolutePath());
+        } catch (RocksDBException e) {
+            options.close();
+            writeOptions.close();
+            throw new IOException("Failed to open RocksDB at " + path, e);
+        }
+        this.shutdownHook =
+                ShutdownHookUtil.addShutdownHook(
+                        () -> FileUtils.deleteDirectoryQuietly(path),
+                        RocksDBLookupIndex.class.getSimpleName(),
+                        LOG);
+    }
+
+    @Nullable
+    public byte[] get(byte[] key) throws IOException {
+        try {
+            return db.get(key);
+        } catch (RocksDBException e) {
+            throw new IOException(e);
+        }
+    }
+
+    public void put(byte[] key, byte[] value) throws IOException {
+        try {
+            db.put(writeOptions, key, value);
+        } catch (RocksDBException e) {
+            throw new IOException(e);
+        }
+    }
+
+    public void delete(byte[] key) throws IOException {
+        try {
+            db.delete(writeOptions, key);
+        } catch (RocksDBException e) {
+            throw new IOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        db.close();
+        writeOptions.close();
+        options.close();
+        FileUtils.deleteDirectory(path);
+        ShutdownHookUtil.removeShutdownHook(
+                shutdownHook, RocksDBLookupIndex.class.getSimpleName(), LOG);
+    }
+}
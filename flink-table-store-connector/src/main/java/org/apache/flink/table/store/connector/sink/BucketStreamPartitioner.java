@@ -23,20 +23,27 @@ import org.apache.flink.runtime.plugable.SerializationDelegate;
 import org.apache.flink.streaming.runtime.partitioner.StreamPartitioner;
 import org.apache.flink.streaming.runtime.streamrecord.StreamRecord;
 import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.data.binary.BinaryRowData;
 import org.apache.flink.table.store.file.schema.TableSchema;
 import org.apache.flink.table.store.table.sink.SinkRecordConverter;
 
-/** A {@link StreamPartitioner} to partition records by bucket. */
+/**
+ * A {@link StreamPartitioner} to partition records by bucket, or by both partition and bucket if
+ * partition shuffle is enabled.
+ */
 public class BucketStreamPartitioner extends StreamPartitioner<RowData> {
 
     private final int numBucket;
     private final TableSchema tableSchema;
+    private final boolean partitionShuffle;
 
     private transient SinkRecordConverter recordConverter;
 
-    public BucketStreamPartitioner(int numBucket, TableSchema tableSchema) {
+    public BucketStreamPartitioner(
+            int numBucket, TableSchema tableSchema, boolean partitionShuffle) {
         this.numBucket = numBucket;
         this.tableSchema = tableSchema;
+        this.partitionShuffle = partitionShuffle;
     }
 
     @Override
@@ -48,7 +55,21 @@ public class BucketStreamPartitioner extends StreamPartitioner<RowData> {
     @Override
     public int selectChannel(SerializationDelegate<StreamRecord<RowData>> record) {
         RowData row = record.getInstance().getValue();
-        return recordConverter.bucket(row) % numberOfChannels;
+        int bucket = recordConverter.bucket(row);
+        return partitionShuffle
+                ? computeChannel(recordConverter.partition(row), bucket, numberOfChannels)
+                : bucket % numberOfChannels;
+    }
+
+    /**
+     * Computes the channel of a bucket in a partition. The buckets of one partition are assigned to
+     * consecutive channels starting from a channel chosen by the partition hash, so that each
+     * partition uses all channels even if it has fewer buckets than channels, and the same bucket
+     * of different partitions goes to different channels.
+     */
+    public static int computeChannel(BinaryRowData partition, int bucket, int numChannels) {
+        int startChannel = Math.abs(partition.hashCode() % numChannels);
+        return (startChannel + bucket) % numChannels;
     }
 
     @Override
@@ -29,8 +29,10 @@ import org.apache.flink.streaming.api.operators.ChainingStrategy;
 import org.apache.flink.streaming.api.operators.OneInputStreamOperator;
 import org.apache.flink.streaming.api.operators.util.SimpleVersionedListState;
 import org.apache.flink.streaming.runtime.streamrecord.StreamRecord;
+import org.apache.flink.table.store.connector.ManifestCacheMetrics;
 import org.apache.flink.table.store.file.manifest.ManifestCommittable;
 import org.apache.flink.util.Preconditions;
+import org.apache.flink.util.concurrent.ExecutorThreadFactory;
 import org.apache.flink.util.function.SerializableFunction;
 import org.apache.flink.util.function.SerializableSupplier;
 
@@ -38,9 +40,14 @@ import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Deque;
 import java.util.List;
+import java.util.Map;
 import java.util.NavigableMap;
 import java.util.TreeMap;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.apache.flink.util.Preconditions.checkNotNull;
 
@@ -61,6 +68,12 @@ public class CommitterOperator extends AbstractStreamOperator<Committable>
      */
     private final boolean streamingCheckpointEnabled;
 
+    /**
+     * If true, snapshots are committed by {@link #commitExecutor} instead of the task thread.
+     * Checkpoints completed while a commit is running are committed together by the next commit.
+     */
+    private final boolean asyncCommit;
+
     /** Group the committable by the checkpoint id. */
     private final NavigableMap<Long, ManifestCommittable> committablesPerCheckpoint;
 
@@ -79,12 +92,35 @@ public class CommitterOperator extends AbstractStreamOperator<Committable>
      */
     private Committer committer;
 
+    /** Committables of completed checkpoints waiting for {@link #commitExecutor}. */
+    private transient ConcurrentSkipListMap<Long, ManifestCommittable> pendingCommits;
+
+    private transient ExecutorService commitExecutor;
+
+    /** The largest checkpoint id handed over to {@link #commitExecutor}. */
+    private transient long handedOverCheckpointId;
+
+    /** The largest checkpoint id committed by {@link #commitExecutor}. */
+    private transient volatile long committedCheckpointId;
+
+    private transient volatile Throwable asyncCommitError;
+
     public CommitterOperator(
             boolean streamingCheckpointEnabled,
             SerializableFunction<String, Committer> committerFactory,
             SerializableSupplier<SimpleVersionedSerializer<ManifestCommittable>>
                     committableSerializer) {
+        this(streamingCheckpointEnabled, false, committerFactory, committableSerializer);
+    }
+
+    public CommitterOperator(
+            boolean streamingCheckpointEnabled,
+            boolean asyncCommit,
+            SerializableFunction<String, Committer> committerFactory,
+            SerializableSupplier<SimpleVersionedSerializer<ManifestCommittable>>
+                    committableSerializer) {
         this.streamingCheckpointEnabled = streamingCheckpointEnabled;
+        this.asyncCommit = asyncCommit;
         this.committableSerializer = committableSerializer;
         this.committablesPerCheckpoint = new TreeMap<>();
         this.committerFactory = checkNotNull(committerFactory);
@@ -136,6 +172,20 @@ public class CommitterOperator extends AbstractStreamOperator<Committable>
         commit(true, restored);
     }
 
+    @Override
+    public void open() throws Exception {
+        super.open();
+        ManifestCacheMetrics.register(getMetricGroup());
+        if (asyncCommit) {
+            pendingCommits = new ConcurrentSkipListMap<>();
+            commitExecutor =
+                    Executors.newSingleThreadExecutor(
+                            new ExecutorThreadFactory("table-store-committer"));
+            handedOverCheckpointId = Long.MIN_VALUE;
+            committedCheckpointId = Long.MIN_VALUE;
+        }
+    }
+
     private void commit(boolean isRecover, List<ManifestCommittable> committables)
             throws Exception {
         if (isRecover) {
@@ -161,6 +211,12 @@ public class CommitterOperator extends AbstractStreamOperator<Committable>
     @Override
     public void snapshotState(StateSnapshotContext context) throws Exception {
         super.snapshotState(context);
+        if (asyncCommit) {
+            checkAsyncCommitError();
+            // committables being committed are kept in the state, they are filtered out by
+            // Committer#filterRecoveredCommittables if they are committed before a failover
+            committablesPerCheckpoint.headMap(committedCheckpointId, true).clear();
+        }
         List<Committable> poll = pollInputs();
         if (poll.size() > 0) {
             committablesPerCheckpoint.put(
@@ -179,6 +235,13 @@ public class CommitterOperator extends AbstractStreamOperator<Committable>
             return;
         }
 
+        if (asyncCommit) {
+            // wait for the committables of completed checkpoints to be committed
+            commitExecutor.submit(() -> {}).get();
+            checkAsyncCommitError();
+            committablesPerCheckpoint.headMap(committedCheckpointId, true).clear();
+        }
+
         long checkpointId = Long.MAX_VALUE;
         List<Committable> poll = pollInputs();
         if (!poll.isEmpty()) {
@@ -190,7 +253,11 @@ public class CommitterOperator extends AbstractStreamOperator<Committable>
     @Override
     public void notifyCheckpointComplete(long checkpointId) throws Exception {
         super.notifyCheckpointComplete(checkpointId);
-        commitUpToCheckpoint(checkpointId);
+        if (asyncCommit) {
+            commitUpToCheckpointAsync(checkpointId);
+        } else {
+            commitUpToCheckpoint(checkpointId);
+        }
     }
 
     private void commitUpToCheckpoint(long checkpointId) throws Exception {
@@ -200,14 +267,73 @@ public class CommitterOperator extends AbstractStreamOperator<Committable>
         headMap.clear();
     }
 
+    private void commitUpToCheckpointAsync(long checkpointId) {
+        checkAsyncCommitError();
+        if (checkpointId <= handedOverCheckpointId) {
+            return;
+        }
+        pendingCommits.putAll(
+                committablesPerCheckpoint.subMap(
+                        handedOverCheckpointId, false, checkpointId, true));
+        handedOverCheckpointId = checkpointId;
+        commitExecutor.execute(this::commitPending);
+    }
+
+    /** Commits all pending committables at once, runs in {@link #commitExecutor}. */
+    private void commitPending() {
+        if (asyncCommitError != null) {
+            return;
+        }
+
+        List<ManifestCommittable> committables = new ArrayList<>();
+        long checkpointId = Long.MIN_VALUE;
+        Map.Entry<Long, ManifestCommittable> entry;
+        while ((entry = pendingCommits.pollFirstEntry()) != null) {
+            committables.add(entry.getValue());
+            checkpointId = entry.getKey();
+        }
+        if (committables.isEmpty()) {
+            // already committed together with the previous checkpoints
+            return;
+        }
+
+        try {
+            committer.commit(committables);
+            committedCheckpointId = checkpointId;
+        } catch (Throwable t) {
+            asyncCommitError = t;
+        }
+    }
+
+    private void checkAsyncCommitError() {
+        if (asyncCommitError != null) {
+            throw new RuntimeException(
+                    "Failed to commit snapshots asynchronously.", asyncCommitError);
+        }
+    }
+
     @Override
     public void processElement(StreamRecord<Committable> element) {
+        if (asyncCommit) {
+            checkAsyncCommitError();
+        }
         output.collect(element);
         this.inputs.add(element.getValue());
     }
 
     @Override
     public void close() throws Exception {
+        if (commitExecutor != null) {
+            // committables handed over belong to completed checkpoints, so they are still
+            // committed before closing
+            commitExecutor.shutdown();
+            try {
+                commitExecutor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                commitExecutor.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
         committablesPerCheckpoint.clear();
         inputs.clear();
         super.close();
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.connector.sink;
+
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.streaming.runtime.streamrecord.StreamRecord;
+import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.store.table.FileStoreTable;
+
+import javax.annotation.Nullable;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * A {@link TableWriteOperator} to write records whose buckets have been assigned by {@link
+ * HashBucketAssignerOperator}, in dynamic bucket mode.
+ */
+public class DynamicBucketWriteOperator extends TableWriteOperator<Tuple2<RowData, Integer>> {
+
+    public DynamicBucketWriteOperator(
+            FileStoreTable table, @Nullable Map<String, String> overwritePartition) {
+        super(table, overwritePartition);
+    }
+
+    @Override
+    public void processElement(StreamRecord<Tuple2<RowData, Integer>> element) throws Exception {
+        try {
+            write.write(element.getValue().f0, element.getValue().f1);
+        } catch (Exception e) {
+            throw new IOException(e);
+        }
+    }
+}
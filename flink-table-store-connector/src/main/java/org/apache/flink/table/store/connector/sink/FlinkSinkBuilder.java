@@ -18,6 +18,9 @@
 
 package org.apache.flink.table.store.connector.sink;
 
+import org.apache.flink.api.common.typeinfo.BasicTypeInfo;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.api.java.typeutils.TupleTypeInfo;
 import org.apache.flink.configuration.Configuration;
 import org.apache.flink.streaming.api.datastream.DataStream;
 import org.apache.flink.streaming.api.datastream.DataStreamSink;
@@ -39,6 +42,8 @@ import java.util.Map;
 /** Sink builder to build a flink sink from input. */
 public class FlinkSinkBuilder {
 
+    private static final String BUCKET_ASSIGNER_NAME = "Bucket Assigner";
+
     private final ObjectIdentifier tableIdentifier;
     private final FileStoreTable table;
     private final Configuration conf;
@@ -92,25 +97,68 @@ public class FlinkSinkBuilder {
 
     public DataStreamSink<?> build() {
         int numBucket = conf.get(CoreOptions.BUCKET);
-
-        BucketStreamPartitioner partitioner =
-                new BucketStreamPartitioner(numBucket, table.schema());
-        PartitionTransformation<RowData> partitioned =
-                new PartitionTransformation<>(input.getTransformation(), partitioner);
-        if (parallelism != null) {
-            partitioned.setParallelism(parallelism);
-        }
+        boolean compactionTask = conf.get(FlinkConnectorOptions.COMPACTION_MANUAL_TRIGGERED);
 
         StreamExecutionEnvironment env = input.getExecutionEnvironment();
         StoreSink sink =
                 new StoreSink(
                         tableIdentifier,
                         table,
-                        conf.get(FlinkConnectorOptions.COMPACTION_MANUAL_TRIGGERED),
+                        compactionTask,
                         getCompactPartSpec(),
                         lockFactory,
                         overwritePartition,
                         logSinkFunction);
+        if (numBucket == CoreOptions.DYNAMIC_BUCKET && !compactionTask) {
+            return buildDynamicBucketSink(env, sink);
+        }
+
+        BucketStreamPartitioner partitioner =
+                new BucketStreamPartitioner(
+                        numBucket,
+                        table.schema(),
+                        conf.get(FlinkConnectorOptions.SINK_PARTITION_SHUFFLE));
+        PartitionTransformation<RowData> partitioned =
+                new PartitionTransformation<>(input.getTransformation(), partitioner);
+        if (parallelism != null) {
+            partitioned.setParallelism(parallelism);
+        }
         return sink.sinkTo(new DataStream<>(env, partitioned));
     }
+
+    /**
+     * Records are shuffled by key hash to parallel bucket assigners, and then shuffled by the
+     * assigned buckets to writers.
+     */
+    private DataStreamSink<?> buildDynamicBucketSink(
+            StreamExecutionEnvironment env, StoreSink sink) {
+        if (logSinkFunction != null) {
+            throw new UnsupportedOperationException(
+                    "Log system is not supported in dynamic bucket mode.");
+        }
+
+        PartitionTransformation<RowData> partitioned =
+                new PartitionTransformation<>(
+                        input.getTransformation(), new KeyHashStreamPartitioner(table.schema()));
+        if (parallelism != null) {
+            partitioned.setParallelism(parallelism);
+        }
+
+        DataStream<Tuple2<RowData, Integer>> assigned =
+                new DataStream<>(env, partitioned)
+                        .transform(
+                                BUCKET_ASSIGNER_NAME,
+                                new TupleTypeInfo<>(input.getType(), BasicTypeInfo.INT_TYPE_INFO),
+                                new HashBucketAssignerOperator(table))
+                        .setParallelism(partitioned.getParallelism());
+
+        PartitionTransformation<Tuple2<RowData, Integer>> bucketed =
+                new PartitionTransformation<>(
+                        assigned.getTransformation(),
+                        new DynamicBucketStreamPartitioner(
+                                table.schema(),
+                                conf.get(FlinkConnectorOptions.SINK_PARTITION_SHUFFLE)));
+        bucketed.setParallelism(partitioned.getParallelism());
+        return sink.sinkDynamicBucketTo(new DataStream<>(env, bucketed));
+    }
 }
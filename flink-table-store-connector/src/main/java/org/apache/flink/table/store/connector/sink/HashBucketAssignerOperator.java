@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.connector.sink;
+
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.streaming.api.operators.AbstractStreamOperator;
+import org.apache.flink.streaming.api.operators.BoundedOneInput;
+import org.apache.flink.streaming.api.operators.ChainingStrategy;
+import org.apache.flink.streaming.api.operators.OneInputStreamOperator;
+import org.apache.flink.streaming.runtime.streamrecord.StreamRecord;
+import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.store.CoreOptions;
+import org.apache.flink.table.store.file.index.HashBucketAssigner;
+import org.apache.flink.table.store.table.ChangelogWithKeyFileStoreTable;
+import org.apache.flink.table.store.table.FileStoreTable;
+import org.apache.flink.table.store.table.sink.SinkRecordConverter;
+
+/**
+ * Assigns buckets to records in dynamic bucket mode with a {@link HashBucketAssigner}. Input
+ * records must be partitioned by {@link KeyHashStreamPartitioner}. The hash index is persisted
+ * before each checkpoint barrier is forwarded, so it always covers the records committed by the
+ * checkpoint.
+ */
+public class HashBucketAssignerOperator extends AbstractStreamOperator<Tuple2<RowData, Integer>>
+        implements OneInputStreamOperator<RowData, Tuple2<RowData, Integer>>, BoundedOneInput {
+
+    private static final long serialVersionUID = 1L;
+
+    private final FileStoreTable table;
+
+    private transient SinkRecordConverter recordConverter;
+    private transient HashBucketAssigner assigner;
+
+    public HashBucketAssignerOperator(FileStoreTable table) {
+        this.table = table;
+        setChainingStrategy(ChainingStrategy.ALWAYS);
+    }
+
+    @Override
+    public void open() throws Exception {
+        super.open();
+        this.recordConverter = new SinkRecordConverter(CoreOptions.DYNAMIC_BUCKET, table.schema());
+        this.assigner =
+                ((ChangelogWithKeyFileStoreTable) table)
+                        .store()
+                        .newBucketAssigner(
+                                getRuntimeContext().getNumberOfParallelSubtasks(),
+                                getRuntimeContext().getIndexOfThisSubtask());
+    }
+
+    @Override
+    public void processElement(StreamRecord<RowData> element) throws Exception {
+        RowData row = element.getValue();
+        int bucket =
+                assigner.assign(
+                        recordConverter.partition(row), recordConverter.primaryKeyHash(row));
+        output.collect(element.replace(new Tuple2<>(row, bucket)));
+    }
+
+    @Override
+    public void prepareSnapshotPreBarrier(long checkpointId) throws Exception {
+        assigner.prepareCommit();
+    }
+
+    @Override
+    public void endInput() throws Exception {
+        assigner.prepareCommit();
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.connector.sink;
+
+import org.apache.flink.core.memory.MemorySegment;
+import org.apache.flink.runtime.memory.MemoryAllocationException;
+import org.apache.flink.runtime.memory.MemoryManager;
+import org.apache.flink.table.store.file.memory.AbstractMemorySegmentPool;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * MemorySegment pool from Flink managed memory. Pages are allocated lazily from the {@link
+ * MemoryManager} of the task and accounted to the given owner.
+ */
+public class ManagedMemorySegmentPool extends AbstractMemorySegmentPool {
+
+    private final MemoryManager memoryManager;
+    private final Object owner;
+    private final List<MemorySegment> allocated;
+
+    public ManagedMemorySegmentPool(MemoryManager memoryManager, Object owner, long maxMemory) {
+        super(maxMemory, memoryManager.getPageSize());
+        this.memoryManager = memoryManager;
+        this.owner = owner;
+        this.allocated = new ArrayList<>(1);
+    }
+
+    @Override
+    protected MemorySegment allocateMemory() {
+        allocated.clear();
+        try {
+            memoryManager.allocatePages(owner, allocated, 1);
+        } catch (MemoryAllocationException e) {
+            throw new RuntimeException(e);
+        }
+        return allocated.get(0);
+    }
+
+    /** Return all pages allocated by this pool to the {@link MemoryManager}. */
+    public void release() {
+        memoryManager.releaseAll(owner);
+    }
+}
@@ -23,14 +23,17 @@ import org.apache.flink.streaming.api.operators.BoundedOneInput;
 import org.apache.flink.streaming.api.operators.ChainingStrategy;
 import org.apache.flink.streaming.api.operators.OneInputStreamOperator;
 import org.apache.flink.streaming.runtime.streamrecord.StreamRecord;
-import org.apache.flink.table.data.RowData;
 
 import java.io.IOException;
 import java.util.List;
 
-/** Prepare commit operator to emit {@link Committable}s. */
-public abstract class PrepareCommitOperator extends AbstractStreamOperator<Committable>
-        implements OneInputStreamOperator<RowData, Committable>, BoundedOneInput {
+/**
+ * Prepare commit operator to emit {@link Committable}s.
+ *
+ * @param <IN> type of the input records.
+ */
+public abstract class PrepareCommitOperator<IN> extends AbstractStreamOperator<Committable>
+        implements OneInputStreamOperator<IN, Committable>, BoundedOneInput {
 
     private boolean endOfInput = false;
 
@@ -39,7 +42,7 @@ public abstract class PrepareCommitOperator extends AbstractStreamOperator<Commi
     }
 
     @Override
-    public void processElement(StreamRecord<RowData> element) throws Exception {}
+    public void processElement(StreamRecord<IN> element) throws Exception {}
 
     @Override
     public void prepareSnapshotPreBarrier(long checkpointId) throws Exception {
@@ -19,7 +19,10 @@
 package org.apache.flink.table.store.connector.sink;
 
 import org.apache.flink.api.common.RuntimeExecutionMode;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.configuration.Configuration;
 import org.apache.flink.configuration.ExecutionOptions;
+import org.apache.flink.core.memory.ManagedMemoryUseCase;
 import org.apache.flink.streaming.api.datastream.DataStream;
 import org.apache.flink.streaming.api.datastream.DataStreamSink;
 import org.apache.flink.streaming.api.datastream.SingleOutputStreamOperator;
@@ -28,6 +31,7 @@ import org.apache.flink.streaming.api.functions.sink.DiscardingSink;
 import org.apache.flink.streaming.api.operators.OneInputStreamOperator;
 import org.apache.flink.table.catalog.ObjectIdentifier;
 import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.store.connector.FlinkConnectorOptions;
 import org.apache.flink.table.store.file.catalog.CatalogLock;
 import org.apache.flink.table.store.file.manifest.ManifestCommittableSerializer;
 import org.apache.flink.table.store.file.operation.Lock;
@@ -88,20 +92,47 @@ public class StoreSink implements Serializable {
 
     private StoreCommitter createCommitter(String user, boolean createEmptyCommit) {
         Lock lock = Lock.fromCatalog(lockFactory, tableIdentifier.toObjectPath());
+        Configuration conf = Configuration.fromMap(table.schema().options());
         return new StoreCommitter(
                 table.newCommit(user)
                         .withOverwritePartition(overwritePartition)
                         .withCreateEmptyCommit(createEmptyCommit)
+                        .withMergeCommittables(
+                                conf.get(FlinkConnectorOptions.SINK_COMMIT_MERGE_CHECKPOINTS))
                         .withLock(lock));
     }
 
     public DataStreamSink<?> sinkTo(DataStream<RowData> input) {
-        CommittableTypeInfo typeInfo = new CommittableTypeInfo();
-        SingleOutputStreamOperator<Committable> written =
-                input.transform(WRITER_NAME, typeInfo, createWriteOperator())
-                        .setParallelism(input.getParallelism());
+        return commit(
+                input.transform(WRITER_NAME, new CommittableTypeInfo(), createWriteOperator())
+                        .setParallelism(input.getParallelism()));
+    }
+
+    /** Sinks records whose buckets have been assigned, in dynamic bucket mode. */
+    public DataStreamSink<?> sinkDynamicBucketTo(DataStream<Tuple2<RowData, Integer>> input) {
+        return commit(
+                input.transform(
+                                WRITER_NAME,
+                                new CommittableTypeInfo(),
+                                new DynamicBucketWriteOperator(table, overwritePartition))
+                        .setParallelism(input.getParallelism()));
+    }
+
+    private DataStreamSink<?> commit(SingleOutputStreamOperator<Committable> written) {
+        Configuration conf = Configuration.fromMap(table.schema().options());
+        if (!compactionTask && conf.get(FlinkConnectorOptions.SINK_USE_MANAGED_MEMORY)) {
+            // declare the write buffer so that it is accounted against the slot's managed memory
+            written.getTransformation()
+                    .declareManagedMemoryUseCaseAtOperatorScope(
+                            ManagedMemoryUseCase.OPERATOR,
+                            (int)
+                                    conf.get(
+                                                    FlinkConnectorOptions
+                                                            .SINK_MANAGED_WRITER_BUFFER_MEMORY)
+                                            .getMebiBytes());
+        }
 
-        StreamExecutionEnvironment env = input.getExecutionEnvironment();
+        StreamExecutionEnvironment env = written.getExecutionEnvironment();
         boolean streamingCheckpointEnabled =
                 env.getConfiguration().get(ExecutionOptions.RUNTIME_MODE)
                                 == RuntimeExecutionMode.STREAMING
@@ -109,9 +140,10 @@ public class StoreSink implements Serializable {
         SingleOutputStreamOperator<?> committed =
                 written.transform(
                                 GLOBAL_COMMITTER_NAME,
-                                typeInfo,
+                                new CommittableTypeInfo(),
                                 new CommitterOperator(
                                         streamingCheckpointEnabled,
+                                        conf.get(FlinkConnectorOptions.SINK_COMMIT_ASYNC),
                                         // If checkpoint is enabled for streaming job, we have to
                                         // commit new files list even if they're empty.
                                         // Otherwise we can't tell if the commit is successful after
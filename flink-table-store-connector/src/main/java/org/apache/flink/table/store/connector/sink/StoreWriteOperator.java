@@ -35,24 +35,17 @@ import org.apache.flink.streaming.util.functions.StreamingFunctionUtils;
 import org.apache.flink.table.data.RowData;
 import org.apache.flink.table.store.log.LogWriteCallback;
 import org.apache.flink.table.store.table.FileStoreTable;
-import org.apache.flink.table.store.table.sink.FileCommittable;
 import org.apache.flink.table.store.table.sink.LogSinkFunction;
 import org.apache.flink.table.store.table.sink.SinkRecord;
-import org.apache.flink.table.store.table.sink.TableWrite;
 
 import javax.annotation.Nullable;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
-/** A {@link PrepareCommitOperator} to write records. */
-public class StoreWriteOperator extends PrepareCommitOperator {
-
-    private final FileStoreTable table;
-
-    @Nullable private final Map<String, String> overwritePartition;
+/** A {@link TableWriteOperator} to write records, and optionally send them to a log system. */
+public class StoreWriteOperator extends TableWriteOperator<RowData> {
 
     @Nullable private final LogSinkFunction logSinkFunction;
 
@@ -61,16 +54,13 @@ public class StoreWriteOperator extends PrepareCommitOperator {
     /** We listen to this ourselves because we don't have an {@link InternalTimerService}. */
     private long currentWatermark = Long.MIN_VALUE;
 
-    private TableWrite write;
-
     @Nullable private LogWriteCallback logCallback;
 
     public StoreWriteOperator(
             FileStoreTable table,
             @Nullable Map<String, String> overwritePartition,
             @Nullable LogSinkFunction logSinkFunction) {
-        this.table = table;
-        this.overwritePartition = overwritePartition;
+        super(table, overwritePartition);
         this.logSinkFunction = logSinkFunction;
     }
 
@@ -96,7 +86,6 @@ public class StoreWriteOperator extends PrepareCommitOperator {
     @Override
     public void open() throws Exception {
         super.open();
-        this.write = table.newWrite().withOverwrite(overwritePartition != null);
         this.sinkContext = new SimpleContext(getProcessingTimeService());
         if (logSinkFunction != null) {
             FunctionUtils.openFunction(logSinkFunction, new Configuration());
@@ -153,10 +142,6 @@ public class StoreWriteOperator extends PrepareCommitOperator {
     @Override
     public void close() throws Exception {
         super.close();
-        if (write != null) {
-            write.close();
-        }
-
         if (logSinkFunction != null) {
             FunctionUtils.closeFunction(logSinkFunction);
         }
@@ -182,15 +167,7 @@ public class StoreWriteOperator extends PrepareCommitOperator {
 
     @Override
     protected List<Committable> prepareCommit(boolean endOfInput) throws IOException {
-        List<Committable> committables = new ArrayList<>();
-        try {
-            for (FileCommittable committable : write.prepareCommit(endOfInput)) {
-                committables.add(new Committable(Committable.Kind.FILE, committable));
-            }
-        } catch (Exception e) {
-            throw new IOException(e);
-        }
-
+        List<Committable> committables = super.prepareCommit(endOfInput);
         if (logCallback != null) {
             logCallback
                     .offsets()
@@ -28,6 +28,7 @@ import org.apache.flink.table.connector.sink.abilities.SupportsOverwrite;
 import org.apache.flink.table.connector.sink.abilities.SupportsPartitioning;
 import org.apache.flink.table.factories.DynamicTableFactory;
 import org.apache.flink.table.store.CoreOptions.LogChangelogMode;
+import org.apache.flink.table.store.CoreOptions.MergeEngine;
 import org.apache.flink.table.store.connector.FlinkConnectorOptions;
 import org.apache.flink.table.store.connector.TableStoreDataStreamSinkProvider;
 import org.apache.flink.table.store.file.catalog.CatalogLock;
@@ -46,6 +47,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import static org.apache.flink.table.store.CoreOptions.LOG_CHANGELOG_MODE;
+import static org.apache.flink.table.store.CoreOptions.MERGE_ENGINE;
 
 /** Table sink to create {@link StoreSink}. */
 public class TableStoreSink implements DynamicTableSink, SupportsOverwrite, SupportsPartitioning {
@@ -79,6 +81,11 @@ public class TableStoreSink implements DynamicTableSink, SupportsOverwrite, Supp
             return requestedMode;
         } else if (table instanceof ChangelogWithKeyFileStoreTable) {
             Configuration options = Configuration.fromMap(table.schema().options());
+            if (options.get(MERGE_ENGINE) == MergeEngine.AGGREGATE) {
+                // aggregate functions can not retract, only accumulate inserted records
+                return ChangelogMode.insertOnly();
+            }
+
             if (options.get(LOG_CHANGELOG_MODE) != LogChangelogMode.ALL) {
                 // with primary key, default sink upsert
                 ChangelogMode.Builder builder = ChangelogMode.newBuilder();
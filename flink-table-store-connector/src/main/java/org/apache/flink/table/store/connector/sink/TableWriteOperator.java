@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.connector.sink;
+
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.core.memory.ManagedMemoryUseCase;
+import org.apache.flink.runtime.memory.MemoryManager;
+import org.apache.flink.table.store.connector.FlinkConnectorOptions;
+import org.apache.flink.table.store.table.FileStoreTable;
+import org.apache.flink.table.store.table.sink.FileCommittable;
+import org.apache.flink.table.store.table.sink.TableWrite;
+
+import javax.annotation.Nullable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link PrepareCommitOperator} to write records into a {@link FileStoreTable} with a {@link
+ * TableWrite}.
+ *
+ * @param <IN> type of the input records.
+ */
+public abstract class TableWriteOperator<IN> extends PrepareCommitOperator<IN> {
+
+    protected final FileStoreTable table;
+
+    @Nullable protected final Map<String, String> overwritePartition;
+
+    protected TableWrite write;
+
+    @Nullable private ManagedMemorySegmentPool memoryPool;
+
+    public TableWriteOperator(
+            FileStoreTable table, @Nullable Map<String, String> overwritePartition) {
+        this.table = table;
+        this.overwritePartition = overwritePartition;
+    }
+
+    @Override
+    public void open() throws Exception {
+        super.open();
+        this.write = table.newWrite().withOverwrite(overwritePartition != null);
+        if (Configuration.fromMap(table.schema().options())
+                .get(FlinkConnectorOptions.SINK_USE_MANAGED_MEMORY)) {
+            MemoryManager memoryManager = getContainingTask().getEnvironment().getMemoryManager();
+            double fraction =
+                    getOperatorConfig()
+                            .getManagedMemoryFractionOperatorUseCaseOfSlot(
+                                    ManagedMemoryUseCase.OPERATOR,
+                                    getContainingTask()
+                                            .getEnvironment()
+                                            .getTaskManagerInfo()
+                                            .getConfiguration(),
+                                    getUserCodeClassloader());
+            this.memoryPool =
+                    new ManagedMemorySegmentPool(
+                            memoryManager, this, memoryManager.computeMemorySize(fraction));
+            write.withMemoryPool(memoryPool);
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        super.close();
+        if (write != null) {
+            write.close();
+        }
+
+        if (memoryPool != null) {
+            memoryPool.release();
+        }
+    }
+
+    @Override
+    protected List<Committable> prepareCommit(boolean endOfInput) throws IOException {
+        List<Committable> committables = new ArrayList<>();
+        try {
+            for (FileCommittable committable : write.prepareCommit(endOfInput)) {
+                committables.add(new Committable(Committable.Kind.FILE, committable));
+            }
+        } catch (Exception e) {
+            throw new IOException(e);
+        }
+        return committables;
+    }
+}
@@ -24,9 +24,14 @@ import org.apache.flink.api.connector.source.SourceReader;
 import org.apache.flink.api.connector.source.SourceReaderContext;
 import org.apache.flink.api.connector.source.SplitEnumerator;
 import org.apache.flink.api.connector.source.SplitEnumeratorContext;
+import org.apache.flink.metrics.Gauge;
+import org.apache.flink.metrics.MetricGroup;
 import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.store.CoreOptions;
+import org.apache.flink.table.store.connector.ManifestCacheMetrics;
 import org.apache.flink.table.store.file.Snapshot;
 import org.apache.flink.table.store.file.predicate.Predicate;
+import org.apache.flink.table.store.file.utils.PrefetchMetrics;
 import org.apache.flink.table.store.file.utils.SnapshotManager;
 import org.apache.flink.table.store.table.FileStoreTable;
 import org.apache.flink.table.store.table.source.TableRead;
@@ -58,19 +63,23 @@ public class FileStoreSource
 
     @Nullable private final Predicate predicate;
 
+    @Nullable private final Long limit;
+
     public FileStoreSource(
             FileStoreTable table,
             boolean isContinuous,
             long discoveryInterval,
             boolean latestContinuous,
             @Nullable int[][] projectedFields,
-            @Nullable Predicate predicate) {
+            @Nullable Predicate predicate,
+            @Nullable Long limit) {
         this.table = table;
         this.isContinuous = isContinuous;
         this.discoveryInterval = discoveryInterval;
         this.latestContinuous = latestContinuous;
         this.projectedFields = projectedFields;
         this.predicate = predicate;
+        this.limit = limit;
     }
 
     @Override
@@ -87,7 +96,16 @@ public class FileStoreSource
         if (predicate != null) {
             read.withFilter(predicate);
         }
-        return new FileStoreSourceReader(context, read);
+        if (new CoreOptions(table.schema().options()).readPrefetch()) {
+            registerPrefetchMetrics(context.metricGroup(), read.prefetchMetrics());
+        }
+        return new FileStoreSourceReader(context, read, limit);
+    }
+
+    private static void registerPrefetchMetrics(MetricGroup group, PrefetchMetrics metrics) {
+        group.gauge("prefetchHits", (Gauge<Long>) metrics::hits);
+        group.gauge("prefetchMisses", (Gauge<Long>) metrics::misses);
+        group.gauge("prefetchWaitMillis", (Gauge<Long>) metrics::waitMillis);
     }
 
     @Override
@@ -100,11 +118,18 @@ public class FileStoreSource
     public SplitEnumerator<FileStoreSourceSplit, PendingSplitsCheckpoint> restoreEnumerator(
             SplitEnumeratorContext<FileStoreSourceSplit> context,
             PendingSplitsCheckpoint checkpoint) {
+        // the coordinator context of some Flink versions does not provide a metric group
+        if (context.metricGroup() != null) {
+            ManifestCacheMetrics.register(context.metricGroup());
+        }
         SnapshotManager snapshotManager = table.snapshotManager();
         TableScan scan = table.newScan();
         if (predicate != null) {
             scan.withFilter(predicate);
         }
+        if (limit != null) {
+            scan.withLimit(limit);
+        }
 
         Long snapshotId;
         Collection<FileStoreSourceSplit> splits;
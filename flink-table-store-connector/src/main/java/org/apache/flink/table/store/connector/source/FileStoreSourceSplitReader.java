@@ -47,13 +47,18 @@ public class FileStoreSourceSplitReader
 
     private final Pool<FileStoreRecordIterator> pool;
 
+    // records read by this reader over all splits, for the limit pushed down from a batch query
+    @Nullable private final Long limit;
+    private long numRecords;
+
     @Nullable private RecordReader<RowData> currentReader;
     @Nullable private String currentSplitId;
     private long currentNumRead;
     private RecordReader.RecordIterator<RowData> currentFirstBatch;
 
-    public FileStoreSourceSplitReader(TableRead tableRead) {
+    public FileStoreSourceSplitReader(TableRead tableRead, @Nullable Long limit) {
         this.tableRead = tableRead;
+        this.limit = limit;
         this.splits = new LinkedList<>();
         this.pool = new Pool<>(1);
         this.pool.add(new FileStoreRecordIterator());
@@ -61,6 +66,22 @@ public class FileStoreSourceSplitReader
 
     @Override
     public RecordsWithSplitIds<RecordAndPosition<RowData>> fetch() throws IOException {
+        if (reachLimit()) {
+            // enough records have been read, finish the remaining splits without reading them
+            if (currentReader == null) {
+                FileStoreSourceSplit nextSplit = splits.poll();
+                if (nextSplit == null) {
+                    throw new IOException("Cannot fetch from another split - no split remaining");
+                }
+                currentSplitId = nextSplit.splitId();
+            }
+            if (currentFirstBatch != null) {
+                currentFirstBatch.releaseBatch();
+                currentFirstBatch = null;
+            }
+            return finishSplit();
+        }
+
         checkSplitOrStartNext();
 
         // pool first, pool size is 1, the underlying implementation does not allow multiple batches
@@ -81,6 +102,10 @@ public class FileStoreSourceSplitReader
         return FileRecords.forRecords(currentSplitId, iterator.replace(nextBatch));
     }
 
+    private boolean reachLimit() {
+        return limit != null && numRecords >= limit;
+    }
+
     private FileStoreRecordIterator pool() throws IOException {
         try {
             return this.pool.pollEntry();
@@ -176,6 +201,10 @@ public class FileStoreSourceSplitReader
         @Nullable
         @Override
         public RecordAndPosition<RowData> next() {
+            if (reachLimit()) {
+                return null;
+            }
+
             RowData row;
             try {
                 row = iterator.next();
@@ -188,6 +217,7 @@ public class FileStoreSourceSplitReader
 
             recordAndPosition.setNext(row);
             currentNumRead++;
+            numRecords++;
             return recordAndPosition;
         }
 
@@ -61,6 +61,7 @@ public class FlinkSourceBuilder {
     @Nullable private LogSourceProvider logSourceProvider;
     @Nullable private Integer parallelism;
     @Nullable private WatermarkStrategy<RowData> watermarkStrategy;
+    @Nullable private Long limit;
 
     public FlinkSourceBuilder(ObjectIdentifier tableIdentifier, FileStoreTable table) {
         this.tableIdentifier = tableIdentifier;
@@ -104,18 +105,29 @@ public class FlinkSourceBuilder {
         return this;
     }
 
+    /**
+     * Only applied in batch mode, see {@link
+     * org.apache.flink.table.store.table.source.TableScan#withLimit}.
+     */
+    public FlinkSourceBuilder withLimit(@Nullable Long limit) {
+        this.limit = limit;
+        return this;
+    }
+
     private long discoveryIntervalMills() {
         return conf.get(CONTINUOUS_DISCOVERY_INTERVAL).toMillis();
     }
 
-    private FileStoreSource buildFileSource(boolean isContinuous, boolean continuousScanLatest) {
+    private FileStoreSource buildFileSource(
+            boolean isContinuous, boolean continuousScanLatest, @Nullable Long limit) {
         return new FileStoreSource(
                 table,
                 isContinuous,
                 discoveryIntervalMills(),
                 continuousScanLatest,
                 projectedFields,
-                predicate);
+                predicate,
+                limit);
     }
 
     private Source<RowData, ?, ?> buildSource() {
@@ -126,23 +138,27 @@ public class FlinkSourceBuilder {
                 throw new ValidationException(
                         "Partial update continuous reading is not supported.");
             }
+            if (table.schema().primaryKeys().size() > 0
+                    && conf.get(MERGE_ENGINE) == MergeEngine.AGGREGATE) {
+                throw new ValidationException("Aggregation continuous reading is not supported.");
+            }
 
             LogStartupMode startupMode = conf.get(LOG_SCAN);
             if (logSourceProvider == null) {
-                return buildFileSource(true, startupMode == LogStartupMode.LATEST);
+                return buildFileSource(true, startupMode == LogStartupMode.LATEST, null);
             } else {
                 if (startupMode != LogStartupMode.FULL) {
                     return logSourceProvider.createSource(null);
                 }
                 return HybridSource.<RowData, StaticFileStoreSplitEnumerator>builder(
-                                buildFileSource(false, false))
+                                buildFileSource(false, false, null))
                         .addSource(
                                 new LogHybridSourceFactory(logSourceProvider),
                                 Boundedness.CONTINUOUS_UNBOUNDED)
                         .build();
             }
         } else {
-            return buildFileSource(false, false);
+            return buildFileSource(false, false, limit);
         }
     }
 
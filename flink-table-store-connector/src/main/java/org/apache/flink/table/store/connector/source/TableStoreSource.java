@@ -23,17 +23,22 @@ import org.apache.flink.configuration.Configuration;
 import org.apache.flink.table.catalog.ObjectIdentifier;
 import org.apache.flink.table.connector.ChangelogMode;
 import org.apache.flink.table.connector.source.DynamicTableSource;
-import org.apache.flink.table.connector.source.ScanTableSource;
+import org.apache.flink.table.connector.source.LookupTableSource;
+import org.apache.flink.table.connector.source.TableFunctionProvider;
 import org.apache.flink.table.connector.source.abilities.SupportsFilterPushDown;
+import org.apache.flink.table.connector.source.abilities.SupportsLimitPushDown;
 import org.apache.flink.table.connector.source.abilities.SupportsProjectionPushDown;
 import org.apache.flink.table.connector.source.abilities.SupportsWatermarkPushDown;
+import org.apache.flink.table.data.GenericRowData;
 import org.apache.flink.table.data.RowData;
 import org.apache.flink.table.expressions.ResolvedExpression;
 import org.apache.flink.table.factories.DynamicTableFactory;
+import org.apache.flink.table.runtime.typeutils.InternalTypeInfo;
 import org.apache.flink.table.store.CoreOptions.LogChangelogMode;
 import org.apache.flink.table.store.CoreOptions.LogConsistency;
 import org.apache.flink.table.store.connector.FlinkConnectorOptions;
 import org.apache.flink.table.store.connector.TableStoreDataStreamScanProvider;
+import org.apache.flink.table.store.connector.lookup.FileStoreLookupFunction;
 import org.apache.flink.table.store.file.predicate.Predicate;
 import org.apache.flink.table.store.file.predicate.PredicateBuilder;
 import org.apache.flink.table.store.file.predicate.PredicateConverter;
@@ -43,12 +48,22 @@ import org.apache.flink.table.store.table.AppendOnlyFileStoreTable;
 import org.apache.flink.table.store.table.ChangelogValueCountFileStoreTable;
 import org.apache.flink.table.store.table.ChangelogWithKeyFileStoreTable;
 import org.apache.flink.table.store.table.FileStoreTable;
+import org.apache.flink.table.store.table.source.StatsAggregator;
+import org.apache.flink.table.store.table.source.StatsAggregator.AggregateCall;
+import org.apache.flink.table.store.table.source.StatsAggregator.AggregateKind;
 import org.apache.flink.table.types.logical.RowType;
 
 import javax.annotation.Nullable;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.apache.flink.table.store.CoreOptions.LOG_CHANGELOG_MODE;
 import static org.apache.flink.table.store.CoreOptions.LOG_CONSISTENCY;
@@ -57,12 +72,16 @@ import static org.apache.flink.table.store.CoreOptions.LOG_CONSISTENCY;
  * Table source to create {@link FileStoreSource} under batch mode or change-tracking is disabled.
  * For streaming mode with change-tracking enabled and FULL scan mode, it will create a {@link
  * org.apache.flink.connector.base.source.hybrid.HybridSource} of {@link FileStoreSource} and kafka
- * log source created by {@link LogSourceProvider}.
+ * log source created by {@link LogSourceProvider}. Tables with primary keys can also be used as the
+ * dimension table of a lookup join, see {@link FileStoreLookupFunction}. Simple aggregates of
+ * append-only tables are answered from the statistics of data files under batch mode, see {@link
+ * StatsAggregator}.
  */
-public class TableStoreSource
-        implements ScanTableSource,
+public class TableStoreSource extends AggregatePushDownTableSource
+        implements LookupTableSource,
                 SupportsFilterPushDown,
                 SupportsProjectionPushDown,
+                SupportsLimitPushDown,
                 SupportsWatermarkPushDown {
 
     private final ObjectIdentifier tableIdentifier;
@@ -76,13 +95,30 @@ public class TableStoreSource
 
     @Nullable private WatermarkStrategy<RowData> watermarkStrategy;
 
+    @Nullable private Long limit;
+
+    // results of the pushed down aggregates, computed from the statistics of data files
+    @Nullable private RowData aggregatedRow;
+    @Nullable private RowType aggregatedType;
+
     public TableStoreSource(
             ObjectIdentifier tableIdentifier,
             FileStoreTable table,
             boolean streaming,
             DynamicTableFactory.Context context,
             @Nullable LogStoreTableFactory logStoreTableFactory) {
-        this(tableIdentifier, table, streaming, context, logStoreTableFactory, null, null, null);
+        this(
+                tableIdentifier,
+                table,
+                streaming,
+                context,
+                logStoreTableFactory,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null);
     }
 
     private TableStoreSource(
@@ -93,7 +129,10 @@ public class TableStoreSource
             @Nullable LogStoreTableFactory logStoreTableFactory,
             @Nullable Predicate predicate,
             @Nullable int[][] projectFields,
-            @Nullable WatermarkStrategy<RowData> watermarkStrategy) {
+            @Nullable WatermarkStrategy<RowData> watermarkStrategy,
+            @Nullable Long limit,
+            @Nullable RowData aggregatedRow,
+            @Nullable RowType aggregatedType) {
         this.tableIdentifier = tableIdentifier;
         this.table = table;
         this.streaming = streaming;
@@ -102,6 +141,9 @@ public class TableStoreSource
         this.predicate = predicate;
         this.projectFields = projectFields;
         this.watermarkStrategy = watermarkStrategy;
+        this.limit = limit;
+        this.aggregatedRow = aggregatedRow;
+        this.aggregatedType = aggregatedType;
     }
 
     @Override
@@ -131,6 +173,15 @@ public class TableStoreSource
 
     @Override
     public ScanRuntimeProvider getScanRuntimeProvider(ScanContext scanContext) {
+        if (aggregatedRow != null) {
+            return new TableStoreDataStreamScanProvider(
+                    true,
+                    env ->
+                            env.fromCollection(
+                                    Collections.singletonList(aggregatedRow),
+                                    InternalTypeInfo.of(aggregatedType)));
+        }
+
         LogSourceProvider logSourceProvider = null;
         if (logStoreTableFactory != null) {
             logSourceProvider =
@@ -146,12 +197,42 @@ public class TableStoreSource
                         .withParallelism(
                                 Configuration.fromMap(table.schema().options())
                                         .get(FlinkConnectorOptions.SCAN_PARALLELISM))
-                        .withWatermarkStrategy(watermarkStrategy);
+                        .withWatermarkStrategy(watermarkStrategy)
+                        .withLimit(limit);
 
         return new TableStoreDataStreamScanProvider(
                 !streaming, env -> sourceBuilder.withEnv(env).build());
     }
 
+    @Override
+    public LookupRuntimeProvider getLookupRuntimeProvider(LookupContext lookupContext) {
+        if (!(table instanceof ChangelogWithKeyFileStoreTable)) {
+            throw new UnsupportedOperationException(
+                    "Lookup join is only supported for tables with primary keys.");
+        }
+
+        int[] projection =
+                projectFields == null
+                        ? IntStream.range(0, table.schema().fields().size()).toArray()
+                        : Arrays.stream(projectFields).mapToInt(p -> p[0]).toArray();
+        int[] joinKeyIndex = Arrays.stream(lookupContext.getKeys()).mapToInt(k -> k[0]).toArray();
+
+        List<String> fieldNames = table.schema().fieldNames();
+        Set<String> joinKeys =
+                IntStream.of(joinKeyIndex)
+                        .mapToObj(i -> fieldNames.get(projection[i]))
+                        .collect(Collectors.toSet());
+        if (!joinKeys.equals(new HashSet<>(table.schema().primaryKeys()))) {
+            throw new UnsupportedOperationException(
+                    String.format(
+                            "Lookup join keys %s of table %s must be its primary keys %s.",
+                            joinKeys, tableIdentifier, table.schema().primaryKeys()));
+        }
+
+        return TableFunctionProvider.of(
+                new FileStoreLookupFunction(table, projection, joinKeyIndex));
+    }
+
     @Override
     public DynamicTableSource copy() {
         return new TableStoreSource(
@@ -162,7 +243,10 @@ public class TableStoreSource
                 logStoreTableFactory,
                 predicate,
                 projectFields,
-                watermarkStrategy);
+                watermarkStrategy,
+                limit,
+                aggregatedRow,
+                aggregatedType);
     }
 
     @Override
@@ -191,8 +275,44 @@ public class TableStoreSource
         this.projectFields = projectedFields;
     }
 
+    @Override
+    public void applyLimit(long limit) {
+        this.limit = limit;
+    }
+
     @Override
     public void applyWatermark(WatermarkStrategy<RowData> watermarkStrategy) {
         this.watermarkStrategy = watermarkStrategy;
     }
+
+    @Override
+    protected boolean applyAggregates(List<AggregateCall> calls, RowType producedType) {
+        if (streaming || predicate != null || limit != null) {
+            return false;
+        }
+
+        List<AggregateCall> tableCalls = new ArrayList<>(calls.size());
+        for (AggregateCall call : calls) {
+            if (call.kind() == AggregateKind.COUNT_STAR || projectFields == null) {
+                tableCalls.add(call);
+            } else {
+                int field = projectFields[call.field()][0];
+                if (call.kind() == AggregateKind.COUNT) {
+                    tableCalls.add(AggregateCall.count(field));
+                } else if (call.kind() == AggregateKind.MIN) {
+                    tableCalls.add(AggregateCall.min(field));
+                } else {
+                    tableCalls.add(AggregateCall.max(field));
+                }
+            }
+        }
+
+        Optional<GenericRowData> result = new StatsAggregator(table).aggregate(tableCalls);
+        if (!result.isPresent()) {
+            return false;
+        }
+        this.aggregatedRow = result.get();
+        this.aggregatedType = producedType;
+        return true;
+    }
 }
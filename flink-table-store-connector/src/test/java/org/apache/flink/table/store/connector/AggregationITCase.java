@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.connector;
+
+import org.apache.flink.types.Row;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** ITCase for aggregation merge engine. */
+public class AggregationITCase extends FileStoreTableITCase {
+
+    @Override
+    protected List<String> ddl() {
+        return Collections.singletonList(
+                "CREATE TABLE IF NOT EXISTS T ("
+                        + "j INT, k INT, a INT, b BIGINT, c DECIMAL(10, 2), d STRING, e BOOLEAN,"
+                        + " PRIMARY KEY (j,k) NOT ENFORCED)"
+                        + " WITH ('merge-engine'='aggregation',"
+                        + " 'fields.a.aggregate-function'='max',"
+                        + " 'fields.b.aggregate-function'='sum',"
+                        + " 'fields.c.aggregate-function'='sum',"
+                        + " 'fields.d.aggregate-function'='listagg',"
+                        + " 'fields.e.aggregate-function'='bool_or');");
+    }
+
+    @Test
+    public void testMergeInMemory() {
+        batchSql(
+                "INSERT INTO T VALUES "
+                        + "(1, 2, 3, CAST(1 AS BIGINT), 1.01, 'a', false), "
+                        + "(1, 2, 1, CAST(NULL AS BIGINT), 2.02, 'b', CAST(NULL AS BOOLEAN)), "
+                        + "(1, 2, 2, CAST(3 AS BIGINT), CAST(NULL AS DECIMAL(10, 2)), "
+                        + "CAST(NULL AS STRING), true)");
+        List<Row> result = batchSql("SELECT * FROM T");
+        assertThat(result)
+                .containsExactlyInAnyOrder(
+                        Row.of(1, 2, 3, 4L, new BigDecimal("3.03"), "a,b", true));
+    }
+
+    @Test
+    public void testMergeRead() {
+        batchSql("INSERT INTO T VALUES (1, 2, 3, CAST(1 AS BIGINT), 1.01, 'a', false)");
+        batchSql("INSERT INTO T VALUES (1, 2, 4, CAST(2 AS BIGINT), 2.02, 'b', false)");
+        batchSql("INSERT INTO T VALUES (1, 2, 2, CAST(3 AS BIGINT), 3.03, 'c', false)");
+
+        List<Row> result = batchSql("SELECT * FROM T");
+        assertThat(result)
+                .containsExactlyInAnyOrder(
+                        Row.of(1, 2, 4, 6L, new BigDecimal("6.06"), "a,b,c", false));
+    }
+
+    @Test
+    public void testMergeCompaction() {
+        // Wait compaction
+        batchSql("ALTER TABLE T SET ('commit.force-compact'='true')");
+
+        // key 1 2
+        batchSql("INSERT INTO T VALUES (1, 2, 3, CAST(1 AS BIGINT), 1.01, 'a', false)");
+        batchSql("INSERT INTO T VALUES (1, 2, 4, CAST(2 AS BIGINT), 2.02, 'b', false)");
+        batchSql("INSERT INTO T VALUES (1, 2, 2, CAST(3 AS BIGINT), 3.03, 'c', true)");
+
+        // key 1 3
+        batchSql("INSERT INTO T VALUES (1, 3, 1, CAST(10 AS BIGINT), 1.00, 'x', false)");
+        batchSql("INSERT INTO T VALUES (1, 3, 5, CAST(20 AS BIGINT), 2.00, 'y', false)");
+
+        assertThat(batchSql("SELECT * FROM T"))
+                .containsExactlyInAnyOrder(
+                        Row.of(1, 2, 4, 6L, new BigDecimal("6.06"), "a,b,c", true),
+                        Row.of(1, 3, 5, 30L, new BigDecimal("3.00"), "x,y", false));
+    }
+
+    @Test
+    public void testStreamingRead() {
+        assertThatThrownBy(
+                () -> sEnv.from("T").execute().print(),
+                "Aggregation continuous reading is not supported");
+    }
+
+    @Test
+    public void testRetractInput() {
+        assertThatThrownBy(
+                        () ->
+                                sEnv.executeSql(
+                                        "INSERT INTO T SELECT j, k, MAX(a), SUM(b), SUM(c), MAX(d), e"
+                                                + " FROM (VALUES (1, 2, 3, CAST(1 AS BIGINT),"
+                                                + " 1.01, CAST('a' AS STRING), false)) AS V (j, k, a, b, c, d, e)"
+                                                + " GROUP BY j, k, e"))
+                .hasMessageContaining("doesn't support consuming update");
+    }
+}
@@ -18,14 +18,18 @@
 
 package org.apache.flink.table.store.connector;
 
+import org.apache.flink.core.fs.Path;
 import org.apache.flink.table.api.TableException;
 import org.apache.flink.table.planner.factories.TestValuesTableFactory;
+import org.apache.flink.table.store.connector.action.RemoveOrphanFilesAction;
 import org.apache.flink.table.store.file.Snapshot;
+import org.apache.flink.table.store.file.utils.FileUtils;
 import org.apache.flink.types.Row;
 import org.apache.flink.types.RowKind;
 
 import org.junit.Test;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -71,6 +75,32 @@ public class AppendOnlyTableITCase extends FileStoreTableITCase {
         assertThat(rows).containsExactlyInAnyOrder(Row.of("AAA"), Row.of("BBB"));
     }
 
+    @Test
+    public void testLimit() {
+        batchSql("INSERT INTO append_table VALUES (1, 'AAA'), (2, 'BBB')");
+        batchSql("INSERT INTO append_table VALUES (3, 'CCC'), (4, 'DDD')");
+
+        assertThat(batchSql("SELECT * FROM append_table LIMIT 1")).hasSize(1);
+        assertThat(batchSql("SELECT * FROM append_table LIMIT 3")).hasSize(3);
+        assertThat(batchSql("SELECT * FROM append_table WHERE id > 2 LIMIT 1"))
+                .isSubsetOf(Row.of(3, "CCC"), Row.of(4, "DDD"))
+                .hasSize(1);
+    }
+
+    @Test
+    public void testAggregatePushDown() {
+        batchSql("INSERT INTO append_table VALUES (1, 'AAA'), (2, 'BBB')");
+        batchSql("INSERT INTO append_table VALUES (3, 'CCC'), (CAST(NULL AS INT), 'DDD')");
+
+        String query = "SELECT COUNT(*), COUNT(id), MIN(id), MAX(data) FROM append_table";
+        assertThat(bEnv.explainSql(query)).contains("aggregates=[");
+        assertThat(batchSql(query)).containsExactly(Row.of(4L, 3L, 1, "DDD"));
+
+        // filters are not answered from the statistics
+        assertThat(batchSql("SELECT COUNT(*), MAX(id) FROM append_table WHERE id < 3"))
+                .containsExactly(Row.of(2L, 2));
+    }
+
     @Test
     public void testSkipDedup() {
         batchSql("INSERT INTO append_table VALUES (1, 'AAA'), (1, 'AAA'), (2, 'BBB'), (3, 'BBB')");
@@ -181,6 +211,24 @@ public class AppendOnlyTableITCase extends FileStoreTableITCase {
                         Row.of(12, "MMM"));
     }
 
+    @Test
+    public void testRemoveOrphanFiles() throws Exception {
+        batchSql("INSERT INTO append_table VALUES (1, 'AAA'), (2, 'BBB')");
+
+        Path tablePath = getTableDirectory("append_table", true);
+        Path orphanFile = new Path(tablePath, "bucket-0/data-orphan.orc");
+        FileUtils.writeFileUtf8(orphanFile, "orphan");
+
+        List<Path> removed =
+                new RemoveOrphanFilesAction(tablePath).olderThan(Duration.ofMinutes(-1)).run();
+        assertThat(removed).hasSize(1);
+        assertThat(removed.get(0).getName()).isEqualTo(orphanFile.getName());
+        assertThat(orphanFile.getFileSystem().exists(orphanFile)).isFalse();
+
+        assertThat(batchSql("SELECT * FROM append_table"))
+                .containsExactlyInAnyOrder(Row.of(1, "AAA"), Row.of(2, "BBB"));
+    }
+
     @Test
     public void testRejectDelete() {
         testRejectChanges(RowKind.DELETE);
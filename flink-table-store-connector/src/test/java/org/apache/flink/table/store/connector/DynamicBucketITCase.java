@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.connector;
+
+import org.apache.flink.core.fs.FileStatus;
+import org.apache.flink.core.fs.Path;
+import org.apache.flink.types.Row;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** ITCase for dynamic bucket mode. */
+public class DynamicBucketITCase extends FileStoreTableITCase {
+
+    @Override
+    protected List<String> ddl() {
+        return Collections.singletonList(
+                "CREATE TABLE IF NOT EXISTS T (pt INT, k INT, v STRING,"
+                        + " PRIMARY KEY (pt, k) NOT ENFORCED) PARTITIONED BY (pt)"
+                        + " WITH ('bucket'='-1', 'dynamic-bucket.target-row-num'='3')");
+    }
+
+    @Test
+    public void testWriteAndRead() throws Exception {
+        batchSql(
+                "INSERT INTO T VALUES (1, 1, 'a'), (1, 2, 'b'), (1, 3, 'c'), (1, 4, 'd'),"
+                        + " (1, 5, 'e'), (1, 6, 'f'), (1, 7, 'g'), (1, 8, 'h'), (2, 1, 'x')");
+        sEnv.executeSql("INSERT INTO T VALUES (1, 1, 'A'), (1, 9, 'i'), (2, 1, 'X')").await();
+
+        assertThat(batchSql("SELECT * FROM T"))
+                .containsExactlyInAnyOrder(
+                        Row.of(1, 1, "A"),
+                        Row.of(1, 2, "b"),
+                        Row.of(1, 3, "c"),
+                        Row.of(1, 4, "d"),
+                        Row.of(1, 5, "e"),
+                        Row.of(1, 6, "f"),
+                        Row.of(1, 7, "g"),
+                        Row.of(1, 8, "h"),
+                        Row.of(1, 9, "i"),
+                        Row.of(2, 1, "X"));
+        assertThat(batchSql("SELECT v FROM T WHERE pt = 1 AND k = 1")).containsExactly(Row.of("A"));
+
+        // 9 keys need at least 3 buckets, and partition 2 only needs one bucket
+        assertThat(numBuckets("pt=1")).isGreaterThanOrEqualTo(3);
+        assertThat(numBuckets("pt=2")).isEqualTo(1);
+    }
+
+    @Test
+    public void testPartitionShuffle() throws Exception {
+        batchSql("ALTER TABLE T SET ('sink.partition-shuffle' = 'true')");
+        batchSql(
+                "INSERT INTO T VALUES (1, 1, 'a'), (1, 2, 'b'), (1, 3, 'c'), (1, 4, 'd'),"
+                        + " (2, 1, 'x'), (2, 2, 'y'), (3, 1, 'z')");
+        batchSql("INSERT INTO T VALUES (1, 1, 'A'), (2, 2, 'Y')");
+
+        assertThat(batchSql("SELECT * FROM T"))
+                .containsExactlyInAnyOrder(
+                        Row.of(1, 1, "A"),
+                        Row.of(1, 2, "b"),
+                        Row.of(1, 3, "c"),
+                        Row.of(1, 4, "d"),
+                        Row.of(2, 1, "x"),
+                        Row.of(2, 2, "Y"),
+                        Row.of(3, 1, "z"));
+    }
+
+    private long numBuckets(String partition) throws IOException {
+        Path path = new Path(getTableDirectory("T", true), partition);
+        FileStatus[] statuses = path.getFileSystem().listStatus(path);
+        return Arrays.stream(statuses)
+                .filter(status -> status.getPath().getName().startsWith("bucket-"))
+                .count();
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.connector;
+
+import org.apache.flink.types.Row;
+import org.apache.flink.util.CloseableIterator;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** ITCase for lookup join. */
+public class LookupJoinITCase extends FileStoreTableITCase {
+
+    @Override
+    protected List<String> ddl() {
+        return Arrays.asList(
+                "CREATE TABLE IF NOT EXISTS T (i INT, proctime AS PROCTIME())",
+                "CREATE TABLE IF NOT EXISTS DIM (i INT PRIMARY KEY NOT ENFORCED, j INT, k STRING)"
+                        + " WITH ('continuous.discovery-interval'='1 ms')",
+                partialDimDdl("PARTIAL_DIM", "1 ms"),
+                partialDimDdl("SLOW_PARTIAL_DIM", "1 h"));
+    }
+
+    private static String partialDimDdl(String name, String reloadInterval) {
+        return String.format(
+                "CREATE TABLE IF NOT EXISTS %s (i INT PRIMARY KEY NOT ENFORCED, j INT, k STRING)"
+                        + " WITH ('merge-engine'='partial-update',"
+                        + " 'continuous.discovery-interval'='1 ms',"
+                        + " 'lookup.reload-interval'='%s')",
+                name, reloadInterval);
+    }
+
+    @Test
+    public void testLookup() throws Exception {
+        batchSql("INSERT INTO DIM VALUES (1, 11, '111'), (2, 22, '222')");
+
+        String query =
+                "SELECT T.i, D.j, D.k FROM T LEFT JOIN DIM FOR SYSTEM_TIME AS OF T.proctime AS D"
+                        + " ON T.i = D.i";
+        try (CloseableIterator<Row> iter = streamSqlIter(query)) {
+            batchSql("INSERT INTO T VALUES (1), (2), (3)");
+            assertThat(collect(iter, 3))
+                    .containsExactlyInAnyOrder(
+                            Row.of(1, 11, "111"), Row.of(2, 22, "222"), Row.of(3, null, null));
+
+            batchSql("INSERT INTO DIM VALUES (2, 44, '444'), (3, 33, '333')");
+            batchSql("INSERT INTO T VALUES (1), (2), (3)");
+            assertThat(collect(iter, 3))
+                    .containsExactlyInAnyOrder(
+                            Row.of(1, 11, "111"), Row.of(2, 44, "444"), Row.of(3, 33, "333"));
+        }
+    }
+
+    @Test
+    public void testLookupWithProjection() throws Exception {
+        batchSql("INSERT INTO DIM VALUES (1, 11, '111'), (2, 22, '222')");
+
+        String query =
+                "SELECT T.i, D.k FROM T LEFT JOIN DIM FOR SYSTEM_TIME AS OF T.proctime AS D"
+                        + " ON T.i = D.i";
+        try (CloseableIterator<Row> iter = streamSqlIter(query)) {
+            batchSql("INSERT INTO T VALUES (1), (3)");
+            assertThat(collect(iter, 2))
+                    .containsExactlyInAnyOrder(Row.of(1, "111"), Row.of(3, null));
+        }
+    }
+
+    @Test
+    public void testLookupPartialUpdate() throws Exception {
+        innerTestLookupPartialUpdate("PARTIAL_DIM", Row.of(1, 11, "222"));
+    }
+
+    @Test
+    public void testLookupPartialUpdateWithinReloadInterval() throws Exception {
+        // the index is not rebuilt again within the reload interval
+        innerTestLookupPartialUpdate("SLOW_PARTIAL_DIM", Row.of(1, 11, "111"));
+    }
+
+    private void innerTestLookupPartialUpdate(String dim, Row expected) throws Exception {
+        batchSql("INSERT INTO %s VALUES (1, 11, '111')", dim);
+
+        String query =
+                String.format(
+                        "SELECT T.i, D.j, D.k FROM T LEFT JOIN %s FOR SYSTEM_TIME AS OF T.proctime AS D"
+                                + " ON T.i = D.i",
+                        dim);
+        try (CloseableIterator<Row> iter = streamSqlIter(query)) {
+            batchSql("INSERT INTO T VALUES (1)");
+            assertThat(collect(iter, 1)).containsExactly(Row.of(1, 11, "111"));
+
+            batchSql("INSERT INTO %s VALUES (1, CAST(NULL AS INT), '222')", dim);
+            batchSql("INSERT INTO T VALUES (1)");
+            assertThat(collect(iter, 1)).containsExactly(expected);
+        }
+    }
+
+    @Test
+    public void testLookupNonPrimaryKey() {
+        String query =
+                "SELECT T.i, D.k FROM T LEFT JOIN DIM FOR SYSTEM_TIME AS OF T.proctime AS D"
+                        + " ON T.i = D.j";
+        assertThatThrownBy(() -> streamSqlIter(query).close())
+                .hasRootCauseInstanceOf(UnsupportedOperationException.class)
+                .hasRootCauseMessage(
+                        "Lookup join keys [j] of table `default_catalog`.`default_database`.`DIM`"
+                                + " must be its primary keys [i].");
+    }
+
+    private List<Row> collect(CloseableIterator<Row> iter, int size) {
+        List<Row> rows = new ArrayList<>(size);
+        while (rows.size() < size && iter.hasNext()) {
+            rows.add(iter.next());
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.connector;
+
+import org.apache.flink.metrics.Gauge;
+import org.apache.flink.metrics.Metric;
+import org.apache.flink.metrics.groups.UnregisteredMetricsGroup;
+import org.apache.flink.table.store.file.manifest.ManifestCache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link ManifestCacheMetrics}. */
+public class ManifestCacheMetricsTest {
+
+    @Test
+    public void testRegisterGauges() {
+        Map<String, Metric> metrics = new HashMap<>();
+        ManifestCacheMetrics.register(
+                new UnregisteredMetricsGroup() {
+                    @Override
+                    public <T, G extends Gauge<T>> G gauge(String name, G gauge) {
+                        metrics.put(name, gauge);
+                        return gauge;
+                    }
+                });
+        assertThat(metrics)
+                .containsOnlyKeys(
+                        "manifestCacheHits", "manifestCacheMisses", "manifestCacheEvictions");
+
+        ManifestCache cache = ManifestCache.getOrCreate(1024 * 1024);
+        long hits = value(metrics, "manifestCacheHits");
+        long misses = value(metrics, "manifestCacheMisses");
+        String path = "manifest-metrics-test-" + System.nanoTime();
+        cache.get(path, Collections::emptyList);
+        cache.get(path, Collections::emptyList);
+        cache.invalidate(path);
+
+        assertThat(value(metrics, "manifestCacheHits")).isEqualTo(hits + 1);
+        assertThat(value(metrics, "manifestCacheMisses")).isEqualTo(misses + 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static long value(Map<String, Metric> metrics, String name) {
+        return ((Gauge<Long>) metrics.get(name)).getValue();
+    }
+}
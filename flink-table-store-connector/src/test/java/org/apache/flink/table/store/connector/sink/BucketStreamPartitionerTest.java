@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.connector.sink;
+
+import org.apache.flink.table.data.binary.BinaryRowData;
+import org.apache.flink.table.data.writer.BinaryRowWriter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Test for {@link BucketStreamPartitioner}. */
+public class BucketStreamPartitionerTest {
+
+    @Test
+    public void testBucketsOfPartitionSpreadOverChannels() {
+        int numChannels = 8;
+        for (int i = 0; i < 100; i++) {
+            BinaryRowData partition = partition(i);
+            Set<Integer> channels = new HashSet<>();
+            for (int bucket = 0; bucket < numChannels; bucket++) {
+                int channel =
+                        BucketStreamPartitioner.computeChannel(partition, bucket, numChannels);
+                assertThat(channel).isBetween(0, numChannels - 1);
+                channels.add(channel);
+            }
+            assertThat(channels).hasSize(numChannels);
+        }
+    }
+
+    @Test
+    public void testSameBucketOfPartitionsSpreadOverChannels() {
+        int numChannels = 8;
+        Set<Integer> channels = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            channels.add(BucketStreamPartitioner.computeChannel(partition(i), 0, numChannels));
+        }
+        assertThat(channels).hasSize(numChannels);
+    }
+
+    private BinaryRowData partition(int i) {
+        BinaryRowData row = new BinaryRowData(1);
+        BinaryRowWriter writer = new BinaryRowWriter(row);
+        writer.writeInt(0, i);
+        writer.complete();
+        return row;
+    }
+}
@@ -28,11 +28,13 @@ import org.apache.flink.table.api.DataTypes;
 import org.apache.flink.table.data.GenericRowData;
 import org.apache.flink.table.data.RowData;
 import org.apache.flink.table.store.CoreOptions;
+import org.apache.flink.table.store.file.Snapshot;
 import org.apache.flink.table.store.file.manifest.ManifestCommittableSerializer;
 import org.apache.flink.table.store.file.schema.SchemaManager;
 import org.apache.flink.table.store.file.schema.UpdateSchema;
 import org.apache.flink.table.store.file.utils.RecordReader;
 import org.apache.flink.table.store.file.utils.RecordReaderIterator;
+import org.apache.flink.table.store.file.utils.SnapshotManager;
 import org.apache.flink.table.store.table.FileStoreTable;
 import org.apache.flink.table.store.table.FileStoreTableFactory;
 import org.apache.flink.table.store.table.sink.FileCommittable;
@@ -116,6 +118,47 @@ public class CommitterOperatorTest {
         assertResults(table, "1, 10", "2, 20");
     }
 
+    @Test
+    public void testAsyncCommitMergeCheckpoints() throws Exception {
+        FileStoreTable table = createFileStoreTable();
+
+        OneInputStreamOperatorTestHarness<Committable, Committable> testHarness =
+                createTestHarness(table, true);
+        testHarness.open();
+
+        TableWrite write = table.newWrite();
+        long timestamp = 1;
+        OperatorSubtaskState snapshot = null;
+        for (int checkpointId = 1; checkpointId <= 3; checkpointId++) {
+            write.write(GenericRowData.of(checkpointId, checkpointId * 10L));
+            for (FileCommittable committable : write.prepareCommit(false)) {
+                testHarness.processElement(
+                        new Committable(Committable.Kind.FILE, committable), timestamp++);
+            }
+            snapshot = testHarness.snapshot(checkpointId, timestamp++);
+        }
+        write.close();
+
+        // only the last checkpoint is notified, all checkpoints are committed in one snapshot
+        testHarness.notifyOfCompletedCheckpoint(3);
+        testHarness.close();
+
+        SnapshotManager snapshotManager = table.snapshotManager();
+        assertThat(snapshotManager.latestSnapshotId()).isEqualTo(1L);
+        Snapshot latest = snapshotManager.snapshot(1);
+        assertThat(latest.commitKind()).isEqualTo(Snapshot.CommitKind.APPEND);
+        assertThat(latest.commitIdentifier()).isEqualTo("3");
+        assertResults(table, "1, 10", "2, 20", "3, 30");
+
+        // all checkpoints in state are already committed, no failure is needed
+        testHarness = createTestHarness(table, true);
+        testHarness.initializeState(snapshot);
+        testHarness.open();
+        testHarness.close();
+        assertThat(snapshotManager.latestSnapshotId()).isEqualTo(1L);
+        assertResults(table, "1, 10", "2, 20", "3, 30");
+    }
+
     private void assertResults(FileStoreTable table, String... expected) {
         TableRead read = table.newRead();
         List<String> actual = new ArrayList<>();
@@ -157,10 +200,18 @@ public class CommitterOperatorTest {
 
     private OneInputStreamOperatorTestHarness<Committable, Committable> createTestHarness(
             FileStoreTable table) throws Exception {
+        return createTestHarness(table, false);
+    }
+
+    private OneInputStreamOperatorTestHarness<Committable, Committable> createTestHarness(
+            FileStoreTable table, boolean asyncCommit) throws Exception {
         CommitterOperator operator =
                 new CommitterOperator(
                         true,
-                        user -> new StoreCommitter(table.newCommit(user)),
+                        asyncCommit,
+                        user ->
+                                new StoreCommitter(
+                                        table.newCommit(user).withMergeCommittables(asyncCommit)),
                         ManifestCommittableSerializer::new);
         TypeSerializer<Committable> serializer =
                 new CommittableTypeInfo().createSerializer(new ExecutionConfig());
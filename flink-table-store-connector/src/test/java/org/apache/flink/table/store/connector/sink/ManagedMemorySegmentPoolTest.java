@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.connector.sink;
+
+import org.apache.flink.core.memory.MemorySegment;
+import org.apache.flink.runtime.memory.MemoryManager;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Test for {@link ManagedMemorySegmentPool}. */
+public class ManagedMemorySegmentPoolTest {
+
+    @Test
+    public void testAllocateAndRelease() {
+        int pageSize = MemoryManager.DEFAULT_PAGE_SIZE;
+        MemoryManager memoryManager = MemoryManager.create(pageSize * 10L, pageSize);
+        Object owner = new Object();
+        ManagedMemorySegmentPool pool =
+                new ManagedMemorySegmentPool(memoryManager, owner, pageSize * 2L);
+
+        assertThat(pool.pageSize()).isEqualTo(pageSize);
+        assertThat(pool.freePages()).isEqualTo(2);
+
+        MemorySegment first = pool.nextSegment();
+        MemorySegment second = pool.nextSegment();
+        assertThat(first).isNotNull();
+        assertThat(second).isNotNull();
+        assertThat(pool.nextSegment()).isNull();
+        assertThat(memoryManager.availableMemory()).isEqualTo(pageSize * 8L);
+
+        pool.returnAll(Collections.singletonList(first));
+        assertThat(pool.freePages()).isEqualTo(1);
+        assertThat(pool.nextSegment()).isSameAs(first);
+
+        pool.release();
+        assertThat(memoryManager.verifyEmpty()).isTrue();
+    }
+}
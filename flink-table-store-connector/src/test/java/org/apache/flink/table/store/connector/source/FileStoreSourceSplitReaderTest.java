@@ -91,7 +91,8 @@ public class FileStoreSourceSplitReaderTest {
         TestChangelogDataReadWrite rw = new TestChangelogDataReadWrite(tempDir.toString(), service);
         FileStoreSourceSplitReader reader =
                 new FileStoreSourceSplitReader(
-                        valueCountMode ? rw.createReadWithValueCount() : rw.createReadWithKey());
+                        valueCountMode ? rw.createReadWithValueCount() : rw.createReadWithKey(),
+                        null);
 
         List<Tuple2<Long, Long>> input = kvs();
         List<DataFileMeta> files = rw.writeFiles(row(1), 0, input);
@@ -132,7 +133,8 @@ public class FileStoreSourceSplitReaderTest {
     @Test
     public void testPrimaryKeyWithDelete() throws Exception {
         TestChangelogDataReadWrite rw = new TestChangelogDataReadWrite(tempDir.toString(), service);
-        FileStoreSourceSplitReader reader = new FileStoreSourceSplitReader(rw.createReadWithKey());
+        FileStoreSourceSplitReader reader =
+                new FileStoreSourceSplitReader(rw.createReadWithKey(), null);
 
         List<Tuple2<Long, Long>> input = kvs();
         RecordWriter<KeyValue> writer = rw.createMergeTreeWriter(row(1), 0);
@@ -171,7 +173,8 @@ public class FileStoreSourceSplitReaderTest {
     @Test
     public void testMultipleBatchInSplit() throws Exception {
         TestChangelogDataReadWrite rw = new TestChangelogDataReadWrite(tempDir.toString(), service);
-        FileStoreSourceSplitReader reader = new FileStoreSourceSplitReader(rw.createReadWithKey());
+        FileStoreSourceSplitReader reader =
+                new FileStoreSourceSplitReader(rw.createReadWithKey(), null);
 
         List<Tuple2<Long, Long>> input1 = kvs();
         List<DataFileMeta> files = rw.writeFiles(row(1), 0, input1);
@@ -207,7 +210,8 @@ public class FileStoreSourceSplitReaderTest {
     @Test
     public void testRestore() throws Exception {
         TestChangelogDataReadWrite rw = new TestChangelogDataReadWrite(tempDir.toString(), service);
-        FileStoreSourceSplitReader reader = new FileStoreSourceSplitReader(rw.createReadWithKey());
+        FileStoreSourceSplitReader reader =
+                new FileStoreSourceSplitReader(rw.createReadWithKey(), null);
 
         List<Tuple2<Long, Long>> input = kvs();
         List<DataFileMeta> files = rw.writeFiles(row(1), 0, input);
@@ -233,7 +237,8 @@ public class FileStoreSourceSplitReaderTest {
     @Test
     public void testRestoreMultipleBatchInSplit() throws Exception {
         TestChangelogDataReadWrite rw = new TestChangelogDataReadWrite(tempDir.toString(), service);
-        FileStoreSourceSplitReader reader = new FileStoreSourceSplitReader(rw.createReadWithKey());
+        FileStoreSourceSplitReader reader =
+                new FileStoreSourceSplitReader(rw.createReadWithKey(), null);
 
         List<Tuple2<Long, Long>> input1 = kvs();
         List<DataFileMeta> files = rw.writeFiles(row(1), 0, input1);
@@ -264,7 +269,8 @@ public class FileStoreSourceSplitReaderTest {
     @Test
     public void testMultipleSplits() throws Exception {
         TestChangelogDataReadWrite rw = new TestChangelogDataReadWrite(tempDir.toString(), service);
-        FileStoreSourceSplitReader reader = new FileStoreSourceSplitReader(rw.createReadWithKey());
+        FileStoreSourceSplitReader reader =
+                new FileStoreSourceSplitReader(rw.createReadWithKey(), null);
 
         List<Tuple2<Long, Long>> input1 = kvs();
         List<DataFileMeta> files1 = rw.writeFiles(row(1), 0, input1);
@@ -299,10 +305,43 @@ public class FileStoreSourceSplitReaderTest {
         reader.close();
     }
 
+    @Test
+    public void testLimit() throws Exception {
+        TestChangelogDataReadWrite rw = new TestChangelogDataReadWrite(tempDir.toString(), service);
+        FileStoreSourceSplitReader reader =
+                new FileStoreSourceSplitReader(rw.createReadWithKey(), 3L);
+
+        List<Tuple2<Long, Long>> input1 = kvs();
+        List<DataFileMeta> files1 = rw.writeFiles(row(1), 0, input1);
+        assignSplit(reader, newSourceSplit("id1", row(1), 0, files1));
+
+        List<Tuple2<Long, Long>> input2 = kvs();
+        List<DataFileMeta> files2 = rw.writeFiles(row(2), 1, input2);
+        assignSplit(reader, newSourceSplit("id2", row(2), 1, files2));
+
+        RecordsWithSplitIds<RecordAndPosition<RowData>> records = reader.fetch();
+        assertRecords(
+                records,
+                null,
+                "id1",
+                0,
+                input1.stream().limit(3).map(t -> t.f1).collect(Collectors.toList()));
+
+        records = reader.fetch();
+        assertRecords(records, "id1", "id1", 0, null);
+
+        // the second split is finished without being read
+        records = reader.fetch();
+        assertRecords(records, "id2", "id2", 0, null);
+
+        reader.close();
+    }
+
     @Test
     public void testNoSplit() throws Exception {
         TestChangelogDataReadWrite rw = new TestChangelogDataReadWrite(tempDir.toString(), service);
-        FileStoreSourceSplitReader reader = new FileStoreSourceSplitReader(rw.createReadWithKey());
+        FileStoreSourceSplitReader reader =
+                new FileStoreSourceSplitReader(rw.createReadWithKey(), null);
         assertThatThrownBy(reader::fetch).hasMessageContaining("no split remaining");
         reader.close();
     }
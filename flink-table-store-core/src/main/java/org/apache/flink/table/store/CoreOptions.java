@@ -32,6 +32,8 @@ import org.apache.flink.table.store.file.WriteMode;
 import org.apache.flink.table.store.format.FileFormat;
 import org.apache.flink.util.Preconditions;
 
+import javax.annotation.Nullable;
+
 import java.io.Serializable;
 import java.lang.reflect.Field;
 import java.time.Duration;
@@ -46,11 +48,34 @@ import static org.apache.flink.configuration.description.TextElement.text;
 /** Core options for table store. */
 public class CoreOptions implements Serializable {
 
+    public static final String FIELDS_PREFIX = "fields";
+
+    public static final String AGG_FUNCTION = "aggregate-function";
+
+    public static final String LIST_AGG_DELIMITER = "list-agg-delimiter";
+
+    public static final String DEFAULT_LIST_AGG_DELIMITER = ",";
+
+    public static final int DYNAMIC_BUCKET = -1;
+
     public static final ConfigOption<Integer> BUCKET =
             ConfigOptions.key("bucket")
                     .intType()
                     .defaultValue(1)
-                    .withDescription("Bucket number for file store.");
+                    .withDescription(
+                            "Bucket number for file store. Set to -1 to enable dynamic bucket mode"
+                                    + " for tables with primary keys: keys are assigned to buckets"
+                                    + " by a persisted hash index, and new buckets are created once"
+                                    + " existing ones are full.");
+
+    public static final ConfigOption<Long> DYNAMIC_BUCKET_TARGET_ROW_NUM =
+            ConfigOptions.key("dynamic-bucket.target-row-num")
+                    .longType()
+                    .defaultValue(2_000_000L)
+                    .withDescription(
+                            "In dynamic bucket mode, the target number of keys in a bucket. A new"
+                                    + " bucket is created once all buckets of a partition reach"
+                                    + " this number.");
 
     public static final ConfigOption<String> BUCKET_KEY =
             ConfigOptions.key("bucket-key")
@@ -103,6 +128,41 @@ public class CoreOptions implements Serializable {
                             "To avoid frequent manifest merges, this parameter specifies the minimum number "
                                     + "of ManifestFileMeta to merge.");
 
+    public static final ConfigOption<Boolean> MANIFEST_TIERED_MERGE =
+            ConfigOptions.key("manifest.tiered-merge")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to merge manifest files by size tiers. Manifest files smaller than "
+                                    + "the target file size are grouped into tiers by their size, each tier is "
+                                    + "'manifest.merge-min-count' times smaller than the previous one. The newest "
+                                    + "manifest files of a tier are merged once there are "
+                                    + "'manifest.merge-min-count' of them, so each commit only rewrites a "
+                                    + "bounded amount of manifests. Manifest files reaching the target file size are "
+                                    + "fully merged once entries of deleted data files outnumber the live data "
+                                    + "files in them.");
+
+    public static final ConfigOption<Boolean> MANIFEST_FULL_MERGE_ASYNC =
+            ConfigOptions.key("manifest.full-merge.async")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to fully merge manifest files in the background when "
+                                    + "'manifest.tiered-merge' is enabled. The result is used by a later "
+                                    + "commit, it is discarded if the merged manifest files were changed "
+                                    + "in the meantime or if the committer is closed. Otherwise the full "
+                                    + "merge runs on the commit path and rewrites all manifest files up to "
+                                    + "the last full-size one, which delays that commit.");
+
+    public static final ConfigOption<MemorySize> MANIFEST_CACHE_SIZE =
+            ConfigOptions.key("manifest.cache-size")
+                    .memoryType()
+                    .defaultValue(MemorySize.ofMebiBytes(64))
+                    .withDescription(
+                            "Maximum memory of decoded manifest entries cached in a process to avoid re-reading "
+                                    + "manifest files on every scan and commit. The cache is shared by all tables in "
+                                    + "the process and sized by the first table using it. Set to 0 to disable the cache.");
+
     public static final ConfigOption<String> PARTITION_DEFAULT_NAME =
             key("partition.default-name")
                     .stringType()
@@ -129,6 +189,40 @@ public class CoreOptions implements Serializable {
                     .defaultValue(Duration.ofHours(1))
                     .withDescription("The maximum time of completed snapshots to retain.");
 
+    public static final ConfigOption<Boolean> SNAPSHOT_EXPIRE_ASYNC =
+            ConfigOptions.key("snapshot.expire.async")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to expire snapshots in a background thread instead of "
+                                    + "after each commit. A commit does not wait for the "
+                                    + "expiration, and no new expiration is triggered while "
+                                    + "the previous one is still running.");
+
+    public static final ConfigOption<Duration> SNAPSHOT_EXPIRE_INTERVAL =
+            ConfigOptions.key("snapshot.expire.interval")
+                    .durationType()
+                    .defaultValue(Duration.ZERO)
+                    .withDescription(
+                            "The minimum interval between two snapshot expirations triggered "
+                                    + "by commits.");
+
+    public static final ConfigOption<Integer> SNAPSHOT_EXPIRE_DELETE_THREADS =
+            ConfigOptions.key("snapshot.expire.delete-threads")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The number of threads to delete the files of expired snapshots.");
+
+    public static final ConfigOption<Integer> SNAPSHOT_EXPIRE_BATCH_SIZE =
+            ConfigOptions.key("snapshot.expire.batch-size")
+                    .intType()
+                    .defaultValue(100)
+                    .withDescription(
+                            "The number of snapshots expired in one batch. The earliest snapshot "
+                                    + "hint is updated after each batch, so an interrupted "
+                                    + "expiration resumes from the last finished batch.");
+
     public static final ConfigOption<Duration> CONTINUOUS_DISCOVERY_INTERVAL =
             ConfigOptions.key("continuous.discovery-interval")
                     .durationType()
@@ -161,6 +255,33 @@ public class CoreOptions implements Serializable {
                             "Open file cost of a source file. It is used to avoid reading"
                                     + " too many files with a source split, which can be very slow.");
 
+    public static final ConfigOption<Boolean> READ_PREFETCH =
+            ConfigOptions.key("read.prefetch")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to open data files and read their batches in the background. The next file "
+                                    + "of each sorted run is opened and the next batch of each file is read while the "
+                                    + "current batch is processed, which hides the latency of object stores. "
+                                    + "Each open file holds at most two batches in memory.");
+
+    public static final ConfigOption<Integer> READ_PREFETCH_THREADS =
+            ConfigOptions.key("read.prefetch.threads")
+                    .intType()
+                    .defaultValue(16)
+                    .withDescription(
+                            "Number of threads to open data files and read their batches in the background. "
+                                    + "The threads are shared by all readers in the process, if tables ask for "
+                                    + "different numbers, the largest one is used.");
+
+    public static final ConfigOption<Integer> READ_PREFETCH_NEXT_FILES =
+            ConfigOptions.key("read.prefetch.next-files")
+                    .intType()
+                    .defaultValue(4)
+                    .withDescription(
+                            "Maximum number of files a split opens ahead of the files being read when "
+                                    + "prefetching. Each sorted run of the split opens at most its next file ahead.");
+
     public static final ConfigOption<MemorySize> WRITE_BUFFER_SIZE =
             ConfigOptions.key("write-buffer-size")
                     .memoryType()
@@ -168,6 +289,33 @@ public class CoreOptions implements Serializable {
                     .withDescription(
                             "Amount of data to build up in memory before converting to a sorted on-disk file.");
 
+    public static final ConfigOption<Boolean> WRITE_BUFFER_OFF_HEAP =
+            ConfigOptions.key("write-buffer-off-heap")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to allocate the pages of the write buffer from direct memory instead of the JVM heap.");
+
+    public static final ConfigOption<Boolean> WRITE_BUFFER_ASYNC_FLUSH =
+            ConfigOptions.key("write-buffer-async-flush")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to flush the write buffer in the background. When half of the write buffer "
+                                    + "is filled, it is sorted and written to a level 0 file asynchronously while "
+                                    + "the other half keeps accepting records. Writing only blocks when both halves are full.");
+
+    public static final ConfigOption<MemorySize> WRITE_BUFFER_ASYNC_FLUSH_RESERVED_SIZE =
+            ConfigOptions.key("write-buffer-async-flush.reserved-size")
+                    .memoryType()
+                    .defaultValue(MemorySize.parse("8 mb"))
+                    .withDescription(
+                            "Amount of memory each writer reserves from the write buffer up front when "
+                                    + "'write-buffer-async-flush' is enabled. The write buffer is shared by all "
+                                    + "writers of a task, the reserved memory lets a writer keep accepting records "
+                                    + "while it flushes, even if the other writers have taken all of the write buffer. "
+                                    + "At most half of the write buffer and half of its free memory is reserved.");
+
     public static final ConfigOption<MemorySize> PAGE_SIZE =
             ConfigOptions.key("page-size")
                     .memoryType()
@@ -208,6 +356,15 @@ public class CoreOptions implements Serializable {
                     .defaultValue(false)
                     .withDescription("Whether to force a compaction before commit.");
 
+    public static final ConfigOption<Integer> COMPACTION_THREADS =
+            ConfigOptions.key("compaction.threads")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The number of threads shared by all buckets of a writer to run compactions. "
+                                    + "Buckets with more sorted runs, which are closer to stop writing, "
+                                    + "are compacted first.");
+
     public static final ConfigOption<Integer> COMPACTION_MAX_SIZE_AMPLIFICATION_PERCENT =
             ConfigOptions.key("compaction.max-size-amplification-percent")
                     .intType()
@@ -262,6 +419,31 @@ public class CoreOptions implements Serializable {
                                     + "This changelog file keeps the order of data input and the details of data changes, "
                                     + "it can be read directly during stream reads.");
 
+    public static final ConfigOption<Boolean> BLOOM_FILTER_ENABLED =
+            ConfigOptions.key("bloom-filter.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to write a bloom filter on the keys of each data file of a table with "
+                                    + "primary keys. Batch reads with equality or IN filters on all primary keys "
+                                    + "skip the files whose bloom filter does not contain the filtered keys.");
+
+    public static final ConfigOption<Double> BLOOM_FILTER_FPP =
+            ConfigOptions.key("bloom-filter.fpp")
+                    .doubleType()
+                    .defaultValue(0.01)
+                    .withDescription(
+                            "Expected false positive probability of the bloom filter of each data file.");
+
+    public static final ConfigOption<MemorySize> BLOOM_FILTER_CACHE_SIZE =
+            ConfigOptions.key("bloom-filter.cache-size")
+                    .memoryType()
+                    .defaultValue(MemorySize.ofMebiBytes(64))
+                    .withDescription(
+                            "Maximum memory of bloom filters cached in a process to avoid re-reading them on "
+                                    + "every scan. The cache is shared by all tables in the process and sized by "
+                                    + "the first table using it. Set to 0 to disable the cache.");
+
     public static final ConfigOption<String> SEQUENCE_FIELD =
             ConfigOptions.key("sequence.field")
                     .stringType()
@@ -327,6 +509,14 @@ public class CoreOptions implements Serializable {
         Preconditions.checkArgument(
                 snapshotNumRetainMin() > 0,
                 SNAPSHOT_NUM_RETAINED_MIN.key() + " should be at least 1");
+        Preconditions.checkArgument(
+                compactionThreads() > 0, COMPACTION_THREADS.key() + " should be at least 1");
+        Preconditions.checkArgument(
+                snapshotExpireDeleteThreads() > 0,
+                SNAPSHOT_EXPIRE_DELETE_THREADS.key() + " should be at least 1");
+        Preconditions.checkArgument(
+                snapshotExpireBatchSize() > 0,
+                SNAPSHOT_EXPIRE_BATCH_SIZE.key() + " should be at least 1");
         Preconditions.checkArgument(
                 snapshotNumRetainMin() <= snapshotNumRetainMax(),
                 SNAPSHOT_NUM_RETAINED_MIN.key()
@@ -338,6 +528,10 @@ public class CoreOptions implements Serializable {
         return options.get(BUCKET);
     }
 
+    public long dynamicBucketTargetRowNum() {
+        return options.get(DYNAMIC_BUCKET_TARGET_ROW_NUM);
+    }
+
     public Path path() {
         return path(options.toMap());
     }
@@ -362,6 +556,18 @@ public class CoreOptions implements Serializable {
         return options.get(MANIFEST_TARGET_FILE_SIZE);
     }
 
+    public boolean manifestTieredMerge() {
+        return options.get(MANIFEST_TIERED_MERGE);
+    }
+
+    public boolean manifestFullMergeAsync() {
+        return options.get(MANIFEST_FULL_MERGE_ASYNC);
+    }
+
+    public long manifestCacheSize() {
+        return options.get(MANIFEST_CACHE_SIZE).getBytes();
+    }
+
     public String partitionDefaultName() {
         return options.get(PARTITION_DEFAULT_NAME);
     }
@@ -378,6 +584,22 @@ public class CoreOptions implements Serializable {
         return options.get(SNAPSHOT_TIME_RETAINED);
     }
 
+    public boolean snapshotExpireAsync() {
+        return options.get(SNAPSHOT_EXPIRE_ASYNC);
+    }
+
+    public Duration snapshotExpireInterval() {
+        return options.get(SNAPSHOT_EXPIRE_INTERVAL);
+    }
+
+    public int snapshotExpireDeleteThreads() {
+        return options.get(SNAPSHOT_EXPIRE_DELETE_THREADS);
+    }
+
+    public int snapshotExpireBatchSize() {
+        return options.get(SNAPSHOT_EXPIRE_BATCH_SIZE);
+    }
+
     public int manifestMergeMinCount() {
         return options.get(MANIFEST_MERGE_MIN_COUNT);
     }
@@ -390,10 +612,34 @@ public class CoreOptions implements Serializable {
         return options.get(SOURCE_SPLIT_OPEN_FILE_COST).getBytes();
     }
 
+    public boolean readPrefetch() {
+        return options.get(READ_PREFETCH);
+    }
+
+    public int readPrefetchThreads() {
+        return options.get(READ_PREFETCH_THREADS);
+    }
+
+    public int readPrefetchNextFiles() {
+        return options.get(READ_PREFETCH_NEXT_FILES);
+    }
+
     public long writeBufferSize() {
         return options.get(WRITE_BUFFER_SIZE).getBytes();
     }
 
+    public boolean writeBufferOffHeap() {
+        return options.get(WRITE_BUFFER_OFF_HEAP);
+    }
+
+    public boolean writeBufferAsyncFlush() {
+        return options.get(WRITE_BUFFER_ASYNC_FLUSH);
+    }
+
+    public long writeBufferAsyncFlushReservedSize() {
+        return options.get(WRITE_BUFFER_ASYNC_FLUSH_RESERVED_SIZE).getBytes();
+    }
+
     public int pageSize() {
         return (int) options.get(PAGE_SIZE).getBytes();
     }
@@ -426,6 +672,10 @@ public class CoreOptions implements Serializable {
         return options.get(COMMIT_FORCE_COMPACT);
     }
 
+    public int compactionThreads() {
+        return options.get(COMPACTION_THREADS);
+    }
+
     public int maxSizeAmplificationPercent() {
         return options.get(COMPACTION_MAX_SIZE_AMPLIFICATION_PERCENT);
     }
@@ -450,15 +700,45 @@ public class CoreOptions implements Serializable {
         return options.get(CHANGELOG_FILE);
     }
 
+    public boolean bloomFilterEnabled() {
+        return options.get(BLOOM_FILTER_ENABLED);
+    }
+
+    public double bloomFilterFpp() {
+        return options.get(BLOOM_FILTER_FPP);
+    }
+
+    public long bloomFilterCacheSize() {
+        return options.get(BLOOM_FILTER_CACHE_SIZE).getBytes();
+    }
+
+    public MergeEngine mergeEngine() {
+        return options.get(MERGE_ENGINE);
+    }
+
     public Optional<String> sequenceField() {
         return options.getOptional(SEQUENCE_FIELD);
     }
 
+    @Nullable
+    public String fieldAggregateFunction(String fieldName) {
+        return options.getString(
+                FIELDS_PREFIX + "." + fieldName + "." + AGG_FUNCTION, (String) null);
+    }
+
+    public String fieldListAggDelimiter(String fieldName) {
+        return options.getString(
+                FIELDS_PREFIX + "." + fieldName + "." + LIST_AGG_DELIMITER,
+                DEFAULT_LIST_AGG_DELIMITER);
+    }
+
     /** Specifies the merge engine for table with primary key. */
     public enum MergeEngine implements DescribedEnum {
         DEDUPLICATE("deduplicate", "De-duplicate and keep the last row."),
 
-        PARTIAL_UPDATE("partial-update", "Partial update non-null fields.");
+        PARTIAL_UPDATE("partial-update", "Partial update non-null fields."),
+
+        AGGREGATE("aggregation", "Aggregate fields with same primary key.");
 
         private final String value;
         private final String description;
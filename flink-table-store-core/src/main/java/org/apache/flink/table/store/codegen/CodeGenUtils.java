@@ -25,10 +25,18 @@ import org.apache.flink.table.runtime.generated.GeneratedRecordComparator;
 import org.apache.flink.table.runtime.generated.NormalizedKeyComputer;
 import org.apache.flink.table.runtime.generated.Projection;
 import org.apache.flink.table.runtime.generated.RecordComparator;
+import org.apache.flink.table.store.file.predicate.CompoundPredicate;
+import org.apache.flink.table.store.file.predicate.InterpretedPredicateEvaluator;
+import org.apache.flink.table.store.file.predicate.Predicate;
+import org.apache.flink.table.store.file.predicate.PredicateEvaluator;
 import org.apache.flink.table.types.logical.LogicalType;
 import org.apache.flink.table.types.logical.RowType;
 
+import org.apache.flink.shaded.guava30.com.google.common.cache.Cache;
+import org.apache.flink.shaded.guava30.com.google.common.cache.CacheBuilder;
+
 import java.util.List;
+import java.util.concurrent.ExecutionException;
 
 /** Utils for code generations. */
 public class CodeGenUtils {
@@ -36,6 +44,15 @@ public class CodeGenUtils {
     public static final Projection<RowData, BinaryRowData> EMPTY_PROJECTION =
             input -> BinaryRowDataUtil.EMPTY_ROW;
 
+    // predicates with more leaves are interpreted, their generated code might exceed the limits
+    // of the compiler, and the compilation would cost more than it saves
+    private static final int MAX_GENERATED_PREDICATE_LEAVES = 256;
+
+    // generated code of predicates only depends on their shape and field types, literals are
+    // passed as references, so the compiled classes are shared by predicates of the same shape
+    private static final Cache<String, Class<PredicateEvaluator>> PREDICATE_CLASSES =
+            CacheBuilder.newBuilder().maximumSize(256).build();
+
     public static Projection<RowData, BinaryRowData> newProjection(
             RowType inputType, int[] mapping) {
         if (mapping.length == 0) {
@@ -70,4 +87,39 @@ public class CodeGenUtils {
         return generateRecordComparator(fieldTypes, name)
                 .newInstance(CodeGenUtils.class.getClassLoader());
     }
+
+    /**
+     * Creates a {@link PredicateEvaluator} testing rows of the given type and the stats of their
+     * fields.
+     */
+    public static PredicateEvaluator newPredicateEvaluator(Predicate predicate, RowType rowType) {
+        if (numLeaves(predicate) > MAX_GENERATED_PREDICATE_LEAVES) {
+            return new InterpretedPredicateEvaluator(predicate, rowType);
+        }
+        GeneratedPredicateEvaluator generated =
+                CodeGenLoader.getInstance()
+                        .discover(CodeGenerator.class)
+                        .generatePredicateEvaluator("PredicateEvaluator", predicate);
+        Class<PredicateEvaluator> clazz;
+        try {
+            clazz =
+                    PREDICATE_CLASSES.get(
+                            generated.getCode(),
+                            () -> generated.compile(CodeGenUtils.class.getClassLoader()));
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause());
+        }
+        return generated.newInstance(clazz);
+    }
+
+    private static int numLeaves(Predicate predicate) {
+        if (predicate instanceof CompoundPredicate) {
+            int num = 0;
+            for (Predicate child : ((CompoundPredicate) predicate).children()) {
+                num += numLeaves(child);
+            }
+            return num;
+        }
+        return 1;
+    }
 }
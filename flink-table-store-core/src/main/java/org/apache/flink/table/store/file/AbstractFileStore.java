@@ -21,10 +21,12 @@ package org.apache.flink.table.store.file;
 import org.apache.flink.annotation.VisibleForTesting;
 import org.apache.flink.table.data.RowData;
 import org.apache.flink.table.store.CoreOptions;
+import org.apache.flink.table.store.file.manifest.ManifestCache;
 import org.apache.flink.table.store.file.manifest.ManifestFile;
 import org.apache.flink.table.store.file.manifest.ManifestList;
 import org.apache.flink.table.store.file.operation.FileStoreCommitImpl;
 import org.apache.flink.table.store.file.operation.FileStoreExpireImpl;
+import org.apache.flink.table.store.file.operation.OrphanFilesClean;
 import org.apache.flink.table.store.file.schema.SchemaManager;
 import org.apache.flink.table.store.file.utils.FileStorePathFactory;
 import org.apache.flink.table.store.file.utils.SnapshotManager;
@@ -76,7 +78,10 @@ public abstract class AbstractFileStore<T> implements FileStore<T> {
                 partitionType,
                 options.manifestFormat(),
                 pathFactory(),
-                options.manifestTargetSize().getBytes());
+                options.manifestTargetSize().getBytes(),
+                options.manifestCacheSize() > 0
+                        ? ManifestCache.getOrCreate(options.manifestCacheSize())
+                        : null);
     }
 
     @VisibleForTesting
@@ -107,6 +112,8 @@ public abstract class AbstractFileStore<T> implements FileStore<T> {
                 options.bucket(),
                 options.manifestTargetSize(),
                 options.manifestMergeMinCount(),
+                options.manifestTieredMerge(),
+                options.manifestFullMergeAsync(),
                 newKeyComparator());
     }
 
@@ -116,11 +123,19 @@ public abstract class AbstractFileStore<T> implements FileStore<T> {
                 options.snapshotNumRetainMin(),
                 options.snapshotNumRetainMax(),
                 options.snapshotTimeRetain().toMillis(),
+                options.snapshotExpireDeleteThreads(),
+                options.snapshotExpireBatchSize(),
                 pathFactory(),
                 snapshotManager(),
                 manifestFileFactory(),
                 manifestListFactory());
     }
 
+    @Override
+    public OrphanFilesClean newOrphanFilesClean() {
+        return new OrphanFilesClean(
+                pathFactory(), snapshotManager(), manifestFileFactory(), manifestListFactory());
+    }
+
     public abstract Comparator<RowData> newKeyComparator();
 }
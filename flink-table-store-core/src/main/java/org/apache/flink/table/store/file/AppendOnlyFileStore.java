@@ -54,7 +54,11 @@ public class AppendOnlyFileStore extends AbstractFileStore<RowData> {
     @Override
     public AppendOnlyFileStoreRead newRead() {
         return new AppendOnlyFileStoreRead(
-                schemaManager, schemaId, rowType, options.fileFormat(), pathFactory());
+                        schemaManager, schemaId, rowType, options.fileFormat(), pathFactory())
+                .withPrefetch(
+                        options.readPrefetch(),
+                        options.readPrefetchThreads(),
+                        options.readPrefetchNextFiles());
     }
 
     @Override
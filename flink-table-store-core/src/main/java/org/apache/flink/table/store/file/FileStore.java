@@ -23,6 +23,7 @@ import org.apache.flink.table.store.file.operation.FileStoreExpire;
 import org.apache.flink.table.store.file.operation.FileStoreRead;
 import org.apache.flink.table.store.file.operation.FileStoreScan;
 import org.apache.flink.table.store.file.operation.FileStoreWrite;
+import org.apache.flink.table.store.file.operation.OrphanFilesClean;
 import org.apache.flink.table.store.file.utils.SnapshotManager;
 import org.apache.flink.table.types.logical.RowType;
 
@@ -48,4 +49,6 @@ public interface FileStore<T> extends Serializable {
     FileStoreCommit newCommit(String user);
 
     FileStoreExpire newExpire();
+
+    OrphanFilesClean newOrphanFilesClean();
 }
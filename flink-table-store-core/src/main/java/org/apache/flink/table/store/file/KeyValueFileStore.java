@@ -20,6 +20,9 @@ package org.apache.flink.table.store.file;
 
 import org.apache.flink.table.data.RowData;
 import org.apache.flink.table.store.CoreOptions;
+import org.apache.flink.table.store.file.index.BloomFilterCache;
+import org.apache.flink.table.store.file.index.HashBucketAssigner;
+import org.apache.flink.table.store.file.index.HashIndexFile;
 import org.apache.flink.table.store.file.mergetree.compact.MergeFunction;
 import org.apache.flink.table.store.file.operation.KeyValueFileStoreRead;
 import org.apache.flink.table.store.file.operation.KeyValueFileStoreScan;
@@ -67,14 +70,18 @@ public class KeyValueFileStore extends AbstractFileStore<KeyValue> {
     @Override
     public KeyValueFileStoreRead newRead() {
         return new KeyValueFileStoreRead(
-                schemaManager,
-                schemaId,
-                keyType,
-                valueType,
-                newKeyComparator(),
-                mergeFunction,
-                options.fileFormat(),
-                pathFactory());
+                        schemaManager,
+                        schemaId,
+                        keyType,
+                        valueType,
+                        newKeyComparator(),
+                        mergeFunction,
+                        options.fileFormat(),
+                        pathFactory())
+                .withPrefetch(
+                        options.readPrefetch(),
+                        options.readPrefetchThreads(),
+                        options.readPrefetchNextFiles());
     }
 
     @Override
@@ -92,16 +99,35 @@ public class KeyValueFileStore extends AbstractFileStore<KeyValue> {
                 options);
     }
 
+    /**
+     * Creates a {@link HashBucketAssigner} for dynamic bucket mode, which is one of {@code
+     * numAssigners} parallel assigners.
+     */
+    public HashBucketAssigner newBucketAssigner(int numAssigners, int assignId) {
+        return new HashBucketAssigner(
+                new HashIndexFile(pathFactory()),
+                numAssigners,
+                assignId,
+                options.dynamicBucketTargetRowNum());
+    }
+
     private KeyValueFileStoreScan newScan(boolean checkNumOfBuckets) {
         return new KeyValueFileStoreScan(
                 partitionType,
                 bucketKeyType,
                 keyType,
+                valueType,
+                newKeyComparator(),
+                schemaId,
+                pathFactory(),
                 snapshotManager(),
                 manifestFileFactory(),
                 manifestListFactory(),
                 options.bucket(),
-                checkNumOfBuckets);
+                checkNumOfBuckets,
+                options.bloomFilterCacheSize() > 0
+                        ? BloomFilterCache.getOrCreate(options.bloomFilterCacheSize())
+                        : null);
     }
 
     @Override
@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.file.compact;
+
+import org.apache.flink.util.concurrent.ExecutorThreadFactory;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded thread pool shared by all writers of a {@link
+ * org.apache.flink.table.store.table.sink.TableWrite} to run compactions and other background
+ * tasks.
+ *
+ * <p>Waiting tasks are ordered by their priority (see {@link #prioritized}), tasks with the same
+ * priority run in submission order. As each writer has at most one compaction in flight, buckets
+ * are served fairly and the ones that are closest to stopping writes are compacted first.
+ *
+ * <p>Background flushes of write buffers run on a separate thread (see {@link #flushExecutor}), so
+ * that writing is never stalled behind a long running compaction.
+ */
+public class CompactExecutor extends ThreadPoolExecutor {
+
+    private final AtomicLong sequence;
+
+    private ExecutorService flushExecutor;
+
+    public CompactExecutor(int numThreads) {
+        super(
+                numThreads,
+                numThreads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new PriorityBlockingQueue<>(),
+                new ExecutorThreadFactory("compaction-thread"));
+        this.sequence = new AtomicLong(0);
+    }
+
+    /**
+     * Returns the single thread executor for background flushes of write buffers. It is created on
+     * first use and shut down together with this executor.
+     */
+    public synchronized ExecutorService flushExecutor() {
+        if (flushExecutor == null) {
+            flushExecutor =
+                    Executors.newSingleThreadExecutor(new ExecutorThreadFactory("flush-thread"));
+        }
+        return flushExecutor;
+    }
+
+    @Override
+    public synchronized void shutdown() {
+        if (flushExecutor != null) {
+            flushExecutor.shutdown();
+        }
+        super.shutdown();
+    }
+
+    @Override
+    public synchronized List<Runnable> shutdownNow() {
+        if (flushExecutor != null) {
+            flushExecutor.shutdownNow();
+        }
+        return super.shutdownNow();
+    }
+
+    /**
+     * Wrap a task with a priority. Tasks with higher priority are picked first by {@link
+     * CompactExecutor}, other executors simply run the task.
+     */
+    public static <T> Callable<T> prioritized(Callable<T> task, int priority) {
+        return new PrioritizedCallable<>(task, priority);
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Callable<T> callable) {
+        int priority =
+                callable instanceof PrioritizedCallable
+                        ? ((PrioritizedCallable<T>) callable).priority
+                        : 0;
+        return new PrioritizedFutureTask<>(callable, priority, sequence.getAndIncrement());
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Runnable runnable, T value) {
+        return new PrioritizedFutureTask<>(runnable, value, 0, sequence.getAndIncrement());
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        // the queue only accepts comparable tasks
+        super.execute(
+                command instanceof PrioritizedFutureTask ? command : newTaskFor(command, null));
+    }
+
+    private static class PrioritizedCallable<T> implements Callable<T> {
+
+        private final Callable<T> task;
+        private final int priority;
+
+        private PrioritizedCallable(Callable<T> task, int priority) {
+            this.task = task;
+            this.priority = priority;
+        }
+
+        @Override
+        public T call() throws Exception {
+            return task.call();
+        }
+    }
+
+    private static class PrioritizedFutureTask<T> extends FutureTask<T>
+            implements Comparable<PrioritizedFutureTask<?>> {
+
+        private final int priority;
+        private final long sequence;
+
+        private PrioritizedFutureTask(Callable<T> callable, int priority, long sequence) {
+            super(callable);
+            this.priority = priority;
+            this.sequence = sequence;
+        }
+
+        private PrioritizedFutureTask(Runnable runnable, T value, int priority, long sequence) {
+            super(runnable, value);
+            this.priority = priority;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public int compareTo(PrioritizedFutureTask<?> o) {
+            int result = Integer.compare(o.priority, priority);
+            return result != 0 ? result : Long.compare(sequence, o.sequence);
+        }
+    }
+}
@@ -19,6 +19,7 @@
 package org.apache.flink.table.store.file.data;
 
 import org.apache.flink.annotation.VisibleForTesting;
+import org.apache.flink.table.store.file.compact.CompactExecutor;
 import org.apache.flink.table.store.file.compact.CompactManager;
 import org.apache.flink.table.store.file.compact.CompactResult;
 import org.apache.flink.table.store.file.compact.CompactTask;
@@ -67,7 +68,10 @@ public class AppendOnlyCompactManager extends CompactManager {
                 .ifPresent(
                         (inputs) ->
                                 taskFuture =
-                                        executor.submit(new AutoCompactTask(inputs, rewriter)));
+                                        executor.submit(
+                                                CompactExecutor.prioritized(
+                                                        new AutoCompactTask(inputs, rewriter),
+                                                        inputs.size())));
     }
 
     @VisibleForTesting
@@ -18,6 +18,7 @@
 
 package org.apache.flink.table.store.file.data;
 
+import org.apache.flink.configuration.Configuration;
 import org.apache.flink.connector.file.src.FileSourceSplit;
 import org.apache.flink.connector.file.src.reader.BulkFormat;
 import org.apache.flink.connector.file.src.util.RecordAndPosition;
@@ -37,9 +38,17 @@ public class AppendOnlyReader implements RecordReader<RowData> {
 
     public AppendOnlyReader(Path path, BulkFormat<RowData, FileSourceSplit> readerFactory)
             throws IOException {
-        long fileSize = FileUtils.getFileSize(path);
+        this(path, FileUtils.getFileSize(path), readerFactory, FileUtils.DEFAULT_READER_CONFIG);
+    }
+
+    public AppendOnlyReader(
+            Path path,
+            long fileSize,
+            BulkFormat<RowData, FileSourceSplit> readerFactory,
+            Configuration readerConfig)
+            throws IOException {
         FileSourceSplit split = new FileSourceSplit("ignore", path, 0, fileSize);
-        this.reader = readerFactory.createReader(FileUtils.DEFAULT_READER_CONFIG, split);
+        this.reader = readerFactory.createReader(readerConfig, split);
     }
 
     @Nullable
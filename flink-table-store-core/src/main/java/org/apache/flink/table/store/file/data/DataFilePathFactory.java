@@ -34,6 +34,8 @@ public class DataFilePathFactory {
 
     public static final String CHANGELOG_FILE_PREFIX = "changelog-";
 
+    public static final String BLOOM_FILTER_FILE_PREFIX = "bloom-";
+
     private final Path bucketDir;
     private final String uuid;
 
@@ -56,6 +58,11 @@ public class DataFilePathFactory {
         return newPath(CHANGELOG_FILE_PREFIX);
     }
 
+    public Path newBloomFilterPath() {
+        return new Path(
+                bucketDir, BLOOM_FILTER_FILE_PREFIX + uuid + "-" + pathCount.getAndIncrement());
+    }
+
     private Path newPath(String prefix) {
         String name = prefix + uuid + "-" + pathCount.getAndIncrement() + "." + formatIdentifier;
         return new Path(bucketDir, name);
@@ -18,6 +18,7 @@
 
 package org.apache.flink.table.store.file.data;
 
+import org.apache.flink.configuration.Configuration;
 import org.apache.flink.connector.file.src.FileSourceSplit;
 import org.apache.flink.connector.file.src.reader.BulkFormat;
 import org.apache.flink.connector.file.src.util.RecordAndPosition;
@@ -28,8 +29,10 @@ import org.apache.flink.table.store.file.KeyValue;
 import org.apache.flink.table.store.file.KeyValueSerializer;
 import org.apache.flink.table.store.file.predicate.Predicate;
 import org.apache.flink.table.store.file.schema.SchemaManager;
+import org.apache.flink.table.store.file.utils.AsyncRecordReader;
 import org.apache.flink.table.store.file.utils.FileStorePathFactory;
 import org.apache.flink.table.store.file.utils.FileUtils;
+import org.apache.flink.table.store.file.utils.PrefetchMetrics;
 import org.apache.flink.table.store.file.utils.RecordReader;
 import org.apache.flink.table.store.format.FileFormat;
 import org.apache.flink.table.store.utils.Projection;
@@ -40,6 +43,7 @@ import javax.annotation.Nullable;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Semaphore;
 
 /**
  * Reads {@link KeyValue}s from data files.
@@ -57,6 +61,8 @@ public class DataFileReader {
     // TODO introduce Map<SchemaId, readerFactory>
     private final BulkFormat<RowData, FileSourceSplit> readerFactory;
     private final DataFilePathFactory pathFactory;
+    @Nullable private final Prefetch prefetch;
+    @Nullable private final Semaphore prefetchPermits;
 
     private DataFileReader(
             SchemaManager schemaManager,
@@ -64,17 +70,44 @@ public class DataFileReader {
             RowType keyType,
             RowType valueType,
             BulkFormat<RowData, FileSourceSplit> readerFactory,
-            DataFilePathFactory pathFactory) {
+            DataFilePathFactory pathFactory,
+            @Nullable Prefetch prefetch) {
         this.schemaManager = schemaManager;
         this.schemaId = schemaId;
         this.keyType = keyType;
         this.valueType = valueType;
         this.readerFactory = readerFactory;
         this.pathFactory = pathFactory;
+        this.prefetch = prefetch;
+        this.prefetchPermits = prefetch == null ? null : new Semaphore(prefetch.nextFiles);
     }
 
+    /**
+     * Permits to open files ahead of time if files are opened and read asynchronously by {@link
+     * AsyncRecordReader}s, shared by all sorted runs read by this reader. Returns null if files are
+     * read synchronously.
+     */
+    @Nullable
+    public Semaphore prefetchPermits() {
+        return prefetchPermits;
+    }
+
+    /** Reads a file whose size is unknown, which costs an extra request for the file size. */
     public RecordReader<KeyValue> read(String fileName) throws IOException {
-        return new DataFileRecordReader(pathFactory.toPath(fileName));
+        return read(fileName, null);
+    }
+
+    /** Reads a file of the given size, for example {@link DataFileMeta#fileSize()}. */
+    public RecordReader<KeyValue> read(String fileName, @Nullable Long fileSize)
+            throws IOException {
+        Path path = pathFactory.toPath(fileName);
+        if (prefetch == null) {
+            return new DataFileRecordReader(path, fileSize, FileUtils.DEFAULT_READER_CONFIG);
+        }
+        return new AsyncRecordReader<>(
+                () -> new DataFileRecordReader(path, fileSize, FileUtils.PREFETCH_READER_CONFIG),
+                AsyncRecordReader.executor(prefetch.threads),
+                prefetch.metrics);
     }
 
     private class DataFileRecordReader implements RecordReader<KeyValue> {
@@ -82,10 +115,13 @@ public class DataFileReader {
         private final BulkFormat.Reader<RowData> reader;
         private final KeyValueSerializer serializer;
 
-        private DataFileRecordReader(Path path) throws IOException {
-            long fileSize = FileUtils.getFileSize(path);
+        private DataFileRecordReader(Path path, @Nullable Long fileSize, Configuration readerConfig)
+                throws IOException {
+            if (fileSize == null) {
+                fileSize = FileUtils.getFileSize(path);
+            }
             FileSourceSplit split = new FileSourceSplit("ignore", path, 0, fileSize);
-            this.reader = readerFactory.createReader(FileUtils.DEFAULT_READER_CONFIG, split);
+            this.reader = readerFactory.createReader(readerConfig, split);
             this.serializer = new KeyValueSerializer(keyType, valueType);
         }
 
@@ -142,6 +178,7 @@ public class DataFileReader {
         private int[][] valueProjection;
         private RowType projectedKeyType;
         private RowType projectedValueType;
+        @Nullable private Prefetch prefetch;
 
         public Factory(
                 SchemaManager schemaManager,
@@ -175,6 +212,16 @@ public class DataFileReader {
             return this;
         }
 
+        /**
+         * Opens and reads data files asynchronously with the given number of threads, opening at
+         * most the given number of files ahead per reader, and recording prefetch hits into the
+         * given metrics.
+         */
+        public Factory withPrefetch(int threads, int nextFiles, PrefetchMetrics prefetchMetrics) {
+            this.prefetch = new Prefetch(threads, nextFiles, prefetchMetrics);
+            return this;
+        }
+
         public DataFileReader create(BinaryRowData partition, int bucket) {
             return create(partition, bucket, true, Collections.emptyList());
         }
@@ -193,7 +240,8 @@ public class DataFileReader {
                     projectedKeyType,
                     projectedValueType,
                     fileFormat.createReaderFactory(recordType, projection, filters),
-                    pathFactory.createDataFilePathFactory(partition, bucket));
+                    pathFactory.createDataFilePathFactory(partition, bucket),
+                    prefetch);
         }
 
         private void applyProjection() {
@@ -201,4 +249,18 @@ public class DataFileReader {
             projectedValueType = (RowType) Projection.of(valueProjection).project(valueType);
         }
     }
+
+    /** Settings of asynchronous reads. */
+    private static class Prefetch {
+
+        private final int threads;
+        private final int nextFiles;
+        private final PrefetchMetrics metrics;
+
+        private Prefetch(int threads, int nextFiles, PrefetchMetrics metrics) {
+            this.threads = threads;
+            this.nextFiles = nextFiles;
+            this.metrics = metrics;
+        }
+    }
 }
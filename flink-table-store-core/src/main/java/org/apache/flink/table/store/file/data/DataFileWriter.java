@@ -26,6 +26,7 @@ import org.apache.flink.table.data.binary.BinaryRowData;
 import org.apache.flink.table.runtime.typeutils.RowDataSerializer;
 import org.apache.flink.table.store.file.KeyValue;
 import org.apache.flink.table.store.file.KeyValueSerializer;
+import org.apache.flink.table.store.file.index.BloomFilter;
 import org.apache.flink.table.store.file.stats.BinaryTableStats;
 import org.apache.flink.table.store.file.stats.FieldStatsArraySerializer;
 import org.apache.flink.table.store.file.utils.FileStorePathFactory;
@@ -49,6 +50,7 @@ import javax.annotation.Nullable;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Supplier;
@@ -58,6 +60,10 @@ public class DataFileWriter {
 
     private static final Logger LOG = LoggerFactory.getLogger(DataFileWriter.class);
 
+    // bloom filters are sized for at most one key per this number of bytes of the suggested file
+    // size, files with more keys get bloom filters with higher false positive rates
+    private static final int BLOOM_FILTER_MIN_BYTES_PER_KEY = 16;
+
     private final long schemaId;
     private final RowType keyType;
     private final RowType valueType;
@@ -67,6 +73,7 @@ public class DataFileWriter {
     private final FieldStatsArraySerializer valueStatsConverter;
     private final DataFilePathFactory pathFactory;
     private final long suggestedFileSize;
+    @Nullable private final Double bloomFilterFpp;
 
     private DataFileWriter(
             long schemaId,
@@ -75,7 +82,8 @@ public class DataFileWriter {
             BulkWriter.Factory<RowData> writerFactory,
             @Nullable FileStatsExtractor fileStatsExtractor,
             DataFilePathFactory pathFactory,
-            long suggestedFileSize) {
+            long suggestedFileSize,
+            @Nullable Double bloomFilterFpp) {
         this.schemaId = schemaId;
         this.keyType = keyType;
         this.valueType = valueType;
@@ -86,6 +94,7 @@ public class DataFileWriter {
 
         this.pathFactory = pathFactory;
         this.suggestedFileSize = suggestedFileSize;
+        this.bloomFilterFpp = bloomFilterFpp;
     }
 
     public RowType keyType() {
@@ -156,6 +165,7 @@ public class DataFileWriter {
 
     public void delete(DataFileMeta file) {
         delete(file.fileName());
+        file.extraFiles().forEach(this::delete);
     }
 
     public void delete(String file) {
@@ -171,6 +181,18 @@ public class DataFileWriter {
         private long minSeqNumber = Long.MAX_VALUE;
         private long maxSeqNumber = Long.MIN_VALUE;
 
+        // hash codes of the keys, only collected if a bloom filter is written for this file. They
+        // are buffered until the buffer would be larger than a bloom filter for the most keys
+        // expected in a file, which then takes the buffered and all further hash codes
+        @Nullable private final Path bloomFilterPath;
+        private final long maxBloomFilterEntries;
+        private final int maxKeyHashes;
+        private int[] keyHashes = new int[0];
+        private int numKeyHashes = 0;
+        @Nullable private BloomFilter bloomFilter;
+        private long numKeys = 0;
+        private boolean bloomFilterWritten = false;
+
         public KvFileWriter(
                 FileWriter.Factory<KeyValue, Metric> writerFactory, Path path, int level)
                 throws IOException {
@@ -178,6 +200,15 @@ public class DataFileWriter {
 
             this.level = level;
             this.keySerializer = new RowDataSerializer(keyType);
+            this.bloomFilterPath = bloomFilterFpp == null ? null : pathFactory.newBloomFilterPath();
+            this.maxBloomFilterEntries =
+                    Math.max(1, suggestedFileSize / BLOOM_FILTER_MIN_BYTES_PER_KEY);
+            this.maxKeyHashes =
+                    bloomFilterFpp == null
+                            ? 0
+                            : (int)
+                                    (BloomFilter.sizeInBytes(maxBloomFilterEntries, bloomFilterFpp)
+                                            / Integer.BYTES);
         }
 
         @Override
@@ -190,6 +221,10 @@ public class DataFileWriter {
             updateMinSeqNumber(kv);
             updateMaxSeqNumber(kv);
 
+            if (bloomFilterPath != null) {
+                addKeyHash(kv);
+            }
+
             if (LOG.isDebugEnabled()) {
                 LOG.debug("Write key value " + kv.toString(keyType, valueType));
             }
@@ -205,6 +240,34 @@ public class DataFileWriter {
             maxKey = kv.key();
         }
 
+        private void addKeyHash(KeyValue kv) {
+            int hash = keySerializer.toBinaryRow(kv.key()).hashCode();
+            numKeys++;
+            if (bloomFilter == null && numKeyHashes == maxKeyHashes) {
+                bloomFilter = BloomFilter.create(maxBloomFilterEntries, bloomFilterFpp);
+                addKeyHashes(bloomFilter);
+                keyHashes = null;
+            }
+
+            if (bloomFilter != null) {
+                bloomFilter.addHash(hash);
+                return;
+            }
+            if (numKeyHashes == keyHashes.length) {
+                keyHashes =
+                        Arrays.copyOf(
+                                keyHashes,
+                                (int) Math.min(maxKeyHashes, Math.max(16, numKeyHashes * 2L)));
+            }
+            keyHashes[numKeyHashes++] = hash;
+        }
+
+        private void addKeyHashes(BloomFilter bloomFilter) {
+            for (int i = 0; i < numKeyHashes; i++) {
+                bloomFilter.addHash(keyHashes[i]);
+            }
+        }
+
         private void updateMinSeqNumber(KeyValue kv) {
             minSeqNumber = Math.min(minSeqNumber, kv.sequenceNumber());
         }
@@ -213,6 +276,32 @@ public class DataFileWriter {
             maxSeqNumber = Math.max(maxSeqNumber, kv.sequenceNumber());
         }
 
+        @Override
+        public void close() throws IOException {
+            super.close();
+            if (bloomFilterPath != null && !bloomFilterWritten) {
+                BloomFilter result;
+                if (bloomFilter == null) {
+                    result = BloomFilter.create(numKeys, bloomFilterFpp);
+                    addKeyHashes(result);
+                } else {
+                    result = bloomFilter.fold(numKeys, bloomFilterFpp);
+                }
+                result.write(bloomFilterPath);
+                bloomFilterWritten = true;
+                keyHashes = null;
+                bloomFilter = null;
+            }
+        }
+
+        @Override
+        public void abort() {
+            super.abort();
+            if (bloomFilterPath != null) {
+                FileUtils.deleteOrWarn(bloomFilterPath);
+            }
+        }
+
         @Override
         protected DataFileMeta createResult(Path path, Metric metric) throws IOException {
             if (LOG.isDebugEnabled()) {
@@ -240,7 +329,10 @@ public class DataFileWriter {
                     minSeqNumber,
                     maxSeqNumber,
                     schemaId,
-                    level);
+                    level,
+                    bloomFilterPath == null
+                            ? Collections.emptyList()
+                            : Collections.singletonList(bloomFilterPath.getName()));
         }
     }
 
@@ -284,6 +376,8 @@ public class DataFileWriter {
         private final FileStorePathFactory pathFactory;
         private final long suggestedFileSize;
 
+        @Nullable private Double bloomFilterFpp;
+
         public Factory(
                 long schemaId,
                 RowType keyType,
@@ -299,6 +393,12 @@ public class DataFileWriter {
             this.suggestedFileSize = suggestedFileSize;
         }
 
+        /** Writes a bloom filter on the keys of each data file as an extra file. */
+        public Factory withBloomFilter(double fpp) {
+            this.bloomFilterFpp = fpp;
+            return this;
+        }
+
         public DataFileWriter create(BinaryRowData partition, int bucket) {
             RowType recordType = KeyValue.schema(keyType, valueType);
             return new DataFileWriter(
@@ -308,7 +408,8 @@ public class DataFileWriter {
                     fileFormat.createWriterFactory(recordType),
                     fileFormat.createStatsExtractor(recordType).orElse(null),
                     pathFactory.createDataFilePathFactory(partition, bucket),
-                    suggestedFileSize);
+                    suggestedFileSize,
+                    bloomFilterFpp);
         }
     }
 }
@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.file.index;
+
+import org.apache.flink.core.fs.FileSystem;
+import org.apache.flink.core.fs.Path;
+import org.apache.flink.table.store.CoreOptions;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.apache.flink.util.Preconditions.checkArgument;
+
+/**
+ * A bloom filter on the hash codes of keys. When {@link CoreOptions#BLOOM_FILTER_ENABLED} is set,
+ * one is written for each data file of a key-value table, so that point lookups can skip the files
+ * which do not contain the keys.
+ *
+ * <p>The bit positions of a hash code are computed by double hashing with the hash code itself and
+ * a remix of it. The number of bits is a power of two, so that a filter can be folded into half of
+ * its size by merging its halves. This allows a writer to add hash codes into a filter sized for
+ * the largest expected number of entries, and to shrink it to the actual number at the end.
+ */
+public class BloomFilter {
+
+    // the largest power of two number of words whose number of bits is a positive int
+    private static final int MAX_WORDS = 1 << 24;
+
+    private final int numHashFunctions;
+    private final long[] words;
+    private final int numBits;
+
+    private BloomFilter(int numHashFunctions, long[] words) {
+        this.numHashFunctions = numHashFunctions;
+        this.words = words;
+        this.numBits = words.length * Long.SIZE;
+    }
+
+    /** Creates an empty bloom filter for the given number of entries and false positive rate. */
+    public static BloomFilter create(long expectedEntries, double fpp) {
+        checkArgument(fpp > 0 && fpp < 1, "False positive probability must be in (0, 1).");
+        // the optimal number of hash functions only depends on the false positive rate
+        int numHashFunctions = (int) Math.max(1, Math.round(-Math.log(fpp) / Math.log(2)));
+        return new BloomFilter(numHashFunctions, new long[numWords(expectedEntries, fpp)]);
+    }
+
+    /**
+     * Returns the size in bytes of a bloom filter created for the given number of entries and false
+     * positive rate.
+     */
+    public static long sizeInBytes(long expectedEntries, double fpp) {
+        return (long) numWords(expectedEntries, fpp) * Long.BYTES;
+    }
+
+    private static int numWords(long expectedEntries, double fpp) {
+        long entries = Math.max(1, expectedEntries);
+        double bits = -entries * Math.log(fpp) / (Math.log(2) * Math.log(2));
+        long words = Math.min(MAX_WORDS, (long) Math.ceil(bits / Long.SIZE));
+        return Math.max(1, Integer.highestOneBit((int) (words - 1)) << 1);
+    }
+
+    /** Returns the memory size of the bits of this bloom filter. */
+    public long sizeInBytes() {
+        return (long) words.length * Long.BYTES;
+    }
+
+    public void addHash(int hash) {
+        int hash2 = remix(hash);
+        for (int i = 1; i <= numHashFunctions; i++) {
+            int bit = bitIndex(hash + i * hash2);
+            words[bit >>> 6] |= 1L << bit;
+        }
+    }
+
+    /** Returns false if the hash code has never been added to this bloom filter. */
+    public boolean testHash(int hash) {
+        int hash2 = remix(hash);
+        for (int i = 1; i <= numHashFunctions; i++) {
+            int bit = bitIndex(hash + i * hash2);
+            if ((words[bit >>> 6] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int bitIndex(int combinedHash) {
+        return combinedHash & (numBits - 1);
+    }
+
+    /**
+     * Returns a filter containing the hash codes of this filter, folded to the size of a filter
+     * created for the given number of entries. This filter is returned if it is not larger.
+     */
+    public BloomFilter fold(long numEntries, double fpp) {
+        int numWords = numWords(numEntries, fpp);
+        if (numWords >= words.length) {
+            return this;
+        }
+        long[] folded = Arrays.copyOf(words, numWords);
+        for (int i = numWords; i < words.length; i++) {
+            folded[i & (numWords - 1)] |= words[i];
+        }
+        return new BloomFilter(numHashFunctions, folded);
+    }
+
+    private static int remix(int hash) {
+        // finalization mix of murmur3
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+
+    public void write(Path path) throws IOException {
+        try (DataOutputStream out =
+                new DataOutputStream(
+                        new BufferedOutputStream(
+                                path.getFileSystem()
+                                        .create(path, FileSystem.WriteMode.NO_OVERWRITE)))) {
+            out.writeInt(numHashFunctions);
+            out.writeInt(words.length);
+            for (long word : words) {
+                out.writeLong(word);
+            }
+        }
+    }
+
+    public static BloomFilter read(Path path) throws IOException {
+        try (DataInputStream in =
+                new DataInputStream(new BufferedInputStream(path.getFileSystem().open(path)))) {
+            int numHashFunctions = in.readInt();
+            long[] words = new long[in.readInt()];
+            for (int i = 0; i < words.length; i++) {
+                words[i] = in.readLong();
+            }
+            return new BloomFilter(numHashFunctions, words);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.file.index;
+
+import org.apache.flink.annotation.VisibleForTesting;
+import org.apache.flink.core.fs.Path;
+
+import org.apache.flink.shaded.guava30.com.google.common.cache.Cache;
+import org.apache.flink.shaded.guava30.com.google.common.cache.CacheBuilder;
+import org.apache.flink.shaded.guava30.com.google.common.cache.CacheStats;
+import org.apache.flink.shaded.guava30.com.google.common.util.concurrent.UncheckedExecutionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * A process-wide cache of {@link BloomFilter}s, keyed by the path of the bloom filter file.
+ *
+ * <p>Bloom filter files are never modified after being written, so cached filters never need to be
+ * invalidated. The cache is bounded by the memory of the filters and evicts the least recently used
+ * filters first.
+ */
+public class BloomFilterCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BloomFilterCache.class);
+
+    private static BloomFilterCache instance;
+
+    private final long maxMemory;
+    private final Cache<String, BloomFilter> cache;
+
+    @VisibleForTesting
+    BloomFilterCache(long maxMemory) {
+        this.maxMemory = maxMemory;
+        this.cache =
+                CacheBuilder.newBuilder()
+                        .maximumWeight(maxMemory)
+                        .weigher(
+                                (String path, BloomFilter filter) ->
+                                        (int) Math.min(filter.sizeInBytes(), Integer.MAX_VALUE))
+                        .recordStats()
+                        .build();
+    }
+
+    /**
+     * Returns the cache of this process. It is created by the first caller, the size of later
+     * callers is ignored.
+     */
+    public static synchronized BloomFilterCache getOrCreate(long maxMemory) {
+        if (instance == null) {
+            LOG.info("Creating bloom filter cache with a maximum size of {} bytes.", maxMemory);
+            instance = new BloomFilterCache(maxMemory);
+        } else if (instance.maxMemory != maxMemory) {
+            LOG.warn(
+                    "Bloom filter cache already exists with a maximum size of {} bytes, ignoring the requested size {}.",
+                    instance.maxMemory,
+                    maxMemory);
+        }
+        return instance;
+    }
+
+    /** Returns the cached bloom filter of the file, reading it on a miss. */
+    public BloomFilter get(Path path) {
+        try {
+            return cache.get(path.toString(), () -> BloomFilter.read(path));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw new UncheckedIOException((IOException) cause);
+            }
+            throw cause instanceof RuntimeException
+                    ? (RuntimeException) cause
+                    : new RuntimeException(cause);
+        }
+    }
+
+    /** Hit, miss and eviction statistics of this cache. */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+}
@@ -0,0 +1,322 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.file.index;
+
+import org.apache.flink.table.data.binary.BinaryRowData;
+
+import javax.annotation.Nullable;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Assigns buckets to keys in dynamic bucket mode. A key keeps the bucket it was first assigned to,
+ * new keys are assigned to a bucket which has not reached the target row number, and a new bucket
+ * is created once all buckets are full. The mapping is persisted by {@link HashIndexFile}s in
+ * {@link #prepareCommit()}, which must be called before the written records are committed.
+ *
+ * <p>Several assigners may run in parallel. Records must be distributed to assigners by {@link
+ * #computeAssigner}, so that a key is always handled by the same assigner, and an assigner only
+ * creates buckets {@code b} with {@code b % numAssigners == assignId}, so that buckets created by
+ * different assigners never collide. Each assigner only keeps the hash codes it is responsible for
+ * in memory.
+ *
+ * <p>A single assigner, for example the one of a standalone {@link
+ * org.apache.flink.table.store.table.sink.TableWrite}, is not coordinated with other writers of the
+ * table. After persisting its new keys, it lists the index files of the partition again and fails
+ * if a concurrent writer assigned one of its keys to another bucket. As each writer persists its
+ * keys before checking, at least one of two conflicting writers detects the conflict.
+ */
+public class HashBucketAssigner {
+
+    /** Index files of a bucket are merged into one file once there are more than this many. */
+    private static final int MAX_INDEX_FILES_PER_BUCKET = 8;
+
+    private static final int MAX_LOAD_RETRIES = 10;
+
+    private final HashIndexFile indexFile;
+    private final int numAssigners;
+    private final int assignId;
+    private final long targetBucketRowNumber;
+
+    private final Map<BinaryRowData, PartitionIndex> partitionIndex;
+
+    public HashBucketAssigner(
+            HashIndexFile indexFile, int numAssigners, int assignId, long targetBucketRowNumber) {
+        this.indexFile = indexFile;
+        this.numAssigners = numAssigners;
+        this.assignId = assignId;
+        this.targetBucketRowNumber = targetBucketRowNumber;
+        this.partitionIndex = new HashMap<>();
+    }
+
+    /** Computes the assigner which is responsible for the given key hash code. */
+    public static int computeAssigner(int hash, int numAssigners) {
+        return Math.abs(hash % numAssigners);
+    }
+
+    /** Returns the bucket of a key, identified by the hash code of its primary key. */
+    public int assign(BinaryRowData partition, int hash) throws IOException {
+        PartitionIndex index = partitionIndex.get(partition);
+        if (index == null) {
+            partition = partition.copy();
+            index = loadIndex(partition);
+            partitionIndex.put(partition, index);
+        }
+        index.accessed = true;
+        return index.assign(hash);
+    }
+
+    /**
+     * Persists keys assigned since the last call. Index of partitions which have not been accessed
+     * since the last call are released from memory, they will be loaded again when needed.
+     */
+    public void prepareCommit() throws IOException {
+        Iterator<PartitionIndex> iterator = partitionIndex.values().iterator();
+        while (iterator.hasNext()) {
+            PartitionIndex index = iterator.next();
+            List<String> newFiles = new ArrayList<>();
+            for (BucketIndex bucket : index.buckets.values()) {
+                String file = bucket.flush(index.partition);
+                if (file != null) {
+                    newFiles.add(file);
+                }
+            }
+            if (numAssigners == 1 && !newFiles.isEmpty()) {
+                index.checkConcurrentAssignments(newFiles);
+            }
+            for (BucketIndex bucket : index.buckets.values()) {
+                bucket.mergeFilesIfNeeded(index.partition);
+            }
+            if (index.accessed) {
+                index.accessed = false;
+            } else {
+                iterator.remove();
+            }
+        }
+    }
+
+    private PartitionIndex loadIndex(BinaryRowData partition) throws IOException {
+        int retry = 0;
+        while (true) {
+            try {
+                return tryLoadIndex(partition);
+            } catch (FileNotFoundException e) {
+                // index files are concurrently merged by another assigner, list them again
+                if (++retry >= MAX_LOAD_RETRIES) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private PartitionIndex tryLoadIndex(BinaryRowData partition) throws IOException {
+        PartitionIndex index = new PartitionIndex(partition);
+        for (Map.Entry<Integer, List<String>> entry : indexFile.listFiles(partition).entrySet()) {
+            BucketIndex bucket = new BucketIndex(entry.getKey());
+            for (String fileName : entry.getValue()) {
+                int[] hashes = indexFile.read(partition, fileName);
+                for (int hash : hashes) {
+                    if (isMyHash(hash)) {
+                        index.hashToBucket.put(hash, bucket.bucket);
+                    }
+                }
+                bucket.rowCount += hashes.length;
+                bucket.files.add(fileName);
+            }
+            index.buckets.put(bucket.bucket, bucket);
+        }
+        return index;
+    }
+
+    private boolean isMyHash(int hash) {
+        return computeAssigner(hash, numAssigners) == assignId;
+    }
+
+    private boolean isMyBucket(int bucket) {
+        return bucket % numAssigners == assignId;
+    }
+
+    /** Hash index of a partition. */
+    private class PartitionIndex {
+
+        private final BinaryRowData partition;
+        private final Map<Integer, Integer> hashToBucket;
+        private final Map<Integer, BucketIndex> buckets;
+
+        @Nullable private BucketIndex currentBucket;
+        private boolean accessed;
+
+        private PartitionIndex(BinaryRowData partition) {
+            this.partition = partition;
+            this.hashToBucket = new HashMap<>();
+            this.buckets = new HashMap<>();
+        }
+
+        private int assign(int hash) {
+            Integer bucket = hashToBucket.get(hash);
+            if (bucket != null) {
+                return bucket;
+            }
+
+            BucketIndex target = targetBucket();
+            target.add(hash);
+            hashToBucket.put(hash, target.bucket);
+            return target.bucket;
+        }
+
+        /**
+         * Adds the keys of index files written by other writers since this index was loaded, and
+         * fails if one of them is assigned to another bucket than by this assigner. The given files
+         * just written by this assigner are deleted in that case, so that readers of the index
+         * never see a key in two buckets.
+         */
+        private void checkConcurrentAssignments(List<String> newFiles) throws IOException {
+            Set<String> knownFiles = new HashSet<>();
+            for (BucketIndex bucket : buckets.values()) {
+                knownFiles.addAll(bucket.files);
+            }
+
+            for (Map.Entry<Integer, List<String>> entry :
+                    indexFile.listFiles(partition).entrySet()) {
+                int bucket = entry.getKey();
+                for (String fileName : entry.getValue()) {
+                    if (knownFiles.contains(fileName)) {
+                        continue;
+                    }
+
+                    int[] hashes = indexFile.read(partition, fileName);
+                    for (int hash : hashes) {
+                        Integer assigned = hashToBucket.putIfAbsent(hash, bucket);
+                        if (assigned != null && assigned != bucket) {
+                            for (String file : newFiles) {
+                                indexFile.delete(partition, file);
+                            }
+                            throw new IllegalStateException(
+                                    String.format(
+                                            "A key is assigned to bucket %d by this writer but to "
+                                                    + "bucket %d by a concurrent writer. Tables in "
+                                                    + "dynamic bucket mode can only be written by "
+                                                    + "one writer at the same time.",
+                                            assigned, bucket));
+                        }
+                    }
+                    BucketIndex bucketIndex = buckets.computeIfAbsent(bucket, BucketIndex::new);
+                    bucketIndex.files.add(fileName);
+                    bucketIndex.rowCount += hashes.length;
+                }
+            }
+        }
+
+        private BucketIndex targetBucket() {
+            if (currentBucket != null && currentBucket.rowCount < targetBucketRowNumber) {
+                return currentBucket;
+            }
+
+            for (BucketIndex bucket : buckets.values()) {
+                if (isMyBucket(bucket.bucket) && bucket.rowCount < targetBucketRowNumber) {
+                    currentBucket = bucket;
+                    return bucket;
+                }
+            }
+
+            int newBucket = assignId;
+            while (buckets.containsKey(newBucket)) {
+                newBucket += numAssigners;
+            }
+            currentBucket = new BucketIndex(newBucket);
+            buckets.put(newBucket, currentBucket);
+            return currentBucket;
+        }
+    }
+
+    /** Hash index of a bucket. */
+    private class BucketIndex {
+
+        private final int bucket;
+        private final List<String> files;
+
+        private long rowCount;
+        private int[] newHashes;
+        private int numNewHashes;
+
+        private BucketIndex(int bucket) {
+            this.bucket = bucket;
+            this.files = new ArrayList<>();
+            this.newHashes = new int[16];
+        }
+
+        private void add(int hash) {
+            if (numNewHashes == newHashes.length) {
+                newHashes = Arrays.copyOf(newHashes, newHashes.length * 2);
+            }
+            newHashes[numNewHashes++] = hash;
+            rowCount++;
+        }
+
+        /** Writes the keys added since the last call into a new file and returns its name. */
+        @Nullable
+        private String flush(BinaryRowData partition) throws IOException {
+            if (numNewHashes == 0) {
+                return null;
+            }
+
+            String file = indexFile.write(partition, bucket, newHashes, numNewHashes);
+            files.add(file);
+            numNewHashes = 0;
+            return file;
+        }
+
+        private void mergeFilesIfNeeded(BinaryRowData partition) throws IOException {
+            if (files.size() <= MAX_INDEX_FILES_PER_BUCKET) {
+                return;
+            }
+
+            // merge all files of this bucket, only this assigner adds keys to this bucket so no
+            // file is added concurrently
+            List<int[]> fileHashes = new ArrayList<>(files.size());
+            int length = 0;
+            for (String file : files) {
+                int[] hashes = indexFile.read(partition, file);
+                fileHashes.add(hashes);
+                length += hashes.length;
+            }
+            int[] hashes = new int[length];
+            int offset = 0;
+            for (int[] h : fileHashes) {
+                System.arraycopy(h, 0, hashes, offset, h.length);
+                offset += h.length;
+            }
+            String merged = indexFile.write(partition, bucket, hashes, length);
+            for (String file : files) {
+                indexFile.delete(partition, file);
+            }
+            files.clear();
+            files.add(merged);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.file.index;
+
+import org.apache.flink.core.fs.FileStatus;
+import org.apache.flink.core.fs.FileSystem;
+import org.apache.flink.core.fs.Path;
+import org.apache.flink.table.data.binary.BinaryRowData;
+import org.apache.flink.table.store.file.utils.FileStorePathFactory;
+import org.apache.flink.table.store.file.utils.FileUtils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Files of the hash index in dynamic bucket mode. Each file contains the hash codes of keys which
+ * have been assigned to one bucket. A bucket may have several files, the hash codes of the bucket
+ * are the union of them.
+ *
+ * <p>Files of a partition are placed in {@link FileStorePathFactory#indexPath}, and are named
+ * {@code index-<bucket>-<uuid>}.
+ */
+public class HashIndexFile {
+
+    private static final String INDEX_FILE_PREFIX = "index-";
+
+    private final FileStorePathFactory pathFactory;
+
+    public HashIndexFile(FileStorePathFactory pathFactory) {
+        this.pathFactory = pathFactory;
+    }
+
+    /** Lists names of the index files of a partition, grouped by bucket. */
+    public Map<Integer, List<String>> listFiles(BinaryRowData partition) throws IOException {
+        Path dir = pathFactory.indexPath(partition);
+        Map<Integer, List<String>> result = new HashMap<>();
+        if (!dir.getFileSystem().exists(dir)) {
+            return result;
+        }
+
+        FileStatus[] statuses = FileUtils.safelyListFileStatus(dir);
+        if (statuses == null) {
+            throw new IOException(
+                    String.format(
+                            "The return value is null of the listStatus for the '%s' directory.",
+                            dir));
+        }
+        for (FileStatus status : statuses) {
+            String name = status.getPath().getName();
+            if (name.startsWith(INDEX_FILE_PREFIX)) {
+                result.computeIfAbsent(bucket(name), k -> new ArrayList<>()).add(name);
+            }
+        }
+        return result;
+    }
+
+    public int[] read(BinaryRowData partition, String fileName) throws IOException {
+        Path path = new Path(pathFactory.indexPath(partition), fileName);
+        try (DataInputStream in =
+                new DataInputStream(new BufferedInputStream(path.getFileSystem().open(path)))) {
+            int[] hashes = new int[in.readInt()];
+            for (int i = 0; i < hashes.length; i++) {
+                hashes[i] = in.readInt();
+            }
+            return hashes;
+        }
+    }
+
+    /** Writes hash codes of a bucket into a new index file and returns the file name. */
+    public String write(BinaryRowData partition, int bucket, int[] hashes, int length)
+            throws IOException {
+        String fileName = INDEX_FILE_PREFIX + bucket + "-" + UUID.randomUUID();
+        Path path = new Path(pathFactory.indexPath(partition), fileName);
+        try (DataOutputStream out =
+                new DataOutputStream(
+                        new BufferedOutputStream(
+                                path.getFileSystem()
+                                        .create(path, FileSystem.WriteMode.NO_OVERWRITE)))) {
+            out.writeInt(length);
+            for (int i = 0; i < length; i++) {
+                out.writeInt(hashes[i]);
+            }
+        }
+        return fileName;
+    }
+
+    public void delete(BinaryRowData partition, String fileName) {
+        FileUtils.deleteOrWarn(new Path(pathFactory.indexPath(partition), fileName));
+    }
+
+    private static int bucket(String fileName) {
+        int start = INDEX_FILE_PREFIX.length();
+        return Integer.parseInt(fileName.substring(start, fileName.indexOf('-', start)));
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.file.manifest;
+
+import org.apache.flink.annotation.VisibleForTesting;
+import org.apache.flink.table.store.file.data.DataFileMeta;
+import org.apache.flink.table.store.file.stats.BinaryTableStats;
+
+import org.apache.flink.shaded.guava30.com.google.common.cache.Cache;
+import org.apache.flink.shaded.guava30.com.google.common.cache.CacheBuilder;
+import org.apache.flink.shaded.guava30.com.google.common.cache.CacheStats;
+import org.apache.flink.shaded.guava30.com.google.common.util.concurrent.UncheckedExecutionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * A process-wide cache of decoded {@link ManifestEntry}s, keyed by the path of the manifest file.
+ *
+ * <p>Manifest files are never modified after being written, so cached entries never become stale.
+ * Entries of a manifest file are only invalidated when {@link ManifestFile#delete} removes the
+ * file, so that their memory is freed early. The cache is bounded by the estimated memory of the
+ * entries and evicts the least recently used manifest files first.
+ */
+public class ManifestCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ManifestCache.class);
+
+    // estimated memory of a manifest entry, excluding its variable length fields
+    private static final int ENTRY_FIXED_SIZE = 256;
+
+    private static volatile ManifestCache instance;
+
+    private final long maxMemory;
+    private final Cache<String, List<ManifestEntry>> cache;
+
+    @VisibleForTesting
+    ManifestCache(long maxMemory) {
+        this.maxMemory = maxMemory;
+        this.cache =
+                CacheBuilder.newBuilder()
+                        .maximumWeight(maxMemory)
+                        .weigher((String path, List<ManifestEntry> entries) -> weigh(entries))
+                        .recordStats()
+                        .build();
+    }
+
+    /**
+     * Returns the cache of this process. It is created by the first caller, the size of later
+     * callers is ignored.
+     */
+    public static synchronized ManifestCache getOrCreate(long maxMemory) {
+        if (instance == null) {
+            LOG.info("Creating manifest cache with a maximum size of {} bytes.", maxMemory);
+            instance = new ManifestCache(maxMemory);
+        } else if (instance.maxMemory != maxMemory) {
+            LOG.warn(
+                    "Manifest cache already exists with a maximum size of {} bytes, ignoring the requested size {}.",
+                    instance.maxMemory,
+                    maxMemory);
+        }
+        return instance;
+    }
+
+    /** Returns the cache of this process, or null if no table has created it yet. */
+    @Nullable
+    public static ManifestCache instance() {
+        return instance;
+    }
+
+    /** Returns the cached entries of the manifest file, loading them on a miss. */
+    public List<ManifestEntry> get(String path, Callable<List<ManifestEntry>> loader) {
+        try {
+            return cache.get(path, () -> Collections.unmodifiableList(loader.call()));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof RuntimeException
+                    ? (RuntimeException) cause
+                    : new RuntimeException(cause);
+        }
+    }
+
+    /** Drop the cached entries of a manifest file, for example after it is deleted. */
+    public void invalidate(String path) {
+        cache.invalidate(path);
+    }
+
+    /** Hit, miss and eviction statistics of this cache. */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    private static int weigh(List<ManifestEntry> entries) {
+        long size = 0;
+        for (ManifestEntry entry : entries) {
+            DataFileMeta file = entry.file();
+            size +=
+                    ENTRY_FIXED_SIZE
+                            + entry.partition().getSizeInBytes()
+                            + file.fileName().length() * 2L
+                            + file.minKey().getSizeInBytes()
+                            + file.maxKey().getSizeInBytes()
+                            + weigh(file.keyStats())
+                            + weigh(file.valueStats());
+        }
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    private static long weigh(BinaryTableStats stats) {
+        return stats.min().getSizeInBytes()
+                + stats.max().getSizeInBytes()
+                + stats.nullCounts().length * 8L;
+    }
+}
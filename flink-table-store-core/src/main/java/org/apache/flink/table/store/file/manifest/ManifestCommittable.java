@@ -21,12 +21,15 @@ package org.apache.flink.table.store.file.manifest;
 import org.apache.flink.table.data.binary.BinaryRowData;
 import org.apache.flink.table.store.file.data.DataFileMeta;
 import org.apache.flink.table.store.file.mergetree.Increment;
+import org.apache.flink.util.function.TriConsumer;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Stream;
 
 /** Manifest commit message. */
 public class ManifestCommittable {
@@ -36,6 +39,8 @@ public class ManifestCommittable {
     private final Map<BinaryRowData, Map<Integer, List<DataFileMeta>>> newFiles;
     private final Map<BinaryRowData, Map<Integer, List<DataFileMeta>>> compactBefore;
     private final Map<BinaryRowData, Map<Integer, List<DataFileMeta>>> compactAfter;
+    // only produced by merging, never serialized
+    private final Map<BinaryRowData, Map<Integer, List<DataFileMeta>>> discardedFiles;
 
     public ManifestCommittable(String identifier) {
         this.identifier = identifier;
@@ -43,6 +48,7 @@ public class ManifestCommittable {
         this.newFiles = new HashMap<>();
         this.compactBefore = new HashMap<>();
         this.compactAfter = new HashMap<>();
+        this.discardedFiles = new HashMap<>();
     }
 
     public ManifestCommittable(
@@ -56,6 +62,7 @@ public class ManifestCommittable {
         this.newFiles = newFiles;
         this.compactBefore = compactBefore;
         this.compactAfter = compactAfter;
+        this.discardedFiles = new HashMap<>();
     }
 
     public void addFileCommittable(BinaryRowData partition, int bucket, Increment increment) {
@@ -83,6 +90,74 @@ public class ManifestCommittable {
                 .addAll(files);
     }
 
+    /**
+     * Merges the given committables, in commit order, into one committable with the identifier of
+     * the last one. New files are kept even if they are compacted by a later committable, so that
+     * the append snapshot of the merged committable still contains all new records. Files both
+     * produced and compacted by the given committables are left out of the compaction. No snapshot
+     * references them, so they are returned by {@link #discardedFiles()} and deleted with their
+     * extra files once the merged committable is committed.
+     */
+    public static ManifestCommittable merge(List<ManifestCommittable> committables) {
+        ManifestCommittable merged =
+                new ManifestCommittable(committables.get(committables.size() - 1).identifier);
+        for (ManifestCommittable committable : committables) {
+            merged.logOffsets.putAll(committable.logOffsets);
+            forEachFiles(
+                    committable.newFiles,
+                    (partition, bucket, files) ->
+                            addFiles(merged.newFiles, partition, bucket, files));
+            forEachFiles(
+                    committable.compactBefore,
+                    (partition, bucket, files) -> {
+                        List<DataFileMeta> compacted =
+                                merged.compactAfter
+                                        .getOrDefault(partition, Collections.emptyMap())
+                                        .getOrDefault(bucket, Collections.emptyList());
+                        List<DataFileMeta> before = new ArrayList<>();
+                        List<DataFileMeta> discarded = new ArrayList<>();
+                        for (DataFileMeta file : files) {
+                            if (compacted.remove(file)) {
+                                discarded.add(file);
+                            } else {
+                                before.add(file);
+                            }
+                        }
+                        addFiles(merged.compactBefore, partition, bucket, before);
+                        addFiles(merged.discardedFiles, partition, bucket, discarded);
+                    });
+            forEachFiles(
+                    committable.compactAfter,
+                    (partition, bucket, files) ->
+                            addFiles(merged.compactAfter, partition, bucket, files));
+        }
+
+        // an upgraded file keeps its name and is still referenced by the entries of its old level
+        forEachFiles(
+                merged.discardedFiles,
+                (partition, bucket, files) ->
+                        files.removeIf(file -> merged.containsFileName(partition, bucket, file)));
+        return merged;
+    }
+
+    private boolean containsFileName(BinaryRowData partition, int bucket, DataFileMeta file) {
+        return Stream.of(newFiles, compactBefore, compactAfter)
+                .flatMap(
+                        map ->
+                                map.getOrDefault(partition, Collections.emptyMap())
+                                        .getOrDefault(bucket, Collections.emptyList()).stream())
+                .anyMatch(f -> f.fileName().equals(file.fileName()));
+    }
+
+    private static void forEachFiles(
+            Map<BinaryRowData, Map<Integer, List<DataFileMeta>>> map,
+            TriConsumer<BinaryRowData, Integer, List<DataFileMeta>> consumer) {
+        map.forEach(
+                (partition, buckets) ->
+                        buckets.forEach(
+                                (bucket, files) -> consumer.accept(partition, bucket, files)));
+    }
+
     public String identifier() {
         return identifier;
     }
@@ -103,6 +178,14 @@ public class ManifestCommittable {
         return compactAfter;
     }
 
+    /**
+     * Files produced by the compaction of a merged committable and compacted again by a later one.
+     * They are not part of {@link #equals} and are not serialized.
+     */
+    public Map<BinaryRowData, Map<Integer, List<DataFileMeta>>> discardedFiles() {
+        return discardedFiles;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -20,6 +20,7 @@ package org.apache.flink.table.store.file.manifest;
 
 import org.apache.flink.table.data.GenericRowData;
 import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.data.binary.BinaryRowData;
 import org.apache.flink.table.store.file.data.DataFileMetaSerializer;
 import org.apache.flink.table.store.file.utils.VersionedObjectSerializer;
 
@@ -72,4 +73,21 @@ public class ManifestEntrySerializer extends VersionedObjectSerializer<ManifestE
                 row.getInt(3),
                 dataFileMetaSerializer.fromRow(row.getRow(4, dataFileMetaSerializer.numFields())));
     }
+
+    // ------------------------------------------------------------------------
+    //  Accessors on serialized rows (including the leading version field),
+    //  used to filter entries before they are deserialized.
+    // ------------------------------------------------------------------------
+
+    public static BinaryRowData partition(RowData row) {
+        return deserializeBinaryRow(row.getBinary(2));
+    }
+
+    public static int bucket(RowData row) {
+        return row.getInt(3);
+    }
+
+    public static int totalBuckets(RowData row) {
+        return row.getInt(4);
+    }
 }
@@ -28,6 +28,7 @@ import org.apache.flink.table.store.file.schema.SchemaManager;
 import org.apache.flink.table.store.file.stats.FieldStatsArraySerializer;
 import org.apache.flink.table.store.file.utils.FileStorePathFactory;
 import org.apache.flink.table.store.file.utils.FileUtils;
+import org.apache.flink.table.store.file.utils.Filter;
 import org.apache.flink.table.store.file.utils.VersionedObjectSerializer;
 import org.apache.flink.table.store.file.writer.BaseFileWriter;
 import org.apache.flink.table.store.file.writer.FileWriter;
@@ -44,6 +45,8 @@ import org.apache.flink.shaded.guava30.com.google.common.collect.Iterables;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.util.Iterator;
@@ -68,6 +71,7 @@ public class ManifestFile {
     private final FileStorePathFactory pathFactory;
     private final long suggestedFileSize;
     private final FileWriter.Factory<ManifestEntry, Metric> fileWriterFactory;
+    @Nullable private final ManifestCache cache;
 
     private ManifestFile(
             SchemaManager schemaManager,
@@ -79,7 +83,8 @@ public class ManifestFile {
             BulkWriter.Factory<RowData> writerFactory,
             FileStatsExtractor fileStatsExtractor,
             FileStorePathFactory pathFactory,
-            long suggestedFileSize) {
+            long suggestedFileSize,
+            @Nullable ManifestCache cache) {
         this.schemaManager = schemaManager;
         this.schemaId = schemaId;
         this.partitionType = partitionType;
@@ -87,6 +92,7 @@ public class ManifestFile {
         this.readerFactory = readerFactory;
         this.pathFactory = pathFactory;
         this.suggestedFileSize = suggestedFileSize;
+        this.cache = cache;
 
         // Initialize the metric file writer factory to write manifest entry and generate metrics.
         this.fileWriterFactory =
@@ -100,9 +106,29 @@ public class ManifestFile {
     }
 
     public List<ManifestEntry> read(String fileName) {
+        Path path = pathFactory.toManifestFilePath(fileName);
+        return cache == null
+                ? read(fileName, path)
+                : cache.get(path.toString(), () -> read(fileName, path));
+    }
+
+    /**
+     * Read the {@link ManifestEntry}s of a manifest file whose serialized rows are accepted by
+     * {@code rowFilter}, see {@link ManifestEntrySerializer} for accessors on such rows. Rejected
+     * rows are skipped without being deserialized. The result only holds a subset of the file, so
+     * it is neither read from nor put into the {@link ManifestCache}.
+     */
+    public List<ManifestEntry> read(String fileName, Filter<RowData> rowFilter) {
+        return read(fileName, pathFactory.toManifestFilePath(fileName), rowFilter);
+    }
+
+    private List<ManifestEntry> read(String fileName, Path path) {
+        return read(fileName, path, Filter.alwaysTrue());
+    }
+
+    private List<ManifestEntry> read(String fileName, Path path, Filter<RowData> rowFilter) {
         try {
-            return FileUtils.readListFromFile(
-                    pathFactory.toManifestFilePath(fileName), serializer, readerFactory);
+            return FileUtils.readListFromFile(path, serializer, readerFactory, rowFilter);
         } catch (IOException e) {
             throw new RuntimeException("Failed to read manifest file " + fileName, e);
         }
@@ -148,7 +174,11 @@ public class ManifestFile {
     }
 
     public void delete(String fileName) {
-        FileUtils.deleteOrWarn(pathFactory.toManifestFilePath(fileName));
+        Path path = pathFactory.toManifestFilePath(fileName);
+        FileUtils.deleteOrWarn(path);
+        if (cache != null) {
+            cache.invalidate(path.toString());
+        }
     }
 
     private class ManifestEntryWriter extends BaseFileWriter<ManifestEntry, ManifestFileMeta> {
@@ -157,6 +187,10 @@ public class ManifestFile {
         private final FieldStatsArraySerializer partitionStatsSerializer;
         private long numAddedFiles = 0;
         private long numDeletedFiles = 0;
+        private int minBucket = Integer.MAX_VALUE;
+        private int maxBucket = Integer.MIN_VALUE;
+        private int minTotalBuckets = Integer.MAX_VALUE;
+        private int maxTotalBuckets = Integer.MIN_VALUE;
 
         ManifestEntryWriter(FileWriter.Factory<ManifestEntry, Metric> writerFactory, Path path)
                 throws IOException {
@@ -182,6 +216,10 @@ public class ManifestFile {
             }
 
             partitionStatsCollector.collect(entry.partition());
+            minBucket = Math.min(minBucket, entry.bucket());
+            maxBucket = Math.max(maxBucket, entry.bucket());
+            minTotalBuckets = Math.min(minTotalBuckets, entry.totalBuckets());
+            maxTotalBuckets = Math.max(maxTotalBuckets, entry.totalBuckets());
         }
 
         @Override
@@ -194,7 +232,11 @@ public class ManifestFile {
                     numAddedFiles,
                     numDeletedFiles,
                     partitionStatsSerializer.toBinary(partitionStatsCollector.extract()),
-                    schemaId);
+                    schemaId,
+                    minBucket,
+                    maxBucket,
+                    minTotalBuckets,
+                    maxTotalBuckets);
         }
     }
 
@@ -233,6 +275,7 @@ public class ManifestFile {
         private final FileFormat fileFormat;
         private final FileStorePathFactory pathFactory;
         private final long suggestedFileSize;
+        @Nullable private final ManifestCache cache;
 
         public Factory(
                 SchemaManager schemaManager,
@@ -240,13 +283,15 @@ public class ManifestFile {
                 RowType partitionType,
                 FileFormat fileFormat,
                 FileStorePathFactory pathFactory,
-                long suggestedFileSize) {
+                long suggestedFileSize,
+                @Nullable ManifestCache cache) {
             this.schemaManager = schemaManager;
             this.schemaId = schemaId;
             this.partitionType = partitionType;
             this.fileFormat = fileFormat;
             this.pathFactory = pathFactory;
             this.suggestedFileSize = suggestedFileSize;
+            this.cache = cache;
         }
 
         public ManifestFile create() {
@@ -261,7 +306,8 @@ public class ManifestFile {
                     fileFormat.createWriterFactory(entryType),
                     fileFormat.createStatsExtractor(entryType).orElse(null),
                     pathFactory,
-                    suggestedFileSize);
+                    suggestedFileSize,
+                    cache);
         }
     }
 }
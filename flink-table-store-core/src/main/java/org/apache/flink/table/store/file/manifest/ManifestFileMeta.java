@@ -21,6 +21,7 @@ package org.apache.flink.table.store.file.manifest;
 import org.apache.flink.table.store.file.stats.BinaryTableStats;
 import org.apache.flink.table.store.file.stats.FieldStatsArraySerializer;
 import org.apache.flink.table.types.logical.BigIntType;
+import org.apache.flink.table.types.logical.IntType;
 import org.apache.flink.table.types.logical.RowType;
 import org.apache.flink.table.types.logical.VarCharType;
 import org.apache.flink.util.Preconditions;
@@ -34,12 +35,22 @@ import java.util.Objects;
 /** Metadata of a manifest file. */
 public class ManifestFileMeta {
 
+    /**
+     * Bucket range of manifest files listed by old versions, which did not record bucket ranges.
+     * Such manifest files are never pruned by bucket.
+     */
+    private static final int UNKNOWN_BUCKET = Integer.MIN_VALUE;
+
     private final String fileName;
     private final long fileSize;
     private final long numAddedFiles;
     private final long numDeletedFiles;
     private final BinaryTableStats partitionStats;
     private final long schemaId;
+    private final int minBucket;
+    private final int maxBucket;
+    private final int minTotalBuckets;
+    private final int maxTotalBuckets;
 
     public ManifestFileMeta(
             String fileName,
@@ -48,12 +59,40 @@ public class ManifestFileMeta {
             long numDeletedFiles,
             BinaryTableStats partitionStats,
             long schemaId) {
+        this(
+                fileName,
+                fileSize,
+                numAddedFiles,
+                numDeletedFiles,
+                partitionStats,
+                schemaId,
+                UNKNOWN_BUCKET,
+                UNKNOWN_BUCKET,
+                UNKNOWN_BUCKET,
+                UNKNOWN_BUCKET);
+    }
+
+    public ManifestFileMeta(
+            String fileName,
+            long fileSize,
+            long numAddedFiles,
+            long numDeletedFiles,
+            BinaryTableStats partitionStats,
+            long schemaId,
+            int minBucket,
+            int maxBucket,
+            int minTotalBuckets,
+            int maxTotalBuckets) {
         this.fileName = fileName;
         this.fileSize = fileSize;
         this.numAddedFiles = numAddedFiles;
         this.numDeletedFiles = numDeletedFiles;
         this.partitionStats = partitionStats;
         this.schemaId = schemaId;
+        this.minBucket = minBucket;
+        this.maxBucket = maxBucket;
+        this.minTotalBuckets = minTotalBuckets;
+        this.maxTotalBuckets = maxTotalBuckets;
     }
 
     public String fileName() {
@@ -80,6 +119,27 @@ public class ManifestFileMeta {
         return schemaId;
     }
 
+    /** Whether the bucket range (and the range of total buckets) of the entries is known. */
+    public boolean hasBucketRange() {
+        return minBucket != UNKNOWN_BUCKET;
+    }
+
+    public int minBucket() {
+        return minBucket;
+    }
+
+    public int maxBucket() {
+        return maxBucket;
+    }
+
+    public int minTotalBuckets() {
+        return minTotalBuckets;
+    }
+
+    public int maxTotalBuckets() {
+        return maxTotalBuckets;
+    }
+
     public static RowType schema() {
         List<RowType.RowField> fields = new ArrayList<>();
         fields.add(new RowType.RowField("_FILE_NAME", new VarCharType(false, Integer.MAX_VALUE)));
@@ -88,6 +148,10 @@ public class ManifestFileMeta {
         fields.add(new RowType.RowField("_NUM_DELETED_FILES", new BigIntType(false)));
         fields.add(new RowType.RowField("_PARTITION_STATS", FieldStatsArraySerializer.schema()));
         fields.add(new RowType.RowField("_SCHEMA_ID", new BigIntType(false)));
+        fields.add(new RowType.RowField("_MIN_BUCKET", new IntType(true)));
+        fields.add(new RowType.RowField("_MAX_BUCKET", new IntType(true)));
+        fields.add(new RowType.RowField("_MIN_TOTAL_BUCKETS", new IntType(true)));
+        fields.add(new RowType.RowField("_MAX_TOTAL_BUCKETS", new IntType(true)));
         return new RowType(fields);
     }
 
@@ -102,20 +166,42 @@ public class ManifestFileMeta {
                 && numAddedFiles == that.numAddedFiles
                 && numDeletedFiles == that.numDeletedFiles
                 && Objects.equals(partitionStats, that.partitionStats)
-                && schemaId == that.schemaId;
+                && schemaId == that.schemaId
+                && minBucket == that.minBucket
+                && maxBucket == that.maxBucket
+                && minTotalBuckets == that.minTotalBuckets
+                && maxTotalBuckets == that.maxTotalBuckets;
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(
-                fileName, fileSize, numAddedFiles, numDeletedFiles, partitionStats, schemaId);
+                fileName,
+                fileSize,
+                numAddedFiles,
+                numDeletedFiles,
+                partitionStats,
+                schemaId,
+                minBucket,
+                maxBucket,
+                minTotalBuckets,
+                maxTotalBuckets);
     }
 
     @Override
     public String toString() {
         return String.format(
-                "{%s, %d, %d, %d, %s, %d}",
-                fileName, fileSize, numAddedFiles, numDeletedFiles, partitionStats, schemaId);
+                "{%s, %d, %d, %d, %s, %d, [%d, %d], [%d, %d]}",
+                fileName,
+                fileSize,
+                numAddedFiles,
+                numDeletedFiles,
+                partitionStats,
+                schemaId,
+                minBucket,
+                maxBucket,
+                minTotalBuckets,
+                maxTotalBuckets);
     }
 
     /**
@@ -165,6 +251,97 @@ public class ManifestFileMeta {
         return result;
     }
 
+    /**
+     * Merge several {@link ManifestFileMeta}s by size tiers, similar to a size-tiered LSM
+     * compaction. Manifests smaller than {@code suggestedMetaSize} belong to a tier determined by
+     * their size, each tier is {@code mergeCount} times smaller than the previous one. Once the
+     * newest manifests contain {@code mergeCount} consecutive manifests of the same tier, they are
+     * merged into a manifest of a larger tier. Manifests reaching {@code suggestedMetaSize} are
+     * never merged, see {@link #fullMerge} to merge them.
+     *
+     * <p>As the given manifests are already merged in previous commits, usually only the newest
+     * manifests are read and rewritten, so each entry is rewritten once per tier.
+     *
+     * <p>NOTE: This method is atomic.
+     */
+    public static List<ManifestFileMeta> tieredMerge(
+            List<ManifestFileMeta> metas,
+            ManifestFile manifestFile,
+            long suggestedMetaSize,
+            int mergeCount) {
+        // merging one manifest will not change its tier
+        int minRunSize = Math.max(mergeCount, 2);
+        List<ManifestFileMeta> result = new ArrayList<>();
+        // these are the newly created manifest files, clean them up if exception occurs
+        List<ManifestFileMeta> newMetas = new ArrayList<>();
+
+        try {
+            for (ManifestFileMeta manifest : metas) {
+                result.add(manifest);
+                // a merged run may complete a run of the next tier, so keep merging
+                while (!result.isEmpty()) {
+                    int tier = tier(result.get(result.size() - 1), suggestedMetaSize, mergeCount);
+                    if (tier < 0) {
+                        break;
+                    }
+
+                    int start = result.size() - 1;
+                    while (start > 0
+                            && tier(result.get(start - 1), suggestedMetaSize, mergeCount) == tier) {
+                        start--;
+                    }
+                    if (result.size() - start < minRunSize) {
+                        break;
+                    }
+
+                    List<ManifestFileMeta> run = result.subList(start, result.size());
+                    List<ManifestFileMeta> candidates = new ArrayList<>(run);
+                    run.clear();
+                    mergeCandidates(candidates, manifestFile, result, newMetas);
+                }
+            }
+        } catch (Throwable e) {
+            // exception occurs, clean up and rethrow
+            for (ManifestFileMeta manifest : newMetas) {
+                manifestFile.delete(manifest.fileName);
+            }
+            throw e;
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the size tier of a manifest, smaller manifests have larger tiers. Returns -1 if the
+     * manifest reaches the suggested size.
+     */
+    private static int tier(ManifestFileMeta manifest, long suggestedMetaSize, int mergeCount) {
+        if (manifest.fileSize >= suggestedMetaSize) {
+            return -1;
+        }
+
+        int tier = 0;
+        long bound = suggestedMetaSize / Math.max(mergeCount, 2);
+        while (manifest.fileSize < bound) {
+            tier++;
+            bound /= Math.max(mergeCount, 2);
+        }
+        return tier;
+    }
+
+    /**
+     * Merge all given {@link ManifestFileMeta}s, including the ones reaching the suggested size, so
+     * that {@link ManifestEntry}s of deleted data files are removed.
+     *
+     * <p>NOTE: This method is atomic.
+     */
+    public static List<ManifestFileMeta> fullMerge(
+            List<ManifestFileMeta> metas, ManifestFile manifestFile) {
+        List<ManifestFileMeta> result = new ArrayList<>();
+        mergeCandidates(metas, manifestFile, result, new ArrayList<>());
+        return result;
+    }
+
     private static void mergeCandidates(
             List<ManifestFileMeta> candidates,
             ManifestFile manifestFile,
@@ -35,23 +35,28 @@ public class ManifestFileMetaSerializer extends VersionedObjectSerializer<Manife
 
     @Override
     public int getVersion() {
-        return 2;
+        return 3;
     }
 
     @Override
     public RowData convertTo(ManifestFileMeta meta) {
+        boolean hasBucketRange = meta.hasBucketRange();
         return GenericRowData.of(
                 StringData.fromString(meta.fileName()),
                 meta.fileSize(),
                 meta.numAddedFiles(),
                 meta.numDeletedFiles(),
                 meta.partitionStats().toRowData(),
-                meta.schemaId());
+                meta.schemaId(),
+                hasBucketRange ? meta.minBucket() : null,
+                hasBucketRange ? meta.maxBucket() : null,
+                hasBucketRange ? meta.minTotalBuckets() : null,
+                hasBucketRange ? meta.maxTotalBuckets() : null);
     }
 
     @Override
     public ManifestFileMeta convertFrom(int version, RowData row) {
-        if (version != 2) {
+        if (version != 2 && version != 3) {
             if (version == 1) {
                 throw new IllegalArgumentException(
                         String.format(
@@ -60,12 +65,29 @@ public class ManifestFileMetaSerializer extends VersionedObjectSerializer<Manife
             }
             throw new IllegalArgumentException("Unsupported version: " + version);
         }
+
+        String fileName = row.getString(0).toString();
+        long fileSize = row.getLong(1);
+        long numAddedFiles = row.getLong(2);
+        long numDeletedFiles = row.getLong(3);
+        BinaryTableStats partitionStats = BinaryTableStats.fromRowData(row.getRow(4, 3));
+        long schemaId = row.getLong(5);
+        // manifest lists of version 2 do not have bucket ranges, and they might also be copied
+        // into manifest lists of version 3 without bucket ranges
+        if (version == 2 || row.isNullAt(6)) {
+            return new ManifestFileMeta(
+                    fileName, fileSize, numAddedFiles, numDeletedFiles, partitionStats, schemaId);
+        }
         return new ManifestFileMeta(
-                row.getString(0).toString(),
-                row.getLong(1),
-                row.getLong(2),
-                row.getLong(3),
-                BinaryTableStats.fromRowData(row.getRow(4, 3)),
-                row.getLong(5));
+                fileName,
+                fileSize,
+                numAddedFiles,
+                numDeletedFiles,
+                partitionStats,
+                schemaId,
+                row.getInt(6),
+                row.getInt(7),
+                row.getInt(8),
+                row.getInt(9));
     }
 }
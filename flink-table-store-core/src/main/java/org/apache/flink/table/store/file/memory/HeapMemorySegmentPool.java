@@ -20,51 +20,16 @@ package org.apache.flink.table.store.file.memory;
 
 import org.apache.flink.core.memory.MemorySegment;
 import org.apache.flink.core.memory.MemorySegmentFactory;
-import org.apache.flink.table.runtime.util.MemorySegmentPool;
-
-import java.util.LinkedList;
-import java.util.List;
 
 /** MemorySegment pool from heap. */
-public class HeapMemorySegmentPool implements MemorySegmentPool {
-
-    private final LinkedList<MemorySegment> segments;
-    private final int maxPages;
-    private final int pageSize;
-
-    private int numPage;
+public class HeapMemorySegmentPool extends AbstractMemorySegmentPool {
 
     public HeapMemorySegmentPool(long maxMemory, int pageSize) {
-        this.segments = new LinkedList<>();
-        this.maxPages = (int) (maxMemory / pageSize);
-        this.pageSize = pageSize;
-        this.numPage = 0;
-    }
-
-    @Override
-    public MemorySegment nextSegment() {
-        if (this.segments.size() > 0) {
-            return this.segments.poll();
-        } else if (numPage < maxPages) {
-            numPage++;
-            return MemorySegmentFactory.allocateUnpooledSegment(pageSize);
-        }
-
-        return null;
-    }
-
-    @Override
-    public int pageSize() {
-        return pageSize;
-    }
-
-    @Override
-    public void returnAll(List<MemorySegment> memory) {
-        segments.addAll(memory);
+        super(maxMemory, pageSize);
     }
 
     @Override
-    public int freePages() {
-        return segments.size() + maxPages - numPage;
+    protected MemorySegment allocateMemory() {
+        return MemorySegmentFactory.allocateUnpooledSegment(pageSize());
     }
 }
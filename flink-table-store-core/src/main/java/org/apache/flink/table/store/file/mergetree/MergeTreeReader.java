@@ -120,8 +120,8 @@ public class MergeTreeReader implements RecordReader<KeyValue> {
             throws IOException {
         List<ReaderSupplier<KeyValue>> readers = new ArrayList<>();
         for (DataFileMeta file : run.files()) {
-            readers.add(() -> dataFileReader.read(file.fileName()));
+            readers.add(() -> dataFileReader.read(file.fileName(), file.fileSize()));
         }
-        return ConcatRecordReader.create(readers);
+        return ConcatRecordReader.create(readers, dataFileReader.prefetchPermits());
     }
 }
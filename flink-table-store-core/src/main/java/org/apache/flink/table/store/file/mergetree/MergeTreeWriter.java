@@ -19,6 +19,7 @@
 package org.apache.flink.table.store.file.mergetree;
 
 import org.apache.flink.annotation.VisibleForTesting;
+import org.apache.flink.core.memory.MemorySegment;
 import org.apache.flink.table.data.RowData;
 import org.apache.flink.table.runtime.util.MemorySegmentPool;
 import org.apache.flink.table.store.file.KeyValue;
@@ -32,6 +33,8 @@ import org.apache.flink.table.store.file.writer.RecordWriter;
 import org.apache.flink.table.types.logical.RowType;
 import org.apache.flink.util.CloseableIterator;
 
+import javax.annotation.Nullable;
+
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.Iterator;
@@ -40,9 +43,24 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
-/** A {@link RecordWriter} to write records and generate {@link Increment}. */
+/**
+ * A {@link RecordWriter} to write records and generate {@link Increment}.
+ *
+ * <p>If a flush executor is given, the write buffer is double-buffered: once the active {@link
+ * MemTable} occupies half of the write buffer (or the memory pool is exhausted before that), it
+ * becomes immutable and is flushed to a level 0 file by the executor, while records keep going into
+ * a second {@link MemTable}. The executor should not be shared with compactions, otherwise flushes
+ * wait for running compactions. Writing only blocks if the active table fills up again before the
+ * previous flush has finished.
+ *
+ * <p>As the memory pool may be shared with other writers, some pages are reserved from it up front
+ * when the memory pool is set. They are only handed out while a flush is in flight, so the second
+ * {@link MemTable} can accept records even if the other writers have taken the rest of the pool.
+ */
 public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
 
     private final RowType keyType;
@@ -65,6 +83,12 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
 
     private final boolean enableChangelogFile;
 
+    @Nullable private final ExecutorService flushExecutor;
+
+    private final long asyncFlushThreshold;
+
+    private final long asyncFlushReservedSize;
+
     private final LinkedHashSet<DataFileMeta> newFiles;
 
     private final LinkedHashMap<String, DataFileMeta> compactBefore;
@@ -75,6 +99,12 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
 
     private MemTable memTable;
 
+    // the immutable table being flushed in background and the table that replaces it
+    @Nullable private MemTable flushingMemTable;
+    @Nullable private MemTable spareMemTable;
+    @Nullable private Future<Optional<DataFileMeta>> flushFuture;
+    @Nullable private ReservingMemoryPool reservingMemoryPool;
+
     public MergeTreeWriter(
             RowType keyType,
             RowType valueType,
@@ -86,7 +116,10 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
             DataFileWriter dataFileWriter,
             boolean commitForceCompact,
             int numSortedRunStopTrigger,
-            boolean enableChangelogFile) {
+            boolean enableChangelogFile,
+            @Nullable ExecutorService flushExecutor,
+            long writeBufferSize,
+            long asyncFlushReservedSize) {
         this.keyType = keyType;
         this.valueType = valueType;
         this.compactManager = compactManager;
@@ -98,6 +131,9 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
         this.commitForceCompact = commitForceCompact;
         this.numSortedRunStopTrigger = numSortedRunStopTrigger;
         this.enableChangelogFile = enableChangelogFile;
+        this.flushExecutor = flushExecutor;
+        this.asyncFlushThreshold = writeBufferSize / 2;
+        this.asyncFlushReservedSize = asyncFlushReservedSize;
         this.newFiles = new LinkedHashSet<>();
         this.compactBefore = new LinkedHashMap<>();
         this.compactAfter = new LinkedHashSet<>();
@@ -114,7 +150,18 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
 
     @Override
     public void setMemoryPool(MemorySegmentPool memoryPool) {
-        this.memTable = new SortBufferMemTable(keyType, valueType, memoryPool);
+        if (flushExecutor == null) {
+            this.memTable = new SortBufferMemTable(keyType, valueType, memoryPool);
+            return;
+        }
+
+        this.reservingMemoryPool = new ReservingMemoryPool(memoryPool);
+        this.memTable = new SortBufferMemTable(keyType, valueType, reservingMemoryPool);
+        this.spareMemTable = new SortBufferMemTable(keyType, valueType, reservingMemoryPool);
+        // reserve pages without preempting other writers and leave enough for their tables
+        long reservedSize = Math.min(asyncFlushReservedSize, asyncFlushThreshold);
+        reservingMemoryPool.reserve(
+                (int) Math.min(reservedSize / memoryPool.pageSize(), memoryPool.freePages() / 2));
     }
 
     @Override
@@ -123,61 +170,131 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
                 kv.sequenceNumber() == KeyValue.UNKNOWN_SEQUENCE
                         ? newSequenceNumber()
                         : kv.sequenceNumber();
+        if (flushExecutor != null) {
+            if (flushFuture != null && flushFuture.isDone()) {
+                finishFlush(false);
+            }
+            if (memTable.memoryOccupancy() >= asyncFlushThreshold) {
+                flushMemoryAsync();
+            }
+        }
         boolean success = memTable.put(sequenceNumber, kv.valueKind(), kv.key(), kv.value());
-        if (!success) {
-            flushMemory();
+        if (!success && flushExecutor != null) {
+            // the memory pool is exhausted before reaching the threshold, hand over the full table
+            // and go on with the reserved pages, this only blocks if the previous flush has not
+            // finished yet
+            flushMemoryAsync();
             success = memTable.put(sequenceNumber, kv.valueKind(), kv.key(), kv.value());
             if (!success) {
-                throw new RuntimeException("Mem table is too small to hold a single element.");
+                // the reserved pages are used up as well, wait for the flush to release memory
+                finishFlush(true);
+                success = memTable.put(sequenceNumber, kv.valueKind(), kv.key(), kv.value());
             }
+        } else if (!success) {
+            // the memory pool is exhausted, flush synchronously to release memory
+            flushMemory();
+            success = memTable.put(sequenceNumber, kv.valueKind(), kv.key(), kv.value());
+        }
+        if (!success) {
+            throw new RuntimeException("Mem table is too small to hold a single element.");
         }
     }
 
     @Override
     public long memoryOccupancy() {
-        return memTable.memoryOccupancy();
+        long occupancy = memTable.memoryOccupancy();
+        if (flushingMemTable != null) {
+            occupancy += flushingMemTable.memoryOccupancy();
+        }
+        return occupancy;
     }
 
     @Override
     public void flushMemory() throws Exception {
+        // memory of the table in flushing is only released after the flush has finished
+        finishFlush(true);
         if (memTable.size() > 0) {
-            if (levels.numberOfSortedRuns() > numSortedRunStopTrigger) {
-                // stop writing, wait for compaction finished
-                finishCompaction(true);
-            }
-            List<String> extraFiles = new ArrayList<>();
-            if (enableChangelogFile) {
-                extraFiles.add(
-                        dataFileWriter
-                                .writeLevel0Changelog(
-                                        CloseableIterator.adapterForIterator(
-                                                memTable.rawIterator()))
-                                .getName());
-            }
-            boolean success = false;
-            try {
-                Iterator<KeyValue> iterator = memTable.mergeIterator(keyComparator, mergeFunction);
-                success =
-                        dataFileWriter
-                                .writeLevel0(CloseableIterator.adapterForIterator(iterator))
-                                .map(
-                                        file -> {
-                                            DataFileMeta fileMeta = file.copy(extraFiles);
-                                            newFiles.add(fileMeta);
-                                            levels.addLevel0File(fileMeta);
-                                            return true;
-                                        })
-                                .orElse(false);
-            } finally {
-                if (!success) {
-                    extraFiles.forEach(dataFileWriter::delete);
-                }
-            }
+            waitForCompactionIfNeeded();
+            flushToFile(memTable).ifPresent(this::addLevel0File);
             memTable.clear();
             submitCompaction();
         }
     }
 
+    private void flushMemoryAsync() throws Exception {
+        // back pressure, at most one table can be flushed in background
+        finishFlush(true);
+        if (memTable.size() > 0) {
+            waitForCompactionIfNeeded();
+            MemTable flushing = memTable;
+            memTable = spareMemTable;
+            spareMemTable = null;
+            flushingMemTable = flushing;
+            flushFuture = flushExecutor.submit(() -> flushToFile(flushing));
+        }
+    }
+
+    private void finishFlush(boolean blocking) throws Exception {
+        if (flushFuture == null || (!blocking && !flushFuture.isDone())) {
+            return;
+        }
+
+        Optional<DataFileMeta> file = flushFuture.get();
+        flushFuture = null;
+        file.ifPresent(this::addLevel0File);
+        flushingMemTable.clear();
+        spareMemTable = flushingMemTable;
+        flushingMemTable = null;
+        reservingMemoryPool.refill();
+        submitCompaction();
+    }
+
+    private void waitForCompactionIfNeeded() throws Exception {
+        if (levels.numberOfSortedRuns() > numSortedRunStopTrigger) {
+            // stop writing, wait for compaction finished
+            finishCompaction(true);
+        }
+    }
+
+    /**
+     * Sort and write the records of the given table into a level 0 file. This method does not touch
+     * the state of this writer, so it can be called from the flush executor.
+     */
+    private Optional<DataFileMeta> flushToFile(MemTable table) throws Exception {
+        List<String> extraFiles = new ArrayList<>();
+        if (enableChangelogFile) {
+            extraFiles.add(
+                    dataFileWriter
+                            .writeLevel0Changelog(
+                                    CloseableIterator.adapterForIterator(table.rawIterator()))
+                            .getName());
+        }
+        Optional<DataFileMeta> result = Optional.empty();
+        try {
+            Iterator<KeyValue> iterator = table.mergeIterator(keyComparator, mergeFunction);
+            result =
+                    dataFileWriter
+                            .writeLevel0(CloseableIterator.adapterForIterator(iterator))
+                            .map(
+                                    file -> {
+                                        List<String> allExtraFiles =
+                                                new ArrayList<>(file.extraFiles());
+                                        allExtraFiles.addAll(extraFiles);
+                                        return file.copy(allExtraFiles);
+                                    });
+        } finally {
+            if (!result.isPresent()) {
+                extraFiles.forEach(dataFileWriter::delete);
+            }
+        }
+        return result;
+    }
+
+    private void addLevel0File(DataFileMeta file) {
+        newFiles.add(file);
+        levels.addLevel0File(file);
+    }
+
     @Override
     public Increment prepareCommit(boolean endOfInput) throws Exception {
         flushMemory();
@@ -188,6 +305,7 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
 
     @Override
     public void sync() throws Exception {
+        finishFlush(true);
         finishCompaction(true);
     }
 
@@ -253,6 +371,70 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
         }
         newFiles.clear();
         compactAfter.clear();
+        if (reservingMemoryPool != null) {
+            reservingMemoryPool.release();
+        }
         return delete;
     }
+
+    /**
+     * A {@link MemorySegmentPool} which keeps some pages of the given pool for this writer. The
+     * reserved pages are only handed out while a flush is in flight and are taken again from the
+     * given pool once the flush has released its memory.
+     */
+    private class ReservingMemoryPool implements MemorySegmentPool {
+
+        private final MemorySegmentPool memoryPool;
+        private final List<MemorySegment> reserved;
+
+        private int numReserved;
+
+        private ReservingMemoryPool(MemorySegmentPool memoryPool) {
+            this.memoryPool = memoryPool;
+            this.reserved = new ArrayList<>();
+        }
+
+        private void reserve(int numPages) {
+            numReserved = numPages;
+            refill();
+        }
+
+        private void refill() {
+            // never preempt other writers for the reservation
+            while (reserved.size() < numReserved && memoryPool.freePages() > 0) {
+                reserved.add(memoryPool.nextSegment());
+            }
+        }
+
+        private void release() {
+            numReserved = 0;
+            memoryPool.returnAll(reserved);
+            reserved.clear();
+        }
+
+        @Override
+        public int pageSize() {
+            return memoryPool.pageSize();
+        }
+
+        @Override
+        public void returnAll(List<MemorySegment> memory) {
+            memoryPool.returnAll(memory);
+        }
+
+        @Override
+        public int freePages() {
+            return flushFuture == null
+                    ? memoryPool.freePages()
+                    : memoryPool.freePages() + reserved.size();
+        }
+
+        @Override
+        public MemorySegment nextSegment() {
+            if (flushFuture != null && !reserved.isEmpty()) {
+                return reserved.remove(reserved.size() - 1);
+            }
+            return memoryPool.nextSegment();
+        }
+    }
 }
@@ -27,27 +27,73 @@ import java.io.IOException;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
+import java.util.concurrent.Semaphore;
 
 /**
  * This reader is to concatenate a list of {@link RecordReader}s and read them sequentially. The
  * input list is already sorted by key and sequence number, and the key intervals do not overlap
  * each other.
+ *
+ * <p>If prefetch permits are given, the next reader is created ahead of time while a permit can be
+ * acquired, so that readers which open files asynchronously can open the next file while the
+ * current one is read. The permits may be shared by the readers of all sorted runs of a split to
+ * cap the number of files opened ahead per split.
  */
 public class ConcatRecordReader<T> implements RecordReader<T> {
 
     private final Queue<ReaderSupplier<T>> queue;
+    @Nullable private final Semaphore prefetchPermits;
 
     private RecordReader<T> current;
+    @Nullable private RecordReader<T> next;
 
-    protected ConcatRecordReader(List<ReaderSupplier<T>> readerFactories) {
+    protected ConcatRecordReader(
+            List<ReaderSupplier<T>> readerFactories, @Nullable Semaphore prefetchPermits) {
         readerFactories.forEach(
                 supplier ->
                         Preconditions.checkNotNull(supplier, "Reader factory must not be null."));
         this.queue = new LinkedList<>(readerFactories);
+        this.prefetchPermits = prefetchPermits;
     }
 
     public static <R> RecordReader<R> create(List<ReaderSupplier<R>> readers) throws IOException {
-        return readers.size() == 1 ? readers.get(0).get() : new ConcatRecordReader<>(readers);
+        return create(readers, null);
+    }
+
+    public static <R> RecordReader<R> create(
+            List<ReaderSupplier<R>> readers, @Nullable Semaphore prefetchPermits)
+            throws IOException {
+        if (readers.size() == 1) {
+            return readers.get(0).get();
+        }
+        ConcatRecordReader<R> reader = new ConcatRecordReader<>(readers, prefetchPermits);
+        reader.prefetchNext();
+        return reader;
+    }
+
+    private void prefetchNext() throws IOException {
+        if (next != null
+                || prefetchPermits == null
+                || queue.isEmpty()
+                || !prefetchPermits.tryAcquire()) {
+            return;
+        }
+
+        try {
+            next = queue.poll().get();
+        } catch (IOException | RuntimeException e) {
+            prefetchPermits.release();
+            throw e;
+        }
+    }
+
+    private RecordReader<T> takeNext() {
+        RecordReader<T> reader = next;
+        next = null;
+        if (prefetchPermits != null) {
+            prefetchPermits.release();
+        }
+        return reader;
     }
 
     @Nullable
@@ -61,8 +107,12 @@ public class ConcatRecordReader<T> implements RecordReader<T> {
                 }
                 current.close();
                 current = null;
+            } else if (next != null) {
+                current = takeNext();
+                prefetchNext();
             } else if (queue.size() > 0) {
                 current = queue.poll().get();
+                prefetchNext();
             } else {
                 return null;
             }
@@ -71,8 +121,14 @@ public class ConcatRecordReader<T> implements RecordReader<T> {
 
     @Override
     public void close() throws IOException {
-        if (current != null) {
-            current.close();
+        try {
+            if (current != null) {
+                current.close();
+            }
+        } finally {
+            if (next != null) {
+                takeNext().close();
+            }
         }
     }
 
@@ -19,6 +19,7 @@
 package org.apache.flink.table.store.file.mergetree.compact;
 
 import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.store.file.compact.CompactExecutor;
 import org.apache.flink.table.store.file.compact.CompactManager;
 import org.apache.flink.table.store.file.compact.CompactResult;
 import org.apache.flink.table.store.file.compact.CompactUnit;
@@ -118,7 +119,9 @@ public class MergeTreeCompactManager extends CompactManager {
                                                     file.fileName(), file.level(), file.fileSize()))
                             .collect(Collectors.joining(", ")));
         }
-        taskFuture = executor.submit(task);
+        // the more sorted runs, the closer this writer is to be stopped
+        taskFuture =
+                executor.submit(CompactExecutor.prioritized(task, levels.numberOfSortedRuns()));
     }
 
     /** Finish current task, and update result files to {@link Levels}. */
@@ -26,45 +26,57 @@ import org.apache.flink.util.Preconditions;
 import javax.annotation.Nullable;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
-import java.util.PriorityQueue;
 
 /**
  * This reader is to read a list of {@link RecordReader}, which is already sorted by key and
  * sequence number, and perform a sort merge algorithm. {@link KeyValue}s with the same key will
  * also be combined during sort merging.
  *
+ * <p>The readers are merged with a loser tree. Each reader is a leaf of the tree and each inner
+ * node keeps the loser of the match below it, so that replacing the winner only takes one
+ * comparison per tree level and no allocation. A polled winner is not advanced immediately, as its
+ * {@link KeyValue} may still be referenced by the merge function and the caller. It is marked as
+ * popped instead, which orders it after all unpopped {@link KeyValue}s with the same key, and is
+ * advanced when it becomes the winner again in the next round. Once returned, the key of a popped
+ * {@link KeyValue} may be changed by the caller (for example by key projection), so it is only read
+ * while the leaves with the same key are being popped.
+ *
  * <p>NOTE: {@link KeyValue}s from the same {@link RecordReader} must not contain the same key.
  */
 public class SortMergeReader implements RecordReader<KeyValue> {
 
-    private final List<RecordReader<KeyValue>> nextBatchReaders;
     private final Comparator<RowData> userKeyComparator;
     private final MergeFunctionHelper mergeFunctionHelper;
 
-    private final PriorityQueue<Element> minHeap;
-    private final List<Element> polled;
+    private final Leaf[] leaves;
+    // tree[0] is the winner, tree[1..n) are the losers of inner nodes, -1 for an empty slot
+    private final int[] tree;
+
+    // leaves whose readers need to read next batch
+    private final int[] nextBatchLeaves;
+    private int numNextBatchLeaves;
+
+    // whether the leaves with the current key are being popped
+    private boolean popping;
 
     protected SortMergeReader(
             List<RecordReader<KeyValue>> readers,
             Comparator<RowData> userKeyComparator,
             MergeFunction mergeFunction) {
-        this.nextBatchReaders = new ArrayList<>(readers);
         this.userKeyComparator = userKeyComparator;
         this.mergeFunctionHelper = new MergeFunctionHelper(mergeFunction);
 
-        this.minHeap =
-                new PriorityQueue<>(
-                        (e1, e2) -> {
-                            int result = userKeyComparator.compare(e1.kv.key(), e2.kv.key());
-                            if (result != 0) {
-                                return result;
-                            }
-                            return Long.compare(e1.kv.sequenceNumber(), e2.kv.sequenceNumber());
-                        });
-        this.polled = new ArrayList<>();
+        int numLeaves = readers.size();
+        this.leaves = new Leaf[numLeaves];
+        this.tree = new int[numLeaves];
+        this.nextBatchLeaves = new int[numLeaves];
+        for (int i = 0; i < numLeaves; i++) {
+            leaves[i] = new Leaf(readers.get(i));
+            nextBatchLeaves[i] = i;
+        }
+        this.numNextBatchLeaves = numLeaves;
     }
 
     public static RecordReader<KeyValue> create(
@@ -79,12 +91,14 @@ public class SortMergeReader implements RecordReader<KeyValue> {
     @Nullable
     @Override
     public RecordIterator<KeyValue> readBatch() throws IOException {
-        for (RecordReader<KeyValue> reader : nextBatchReaders) {
+        for (int i = 0; i < numNextBatchLeaves; i++) {
+            Leaf leaf = leaves[nextBatchLeaves[i]];
             while (true) {
-                RecordIterator<KeyValue> iterator = reader.readBatch();
+                RecordIterator<KeyValue> iterator = leaf.reader.readBatch();
                 if (iterator == null) {
                     // no more batches, permanently remove this reader
-                    reader.close();
+                    leaf.reader.close();
+                    leaf.reader = null;
                     break;
                 }
                 KeyValue kv = iterator.next();
@@ -93,29 +107,86 @@ public class SortMergeReader implements RecordReader<KeyValue> {
                     iterator.releaseBatch();
                 } else {
                     // found next kv
-                    minHeap.offer(new Element(kv, iterator, reader));
+                    leaf.iterator = iterator;
+                    leaf.kv = kv;
                     break;
                 }
             }
         }
-        nextBatchReaders.clear();
+        numNextBatchLeaves = 0;
 
-        return minHeap.isEmpty() ? null : new SortMergeIterator();
+        // several leaves have changed, rebuild the whole tree, which only happens once per batch
+        buildTree();
+        return leaves.length == 0 || leaves[tree[0]].kv == null ? null : new SortMergeIterator();
     }
 
     @Override
     public void close() throws IOException {
-        for (RecordReader<KeyValue> reader : nextBatchReaders) {
-            reader.close();
+        for (Leaf leaf : leaves) {
+            if (leaf.iterator != null) {
+                leaf.iterator.releaseBatch();
+                leaf.iterator = null;
+            }
+            if (leaf.reader != null) {
+                leaf.reader.close();
+                leaf.reader = null;
+            }
+        }
+    }
+
+    private void buildTree() {
+        for (int i = 0; i < tree.length; i++) {
+            tree[i] = -1;
+        }
+        for (int i = tree.length - 1; i >= 0; i--) {
+            adjust(i);
+        }
+    }
+
+    /**
+     * Replays the matches from the given leaf to the root. Only valid if the leaf is the winner.
+     */
+    private void adjust(int leaf) {
+        int winner = leaf;
+        for (int node = (leaf + tree.length) >> 1; node > 0; node >>= 1) {
+            int loser = tree[node];
+            if (loser == -1 || beats(loser, winner)) {
+                tree[node] = winner;
+                winner = loser;
+            }
         }
-        for (Element element : minHeap) {
-            element.iterator.releaseBatch();
-            element.reader.close();
+        tree[0] = winner;
+    }
+
+    /** Whether leaf a is ordered before leaf b. */
+    private boolean beats(int a, int b) {
+        if (b == -1) {
+            return false;
+        }
+        KeyValue kv1 = leaves[a].kv;
+        KeyValue kv2 = leaves[b].kv;
+        if (kv1 == null) {
+            // leaves without records are ordered last
+            return false;
+        } else if (kv2 == null) {
+            return true;
+        }
+
+        boolean popped1 = leaves[a].popped;
+        boolean popped2 = leaves[b].popped;
+        if (!popping && (popped1 || popped2)) {
+            // popped leaves hold the smallest key and are advanced before all other leaves
+            return popped1 && popped2 ? kv1.sequenceNumber() < kv2.sequenceNumber() : popped1;
+        }
+
+        int result = userKeyComparator.compare(kv1.key(), kv2.key());
+        if (result != 0) {
+            return result < 0;
         }
-        for (Element element : polled) {
-            element.iterator.releaseBatch();
-            element.reader.close();
+        if (popped1 != popped2) {
+            return popped2;
         }
+        return kv1.sequenceNumber() < kv2.sequenceNumber();
     }
 
     /** The iterator iterates on {@link SortMergeReader}. */
@@ -123,6 +194,9 @@ public class SortMergeReader implements RecordReader<KeyValue> {
 
         private boolean released = false;
 
+        // the last popped kv, which carries the merged value
+        private KeyValue result;
+
         @Override
         public KeyValue next() throws IOException {
             while (true) {
@@ -132,7 +206,7 @@ public class SortMergeReader implements RecordReader<KeyValue> {
                 }
                 RowData mergedValue = mergeFunctionHelper.getValue();
                 if (mergedValue != null) {
-                    return polled.get(polled.size() - 1).kv.setValue(mergedValue);
+                    return result.setValue(mergedValue);
                 }
             }
         }
@@ -141,45 +215,52 @@ public class SortMergeReader implements RecordReader<KeyValue> {
             Preconditions.checkState(
                     !released, "SortMergeIterator#advanceNext is called after release");
             Preconditions.checkState(
-                    nextBatchReaders.isEmpty(),
+                    numNextBatchLeaves == 0,
                     "SortMergeIterator#advanceNext is called even if the last call returns null. "
                             + "This is a bug.");
 
-            // add previously polled elements back to priority queue
-            for (Element element : polled) {
-                if (element.update()) {
-                    // still kvs left, add back to priority queue
-                    minHeap.offer(element);
-                } else {
+            // advance previously popped leaves, which are ordered before all other leaves
+            while (leaves[tree[0]].popped) {
+                int winner = tree[0];
+                Leaf leaf = leaves[winner];
+                leaf.popped = false;
+                if (!leaf.advance()) {
                     // reach end of batch, clean up
-                    element.iterator.releaseBatch();
-                    nextBatchReaders.add(element.reader);
+                    leaf.iterator.releaseBatch();
+                    leaf.iterator = null;
+                    nextBatchLeaves[numNextBatchLeaves++] = winner;
                 }
+                adjust(winner);
             }
-            polled.clear();
 
             // there are readers reaching end of batch, so we end current batch
-            if (!nextBatchReaders.isEmpty()) {
+            if (numNextBatchLeaves > 0) {
                 return false;
             }
 
             mergeFunctionHelper.reset();
             RowData key =
-                    Preconditions.checkNotNull(minHeap.peek(), "Min heap is empty. This is a bug.")
-                            .kv
+                    Preconditions.checkNotNull(
+                                    leaves[tree[0]].kv, "Loser tree is empty. This is a bug.")
                             .key();
 
-            // fetch all elements with the same key
-            // note that the same iterator should not produce the same keys, so this code is correct
-            while (!minHeap.isEmpty()) {
-                Element element = minHeap.peek();
-                if (userKeyComparator.compare(key, element.kv.key()) != 0) {
+            // pop all leaves with the same key
+            // note that the same reader should not produce the same keys, so this code is correct
+            popping = true;
+            while (true) {
+                int winner = tree[0];
+                Leaf leaf = leaves[winner];
+                if (leaf.popped
+                        || leaf.kv == null
+                        || userKeyComparator.compare(key, leaf.kv.key()) != 0) {
                     break;
                 }
-                minHeap.poll();
-                mergeFunctionHelper.add(element.kv.value());
-                polled.add(element);
+                mergeFunctionHelper.add(leaf.kv.value());
+                result = leaf.kv;
+                leaf.popped = true;
+                adjust(winner);
             }
+            popping = false;
             return true;
         }
 
@@ -189,26 +270,21 @@ public class SortMergeReader implements RecordReader<KeyValue> {
         }
     }
 
-    private static class Element {
-        private KeyValue kv;
-        private final RecordIterator<KeyValue> iterator;
-        private final RecordReader<KeyValue> reader;
+    private static class Leaf {
+        @Nullable private RecordReader<KeyValue> reader;
+        @Nullable private RecordIterator<KeyValue> iterator;
+        @Nullable private KeyValue kv;
+        private boolean popped;
 
-        private Element(
-                KeyValue kv, RecordIterator<KeyValue> iterator, RecordReader<KeyValue> reader) {
-            this.kv = kv;
-            this.iterator = iterator;
+        private Leaf(RecordReader<KeyValue> reader) {
             this.reader = reader;
         }
 
-        // IMPORTANT: Must not call this for elements still in priority queue!
-        private boolean update() throws IOException {
+        // IMPORTANT: Must only be called for the winner of the tree!
+        private boolean advance() throws IOException {
             KeyValue nextKv = iterator.next();
-            if (nextKv == null) {
-                return false;
-            }
             kv = nextKv;
-            return true;
+            return nextKv != null;
         }
     }
 }
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.file.mergetree.compact.aggregate;
+
+import org.apache.flink.table.data.GenericRowData;
+import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.store.CoreOptions;
+import org.apache.flink.table.store.file.mergetree.compact.MergeFunction;
+import org.apache.flink.table.types.logical.RowType;
+
+import javax.annotation.Nullable;
+
+import java.util.List;
+
+/**
+ * A {@link MergeFunction} where key is primary key (unique) and value is the partial record,
+ * aggregate the fields of records with the same key by their {@link FieldAggregator}s.
+ */
+public class AggregateMergeFunction implements MergeFunction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final RowData.FieldGetter[] getters;
+    private final FieldAggregator[] aggregators;
+
+    private transient GenericRowData row;
+
+    public AggregateMergeFunction(RowData.FieldGetter[] getters, FieldAggregator[] aggregators) {
+        this.getters = getters;
+        this.aggregators = aggregators;
+    }
+
+    @Override
+    public void reset() {
+        this.row = new GenericRowData(getters.length);
+    }
+
+    @Override
+    public void add(RowData value) {
+        for (int i = 0; i < getters.length; i++) {
+            row.setField(i, aggregators[i].agg(row.getField(i), getters[i].getFieldOrNull(value)));
+        }
+    }
+
+    @Override
+    @Nullable
+    public RowData getValue() {
+        return row;
+    }
+
+    @Override
+    public MergeFunction copy() {
+        // RowData.FieldGetter and FieldAggregator are thread safe
+        return new AggregateMergeFunction(getters, aggregators);
+    }
+
+    /** Creates an {@link AggregateMergeFunction} from the aggregate functions in the options. */
+    public static AggregateMergeFunction create(RowType rowType, CoreOptions options) {
+        List<RowType.RowField> fields = rowType.getFields();
+        RowData.FieldGetter[] getters = new RowData.FieldGetter[fields.size()];
+        FieldAggregator[] aggregators = new FieldAggregator[fields.size()];
+        for (int i = 0; i < fields.size(); i++) {
+            RowType.RowField field = fields.get(i);
+            getters[i] = RowData.createFieldGetter(field.getType(), i);
+            aggregators[i] = FieldAggregator.create(field.getName(), field.getType(), options);
+        }
+        return new AggregateMergeFunction(getters, aggregators);
+    }
+}
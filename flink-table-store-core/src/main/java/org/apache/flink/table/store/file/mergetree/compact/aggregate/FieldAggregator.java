@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.file.mergetree.compact.aggregate;
+
+import org.apache.flink.table.store.CoreOptions;
+import org.apache.flink.table.types.logical.LogicalType;
+
+import javax.annotation.Nullable;
+
+import java.io.Serializable;
+
+/** Aggregator to merge the values of one field with the same primary key. */
+public abstract class FieldAggregator implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected final LogicalType fieldType;
+
+    public FieldAggregator(LogicalType fieldType) {
+        this.fieldType = fieldType;
+    }
+
+    /** Aggregates the accumulator with the input field, both of them may be null. */
+    public abstract Object agg(@Nullable Object accumulator, @Nullable Object inputField);
+
+    /**
+     * Creates the {@link FieldAggregator} of a field. Fields without an aggregate function keep
+     * their last non-null value.
+     */
+    public static FieldAggregator create(
+            String fieldName, LogicalType fieldType, CoreOptions options) {
+        String function = options.fieldAggregateFunction(fieldName);
+        if (function == null) {
+            return new FieldLastNonNullValueAgg(fieldType);
+        }
+
+        FieldAggregator aggregator;
+        switch (function) {
+            case FieldSumAgg.NAME:
+                aggregator = new FieldSumAgg(fieldType);
+                break;
+            case FieldMaxAgg.NAME:
+                aggregator = new FieldMaxAgg(fieldType);
+                break;
+            case FieldMinAgg.NAME:
+                aggregator = new FieldMinAgg(fieldType);
+                break;
+            case FieldLastValueAgg.NAME:
+                aggregator = new FieldLastValueAgg(fieldType);
+                break;
+            case FieldLastNonNullValueAgg.NAME:
+                aggregator = new FieldLastNonNullValueAgg(fieldType);
+                break;
+            case FieldListaggAgg.NAME:
+                aggregator =
+                        new FieldListaggAgg(fieldType, options.fieldListAggDelimiter(fieldName));
+                break;
+            case FieldBoolAndAgg.NAME:
+                aggregator = new FieldBoolAndAgg(fieldType);
+                break;
+            case FieldBoolOrAgg.NAME:
+                aggregator = new FieldBoolOrAgg(fieldType);
+                break;
+            default:
+                throw new IllegalArgumentException(
+                        String.format(
+                                "Unsupported aggregate function '%s' for field '%s'.",
+                                function, fieldName));
+        }
+
+        if (!aggregator.supports(fieldType)) {
+            throw new IllegalArgumentException(
+                    String.format(
+                            "Aggregate function '%s' does not support field '%s' of type %s.",
+                            function, fieldName, fieldType.asSummaryString()));
+        }
+        return aggregator;
+    }
+
+    /** Returns whether this aggregator can aggregate values of the given type. */
+    protected boolean supports(LogicalType type) {
+        return true;
+    }
+}
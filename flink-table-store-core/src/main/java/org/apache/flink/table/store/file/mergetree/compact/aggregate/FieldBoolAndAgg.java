@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.file.mergetree.compact.aggregate;
+
+import org.apache.flink.table.types.logical.LogicalType;
+import org.apache.flink.table.types.logical.LogicalTypeRoot;
+
+/** Returns whether all values are true for a boolean field, null values are ignored. */
+public class FieldBoolAndAgg extends FieldAggregator {
+
+    public static final String NAME = "bool_and";
+
+    private static final long serialVersionUID = 1L;
+
+    public FieldBoolAndAgg(LogicalType fieldType) {
+        super(fieldType);
+    }
+
+    @Override
+    protected boolean supports(LogicalType type) {
+        return type.getTypeRoot() == LogicalTypeRoot.BOOLEAN;
+    }
+
+    @Override
+    public Object agg(Object accumulator, Object inputField) {
+        if (accumulator == null || inputField == null) {
+            return accumulator == null ? inputField : accumulator;
+        }
+        return (boolean) accumulator && (boolean) inputField;
+    }
+}
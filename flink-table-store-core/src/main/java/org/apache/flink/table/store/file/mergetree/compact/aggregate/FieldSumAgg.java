@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.file.mergetree.compact.aggregate;
+
+import org.apache.flink.table.data.DecimalData;
+import org.apache.flink.table.types.logical.DecimalType;
+import org.apache.flink.table.types.logical.LogicalType;
+
+import java.math.BigDecimal;
+
+/** Sums up the values of a numeric field, null values are ignored. */
+public class FieldSumAgg extends FieldAggregator {
+
+    public static final String NAME = "sum";
+
+    private static final long serialVersionUID = 1L;
+
+    public FieldSumAgg(LogicalType fieldType) {
+        super(fieldType);
+    }
+
+    @Override
+    protected boolean supports(LogicalType type) {
+        switch (type.getTypeRoot()) {
+            case TINYINT:
+            case SMALLINT:
+            case INTEGER:
+            case BIGINT:
+            case FLOAT:
+            case DOUBLE:
+            case DECIMAL:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public Object agg(Object accumulator, Object inputField) {
+        if (accumulator == null || inputField == null) {
+            return accumulator == null ? inputField : accumulator;
+        }
+
+        switch (fieldType.getTypeRoot()) {
+            case TINYINT:
+                return (byte) ((byte) accumulator + (byte) inputField);
+            case SMALLINT:
+                return (short) ((short) accumulator + (short) inputField);
+            case INTEGER:
+                return (int) accumulator + (int) inputField;
+            case BIGINT:
+                return (long) accumulator + (long) inputField;
+            case FLOAT:
+                return (float) accumulator + (float) inputField;
+            case DOUBLE:
+                return (double) accumulator + (double) inputField;
+            case DECIMAL:
+                DecimalType decimalType = (DecimalType) fieldType;
+                BigDecimal sum =
+                        ((DecimalData) accumulator)
+                                .toBigDecimal()
+                                .add(((DecimalData) inputField).toBigDecimal());
+                DecimalData result =
+                        DecimalData.fromBigDecimal(
+                                sum, decimalType.getPrecision(), decimalType.getScale());
+                if (result == null) {
+                    // do not store the overflowed sum as null, which later sums would ignore
+                    throw new ArithmeticException(
+                            String.format(
+                                    "Sum %s overflows the precision of type %s.",
+                                    sum, decimalType.asSummaryString()));
+                }
+                return result;
+            default:
+                throw new UnsupportedOperationException("Unsupported type: " + fieldType);
+        }
+    }
+}
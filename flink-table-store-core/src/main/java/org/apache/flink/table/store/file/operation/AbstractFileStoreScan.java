@@ -19,18 +19,24 @@
 package org.apache.flink.table.store.file.operation;
 
 import org.apache.flink.table.api.TableException;
+import org.apache.flink.table.data.RowData;
 import org.apache.flink.table.data.binary.BinaryRowData;
+import org.apache.flink.table.store.CoreOptions;
+import org.apache.flink.table.store.codegen.CodeGenUtils;
 import org.apache.flink.table.store.file.Snapshot;
 import org.apache.flink.table.store.file.manifest.ManifestEntry;
+import org.apache.flink.table.store.file.manifest.ManifestEntrySerializer;
 import org.apache.flink.table.store.file.manifest.ManifestFile;
 import org.apache.flink.table.store.file.manifest.ManifestFileMeta;
 import org.apache.flink.table.store.file.manifest.ManifestList;
 import org.apache.flink.table.store.file.predicate.BucketSelector;
 import org.apache.flink.table.store.file.predicate.Predicate;
 import org.apache.flink.table.store.file.predicate.PredicateBuilder;
+import org.apache.flink.table.store.file.predicate.PredicateEvaluator;
 import org.apache.flink.table.store.file.stats.FieldStatsArraySerializer;
 import org.apache.flink.table.store.file.utils.FileStorePathFactory;
 import org.apache.flink.table.store.file.utils.FileUtils;
+import org.apache.flink.table.store.file.utils.Filter;
 import org.apache.flink.table.store.file.utils.SnapshotManager;
 import org.apache.flink.table.store.utils.RowDataToObjectArrayConverter;
 import org.apache.flink.table.types.logical.RowType;
@@ -57,7 +63,7 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
     private final int numOfBuckets;
     private final boolean checkNumOfBuckets;
 
-    private Predicate partitionFilter;
+    private PredicateEvaluator partitionFilter;
     private BucketSelector bucketSelector;
 
     private Long specifiedSnapshotId = null;
@@ -87,11 +93,19 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
 
     @Override
     public FileStoreScan withPartitionFilter(Predicate predicate) {
-        this.partitionFilter = predicate;
+        this.partitionFilter =
+                predicate == null
+                        ? null
+                        : CodeGenUtils.newPredicateEvaluator(
+                                predicate, partitionConverter.rowType());
         return this;
     }
 
     protected FileStoreScan withBucketKeyFilter(Predicate predicate) {
+        if (numOfBuckets == CoreOptions.DYNAMIC_BUCKET) {
+            // buckets of keys can not be computed from the keys in dynamic bucket mode
+            return this;
+        }
         this.bucketSelector = BucketSelector.create(predicate, bucketKeyType).orElse(null);
         return this;
     }
@@ -172,6 +186,7 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
 
         final Long readSnapshot = snapshotId;
         final List<ManifestFileMeta> readManifests = manifests;
+        final Filter<RowData> rowFilter = createRowFilter();
 
         List<ManifestEntry> entries;
         try {
@@ -182,7 +197,11 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
                                             readManifests
                                                     .parallelStream()
                                                     .filter(this::filterManifestFileMeta)
-                                                    .flatMap(m -> readManifestFileMeta(m).stream())
+                                                    .flatMap(
+                                                            m ->
+                                                                    readManifestFileMeta(
+                                                                            m, rowFilter)
+                                                                            .stream())
                                                     .filter(this::filterManifestEntry)
                                                     .collect(Collectors.toList()))
                             .get();
@@ -209,16 +228,21 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
                                 partInfo, numOfBuckets, file.totalBuckets()));
             }
 
-            // bucket filter should not be applied along with partition filter
-            // because the specifiedBucket is computed against the current numOfBuckets
-            // however entry.bucket() was computed against the old numOfBuckets
-            // and thus the filtered manifest entries might be empty
-            // which renders the bucket check invalid
+            // the specifiedBucket is computed against the current numOfBuckets, however
+            // entry.bucket() might be computed against an old numOfBuckets, so entries with
+            // another bucket number are never filtered out before the bucket check above
             if (filterByBucket(file) && filterByBucketSelector(file)) {
                 files.add(file);
             }
         }
 
+        files = filterByIndex(files);
+
+        if (!isIncremental) {
+            files = filterWholeBucketByStats(files);
+        }
+
+        List<ManifestEntry> planFiles = files;
         return new Plan() {
             @Nullable
             @Override
@@ -228,25 +252,68 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
 
             @Override
             public List<ManifestEntry> files() {
-                return files;
+                return planFiles;
             }
         };
     }
 
     private boolean filterManifestFileMeta(ManifestFileMeta manifest) {
+        return filterManifestByPartition(manifest) && filterManifestByBucket(manifest);
+    }
+
+    private boolean filterManifestByPartition(ManifestFileMeta manifest) {
         return partitionFilter == null
                 || partitionFilter.test(
                         manifest.numAddedFiles() + manifest.numDeletedFiles(),
                         manifest.partitionStats().fields(partitionStatsConverter));
     }
 
+    private boolean filterManifestByBucket(ManifestFileMeta manifest) {
+        if (specifiedBucket == null || !manifest.hasBucketRange()) {
+            return true;
+        }
+        if (checkNumOfBuckets
+                && (manifest.minTotalBuckets() != numOfBuckets
+                        || manifest.maxTotalBuckets() != numOfBuckets)) {
+            // must be read so that the bucket number check can see the old entries
+            return true;
+        }
+        return specifiedBucket >= manifest.minBucket() && specifiedBucket <= manifest.maxBucket();
+    }
+
+    /**
+     * Creates a filter on serialized manifest entry rows, so that entries of other buckets are
+     * dropped before being deserialized. Returns null if no bucket is requested, in which case
+     * whole manifest files are read (and possibly cached).
+     */
+    @Nullable
+    private Filter<RowData> createRowFilter() {
+        if (specifiedBucket == null && bucketSelector == null) {
+            return null;
+        }
+
+        Integer bucketToRead = specifiedBucket;
+        BucketSelector selector = bucketSelector;
+        PredicateEvaluator partitionPredicate = partitionFilter;
+        return row -> {
+            int bucket = ManifestEntrySerializer.bucket(row);
+            int totalBuckets = ManifestEntrySerializer.totalBuckets(row);
+            if (checkNumOfBuckets && totalBuckets != numOfBuckets) {
+                return true;
+            }
+            return (bucketToRead == null || bucket == bucketToRead)
+                    && (selector == null || selector.select(bucket, totalBuckets))
+                    && (partitionPredicate == null
+                            || partitionPredicate.test(ManifestEntrySerializer.partition(row)));
+        };
+    }
+
     private boolean filterManifestEntry(ManifestEntry entry) {
         return filterByPartition(entry) && filterByStats(entry);
     }
 
     private boolean filterByPartition(ManifestEntry entry) {
-        return (partitionFilter == null
-                || partitionFilter.test(partitionConverter.convert(entry.partition())));
+        return (partitionFilter == null || partitionFilter.test(entry.partition()));
     }
 
     private boolean filterByBucket(ManifestEntry entry) {
@@ -260,8 +327,29 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
 
     protected abstract boolean filterByStats(ManifestEntry entry);
 
-    private List<ManifestEntry> readManifestFileMeta(ManifestFileMeta manifest) {
-        return manifestFileFactory.create().read(manifest.fileName());
+    /**
+     * Filters the entries of a non-incremental plan by stats which are only meaningful when all
+     * remaining files of a bucket are known, for example stats of values which may be overwritten
+     * by other files.
+     */
+    protected List<ManifestEntry> filterWholeBucketByStats(List<ManifestEntry> entries) {
+        return entries;
+    }
+
+    /**
+     * Filters the entries by the index files of their data files. Unlike {@link #filterByStats},
+     * this is only applied to entries which remain after merging, so the index files surely exist.
+     */
+    protected List<ManifestEntry> filterByIndex(List<ManifestEntry> entries) {
+        return entries;
+    }
+
+    private List<ManifestEntry> readManifestFileMeta(
+            ManifestFileMeta manifest, @Nullable Filter<RowData> rowFilter) {
+        ManifestFile manifestFile = manifestFileFactory.create();
+        return rowFilter == null
+                ? manifestFile.read(manifest.fileName())
+                : manifestFile.read(manifest.fileName(), rowFilter);
     }
 
     private List<ManifestFileMeta> readIncremental(Long snapshotId) {
@@ -20,6 +20,7 @@ package org.apache.flink.table.store.file.operation;
 
 import org.apache.flink.connector.file.src.FileSourceSplit;
 import org.apache.flink.connector.file.src.reader.BulkFormat;
+import org.apache.flink.core.fs.Path;
 import org.apache.flink.table.data.RowData;
 import org.apache.flink.table.store.file.data.AppendOnlyReader;
 import org.apache.flink.table.store.file.data.DataFileMeta;
@@ -27,7 +28,10 @@ import org.apache.flink.table.store.file.data.DataFilePathFactory;
 import org.apache.flink.table.store.file.mergetree.compact.ConcatRecordReader;
 import org.apache.flink.table.store.file.predicate.Predicate;
 import org.apache.flink.table.store.file.schema.SchemaManager;
+import org.apache.flink.table.store.file.utils.AsyncRecordReader;
 import org.apache.flink.table.store.file.utils.FileStorePathFactory;
+import org.apache.flink.table.store.file.utils.FileUtils;
+import org.apache.flink.table.store.file.utils.PrefetchMetrics;
 import org.apache.flink.table.store.file.utils.RecordReader;
 import org.apache.flink.table.store.format.FileFormat;
 import org.apache.flink.table.store.table.source.Split;
@@ -37,6 +41,7 @@ import org.apache.flink.table.types.logical.RowType;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Semaphore;
 
 import static org.apache.flink.table.store.file.predicate.PredicateBuilder.splitAnd;
 
@@ -48,8 +53,12 @@ public class AppendOnlyFileStoreRead implements FileStoreRead<RowData> {
     private final RowType rowType;
     private final FileFormat fileFormat;
     private final FileStorePathFactory pathFactory;
+    private final PrefetchMetrics prefetchMetrics;
 
     private int[][] projection;
+    private boolean prefetch = false;
+    private int prefetchThreads;
+    private int prefetchNextFiles;
 
     private List<Predicate> filters;
 
@@ -64,6 +73,7 @@ public class AppendOnlyFileStoreRead implements FileStoreRead<RowData> {
         this.rowType = rowType;
         this.fileFormat = fileFormat;
         this.pathFactory = pathFactory;
+        this.prefetchMetrics = new PrefetchMetrics();
 
         this.projection = Projection.range(0, rowType.getFieldCount()).toNestedIndexes();
     }
@@ -73,12 +83,24 @@ public class AppendOnlyFileStoreRead implements FileStoreRead<RowData> {
         return this;
     }
 
+    public AppendOnlyFileStoreRead withPrefetch(boolean prefetch, int threads, int nextFiles) {
+        this.prefetch = prefetch;
+        this.prefetchThreads = threads;
+        this.prefetchNextFiles = nextFiles;
+        return this;
+    }
+
     @Override
     public FileStoreRead<RowData> withFilter(Predicate predicate) {
         this.filters = splitAnd(predicate);
         return this;
     }
 
+    @Override
+    public PrefetchMetrics prefetchMetrics() {
+        return prefetchMetrics;
+    }
+
     @Override
     public RecordReader<RowData> createReader(Split split) throws IOException {
         BulkFormat<RowData, FileSourceSplit> readerFactory =
@@ -87,12 +109,31 @@ public class AppendOnlyFileStoreRead implements FileStoreRead<RowData> {
                 pathFactory.createDataFilePathFactory(split.partition(), split.bucket());
         List<ConcatRecordReader.ReaderSupplier<RowData>> suppliers = new ArrayList<>();
         for (DataFileMeta file : split.files()) {
-            suppliers.add(
-                    () ->
-                            new AppendOnlyReader(
-                                    dataFilePathFactory.toPath(file.fileName()), readerFactory));
+            Path path = dataFilePathFactory.toPath(file.fileName());
+            if (prefetch) {
+                suppliers.add(
+                        () ->
+                                new AsyncRecordReader<>(
+                                        () ->
+                                                new AppendOnlyReader(
+                                                        path,
+                                                        file.fileSize(),
+                                                        readerFactory,
+                                                        FileUtils.PREFETCH_READER_CONFIG),
+                                        AsyncRecordReader.executor(prefetchThreads),
+                                        prefetchMetrics));
+            } else {
+                suppliers.add(
+                        () ->
+                                new AppendOnlyReader(
+                                        path,
+                                        file.fileSize(),
+                                        readerFactory,
+                                        FileUtils.DEFAULT_READER_CONFIG));
+            }
         }
 
-        return ConcatRecordReader.create(suppliers);
+        return ConcatRecordReader.create(
+                suppliers, prefetch ? new Semaphore(prefetchNextFiles) : null);
     }
 }
@@ -22,12 +22,14 @@ import org.apache.flink.table.store.file.manifest.ManifestEntry;
 import org.apache.flink.table.store.file.manifest.ManifestFile;
 import org.apache.flink.table.store.file.manifest.ManifestList;
 import org.apache.flink.table.store.file.predicate.Predicate;
+import org.apache.flink.table.store.file.predicate.PredicateEvaluator;
 import org.apache.flink.table.store.file.stats.FieldStatsArraySerializer;
 import org.apache.flink.table.store.file.utils.SnapshotManager;
 import org.apache.flink.table.types.logical.RowType;
 
 import java.util.List;
 
+import static org.apache.flink.table.store.codegen.CodeGenUtils.newPredicateEvaluator;
 import static org.apache.flink.table.store.file.predicate.PredicateBuilder.and;
 import static org.apache.flink.table.store.file.predicate.PredicateBuilder.pickTransformFieldMapping;
 import static org.apache.flink.table.store.file.predicate.PredicateBuilder.splitAnd;
@@ -38,7 +40,7 @@ public class AppendOnlyFileStoreScan extends AbstractFileStoreScan {
     private final FieldStatsArraySerializer rowStatsConverter;
     private final RowType rowType;
 
-    private Predicate filter;
+    private PredicateEvaluator filter;
 
     public AppendOnlyFileStoreScan(
             RowType partitionType,
@@ -62,7 +64,7 @@ public class AppendOnlyFileStoreScan extends AbstractFileStoreScan {
     }
 
     public AppendOnlyFileStoreScan withFilter(Predicate predicate) {
-        this.filter = predicate;
+        this.filter = newPredicateEvaluator(predicate, rowType);
 
         List<Predicate> bucketFilters =
                 pickTransformFieldMapping(
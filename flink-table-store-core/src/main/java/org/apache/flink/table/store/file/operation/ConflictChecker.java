@@ -0,0 +1,232 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.file.operation;
+
+import org.apache.flink.annotation.VisibleForTesting;
+import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.data.binary.BinaryRowData;
+import org.apache.flink.table.store.file.Snapshot;
+import org.apache.flink.table.store.file.manifest.FileKind;
+import org.apache.flink.table.store.file.manifest.ManifestEntry;
+import org.apache.flink.table.store.file.manifest.ManifestFile;
+import org.apache.flink.table.store.file.manifest.ManifestFileMeta;
+import org.apache.flink.table.store.file.manifest.ManifestList;
+import org.apache.flink.table.store.file.utils.FileStorePathFactory;
+import org.apache.flink.table.store.file.utils.SnapshotManager;
+
+import javax.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Checks if the changes of a commit conflict with the files of the latest snapshot. Only the files
+ * of the changed buckets are tracked. They are scanned once from the first snapshot checked, later
+ * checks only apply the delta manifests of the snapshots committed since then.
+ */
+class ConflictChecker {
+
+    private final List<ManifestEntry> changes;
+    private final FileStoreScan scan;
+    private final SnapshotManager snapshotManager;
+    private final ManifestList manifestList;
+    private final ManifestFile manifestFile;
+    @Nullable private final Comparator<RowData> keyComparator;
+    private final FileStorePathFactory pathFactory;
+    private final List<BinaryRowData> changedPartitions;
+    private final Map<BinaryRowData, Set<Integer>> changedBuckets;
+    // LSM levels which receive new files, only these levels may overlap because of the changes
+    private final Set<LevelIdentifier> changedLevels;
+
+    @Nullable private Long baseSnapshotId;
+    private List<ManifestEntry> baseEntries;
+    private int numFullScans;
+
+    ConflictChecker(
+            List<ManifestEntry> changes,
+            FileStoreScan scan,
+            SnapshotManager snapshotManager,
+            ManifestList manifestList,
+            ManifestFile manifestFile,
+            @Nullable Comparator<RowData> keyComparator,
+            FileStorePathFactory pathFactory) {
+        this.changes = changes;
+        this.scan = scan;
+        this.snapshotManager = snapshotManager;
+        this.manifestList = manifestList;
+        this.manifestFile = manifestFile;
+        this.keyComparator = keyComparator;
+        this.pathFactory = pathFactory;
+        this.changedBuckets = new HashMap<>();
+        this.changedLevels = new HashSet<>();
+        for (ManifestEntry entry : changes) {
+            changedBuckets
+                    .computeIfAbsent(entry.partition(), p -> new HashSet<>())
+                    .add(entry.bucket());
+            if (entry.kind() == FileKind.ADD && entry.file().level() >= 1) {
+                changedLevels.add(
+                        new LevelIdentifier(
+                                entry.partition(), entry.bucket(), entry.file().level()));
+            }
+        }
+        this.changedPartitions = new ArrayList<>(changedBuckets.keySet());
+    }
+
+    void noConflictsOrFail(long snapshotId) {
+        try {
+            updateBaseEntries(snapshotId);
+        } catch (Throwable e) {
+            baseSnapshotId = null;
+            throw new RuntimeException("Cannot determine if conflicts exist.", e);
+        }
+
+        List<ManifestEntry> allEntries = new ArrayList<>(baseEntries);
+        allEntries.addAll(changes);
+
+        Collection<ManifestEntry> mergedEntries;
+        try {
+            // merge manifest entries and also check if the files we want to delete are still
+            // there
+            mergedEntries = ManifestEntry.mergeManifestEntries(allEntries);
+        } catch (Throwable e) {
+            throw new RuntimeException(
+                    "File deletion conflicts detected! Give up committing compact changes.", e);
+        }
+
+        // fast exit for file store without keys
+        if (keyComparator == null) {
+            return;
+        }
+
+        // group entries of the changed levels
+        Map<LevelIdentifier, List<ManifestEntry>> levels = new HashMap<>();
+        for (ManifestEntry entry : mergedEntries) {
+            LevelIdentifier level =
+                    new LevelIdentifier(entry.partition(), entry.bucket(), entry.file().level());
+            if (changedLevels.contains(level)) {
+                levels.computeIfAbsent(level, lv -> new ArrayList<>()).add(entry);
+            }
+        }
+
+        // check for changed LSM level >= 1, key ranges of files do not intersect
+        for (List<ManifestEntry> entries : levels.values()) {
+            entries.sort((a, b) -> keyComparator.compare(a.file().minKey(), b.file().minKey()));
+            for (int i = 0; i + 1 < entries.size(); i++) {
+                ManifestEntry a = entries.get(i);
+                ManifestEntry b = entries.get(i + 1);
+                if (keyComparator.compare(a.file().maxKey(), b.file().minKey()) >= 0) {
+                    throw new RuntimeException(
+                            "LSM conflicts detected! Give up committing compact changes. Conflict files are:\n"
+                                    + a.identifier().toString(pathFactory)
+                                    + "\n"
+                                    + b.identifier().toString(pathFactory));
+                }
+            }
+        }
+    }
+
+    @VisibleForTesting
+    int numFullScans() {
+        return numFullScans;
+    }
+
+    private void updateBaseEntries(long snapshotId) {
+        if (baseSnapshotId != null && baseSnapshotId == snapshotId) {
+            return;
+        }
+
+        List<ManifestEntry> entries;
+        if (baseSnapshotId == null || !deltasExist(baseSnapshotId, snapshotId)) {
+            numFullScans++;
+            entries =
+                    scan.withSnapshot(snapshotId)
+                            .withPartitionFilter(changedPartitions)
+                            .plan()
+                            .files();
+        } else {
+            // apply the changes of snapshots committed since the base snapshot
+            entries = new ArrayList<>(baseEntries);
+            for (long id = baseSnapshotId + 1; id <= snapshotId; id++) {
+                Snapshot snapshot = snapshotManager.snapshot(id);
+                for (ManifestFileMeta manifest : manifestList.read(snapshot.deltaManifestList())) {
+                    entries.addAll(manifestFile.read(manifest.fileName()));
+                }
+            }
+        }
+
+        baseEntries =
+                new ArrayList<>(
+                        ManifestEntry.mergeManifestEntries(
+                                entries.stream()
+                                        .filter(this::isChangedBucket)
+                                        .collect(Collectors.toList())));
+        baseSnapshotId = snapshotId;
+    }
+
+    private boolean deltasExist(long fromExclusive, long toInclusive) {
+        for (long id = fromExclusive + 1; id <= toInclusive; id++) {
+            if (!snapshotManager.snapshotExists(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isChangedBucket(ManifestEntry entry) {
+        Set<Integer> buckets = changedBuckets.get(entry.partition());
+        return buckets != null && buckets.contains(entry.bucket());
+    }
+
+    private static class LevelIdentifier {
+
+        private final BinaryRowData partition;
+        private final int bucket;
+        private final int level;
+
+        private LevelIdentifier(BinaryRowData partition, int bucket, int level) {
+            this.partition = partition;
+            this.bucket = bucket;
+            this.level = level;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof LevelIdentifier)) {
+                return false;
+            }
+            LevelIdentifier that = (LevelIdentifier) o;
+            return Objects.equals(partition, that.partition)
+                    && bucket == that.bucket
+                    && level == that.level;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(partition, bucket, level);
+        }
+    }
+}
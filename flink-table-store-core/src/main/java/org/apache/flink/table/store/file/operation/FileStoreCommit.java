@@ -24,14 +24,18 @@ import java.util.List;
 import java.util.Map;
 
 /** Commit operation which provides commit and overwrite. */
-public interface FileStoreCommit {
+public interface FileStoreCommit extends AutoCloseable {
 
     /** With global lock. */
     FileStoreCommit withLock(Lock lock);
 
     FileStoreCommit withCreateEmptyCommit(boolean createEmptyCommit);
 
-    /** Find out which manifest committable need to be retried when recovering from the failure. */
+    /**
+     * Find out which manifest committable need to be retried when recovering from the failure. The
+     * committables must be ordered by their commit order, and a committed committable implies that
+     * all committables before it are also committed.
+     */
     List<ManifestCommittable> filterCommitted(List<ManifestCommittable> committableList);
 
     /** Commit from manifest committable. */
@@ -49,4 +53,8 @@ public interface FileStoreCommit {
             Map<String, String> partition,
             ManifestCommittable committable,
             Map<String, String> properties);
+
+    /** Cancels the work running in the background and deletes the files it has written. */
+    @Override
+    void close();
 }
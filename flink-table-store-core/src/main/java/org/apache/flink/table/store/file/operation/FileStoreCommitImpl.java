@@ -18,6 +18,7 @@
 
 package org.apache.flink.table.store.file.operation;
 
+import org.apache.flink.annotation.VisibleForTesting;
 import org.apache.flink.configuration.MemorySize;
 import org.apache.flink.core.fs.FileSystem;
 import org.apache.flink.core.fs.Path;
@@ -25,6 +26,7 @@ import org.apache.flink.table.data.RowData;
 import org.apache.flink.table.data.binary.BinaryRowData;
 import org.apache.flink.table.store.file.Snapshot;
 import org.apache.flink.table.store.file.data.DataFileMeta;
+import org.apache.flink.table.store.file.data.DataFilePathFactory;
 import org.apache.flink.table.store.file.manifest.FileKind;
 import org.apache.flink.table.store.file.manifest.ManifestCommittable;
 import org.apache.flink.table.store.file.manifest.ManifestEntry;
@@ -35,6 +37,7 @@ import org.apache.flink.table.store.file.predicate.Predicate;
 import org.apache.flink.table.store.file.predicate.PredicateConverter;
 import org.apache.flink.table.store.file.utils.AtomicFileWriter;
 import org.apache.flink.table.store.file.utils.FileStorePathFactory;
+import org.apache.flink.table.store.file.utils.FileUtils;
 import org.apache.flink.table.store.file.utils.SnapshotManager;
 import org.apache.flink.table.store.utils.RowDataToObjectArrayConverter;
 import org.apache.flink.table.types.logical.RowType;
@@ -45,16 +48,16 @@ import org.slf4j.LoggerFactory;
 import javax.annotation.Nullable;
 
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 
 /**
@@ -89,11 +92,16 @@ public class FileStoreCommitImpl implements FileStoreCommit {
     private final int numBucket;
     private final MemorySize manifestTargetSize;
     private final int manifestMergeMinCount;
+    private final boolean manifestTieredMerge;
+    private final boolean manifestFullMergeAsync;
     @Nullable private final Comparator<RowData> keyComparator;
 
     @Nullable private Lock lock;
     private boolean createEmptyCommit;
 
+    // the running asynchronous full merge of manifests, see #mergeManifests
+    @Nullable private CompletableFuture<FullMerge> fullMerge;
+
     public FileStoreCommitImpl(
             long schemaId,
             String commitUser,
@@ -106,6 +114,8 @@ public class FileStoreCommitImpl implements FileStoreCommit {
             int numBucket,
             MemorySize manifestTargetSize,
             int manifestMergeMinCount,
+            boolean manifestTieredMerge,
+            boolean manifestFullMergeAsync,
             @Nullable Comparator<RowData> keyComparator) {
         this.schemaId = schemaId;
         this.commitUser = commitUser;
@@ -119,6 +129,8 @@ public class FileStoreCommitImpl implements FileStoreCommit {
         this.numBucket = numBucket;
         this.manifestTargetSize = manifestTargetSize;
         this.manifestMergeMinCount = manifestMergeMinCount;
+        this.manifestTieredMerge = manifestTieredMerge;
+        this.manifestFullMergeAsync = manifestFullMergeAsync;
         this.keyComparator = keyComparator;
 
         this.lock = null;
@@ -151,11 +163,15 @@ public class FileStoreCommitImpl implements FileStoreCommit {
         }
 
         // check if a committable is already committed by its identifier
-        Map<String, ManifestCommittable> identifiers = new LinkedHashMap<>();
-        for (ManifestCommittable committable : committableList) {
-            identifiers.put(committable.identifier(), committable);
+        Map<String, Integer> positions = new HashMap<>();
+        for (int i = 0; i < committableList.size(); i++) {
+            positions.put(committableList.get(i).identifier(), i);
         }
 
+        // committables are committed in order, and several committables might be merged into one
+        // snapshot with the identifier of the last one, so all committables before the last
+        // committed one are also committed
+        int lastCommitted = -1;
         for (long id = latestSnapshotId; id >= Snapshot.FIRST_SNAPSHOT_ID; id--) {
             if (!snapshotManager.snapshotExists(id)) {
                 // snapshots before this are expired
@@ -163,8 +179,9 @@ public class FileStoreCommitImpl implements FileStoreCommit {
             }
             Snapshot snapshot = snapshotManager.snapshot(id);
             if (commitUser.equals(snapshot.commitUser())) {
-                if (identifiers.containsKey(snapshot.commitIdentifier())) {
-                    identifiers.remove(snapshot.commitIdentifier());
+                Integer position = positions.get(snapshot.commitIdentifier());
+                if (position != null) {
+                    lastCommitted = Math.max(lastCommitted, position);
                 } else {
                     // early exit, because committableList must be the latest commits by this
                     // commit user
@@ -173,7 +190,7 @@ public class FileStoreCommitImpl implements FileStoreCommit {
             }
         }
 
-        return new ArrayList<>(identifiers.values());
+        return new ArrayList<>(committableList.subList(lastCommitted + 1, committableList.size()));
     }
 
     @Override
@@ -203,6 +220,28 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                     Snapshot.CommitKind.COMPACT,
                     true);
         }
+
+        // only deleted after the commit, a failed commit may be retried with the committables
+        // before merging, which still reference these files
+        deleteDiscardedFiles(committable);
+    }
+
+    private void deleteDiscardedFiles(ManifestCommittable committable) {
+        for (Map.Entry<BinaryRowData, Map<Integer, List<DataFileMeta>>> entryWithPartition :
+                committable.discardedFiles().entrySet()) {
+            for (Map.Entry<Integer, List<DataFileMeta>> entryWithBucket :
+                    entryWithPartition.getValue().entrySet()) {
+                DataFilePathFactory dataFilePathFactory =
+                        pathFactory.createDataFilePathFactory(
+                                entryWithPartition.getKey(), entryWithBucket.getKey());
+                for (DataFileMeta file : entryWithBucket.getValue()) {
+                    FileUtils.deleteOrWarn(dataFilePathFactory.toPath(file.fileName()));
+                    for (String extraFile : file.extraFiles()) {
+                        FileUtils.deleteOrWarn(dataFilePathFactory.toPath(extraFile));
+                    }
+                }
+            }
+        }
     }
 
     @Override
@@ -256,10 +295,21 @@ public class FileStoreCommitImpl implements FileStoreCommit {
             Map<Integer, Long> logOffsets,
             Snapshot.CommitKind commitKind,
             boolean checkFileConflicts) {
+        ConflictChecker conflictChecker =
+                checkFileConflicts
+                        ? new ConflictChecker(
+                                changes,
+                                scan,
+                                snapshotManager,
+                                manifestList,
+                                manifestFile,
+                                keyComparator,
+                                pathFactory)
+                        : null;
         while (true) {
             Long latestSnapshotId = snapshotManager.latestSnapshotId();
             if (tryCommitOnce(
-                    changes, hash, logOffsets, commitKind, latestSnapshotId, checkFileConflicts)) {
+                    changes, hash, logOffsets, commitKind, latestSnapshotId, conflictChecker)) {
                 break;
             }
         }
@@ -298,7 +348,7 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                     logOffsets,
                     Snapshot.CommitKind.OVERWRITE,
                     latestSnapshotId,
-                    false)) {
+                    null)) {
                 break;
             }
         }
@@ -333,7 +383,7 @@ public class FileStoreCommitImpl implements FileStoreCommit {
             Map<Integer, Long> logOffsets,
             Snapshot.CommitKind commitKind,
             Long latestSnapshotId,
-            boolean checkFileConflicts) {
+            @Nullable ConflictChecker conflictChecker) {
         long newSnapshotId =
                 latestSnapshotId == null ? Snapshot.FIRST_SNAPSHOT_ID : latestSnapshotId + 1;
         Path newSnapshotPath = snapshotManager.snapshotPath(newSnapshotId);
@@ -347,8 +397,8 @@ public class FileStoreCommitImpl implements FileStoreCommit {
 
         Snapshot latestSnapshot = null;
         if (latestSnapshotId != null) {
-            if (checkFileConflicts) {
-                noConflictsOrFail(latestSnapshotId, changes);
+            if (conflictChecker != null) {
+                conflictChecker.noConflictsOrFail(latestSnapshotId);
             }
             latestSnapshot = snapshotManager.snapshot(latestSnapshotId);
         }
@@ -367,12 +417,7 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                 latestSnapshot.getLogOffsets().forEach(logOffsets::putIfAbsent);
             }
             // merge manifest files with changes
-            newMetas.addAll(
-                    ManifestFileMeta.merge(
-                            oldMetas,
-                            manifestFile,
-                            manifestTargetSize.getBytes(),
-                            manifestMergeMinCount));
+            newMetas.addAll(mergeManifests(oldMetas));
             previousChangesListName = manifestList.write(newMetas);
 
             // write new changes into manifest files
@@ -479,66 +524,145 @@ public class FileStoreCommitImpl implements FileStoreCommit {
         return false;
     }
 
-    private void noConflictsOrFail(long snapshotId, List<ManifestEntry> changes) {
-        List<BinaryRowData> changedPartitions =
-                changes.stream()
-                        .map(ManifestEntry::partition)
-                        .distinct()
-                        .collect(Collectors.toList());
-        List<ManifestEntry> allEntries;
+    private List<ManifestFileMeta> mergeManifests(List<ManifestFileMeta> metas) {
+        if (!manifestTieredMerge) {
+            return ManifestFileMeta.merge(
+                    metas, manifestFile, manifestTargetSize.getBytes(), manifestMergeMinCount);
+        }
+
+        List<ManifestFileMeta> base = applyFullMerge(metas);
+        List<ManifestFileMeta> fullyMerged = Collections.emptyList();
+        // tiered merge never touches manifests before the last manifest reaching the target size,
+        // so the result of an asynchronous full merge of them can still be applied later
+        List<ManifestFileMeta> source = base.subList(0, numStableManifests(base));
+        if (fullMerge == null && needFullMerge(source)) {
+            if (manifestFullMergeAsync) {
+                fullMerge = startFullMerge(new ArrayList<>(source));
+            } else {
+                fullyMerged = ManifestFileMeta.fullMerge(source, manifestFile);
+                List<ManifestFileMeta> newBase = new ArrayList<>(fullyMerged);
+                newBase.addAll(base.subList(source.size(), base.size()));
+                base = newBase;
+            }
+        }
+
         try {
-            allEntries =
-                    new ArrayList<>(
-                            scan.withSnapshot(snapshotId)
-                                    .withPartitionFilter(changedPartitions)
-                                    .plan()
-                                    .files());
+            return ManifestFileMeta.tieredMerge(
+                    base, manifestFile, manifestTargetSize.getBytes(), manifestMergeMinCount);
         } catch (Throwable e) {
-            throw new RuntimeException("Cannot determine if conflicts exist.", e);
+            deleteNewManifests(fullyMerged, metas);
+            throw e;
+        }
+    }
+
+    /**
+     * Replaces the manifests merged by the finished asynchronous full merge. The result is
+     * discarded if the merged manifests are no longer the oldest manifests of the table.
+     */
+    private List<ManifestFileMeta> applyFullMerge(List<ManifestFileMeta> metas) {
+        if (fullMerge == null || !fullMerge.isDone()) {
+            return metas;
         }
-        allEntries.addAll(changes);
 
-        Collection<ManifestEntry> mergedEntries;
+        FullMerge merge;
         try {
-            // merge manifest entries and also check if the files we want to delete are still there
-            mergedEntries = ManifestEntry.mergeManifestEntries(allEntries);
-        } catch (Throwable e) {
-            throw new RuntimeException(
-                    "File deletion conflicts detected! Give up committing compact changes.", e);
+            merge = fullMerge.join();
+        } catch (CompletionException e) {
+            LOG.warn("Failed to fully merge manifests asynchronously, skip it.", e);
+            return metas;
+        } finally {
+            fullMerge = null;
         }
 
-        // fast exit for file store without keys
-        if (keyComparator == null) {
-            return;
+        int numMerged = merge.source.size();
+        if (metas.size() >= numMerged && metas.subList(0, numMerged).equals(merge.source)) {
+            List<ManifestFileMeta> result = new ArrayList<>(merge.merged);
+            result.addAll(metas.subList(numMerged, metas.size()));
+            return result;
         }
 
-        // group entries by partitions, buckets and levels
-        Map<LevelIdentifier, List<ManifestEntry>> levels = new HashMap<>();
-        for (ManifestEntry entry : mergedEntries) {
-            int level = entry.file().level();
-            if (level >= 1) {
-                levels.computeIfAbsent(
-                                new LevelIdentifier(entry.partition(), entry.bucket(), level),
-                                lv -> new ArrayList<>())
-                        .add(entry);
+        deleteNewManifests(merge.merged, metas);
+        return metas;
+    }
+
+    private CompletableFuture<FullMerge> startFullMerge(List<ManifestFileMeta> source) {
+        CompletableFuture<FullMerge> future = new CompletableFuture<>();
+        FileUtils.COMMON_IO_FORK_JOIN_POOL.execute(
+                () -> {
+                    if (future.isCancelled()) {
+                        return;
+                    }
+                    try {
+                        List<ManifestFileMeta> merged =
+                                ManifestFileMeta.fullMerge(source, manifestFile);
+                        if (!future.complete(new FullMerge(source, merged))) {
+                            // cancelled by close() while merging
+                            deleteNewManifests(merged, source);
+                        }
+                    } catch (Throwable t) {
+                        future.completeExceptionally(t);
+                    }
+                });
+        return future;
+    }
+
+    /** Deletes the manifests in {@code manifests} which are not in {@code existing}. */
+    private void deleteNewManifests(
+            List<ManifestFileMeta> manifests, List<ManifestFileMeta> existing) {
+        Set<ManifestFileMeta> existingSet = new HashSet<>(existing);
+        for (ManifestFileMeta manifest : manifests) {
+            if (!existingSet.contains(manifest)) {
+                manifestFile.delete(manifest.fileName());
             }
         }
+    }
 
-        // check for all LSM level >= 1, key ranges of files do not intersect
-        for (List<ManifestEntry> entries : levels.values()) {
-            entries.sort((a, b) -> keyComparator.compare(a.file().minKey(), b.file().minKey()));
-            for (int i = 0; i + 1 < entries.size(); i++) {
-                ManifestEntry a = entries.get(i);
-                ManifestEntry b = entries.get(i + 1);
-                if (keyComparator.compare(a.file().maxKey(), b.file().minKey()) >= 0) {
-                    throw new RuntimeException(
-                            "LSM conflicts detected! Give up committing compact changes. Conflict files are:\n"
-                                    + a.identifier().toString(pathFactory)
-                                    + "\n"
-                                    + b.identifier().toString(pathFactory));
-                }
+    @Override
+    public void close() {
+        if (fullMerge == null) {
+            return;
+        }
+        // either the merge sees the cancellation and deletes its own result, or it has completed
+        // and its result is deleted here
+        if (!fullMerge.cancel(true) && !fullMerge.isCompletedExceptionally()) {
+            FullMerge merge = fullMerge.join();
+            deleteNewManifests(merge.merged, merge.source);
+        }
+        fullMerge = null;
+    }
+
+    @VisibleForTesting
+    public boolean waitForFullMerge() {
+        if (fullMerge == null) {
+            return false;
+        }
+        fullMerge.join();
+        return true;
+    }
+
+    private int numStableManifests(List<ManifestFileMeta> metas) {
+        for (int i = metas.size() - 1; i >= 0; i--) {
+            if (metas.get(i).fileSize() >= manifestTargetSize.getBytes()) {
+                return i + 1;
             }
         }
+        return 0;
+    }
+
+    private static boolean needFullMerge(List<ManifestFileMeta> metas) {
+        if (metas.size() < 2) {
+            return false;
+        }
+
+        long numAdded = 0;
+        long numDeleted = 0;
+        for (ManifestFileMeta manifest : metas) {
+            numAdded += manifest.numAddedFiles();
+            numDeleted += manifest.numDeletedFiles();
+        }
+        // manifests reaching the target size are never merged by tiered merge, so entries of
+        // deleted files accumulate in them until they outnumber the entries of live files
+        return numDeleted > 0 && numDeleted >= numAdded - numDeleted;
     }
 
     private void cleanUpTmpManifests(
@@ -562,32 +686,15 @@ public class FileStoreCommitImpl implements FileStoreCommit {
         }
     }
 
-    private static class LevelIdentifier {
-
-        private final BinaryRowData partition;
-        private final int bucket;
-        private final int level;
-
-        private LevelIdentifier(BinaryRowData partition, int bucket, int level) {
-            this.partition = partition;
-            this.bucket = bucket;
-            this.level = level;
-        }
+    /** Result of an asynchronous full merge of manifests. */
+    private static class FullMerge {
 
-        @Override
-        public boolean equals(Object o) {
-            if (!(o instanceof LevelIdentifier)) {
-                return false;
-            }
-            LevelIdentifier that = (LevelIdentifier) o;
-            return Objects.equals(partition, that.partition)
-                    && bucket == that.bucket
-                    && level == that.level;
-        }
+        private final List<ManifestFileMeta> source;
+        private final List<ManifestFileMeta> merged;
 
-        @Override
-        public int hashCode() {
-            return Objects.hash(partition, bucket, level);
+        private FullMerge(List<ManifestFileMeta> source, List<ManifestFileMeta> merged) {
+            this.source = source;
+            this.merged = merged;
         }
     }
 }
@@ -19,11 +19,15 @@
 package org.apache.flink.table.store.file.operation;
 
 /** Expire operation which provides snapshots expire. */
-public interface FileStoreExpire {
+public interface FileStoreExpire extends AutoCloseable {
 
     /** With global lock. */
     FileStoreExpire withLock(Lock lock);
 
     /** Expire snapshots. */
     void expire();
+
+    /** Releases the threads used to delete files. */
+    @Override
+    void close();
 }
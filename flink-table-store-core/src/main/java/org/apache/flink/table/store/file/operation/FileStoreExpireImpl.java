@@ -28,10 +28,13 @@ import org.apache.flink.table.store.file.manifest.ManifestList;
 import org.apache.flink.table.store.file.utils.FileStorePathFactory;
 import org.apache.flink.table.store.file.utils.FileUtils;
 import org.apache.flink.table.store.file.utils.SnapshotManager;
+import org.apache.flink.util.concurrent.ExecutorThreadFactory;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -40,6 +43,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 /**
@@ -49,6 +56,13 @@ import java.util.stream.Collectors;
  * <p>NOTE: This implementation will keep at least one snapshot so that users will not accidentally
  * clear all snapshots.
  *
+ * <p>Snapshots are expired in batches. The snapshot files of a batch are deleted and the earliest
+ * snapshot hint is updated before any of their data files, manifests and manifest lists, so every
+ * remaining snapshot stays readable and an interrupted expiration continues from the next batch.
+ * Files of an interrupted batch are left behind and can be removed by {@link OrphanFilesClean}.
+ * Files of a batch are deleted by a bounded thread pool, which is reused by later expirations and
+ * shut down on {@link #close()}.
+ *
  * <p>TODO: add concurrent tests.
  */
 public class FileStoreExpireImpl implements FileStoreExpire {
@@ -59,6 +73,8 @@ public class FileStoreExpireImpl implements FileStoreExpire {
     // snapshots exceeding any constraint will be expired
     private final int numRetainedMax;
     private final long millisRetained;
+    private final int deleteThreads;
+    private final int batchSize;
 
     private final FileStorePathFactory pathFactory;
     private final SnapshotManager snapshotManager;
@@ -67,10 +83,15 @@ public class FileStoreExpireImpl implements FileStoreExpire {
 
     private Lock lock;
 
+    // created by the first expiration with more than one delete thread, kept until closed
+    @Nullable private ExecutorService deleteExecutor;
+
     public FileStoreExpireImpl(
             int numRetainedMin,
             int numRetainedMax,
             long millisRetained,
+            int deleteThreads,
+            int batchSize,
             FileStorePathFactory pathFactory,
             SnapshotManager snapshotManager,
             ManifestFile.Factory manifestFileFactory,
@@ -78,6 +99,8 @@ public class FileStoreExpireImpl implements FileStoreExpire {
         this.numRetainedMin = numRetainedMin;
         this.numRetainedMax = numRetainedMax;
         this.millisRetained = millisRetained;
+        this.deleteThreads = deleteThreads;
+        this.batchSize = batchSize;
         this.pathFactory = pathFactory;
         this.snapshotManager = snapshotManager;
         this.manifestFile = manifestFileFactory.create();
@@ -156,9 +179,35 @@ public class FileStoreExpireImpl implements FileStoreExpire {
                     "Snapshot expire range is [" + beginInclusiveId + ", " + endExclusiveId + ")");
         }
 
-        // delete data files
+        if (deleteThreads > 1 && deleteExecutor == null) {
+            deleteExecutor =
+                    Executors.newFixedThreadPool(
+                            deleteThreads, new ExecutorThreadFactory("snapshot-expire-thread"));
+        }
+        long batchBeginId = beginInclusiveId;
+        while (batchBeginId < endExclusiveId) {
+            long batchEndId =
+                    endExclusiveId - batchBeginId > batchSize
+                            ? batchBeginId + batchSize
+                            : endExclusiveId;
+            expireBatch(batchBeginId, batchEndId);
+            batchBeginId = batchEndId;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (deleteExecutor != null) {
+            deleteExecutor.shutdownNow();
+            deleteExecutor = null;
+        }
+    }
+
+    private void expireBatch(long beginInclusiveId, long endExclusiveId) {
+        // collect data files
         // deleted data files in a snapshot are not used by that snapshot, so the range of id should
         // be (beginInclusiveId, endExclusiveId]
+        List<Runnable> deletes = new ArrayList<>();
         for (long id = beginInclusiveId + 1; id <= endExclusiveId; id++) {
             if (LOG.isDebugEnabled()) {
                 LOG.debug("Ready to delete data files in snapshot #" + id);
@@ -169,10 +218,10 @@ public class FileStoreExpireImpl implements FileStoreExpire {
                             .map(ManifestFileMeta::fileName)
                             .collect(Collectors.toList());
             Iterable<ManifestEntry> dataFileLog = manifestFile.readManifestFiles(manifestFiles);
-            expireDataFiles(dataFileLog);
+            deletes.addAll(dataFileDeletes(dataFileLog));
         }
 
-        // delete manifests
+        // collect manifests
         Snapshot exclusiveSnapshot = snapshotManager.snapshot(endExclusiveId);
         Set<ManifestFileMeta> manifestsInUse =
                 new HashSet<>(exclusiveSnapshot.readAllManifests(manifestList));
@@ -187,24 +236,33 @@ public class FileStoreExpireImpl implements FileStoreExpire {
 
             for (ManifestFileMeta manifest : toExpire.readAllManifests(manifestList)) {
                 if (!manifestsInUse.contains(manifest) && !deletedManifests.contains(manifest)) {
-                    manifestFile.delete(manifest.fileName());
+                    deletes.add(() -> manifestFile.delete(manifest.fileName()));
                     deletedManifests.add(manifest);
                 }
             }
 
             // delete manifest lists
-            manifestList.delete(toExpire.baseManifestList());
-            manifestList.delete(toExpire.deltaManifestList());
+            deletes.add(() -> manifestList.delete(toExpire.baseManifestList()));
+            deletes.add(() -> manifestList.delete(toExpire.deltaManifestList()));
+        }
 
-            // delete snapshot
+        // delete snapshots in order, so that the remaining snapshots are always continuous, and
+        // record the progress before deleting their files, so that a failure afterwards never
+        // leaves a snapshot whose manifests are gone
+        for (long id = beginInclusiveId; id < endExclusiveId; id++) {
             FileUtils.deleteOrWarn(snapshotManager.snapshotPath(id));
         }
-
         writeEarliestHint(endExclusiveId);
+
+        runDeletes(deletes);
     }
 
     @VisibleForTesting
     void expireDataFiles(Iterable<ManifestEntry> dataFileLog) {
+        runDeletes(dataFileDeletes(dataFileLog));
+    }
+
+    private List<Runnable> dataFileDeletes(Iterable<ManifestEntry> dataFileLog) {
         // we cannot delete a data file directly when we meet a DELETE entry, because that
         // file might be upgraded
         Map<Path, List<Path>> dataFileToDelete = new HashMap<>();
@@ -227,11 +285,33 @@ public class FileStoreExpireImpl implements FileStoreExpire {
                             "Unknown value kind " + entry.kind().name());
             }
         }
+        List<Runnable> deletes = new ArrayList<>();
         dataFileToDelete.forEach(
                 (path, extraFiles) -> {
-                    FileUtils.deleteOrWarn(path);
-                    extraFiles.forEach(FileUtils::deleteOrWarn);
+                    deletes.add(() -> FileUtils.deleteOrWarn(path));
+                    extraFiles.forEach(file -> deletes.add(() -> FileUtils.deleteOrWarn(file)));
                 });
+        return deletes;
+    }
+
+    @VisibleForTesting
+    void runDeletes(List<Runnable> deletes) {
+        if (deleteExecutor == null) {
+            deletes.forEach(Runnable::run);
+            return;
+        }
+
+        List<Future<?>> futures = new ArrayList<>(deletes.size());
+        for (Runnable delete : deletes) {
+            futures.add(deleteExecutor.submit(delete));
+        }
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException | ExecutionException e) {
+            throw new RuntimeException("Failed to delete files of expired snapshots", e);
+        }
     }
 
     private void writeEarliestHint(long earliest) {
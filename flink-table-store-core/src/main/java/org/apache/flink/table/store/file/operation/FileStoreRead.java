@@ -19,6 +19,7 @@
 package org.apache.flink.table.store.file.operation;
 
 import org.apache.flink.table.store.file.predicate.Predicate;
+import org.apache.flink.table.store.file.utils.PrefetchMetrics;
 import org.apache.flink.table.store.file.utils.RecordReader;
 import org.apache.flink.table.store.table.source.Split;
 
@@ -33,6 +34,9 @@ public interface FileStoreRead<T> {
 
     FileStoreRead<T> withFilter(Predicate predicate);
 
+    /** Metrics of prefetching readers, which are only updated if prefetch is enabled. */
+    PrefetchMetrics prefetchMetrics();
+
     /** Create a {@link RecordReader} from split. */
     RecordReader<T> createReader(Split split) throws IOException;
 }
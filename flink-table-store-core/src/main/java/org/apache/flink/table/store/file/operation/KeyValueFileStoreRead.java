@@ -29,6 +29,7 @@ import org.apache.flink.table.store.file.mergetree.compact.MergeFunction;
 import org.apache.flink.table.store.file.predicate.Predicate;
 import org.apache.flink.table.store.file.schema.SchemaManager;
 import org.apache.flink.table.store.file.utils.FileStorePathFactory;
+import org.apache.flink.table.store.file.utils.PrefetchMetrics;
 import org.apache.flink.table.store.file.utils.ProjectKeyRecordReader;
 import org.apache.flink.table.store.file.utils.RecordReader;
 import org.apache.flink.table.store.format.FileFormat;
@@ -53,6 +54,7 @@ public class KeyValueFileStoreRead implements FileStoreRead<KeyValue> {
     private final DataFileReader.Factory dataFileReaderFactory;
     private final Comparator<RowData> keyComparator;
     private final MergeFunction mergeFunction;
+    private final PrefetchMetrics prefetchMetrics;
 
     private int[][] keyProjectedFields;
 
@@ -72,6 +74,14 @@ public class KeyValueFileStoreRead implements FileStoreRead<KeyValue> {
                         schemaManager, schemaId, keyType, valueType, fileFormat, pathFactory);
         this.keyComparator = keyComparator;
         this.mergeFunction = mergeFunction;
+        this.prefetchMetrics = new PrefetchMetrics();
+    }
+
+    public KeyValueFileStoreRead withPrefetch(boolean prefetch, int threads, int nextFiles) {
+        if (prefetch) {
+            dataFileReaderFactory.withPrefetch(threads, nextFiles, prefetchMetrics);
+        }
+        return this;
     }
 
     public KeyValueFileStoreRead withKeyProjection(int[][] projectedFields) {
@@ -91,6 +101,11 @@ public class KeyValueFileStoreRead implements FileStoreRead<KeyValue> {
         return this;
     }
 
+    @Override
+    public PrefetchMetrics prefetchMetrics() {
+        return prefetchMetrics;
+    }
+
     @Override
     public RecordReader<KeyValue> createReader(Split split) throws IOException {
         if (split.isIncremental()) {
@@ -99,10 +114,14 @@ public class KeyValueFileStoreRead implements FileStoreRead<KeyValue> {
             // Return the raw file contents without merging
             List<ConcatRecordReader.ReaderSupplier<KeyValue>> suppliers = new ArrayList<>();
             for (DataFileMeta file : split.files()) {
-                suppliers.add(
-                        () -> dataFileReader.read(changelogFile(file).orElse(file.fileName())));
+                Optional<String> changelogFile = changelogFile(file);
+                if (changelogFile.isPresent()) {
+                    suppliers.add(() -> dataFileReader.read(changelogFile.get()));
+                } else {
+                    suppliers.add(() -> dataFileReader.read(file.fileName(), file.fileSize()));
+                }
             }
-            return ConcatRecordReader.create(suppliers);
+            return ConcatRecordReader.create(suppliers, dataFileReader.prefetchPermits());
         } else {
             // in this case merge tree should merge records with same key
             // Do not project key in MergeTreeReader.
@@ -18,16 +18,42 @@
 
 package org.apache.flink.table.store.file.operation;
 
+import org.apache.flink.core.fs.Path;
+import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.data.binary.BinaryRowData;
+import org.apache.flink.table.store.file.data.DataFileMeta;
+import org.apache.flink.table.store.file.index.BloomFilter;
+import org.apache.flink.table.store.file.index.BloomFilterCache;
 import org.apache.flink.table.store.file.manifest.ManifestEntry;
 import org.apache.flink.table.store.file.manifest.ManifestFile;
 import org.apache.flink.table.store.file.manifest.ManifestList;
+import org.apache.flink.table.store.file.mergetree.SortedRun;
+import org.apache.flink.table.store.file.mergetree.compact.IntervalPartition;
+import org.apache.flink.table.store.file.predicate.BucketSelector;
 import org.apache.flink.table.store.file.predicate.Predicate;
+import org.apache.flink.table.store.file.predicate.PredicateEvaluator;
 import org.apache.flink.table.store.file.stats.FieldStatsArraySerializer;
+import org.apache.flink.table.store.file.utils.FileStorePathFactory;
+import org.apache.flink.table.store.file.utils.FileUtils;
 import org.apache.flink.table.store.file.utils.SnapshotManager;
 import org.apache.flink.table.types.logical.RowType;
 
+import javax.annotation.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
 
+import static org.apache.flink.table.store.codegen.CodeGenUtils.newPredicateEvaluator;
+import static org.apache.flink.table.store.file.data.DataFilePathFactory.BLOOM_FILTER_FILE_PREFIX;
 import static org.apache.flink.table.store.file.predicate.PredicateBuilder.and;
 import static org.apache.flink.table.store.file.predicate.PredicateBuilder.pickTransformFieldMapping;
 import static org.apache.flink.table.store.file.predicate.PredicateBuilder.splitAnd;
@@ -36,19 +62,34 @@ import static org.apache.flink.table.store.file.predicate.PredicateBuilder.split
 public class KeyValueFileStoreScan extends AbstractFileStoreScan {
 
     private final FieldStatsArraySerializer keyStatsConverter;
+    private final FieldStatsArraySerializer valueStatsConverter;
     private final RowType keyType;
+    private final RowType valueType;
+    private final Comparator<RowData> keyComparator;
+    private final long schemaId;
+    private final FileStorePathFactory pathFactory;
+    @Nullable private final BloomFilterCache bloomFilterCache;
+
+    private PredicateEvaluator keyFilter;
+    private PredicateEvaluator valueFilter;
 
-    private Predicate keyFilter;
+    // hash codes of the keys selected by the key filter, null if the keys can not be enumerated
+    @Nullable private int[] keyHashCodes;
 
     public KeyValueFileStoreScan(
             RowType partitionType,
             RowType bucketKeyType,
             RowType keyType,
+            RowType valueType,
+            Comparator<RowData> keyComparator,
+            long schemaId,
+            FileStorePathFactory pathFactory,
             SnapshotManager snapshotManager,
             ManifestFile.Factory manifestFileFactory,
             ManifestList.Factory manifestListFactory,
             int numOfBuckets,
-            boolean checkNumOfBuckets) {
+            boolean checkNumOfBuckets,
+            @Nullable BloomFilterCache bloomFilterCache) {
         super(
                 partitionType,
                 bucketKeyType,
@@ -58,11 +99,21 @@ public class KeyValueFileStoreScan extends AbstractFileStoreScan {
                 numOfBuckets,
                 checkNumOfBuckets);
         this.keyStatsConverter = new FieldStatsArraySerializer(keyType);
+        this.valueStatsConverter = new FieldStatsArraySerializer(valueType);
         this.keyType = keyType;
+        this.valueType = valueType;
+        this.keyComparator = keyComparator;
+        this.schemaId = schemaId;
+        this.pathFactory = pathFactory;
+        this.bloomFilterCache = bloomFilterCache;
     }
 
     public KeyValueFileStoreScan withKeyFilter(Predicate predicate) {
-        this.keyFilter = predicate;
+        this.keyFilter = newPredicateEvaluator(predicate, keyType);
+        this.keyHashCodes =
+                BucketSelector.create(predicate, keyType)
+                        .map(BucketSelector::hashCodes)
+                        .orElse(null);
 
         List<Predicate> bucketFilters =
                 pickTransformFieldMapping(
@@ -75,6 +126,16 @@ public class KeyValueFileStoreScan extends AbstractFileStoreScan {
         return this;
     }
 
+    /**
+     * Filters files by the stats of their values. Values of a key may be overwritten by another
+     * file, so only the files whose key ranges do not overlap any other remaining file of the
+     * bucket are filtered, as all their records are the latest ones.
+     */
+    public KeyValueFileStoreScan withValueFilter(Predicate predicate) {
+        this.valueFilter = newPredicateEvaluator(predicate, valueType);
+        return this;
+    }
+
     @Override
     protected boolean filterByStats(ManifestEntry entry) {
         return keyFilter == null
@@ -82,4 +143,102 @@ public class KeyValueFileStoreScan extends AbstractFileStoreScan {
                         entry.file().rowCount(),
                         entry.file().keyStats().fields(keyStatsConverter, entry.file().rowCount()));
     }
+
+    @Override
+    protected List<ManifestEntry> filterWholeBucketByStats(List<ManifestEntry> entries) {
+        if (valueFilter == null) {
+            return entries;
+        }
+
+        Map<BinaryRowData, Map<Integer, List<DataFileMeta>>> groupBy = new LinkedHashMap<>();
+        for (ManifestEntry entry : entries) {
+            groupBy.computeIfAbsent(entry.partition(), k -> new LinkedHashMap<>())
+                    .computeIfAbsent(entry.bucket(), k -> new ArrayList<>())
+                    .add(entry.file());
+        }
+
+        Set<String> filtered = new HashSet<>();
+        for (Map<Integer, List<DataFileMeta>> buckets : groupBy.values()) {
+            for (List<DataFileMeta> files : buckets.values()) {
+                for (List<SortedRun> section :
+                        new IntervalPartition(files, keyComparator).partition()) {
+                    if (section.size() > 1) {
+                        // files in this section overlap each other
+                        continue;
+                    }
+                    for (DataFileMeta file : section.get(0).files()) {
+                        if (!filterByValueStats(file)) {
+                            filtered.add(file.fileName());
+                        }
+                    }
+                }
+            }
+        }
+
+        if (filtered.isEmpty()) {
+            return entries;
+        }
+        List<ManifestEntry> result = new ArrayList<>(entries.size() - filtered.size());
+        for (ManifestEntry entry : entries) {
+            if (!filtered.contains(entry.file().fileName())) {
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+
+    private boolean filterByValueStats(DataFileMeta file) {
+        // value stats of files written with another schema do not match the value type
+        return file.schemaId() != schemaId
+                || valueFilter.test(
+                        file.rowCount(),
+                        file.valueStats().fields(valueStatsConverter, file.rowCount()));
+    }
+
+    @Override
+    protected List<ManifestEntry> filterByIndex(List<ManifestEntry> entries) {
+        if (keyHashCodes == null) {
+            return entries;
+        }
+
+        // bloom filters are read concurrently, like manifest files
+        try {
+            return FileUtils.COMMON_IO_FORK_JOIN_POOL
+                    .submit(
+                            () ->
+                                    entries.parallelStream()
+                                            .filter(this::filterByBloomFilter)
+                                            .collect(Collectors.toList()))
+                    .get();
+        } catch (InterruptedException | ExecutionException e) {
+            throw new RuntimeException("Failed to read bloom filters concurrently", e);
+        }
+    }
+
+    private boolean filterByBloomFilter(ManifestEntry entry) {
+        for (String file : entry.file().extraFiles()) {
+            if (file.startsWith(BLOOM_FILTER_FILE_PREFIX)) {
+                BloomFilter bloomFilter = readBloomFilter(entry, file);
+                for (int hash : keyHashCodes) {
+                    if (bloomFilter.testHash(hash)) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private BloomFilter readBloomFilter(ManifestEntry entry, String fileName) {
+        Path path = new Path(pathFactory.bucketPath(entry.partition(), entry.bucket()), fileName);
+        if (bloomFilterCache != null) {
+            return bloomFilterCache.get(path);
+        }
+        try {
+            return BloomFilter.read(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
@@ -22,6 +22,7 @@ import org.apache.flink.table.data.RowData;
 import org.apache.flink.table.data.binary.BinaryRowData;
 import org.apache.flink.table.store.CoreOptions;
 import org.apache.flink.table.store.file.KeyValue;
+import org.apache.flink.table.store.file.compact.CompactExecutor;
 import org.apache.flink.table.store.file.compact.CompactManager;
 import org.apache.flink.table.store.file.compact.CompactResult;
 import org.apache.flink.table.store.file.compact.CompactUnit;
@@ -90,6 +91,9 @@ public class KeyValueFileStoreWrite extends AbstractFileStoreWrite<KeyValue> {
                         options.fileFormat(),
                         pathFactory,
                         options.targetFileSize());
+        if (options.bloomFilterEnabled()) {
+            dataFileWriterFactory.withBloomFilter(options.bloomFilterFpp());
+        }
         this.keyComparatorSupplier = keyComparatorSupplier;
         this.mergeFunction = mergeFunction;
         this.options = options;
@@ -151,7 +155,17 @@ public class KeyValueFileStoreWrite extends AbstractFileStoreWrite<KeyValue> {
                 dataFileWriter,
                 options.commitForceCompact(),
                 options.numSortedRunStopTrigger(),
-                options.enableChangelogFile());
+                options.enableChangelogFile(),
+                options.writeBufferAsyncFlush() ? flushExecutor(compactExecutor) : null,
+                options.writeBufferSize(),
+                options.writeBufferAsyncFlushReservedSize());
+    }
+
+    private static ExecutorService flushExecutor(ExecutorService compactExecutor) {
+        // flushes must not wait for running compactions, use the dedicated thread if there is one
+        return compactExecutor instanceof CompactExecutor
+                ? ((CompactExecutor) compactExecutor).flushExecutor()
+                : compactExecutor;
     }
 
     private CompactManager createCompactManager(
@@ -0,0 +1,202 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.file.operation;
+
+import org.apache.flink.core.fs.FileStatus;
+import org.apache.flink.core.fs.Path;
+import org.apache.flink.table.store.file.Snapshot;
+import org.apache.flink.table.store.file.manifest.ManifestEntry;
+import org.apache.flink.table.store.file.manifest.ManifestFile;
+import org.apache.flink.table.store.file.manifest.ManifestFileMeta;
+import org.apache.flink.table.store.file.manifest.ManifestList;
+import org.apache.flink.table.store.file.utils.FileStorePathFactory;
+import org.apache.flink.table.store.file.utils.FileUtils;
+import org.apache.flink.table.store.file.utils.SnapshotManager;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Removes files of a table which are not referenced by any of its snapshots, for example data files
+ * and manifests left by failed commits or crashed writers.
+ *
+ * <p>Only data files in bucket directories and files in the manifest directory are removed. Files
+ * of snapshots, schemas and hash indexes are never touched. Files of commits in progress are not
+ * referenced yet, so only files last modified before {@link #olderThan} are removed.
+ */
+public class OrphanFilesClean {
+
+    private static final Logger LOG = LoggerFactory.getLogger(OrphanFilesClean.class);
+
+    private static final String BUCKET_DIRECTORY_PREFIX = "bucket-";
+    private static final String MANIFEST_DIRECTORY = "manifest";
+
+    // directories directly under the table path which contain no data files
+    private static final Set<String> NON_DATA_DIRECTORIES =
+            new HashSet<>(Arrays.asList("snapshot", "schema", MANIFEST_DIRECTORY, "index"));
+
+    private final FileStorePathFactory pathFactory;
+    private final SnapshotManager snapshotManager;
+    private final ManifestFile manifestFile;
+    private final ManifestList manifestList;
+
+    private long olderThanMillis;
+
+    public OrphanFilesClean(
+            FileStorePathFactory pathFactory,
+            SnapshotManager snapshotManager,
+            ManifestFile.Factory manifestFileFactory,
+            ManifestList.Factory manifestListFactory) {
+        this.pathFactory = pathFactory;
+        this.snapshotManager = snapshotManager;
+        this.manifestFile = manifestFileFactory.create();
+        this.manifestList = manifestListFactory.create();
+        this.olderThanMillis = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(1);
+    }
+
+    /** Only removes files last modified before the given time. Defaults to one day ago. */
+    public OrphanFilesClean olderThan(long olderThanMillis) {
+        this.olderThanMillis = olderThanMillis;
+        return this;
+    }
+
+    /** Removes the orphan files and returns their paths. */
+    public List<Path> clean() {
+        try {
+            return FileUtils.COMMON_IO_FORK_JOIN_POOL.submit(this::doClean).get();
+        } catch (InterruptedException | ExecutionException e) {
+            throw new RuntimeException("Failed to remove orphan files", e);
+        }
+    }
+
+    private List<Path> doClean() {
+        // list files before reading snapshots, so that files committed in the meantime are still
+        // referenced by the snapshots read
+        List<Path> candidates =
+                Stream.concat(
+                                listFiles(new Path(pathFactory.root(), MANIFEST_DIRECTORY)),
+                                listDataFiles(pathFactory.root(), true))
+                        .filter(status -> status.getModificationTime() < olderThanMillis)
+                        .map(FileStatus::getPath)
+                        .collect(Collectors.toList());
+        if (candidates.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Set<String> usedFiles = usedFiles();
+        List<Path> orphans =
+                candidates.stream()
+                        .filter(path -> !usedFiles.contains(path.getName()))
+                        .collect(Collectors.toList());
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Ready to remove orphan files " + orphans);
+        }
+        orphans.parallelStream().forEach(FileUtils::deleteOrWarn);
+        return orphans;
+    }
+
+    /** Names of the manifests, manifest lists and data files referenced by the snapshots. */
+    private Set<String> usedFiles() {
+        Set<String> usedFiles = ConcurrentHashMap.newKeySet();
+        Long earliest;
+        try {
+            earliest = snapshotManager.findEarliest();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to find earliest snapshot id", e);
+        }
+        Long latest = snapshotManager.latestSnapshotId();
+        if (earliest == null || latest == null) {
+            return usedFiles;
+        }
+
+        Set<String> manifests = new HashSet<>();
+        for (long id = earliest; id <= latest; id++) {
+            if (!snapshotManager.snapshotExists(id)) {
+                continue;
+            }
+            Snapshot snapshot = snapshotManager.snapshot(id);
+            usedFiles.add(snapshot.baseManifestList());
+            usedFiles.add(snapshot.deltaManifestList());
+            for (ManifestFileMeta manifest : snapshot.readAllManifests(manifestList)) {
+                manifests.add(manifest.fileName());
+            }
+        }
+        usedFiles.addAll(manifests);
+
+        // a manifest which cannot be read fails the cleaning, otherwise the data files referenced
+        // by it would be removed
+        manifests
+                .parallelStream()
+                .forEach(
+                        manifest -> {
+                            for (ManifestEntry entry : manifestFile.read(manifest)) {
+                                usedFiles.add(entry.file().fileName());
+                                // changelog and bloom filter files
+                                usedFiles.addAll(entry.file().extraFiles());
+                            }
+                        });
+        return usedFiles;
+    }
+
+    private Stream<FileStatus> listDataFiles(Path dir, boolean isTableRoot) {
+        return listStatus(dir).parallel().filter(FileStatus::isDir)
+                .filter(
+                        status ->
+                                !isTableRoot
+                                        || !NON_DATA_DIRECTORIES.contains(
+                                                status.getPath().getName()))
+                .flatMap(
+                        status ->
+                                status.getPath().getName().startsWith(BUCKET_DIRECTORY_PREFIX)
+                                        ? listFiles(status.getPath())
+                                        : listDataFiles(status.getPath(), false))
+                // collect in parallel before the stream is consumed by the caller
+                .collect(Collectors.toList()).stream();
+    }
+
+    private Stream<FileStatus> listFiles(Path dir) {
+        return listStatus(dir).filter(status -> !status.isDir());
+    }
+
+    private Stream<FileStatus> listStatus(Path dir) {
+        FileStatus[] statuses;
+        try {
+            if (!dir.getFileSystem().exists(dir)) {
+                return Stream.empty();
+            }
+            statuses = FileUtils.safelyListFileStatus(dir);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list directory " + dir, e);
+        }
+        return statuses == null ? Stream.empty() : Arrays.stream(statuses);
+    }
+}
@@ -18,7 +18,6 @@
 
 package org.apache.flink.table.store.file.predicate;
 
-import org.apache.flink.annotation.VisibleForTesting;
 import org.apache.flink.table.data.GenericRowData;
 import org.apache.flink.table.runtime.typeutils.RowDataSerializer;
 import org.apache.flink.table.types.logical.RowType;
@@ -70,8 +69,8 @@ public class BucketSelector implements Serializable {
                 .contains(bucket);
     }
 
-    @VisibleForTesting
-    int[] hashCodes() {
+    /** Hash codes of the binary rows of all selected key combinations. */
+    public int[] hashCodes() {
         return hashCodes;
     }
 
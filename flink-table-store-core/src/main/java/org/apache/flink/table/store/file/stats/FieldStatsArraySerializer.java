@@ -59,7 +59,9 @@ public class FieldStatsArraySerializer {
         for (int i = 0; i < rowFieldCount; i++) {
             minValues.setField(i, stats[i].minValue());
             maxValues.setField(i, stats[i].maxValue());
-            nullCounts[i] = stats[i].nullCount();
+            Long nullCount = stats[i].nullCount();
+            // negative null counts are read back as unknown
+            nullCounts[i] = nullCount == null ? -1 : nullCount;
         }
         return new BinaryTableStats(
                 serializer.toBinaryRow(minValues).copy(),
@@ -83,11 +85,12 @@ public class FieldStatsArraySerializer {
                 }
                 stats[i] = new FieldStats(null, null, rowCount);
             } else {
+                long nullCount = array.nullCounts()[i];
                 stats[i] =
                         new FieldStats(
                                 fieldGetters[i].getFieldOrNull(array.min()),
                                 fieldGetters[i].getFieldOrNull(array.max()),
-                                array.nullCounts()[i]);
+                                nullCount < 0 ? null : nullCount);
             }
         }
         return stats;
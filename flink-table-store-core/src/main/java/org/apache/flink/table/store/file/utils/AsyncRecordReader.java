@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.file.utils;
+
+import org.apache.flink.table.store.file.mergetree.compact.ConcatRecordReader.ReaderSupplier;
+import org.apache.flink.util.concurrent.ExecutorThreadFactory;
+
+import javax.annotation.Nullable;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link RecordReader} which opens the underlying reader and reads its batches in the background.
+ * The reader is opened as soon as this object is created, and the next batch is read while the
+ * current batch is being processed, so at most two batches of the underlying reader are held at the
+ * same time.
+ *
+ * <p>The underlying reader must allow reading the next batch from another thread before the current
+ * batch is released, like the readers of {@link
+ * org.apache.flink.connector.file.src.reader.BulkFormat}s. If it recycles batches, it should be
+ * created with enough batches to circulate, see {@link FileUtils#PREFETCH_READER_CONFIG}.
+ *
+ * <p>Background tasks of all readers in the process run in one bounded pool, see {@link
+ * #executor(int)}.
+ */
+public class AsyncRecordReader<T> implements RecordReader<T> {
+
+    private static ThreadPoolExecutor sharedExecutor;
+
+    private final ExecutorService executor;
+    private final PrefetchMetrics metrics;
+
+    // set by the first background task, safely published by the future of that task
+    private RecordReader<T> reader;
+
+    @Nullable private Future<RecordIterator<T>> pending;
+    @Nullable private AsyncRecordIterator current;
+
+    public AsyncRecordReader(
+            ReaderSupplier<T> supplier, ExecutorService executor, PrefetchMetrics metrics) {
+        this.executor = executor;
+        this.metrics = metrics;
+        this.pending =
+                executor.submit(
+                        () -> {
+                            reader = supplier.get();
+                            return reader.readBatch();
+                        });
+    }
+
+    /**
+     * Returns the pool shared by all readers in the process, which has at least the given number of
+     * threads. The pool grows if a table asks for more threads than any table before, and idle
+     * threads are released.
+     */
+    public static synchronized ExecutorService executor(int numThreads) {
+        if (sharedExecutor == null) {
+            sharedExecutor =
+                    new ThreadPoolExecutor(
+                            numThreads,
+                            numThreads,
+                            60L,
+                            TimeUnit.SECONDS,
+                            new LinkedBlockingQueue<>(),
+                            new ExecutorThreadFactory("file-store-prefetch"));
+            sharedExecutor.allowCoreThreadTimeOut(true);
+        } else if (numThreads > sharedExecutor.getMaximumPoolSize()) {
+            sharedExecutor.setMaximumPoolSize(numThreads);
+            sharedExecutor.setCorePoolSize(numThreads);
+        }
+        return sharedExecutor;
+    }
+
+    @Nullable
+    @Override
+    public RecordIterator<T> readBatch() throws IOException {
+        if (pending == null) {
+            return null;
+        }
+
+        RecordIterator<T> batch = await(pending);
+        if (batch == null) {
+            pending = null;
+            return null;
+        }
+
+        // prefetch the next batch while the current one is being processed
+        pending = executor.submit(reader::readBatch);
+        current = new AsyncRecordIterator(batch);
+        return current;
+    }
+
+    private RecordIterator<T> await(Future<RecordIterator<T>> future) throws IOException {
+        boolean prefetched = future.isDone();
+        long start = System.nanoTime();
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the next batch.");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException(cause);
+        } finally {
+            if (prefetched) {
+                metrics.recordHit();
+            } else {
+                metrics.recordMiss(System.nanoTime() - start);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            // the pending task may wait for the current batch to be recycled
+            if (current != null) {
+                current.releaseBatch();
+            }
+            if (pending != null) {
+                RecordIterator<T> batch = pending.get();
+                if (batch != null) {
+                    batch.releaseBatch();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while closing the reader.");
+        } catch (ExecutionException ignored) {
+            // the batch was never requested, so the failure is not visible to the caller
+        } finally {
+            pending = null;
+            if (reader != null) {
+                reader.close();
+            }
+        }
+    }
+
+    private class AsyncRecordIterator implements RecordIterator<T> {
+
+        private final RecordIterator<T> batch;
+        private boolean released = false;
+
+        private AsyncRecordIterator(RecordIterator<T> batch) {
+            this.batch = batch;
+        }
+
+        @Override
+        public T next() throws IOException {
+            return batch.next();
+        }
+
+        @Override
+        public void releaseBatch() {
+            if (!released) {
+                released = true;
+                batch.releaseBatch();
+            }
+        }
+    }
+}
@@ -118,6 +118,11 @@ public class FileStorePathFactory {
         return DataFilePathFactory.bucketPath(root, getPartitionString(partition), bucket);
     }
 
+    /** Directory of the hash index files of a partition in dynamic bucket mode. */
+    public Path indexPath(BinaryRowData partition) {
+        return new Path(root + "/index/" + getPartitionString(partition));
+    }
+
     /** IMPORTANT: This method is NOT THREAD SAFE. */
     public String getPartitionString(BinaryRowData partition) {
         return PartitionPathUtils.generatePartitionPath(
@@ -56,8 +56,15 @@ public class FileUtils {
 
     public static final Configuration DEFAULT_READER_CONFIG = new Configuration();
 
+    /**
+     * Reader config for {@link AsyncRecordReader}s, which read the next batch while the current
+     * batch is still in use.
+     */
+    public static final Configuration PREFETCH_READER_CONFIG = new Configuration();
+
     static {
         DEFAULT_READER_CONFIG.setInteger(SourceReaderOptions.ELEMENT_QUEUE_CAPACITY, 1);
+        PREFETCH_READER_CONFIG.setInteger(SourceReaderOptions.ELEMENT_QUEUE_CAPACITY, 2);
     }
 
     public static final ForkJoinPool COMMON_IO_FORK_JOIN_POOL;
@@ -81,12 +88,31 @@ public class FileUtils {
             ObjectSerializer<T> serializer,
             BulkFormat<RowData, FileSourceSplit> readerFactory)
             throws IOException {
+        return readListFromFile(path, serializer, readerFactory, Filter.alwaysTrue());
+    }
+
+    /**
+     * Reads objects from the given file, converting only the rows accepted by {@code rowFilter}.
+     * The filter sees the raw serialized rows, so rows that do not match are never deserialized.
+     */
+    public static <T> List<T> readListFromFile(
+            Path path,
+            ObjectSerializer<T> serializer,
+            BulkFormat<RowData, FileSourceSplit> readerFactory,
+            Filter<RowData> rowFilter)
+            throws IOException {
         List<T> result = new ArrayList<>();
         long fileSize = FileUtils.getFileSize(path);
         FileSourceSplit split = new FileSourceSplit("ignore", path, 0, fileSize);
         BulkFormat.Reader<RowData> reader =
                 readerFactory.createReader(DEFAULT_READER_CONFIG, split);
-        Utils.forEachRemaining(reader, row -> result.add(serializer.fromRow(row)));
+        Utils.forEachRemaining(
+                reader,
+                row -> {
+                    if (rowFilter.test(row)) {
+                        result.add(serializer.fromRow(row));
+                    }
+                });
         return result;
     }
 
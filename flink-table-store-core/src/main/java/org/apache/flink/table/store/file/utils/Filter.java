@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.file.utils;
+
+/**
+ * Represents a filter (boolean-valued function) of one argument.
+ *
+ * @param <T> the type of the input to the filter
+ */
+@FunctionalInterface
+public interface Filter<T> {
+
+    Filter<?> ALWAYS_TRUE = t -> true;
+
+    /**
+     * Evaluates this filter on the given argument.
+     *
+     * @param t the input argument
+     * @return {@code true} if the input argument matches the filter, otherwise {@code false}
+     */
+    boolean test(T t);
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static <T> Filter<T> alwaysTrue() {
+        return (Filter) ALWAYS_TRUE;
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.file.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Metrics of {@link AsyncRecordReader}s. A batch request is a hit if the batch has already been
+ * prefetched, otherwise it is a miss and the reader waits for the batch.
+ */
+public class PrefetchMetrics {
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong waitNanos = new AtomicLong();
+
+    void recordHit() {
+        hits.incrementAndGet();
+    }
+
+    void recordMiss(long nanos) {
+        misses.incrementAndGet();
+        waitNanos.addAndGet(nanos);
+    }
+
+    public long hits() {
+        return hits.get();
+    }
+
+    public long misses() {
+        return misses.get();
+    }
+
+    /** Total time spent waiting for batches which were not prefetched yet, in milliseconds. */
+    public long waitMillis() {
+        return waitNanos.get() / 1_000_000;
+    }
+}
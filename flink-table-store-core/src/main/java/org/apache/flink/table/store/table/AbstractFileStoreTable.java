@@ -19,11 +19,14 @@
 package org.apache.flink.table.store.table;
 
 import org.apache.flink.core.fs.Path;
+import org.apache.flink.table.store.CoreOptions;
 import org.apache.flink.table.store.file.FileStore;
+import org.apache.flink.table.store.file.operation.OrphanFilesClean;
 import org.apache.flink.table.store.file.schema.TableSchema;
 import org.apache.flink.table.store.file.utils.SnapshotManager;
 import org.apache.flink.table.store.table.sink.TableCommit;
 import org.apache.flink.table.store.table.sink.TableCompact;
+import org.apache.flink.table.store.table.sink.TableRescale;
 
 /** Abstract {@link FileStoreTable}. */
 public abstract class AbstractFileStoreTable implements FileStoreTable {
@@ -57,11 +60,25 @@ public abstract class AbstractFileStoreTable implements FileStoreTable {
 
     @Override
     public TableCommit newCommit(String user) {
-        return new TableCommit(store().newCommit(user), store().newExpire());
+        return new TableCommit(
+                store().newCommit(user),
+                store().newExpire(),
+                new CoreOptions(tableSchema.options()));
     }
 
     @Override
     public TableCompact newCompact() {
         return new TableCompact(store().newScan(), store().newWrite(), store().partitionType());
     }
+
+    @Override
+    public TableRescale newRescale(String user) {
+        return new TableRescale(
+                this, store().newScan(), new CoreOptions(tableSchema.options()), user);
+    }
+
+    @Override
+    public OrphanFilesClean newOrphanFilesClean() {
+        return store().newOrphanFilesClean();
+    }
 }
@@ -29,6 +29,7 @@ import org.apache.flink.table.store.file.predicate.Predicate;
 import org.apache.flink.table.store.file.schema.SchemaManager;
 import org.apache.flink.table.store.file.schema.TableSchema;
 import org.apache.flink.table.store.file.utils.FileStorePathFactory;
+import org.apache.flink.table.store.file.utils.PrefetchMetrics;
 import org.apache.flink.table.store.file.utils.RecordReader;
 import org.apache.flink.table.store.file.writer.RecordWriter;
 import org.apache.flink.table.store.table.sink.AbstractTableWrite;
@@ -78,6 +79,11 @@ public class AppendOnlyFileStoreTable extends AbstractFileStoreTable {
             protected void withNonPartitionFilter(Predicate predicate) {
                 scan.withFilter(predicate);
             }
+
+            @Override
+            protected boolean supportsLimitPushDown() {
+                return true;
+            }
         };
     }
 
@@ -101,6 +107,11 @@ public class AppendOnlyFileStoreTable extends AbstractFileStoreTable {
             public RecordReader<RowData> createReader(Split split) throws IOException {
                 return read.createReader(split);
             }
+
+            @Override
+            public PrefetchMetrics prefetchMetrics() {
+                return read.prefetchMetrics();
+            }
         };
     }
 
@@ -108,7 +119,7 @@ public class AppendOnlyFileStoreTable extends AbstractFileStoreTable {
     public TableWrite newWrite() {
         SinkRecordConverter recordConverter =
                 new SinkRecordConverter(store.options().bucket(), tableSchema);
-        return new AbstractTableWrite<RowData>(store.newWrite(), recordConverter) {
+        return new AbstractTableWrite<RowData>(store.newWrite(), recordConverter, store.options()) {
             @Override
             protected void writeSinkRecord(SinkRecord record, RecordWriter<RowData> writer)
                     throws Exception {
@@ -25,9 +25,11 @@ import org.apache.flink.table.store.CoreOptions;
 import org.apache.flink.table.store.file.KeyValue;
 import org.apache.flink.table.store.file.KeyValueFileStore;
 import org.apache.flink.table.store.file.WriteMode;
+import org.apache.flink.table.store.file.index.HashBucketAssigner;
 import org.apache.flink.table.store.file.mergetree.compact.DeduplicateMergeFunction;
 import org.apache.flink.table.store.file.mergetree.compact.MergeFunction;
 import org.apache.flink.table.store.file.mergetree.compact.PartialUpdateMergeFunction;
+import org.apache.flink.table.store.file.mergetree.compact.aggregate.AggregateMergeFunction;
 import org.apache.flink.table.store.file.operation.KeyValueFileStoreScan;
 import org.apache.flink.table.store.file.predicate.Predicate;
 import org.apache.flink.table.store.file.schema.SchemaManager;
@@ -48,6 +50,7 @@ import org.apache.flink.table.store.table.source.TableScan;
 import org.apache.flink.table.store.table.source.ValueContentRowDataRecordIterator;
 import org.apache.flink.table.types.logical.LogicalType;
 import org.apache.flink.table.types.logical.RowType;
+import org.apache.flink.types.RowKind;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -87,6 +90,9 @@ public class ChangelogWithKeyFileStoreTable extends AbstractFileStoreTable {
                 }
                 mergeFunction = new PartialUpdateMergeFunction(fieldGetters);
                 break;
+            case AGGREGATE:
+                mergeFunction = AggregateMergeFunction.create(rowType, new CoreOptions(conf));
+                break;
             default:
                 throw new UnsupportedOperationException("Unsupported merge engine: " + mergeEngine);
         }
@@ -130,7 +136,7 @@ public class ChangelogWithKeyFileStoreTable extends AbstractFileStoreTable {
 
             @Override
             protected void withNonPartitionFilter(Predicate predicate) {
-                // currently we can only perform filter push down on keys
+                // filters on values can not be pushed down to all files
                 // consider this case:
                 //   data file 1: insert key = a, value = 1
                 //   data file 2: update key = a, value = 2
@@ -138,7 +144,7 @@ public class ChangelogWithKeyFileStoreTable extends AbstractFileStoreTable {
                 // if we perform filter push down on values, data file 1 will be chosen, but data
                 // file 2 will be ignored, and the final result will be key = a, value = 1 while the
                 // correct result is an empty set
-                // TODO support value filter
+                // so the value filter is only applied to files not overlapping other files
                 List<Predicate> keyFilters =
                         pickTransformFieldMapping(
                                 splitAnd(predicate),
@@ -147,6 +153,7 @@ public class ChangelogWithKeyFileStoreTable extends AbstractFileStoreTable {
                 if (keyFilters.size() > 0) {
                     scan.withKeyFilter(and(keyFilters));
                 }
+                scan.withValueFilter(predicate);
             }
         };
     }
@@ -202,23 +209,32 @@ public class ChangelogWithKeyFileStoreTable extends AbstractFileStoreTable {
                         .sequenceField()
                         .map(field -> new SequenceGenerator(field, schema().logicalRowType()))
                         .orElse(null);
-        return new MemoryTableWrite<KeyValue>(store.newWrite(), recordConverter, store.options()) {
+        boolean aggregate = store.options().mergeEngine() == CoreOptions.MergeEngine.AGGREGATE;
+        // a single writer assigns buckets by itself in dynamic bucket mode
+        HashBucketAssigner bucketAssigner =
+                store.options().bucket() == CoreOptions.DYNAMIC_BUCKET
+                        ? store.newBucketAssigner(1, 0)
+                        : null;
+        return new MemoryTableWrite<KeyValue>(
+                store.newWrite(), recordConverter, bucketAssigner, store.options()) {
 
             private final KeyValue kv = new KeyValue();
 
             @Override
             protected void writeSinkRecord(SinkRecord record, RecordWriter<KeyValue> writer)
                     throws Exception {
+                RowKind rowKind = record.row().getRowKind();
+                if (aggregate && (rowKind == RowKind.UPDATE_BEFORE || rowKind == RowKind.DELETE)) {
+                    throw new UnsupportedOperationException(
+                            "Aggregation merge engine can not retract records, but received "
+                                    + rowKind);
+                }
                 long sequenceNumber =
                         sequenceGenerator == null
                                 ? KeyValue.UNKNOWN_SEQUENCE
                                 : sequenceGenerator.generate(record.row());
                 writer.write(
-                        kv.replace(
-                                record.primaryKey(),
-                                sequenceNumber,
-                                record.row().getRowKind(),
-                                record.row()));
+                        kv.replace(record.primaryKey(), sequenceNumber, rowKind, record.row()));
             }
         };
     }
@@ -19,10 +19,12 @@
 package org.apache.flink.table.store.table;
 
 import org.apache.flink.core.fs.Path;
+import org.apache.flink.table.store.file.operation.OrphanFilesClean;
 import org.apache.flink.table.store.file.schema.TableSchema;
 import org.apache.flink.table.store.file.utils.SnapshotManager;
 import org.apache.flink.table.store.table.sink.TableCommit;
 import org.apache.flink.table.store.table.sink.TableCompact;
+import org.apache.flink.table.store.table.sink.TableRescale;
 import org.apache.flink.table.store.table.sink.TableWrite;
 import org.apache.flink.table.store.table.source.TableRead;
 import org.apache.flink.table.store.table.source.TableScan;
@@ -50,4 +52,8 @@ public interface FileStoreTable extends Serializable {
     TableCommit newCommit(String user);
 
     TableCompact newCompact();
+
+    TableRescale newRescale(String user);
+
+    OrphanFilesClean newOrphanFilesClean();
 }
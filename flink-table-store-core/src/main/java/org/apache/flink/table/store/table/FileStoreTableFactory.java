@@ -24,6 +24,7 @@ import org.apache.flink.table.store.CoreOptions;
 import org.apache.flink.table.store.file.WriteMode;
 import org.apache.flink.table.store.file.schema.SchemaManager;
 import org.apache.flink.table.store.file.schema.TableSchema;
+import org.apache.flink.util.Preconditions;
 
 import static org.apache.flink.table.store.CoreOptions.PATH;
 
@@ -62,6 +63,10 @@ public class FileStoreTableFactory {
         newOptions.set(PATH, tablePath.toString());
         tableSchema = tableSchema.copy(newOptions.toMap());
 
+        if (newOptions.get(CoreOptions.BUCKET) == CoreOptions.DYNAMIC_BUCKET) {
+            validateDynamicBucket(tableSchema, newOptions);
+        }
+
         SchemaManager schemaManager = new SchemaManager(tablePath);
         if (newOptions.get(CoreOptions.WRITE_MODE) == WriteMode.APPEND_ONLY) {
             return new AppendOnlyFileStoreTable(tablePath, schemaManager, tableSchema);
@@ -73,4 +78,14 @@ public class FileStoreTableFactory {
             }
         }
     }
+
+    private static void validateDynamicBucket(TableSchema tableSchema, Configuration options) {
+        Preconditions.checkArgument(
+                options.get(CoreOptions.WRITE_MODE) != WriteMode.APPEND_ONLY
+                        && !tableSchema.primaryKeys().isEmpty(),
+                "Dynamic bucket mode (bucket = -1) is only supported for tables with primary keys.");
+        Preconditions.checkArgument(
+                !options.contains(CoreOptions.BUCKET_KEY),
+                "Bucket key can not be specified in dynamic bucket mode (bucket = -1).");
+    }
 }
@@ -21,9 +21,14 @@ package org.apache.flink.table.store.table.sink;
 import org.apache.flink.annotation.VisibleForTesting;
 import org.apache.flink.table.data.RowData;
 import org.apache.flink.table.data.binary.BinaryRowData;
+import org.apache.flink.table.runtime.util.MemorySegmentPool;
+import org.apache.flink.table.store.CoreOptions;
+import org.apache.flink.table.store.file.compact.CompactExecutor;
+import org.apache.flink.table.store.file.index.HashBucketAssigner;
 import org.apache.flink.table.store.file.operation.FileStoreWrite;
 import org.apache.flink.table.store.file.writer.RecordWriter;
-import org.apache.flink.util.concurrent.ExecutorThreadFactory;
+
+import javax.annotation.Nullable;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -31,7 +36,6 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 /**
  * Base {@link TableWrite} implementation.
@@ -42,20 +46,29 @@ public abstract class AbstractTableWrite<T> implements TableWrite {
 
     private final FileStoreWrite<T> write;
     private final SinkRecordConverter recordConverter;
+    @Nullable private final HashBucketAssigner bucketAssigner;
 
     protected final Map<BinaryRowData, Map<Integer, RecordWriter<T>>> writers;
     private final ExecutorService compactExecutor;
 
     private boolean overwrite = false;
 
-    protected AbstractTableWrite(FileStoreWrite<T> write, SinkRecordConverter recordConverter) {
+    protected AbstractTableWrite(
+            FileStoreWrite<T> write, SinkRecordConverter recordConverter, CoreOptions options) {
+        this(write, recordConverter, null, options);
+    }
+
+    protected AbstractTableWrite(
+            FileStoreWrite<T> write,
+            SinkRecordConverter recordConverter,
+            @Nullable HashBucketAssigner bucketAssigner,
+            CoreOptions options) {
         this.write = write;
         this.recordConverter = recordConverter;
+        this.bucketAssigner = bucketAssigner;
 
         this.writers = new HashMap<>();
-        this.compactExecutor =
-                Executors.newSingleThreadScheduledExecutor(
-                        new ExecutorThreadFactory("compaction-thread"));
+        this.compactExecutor = new CompactExecutor(options.compactionThreads());
     }
 
     @Override
@@ -64,6 +77,12 @@ public abstract class AbstractTableWrite<T> implements TableWrite {
         return this;
     }
 
+    @Override
+    public TableWrite withMemoryPool(MemorySegmentPool memoryPool) {
+        // records are not buffered in memory by default
+        return this;
+    }
+
     @Override
     public SinkRecordConverter recordConverter() {
         return recordConverter;
@@ -71,7 +90,22 @@ public abstract class AbstractTableWrite<T> implements TableWrite {
 
     @Override
     public SinkRecord write(RowData rowData) throws Exception {
-        SinkRecord record = recordConverter.convert(rowData);
+        if (bucketAssigner != null) {
+            int bucket =
+                    bucketAssigner.assign(
+                            recordConverter.partition(rowData),
+                            recordConverter.primaryKeyHash(rowData));
+            return write(rowData, bucket);
+        }
+        return write(recordConverter.convert(rowData));
+    }
+
+    @Override
+    public SinkRecord write(RowData rowData, int bucket) throws Exception {
+        return write(recordConverter.convert(rowData, bucket));
+    }
+
+    private SinkRecord write(SinkRecord record) throws Exception {
         RecordWriter<T> writer = getWriter(record.partition(), record.bucket());
         writeSinkRecord(record, writer);
         return record;
@@ -79,6 +113,11 @@ public abstract class AbstractTableWrite<T> implements TableWrite {
 
     @Override
     public List<FileCommittable> prepareCommit(boolean endOfInput) throws Exception {
+        if (bucketAssigner != null) {
+            // the index must be persisted before the records of new keys are committed
+            bucketAssigner.prepareCommit();
+        }
+
         List<FileCommittable> result = new ArrayList<>();
 
         Iterator<Map.Entry<BinaryRowData, Map<Integer, RecordWriter<T>>>> partIter =
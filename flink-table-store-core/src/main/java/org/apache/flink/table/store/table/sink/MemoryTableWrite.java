@@ -18,32 +18,57 @@
 
 package org.apache.flink.table.store.table.sink;
 
+import org.apache.flink.table.runtime.util.MemorySegmentPool;
 import org.apache.flink.table.store.CoreOptions;
+import org.apache.flink.table.store.file.index.HashBucketAssigner;
 import org.apache.flink.table.store.file.memory.HeapMemorySegmentPool;
 import org.apache.flink.table.store.file.memory.MemoryOwner;
 import org.apache.flink.table.store.file.memory.MemoryPoolFactory;
+import org.apache.flink.table.store.file.memory.OffHeapMemorySegmentPool;
 import org.apache.flink.table.store.file.operation.FileStoreWrite;
 import org.apache.flink.table.store.file.writer.RecordWriter;
 
 import org.apache.flink.shaded.guava30.com.google.common.collect.Iterators;
 
+import javax.annotation.Nullable;
+
 import java.util.Iterator;
 import java.util.Map;
 
+import static org.apache.flink.util.Preconditions.checkState;
+
 /**
  * A {@link TableWrite} which supports using shared memory and preempting memory from other writers.
  */
 public abstract class MemoryTableWrite<T> extends AbstractTableWrite<T> {
 
-    private final MemoryPoolFactory memoryPoolFactory;
+    private MemoryPoolFactory memoryPoolFactory;
 
     protected MemoryTableWrite(
             FileStoreWrite<T> write, SinkRecordConverter recordConverter, CoreOptions options) {
-        super(write, recordConverter);
+        this(write, recordConverter, null, options);
+    }
+
+    protected MemoryTableWrite(
+            FileStoreWrite<T> write,
+            SinkRecordConverter recordConverter,
+            @Nullable HashBucketAssigner bucketAssigner,
+            CoreOptions options) {
+        super(write, recordConverter, bucketAssigner, options);
 
-        HeapMemorySegmentPool memoryPool =
-                new HeapMemorySegmentPool(options.writeBufferSize(), options.pageSize());
+        MemorySegmentPool memoryPool =
+                options.writeBufferOffHeap()
+                        ? new OffHeapMemorySegmentPool(
+                                options.writeBufferSize(), options.pageSize())
+                        : new HeapMemorySegmentPool(options.writeBufferSize(), options.pageSize());
+        this.memoryPoolFactory = new MemoryPoolFactory(memoryPool, this::memoryOwners);
+    }
+
+    @Override
+    public TableWrite withMemoryPool(MemorySegmentPool memoryPool) {
+        checkState(writers.isEmpty(), "Memory pool should be set before any record is written.");
         this.memoryPoolFactory = new MemoryPoolFactory(memoryPool, this::memoryOwners);
+        return this;
     }
 
     private Iterator<MemoryOwner> memoryOwners() {
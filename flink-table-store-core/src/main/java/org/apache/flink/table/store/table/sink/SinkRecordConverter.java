@@ -21,6 +21,7 @@ package org.apache.flink.table.store.table.sink;
 import org.apache.flink.table.data.RowData;
 import org.apache.flink.table.data.binary.BinaryRowData;
 import org.apache.flink.table.runtime.generated.Projection;
+import org.apache.flink.table.store.CoreOptions;
 import org.apache.flink.table.store.codegen.CodeGenUtils;
 import org.apache.flink.table.store.file.schema.TableSchema;
 import org.apache.flink.table.types.logical.RowType;
@@ -31,6 +32,8 @@ import javax.annotation.Nullable;
 import java.util.Arrays;
 import java.util.stream.IntStream;
 
+import static org.apache.flink.util.Preconditions.checkState;
+
 /** Converter for converting {@link RowData} to {@link SinkRecord}. */
 public class SinkRecordConverter {
 
@@ -83,6 +86,20 @@ public class SinkRecordConverter {
         return new SinkRecord(partition, bucket, primaryKey, row);
     }
 
+    /** Converts a row whose bucket has been assigned, in dynamic bucket mode. */
+    public SinkRecord convert(RowData row, int bucket) {
+        return new SinkRecord(partProjection.apply(row), bucket, primaryKey(row), row);
+    }
+
+    public BinaryRowData partition(RowData row) {
+        return partProjection.apply(row);
+    }
+
+    /** Hash code of the primary key, which identifies a key in dynamic bucket mode. */
+    public int primaryKeyHash(RowData row) {
+        return primaryKey(row).hashCode();
+    }
+
     public SinkRecord convertToLogSinkRecord(SinkRecord record) {
         if (logPkProjection == null) {
             return record;
@@ -115,6 +132,9 @@ public class SinkRecordConverter {
     }
 
     private int bucket(RowData row, BinaryRowData bucketKey) {
+        checkState(
+                numBucket != CoreOptions.DYNAMIC_BUCKET,
+                "Buckets must be assigned by a HashBucketAssigner in dynamic bucket mode.");
         int hash = bucketKey.getArity() == 0 ? hashRow(row) : bucketKey.hashCode();
         return Math.abs(hash % numBucket);
     }
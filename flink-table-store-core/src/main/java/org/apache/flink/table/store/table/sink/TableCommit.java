@@ -18,10 +18,12 @@
 
 package org.apache.flink.table.store.table.sink;
 
+import org.apache.flink.table.store.CoreOptions;
 import org.apache.flink.table.store.file.manifest.ManifestCommittable;
 import org.apache.flink.table.store.file.operation.FileStoreCommit;
 import org.apache.flink.table.store.file.operation.FileStoreExpire;
 import org.apache.flink.table.store.file.operation.Lock;
+import org.apache.flink.util.concurrent.ExecutorThreadFactory;
 
 import javax.annotation.Nullable;
 
@@ -29,22 +31,40 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * An abstraction layer above {@link FileStoreCommit} and {@link FileStoreExpire} to provide
  * snapshot commit and expiration.
+ *
+ * <p>Snapshots are expired after commits, at most once per {@link
+ * CoreOptions#SNAPSHOT_EXPIRE_INTERVAL}. If {@link CoreOptions#SNAPSHOT_EXPIRE_ASYNC} is set, the
+ * expiration runs in a background thread and commits do not wait for it.
  */
 public class TableCommit implements AutoCloseable {
 
     private final FileStoreCommit commit;
     private final FileStoreExpire expire;
+    private final boolean expireAsync;
+    private final long expireIntervalMillis;
 
     @Nullable private Map<String, String> overwritePartition = null;
     @Nullable private Lock lock;
+    private boolean mergeCommittables = false;
+
+    private long lastExpireMillis = 0;
+    @Nullable private ExecutorService expireExecutor;
+    @Nullable private Future<?> expireFuture;
 
-    public TableCommit(FileStoreCommit commit, FileStoreExpire expire) {
+    public TableCommit(FileStoreCommit commit, FileStoreExpire expire, CoreOptions options) {
         this.commit = commit;
         this.expire = expire;
+        this.expireAsync = options.snapshotExpireAsync();
+        this.expireIntervalMillis = options.snapshotExpireInterval().toMillis();
     }
 
     public TableCommit withOverwritePartition(@Nullable Map<String, String> overwritePartition) {
@@ -53,6 +73,10 @@ public class TableCommit implements AutoCloseable {
     }
 
     public TableCommit withLock(Lock lock) {
+        if (lock != null && expireAsync) {
+            // the lock is used by both the committing thread and the expiring thread
+            lock = new SynchronizedLock(lock);
+        }
         commit.withLock(lock);
         expire.withLock(lock);
         this.lock = lock;
@@ -64,6 +88,15 @@ public class TableCommit implements AutoCloseable {
         return this;
     }
 
+    /**
+     * Merges the committables given to one {@link #commit} call into one snapshot, instead of
+     * committing a snapshot for each committable. Committables are not merged when overwriting.
+     */
+    public TableCommit withMergeCommittables(boolean mergeCommittables) {
+        this.mergeCommittables = mergeCommittables;
+        return this;
+    }
+
     public List<ManifestCommittable> filterCommitted(List<ManifestCommittable> committables) {
         return commit.filterCommitted(committables);
     }
@@ -81,6 +114,9 @@ public class TableCommit implements AutoCloseable {
 
     public void commit(List<ManifestCommittable> committables) {
         if (overwritePartition == null) {
+            if (mergeCommittables && committables.size() > 1) {
+                committables = Collections.singletonList(ManifestCommittable.merge(committables));
+            }
             for (ManifestCommittable committable : committables) {
                 commit.commit(committable, new HashMap<>());
             }
@@ -89,13 +125,86 @@ public class TableCommit implements AutoCloseable {
                 commit.overwrite(overwritePartition, committable, new HashMap<>());
             }
         }
-        expire.expire();
+        expire();
+    }
+
+    private void expire() {
+        long currentMillis = System.currentTimeMillis();
+        if (currentMillis - lastExpireMillis < expireIntervalMillis) {
+            return;
+        }
+
+        if (!expireAsync) {
+            expire.expire();
+            lastExpireMillis = currentMillis;
+            return;
+        }
+
+        if (expireFuture != null) {
+            if (!expireFuture.isDone()) {
+                // the previous expiration is still running, check again after the next commit
+                return;
+            }
+            waitForExpiration();
+        }
+        if (expireExecutor == null) {
+            expireExecutor =
+                    Executors.newSingleThreadExecutor(
+                            new ExecutorThreadFactory("snapshot-expire-thread"));
+        }
+        expireFuture = expireExecutor.submit(expire::expire);
+        lastExpireMillis = currentMillis;
+    }
+
+    private void waitForExpiration() {
+        try {
+            expireFuture.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Failed to expire snapshots.", e.getCause());
+        } finally {
+            expireFuture = null;
+        }
     }
 
     @Override
     public void close() throws Exception {
+        if (expireExecutor != null) {
+            // finish the running expiration before releasing the lock
+            try {
+                if (expireFuture != null) {
+                    waitForExpiration();
+                }
+            } finally {
+                expireExecutor.shutdownNow();
+            }
+        }
+        expire.close();
+        commit.close();
         if (lock != null) {
             lock.close();
         }
     }
+
+    /** A {@link Lock} which allows only one thread at a time to run with the wrapped lock. */
+    private static class SynchronizedLock implements Lock {
+
+        private final Lock lock;
+
+        private SynchronizedLock(Lock lock) {
+            this.lock = lock;
+        }
+
+        @Override
+        public synchronized <T> T runWithLock(Callable<T> callable) throws Exception {
+            return lock.runWithLock(callable);
+        }
+
+        @Override
+        public void close() throws Exception {
+            lock.close();
+        }
+    }
 }
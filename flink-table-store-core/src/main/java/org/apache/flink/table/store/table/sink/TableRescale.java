@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.table.sink;
+
+import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.data.binary.BinaryRowData;
+import org.apache.flink.table.store.CoreOptions;
+import org.apache.flink.table.store.file.manifest.ManifestEntry;
+import org.apache.flink.table.store.file.operation.FileStoreCommit;
+import org.apache.flink.table.store.file.operation.FileStoreScan;
+import org.apache.flink.table.store.file.operation.Lock;
+import org.apache.flink.table.store.file.predicate.Predicate;
+import org.apache.flink.table.store.file.predicate.PredicateConverter;
+import org.apache.flink.table.store.file.utils.FileStorePathFactory;
+import org.apache.flink.table.store.file.utils.RecordReaderIterator;
+import org.apache.flink.table.store.file.utils.RowDataPartitionComputer;
+import org.apache.flink.table.store.table.FileStoreTable;
+import org.apache.flink.table.store.table.source.Split;
+import org.apache.flink.table.store.table.source.TableRead;
+import org.apache.flink.table.store.table.source.TableScan;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * An abstraction layer above {@link FileStoreCommit#overwrite} to redistribute the data of
+ * partitions written with an old bucket number into the current bucket number of the table.
+ *
+ * <p>Each call of {@link #rescale} only rewrites the given partition, so other partitions keep
+ * their bucket number and stay readable and writable in the meantime. Readers handle partitions
+ * with different bucket numbers, while writers can only write into partitions whose bucket number
+ * matches the current one.
+ */
+public class TableRescale {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TableRescale.class);
+
+    private final FileStoreTable table;
+    private final FileStoreScan scan;
+    private final int numBucket;
+    private final RowDataPartitionComputer partitionComputer;
+    private final String commitUser;
+
+    @Nullable private Lock lock;
+
+    public TableRescale(
+            FileStoreTable table, FileStoreScan scan, CoreOptions options, String commitUser) {
+        if (options.bucket() == CoreOptions.DYNAMIC_BUCKET) {
+            throw new UnsupportedOperationException(
+                    "Rescale is not supported in dynamic bucket mode, "
+                            + "because buckets are assigned by the hash index instead of the bucket number.");
+        }
+        this.table = table;
+        this.scan = scan;
+        this.numBucket = options.bucket();
+        this.partitionComputer =
+                FileStorePathFactory.getPartitionComputer(
+                        table.schema().logicalPartitionType(), options.partitionDefaultName());
+        this.commitUser = commitUser;
+    }
+
+    public TableRescale withLock(Lock lock) {
+        this.lock = lock;
+        return this;
+    }
+
+    /**
+     * Returns the partitions of the latest snapshot which contain data files written with a bucket
+     * number other than the current one.
+     */
+    public List<Map<String, String>> outdatedPartitions() {
+        Set<BinaryRowData> partitions = new LinkedHashSet<>();
+        for (ManifestEntry entry : scan.plan().files()) {
+            if (entry.totalBuckets() != numBucket) {
+                partitions.add(entry.partition());
+            }
+        }
+
+        List<Map<String, String>> result = new ArrayList<>();
+        for (BinaryRowData partition : partitions) {
+            result.add(partitionComputer.generatePartValues(partition));
+        }
+        return result;
+    }
+
+    /**
+     * Reads all records of the given partition from the latest snapshot and overwrites the
+     * partition with them, hashed by the current bucket number.
+     *
+     * <p>Make sure that no other job writes into this partition during rescaling, otherwise records
+     * written after the latest snapshot is read will be overwritten.
+     */
+    public void rescale(Map<String, String> partitionSpec) throws Exception {
+        Predicate partitionFilter =
+                PredicateConverter.fromMap(partitionSpec, table.schema().logicalRowType());
+        TableScan tableScan = table.newScan();
+        if (partitionFilter != null) {
+            tableScan.withFilter(partitionFilter);
+        }
+        TableScan.Plan plan = tableScan.plan();
+        if (plan.snapshotId == null || plan.splits.isEmpty()) {
+            LOG.info("Partition {} contains no data, no need to rescale.", partitionSpec);
+            return;
+        }
+
+        LOG.info(
+                "Rescale partition {} of snapshot {} to {} buckets.",
+                partitionSpec,
+                plan.snapshotId,
+                numBucket);
+        TableRead read = table.newRead();
+        TableWrite write = table.newWrite().withOverwrite(true);
+        try {
+            for (Split split : plan.splits) {
+                try (RecordReaderIterator<RowData> iterator =
+                        new RecordReaderIterator<>(read.createReader(split))) {
+                    while (iterator.hasNext()) {
+                        write.write(iterator.next());
+                    }
+                }
+            }
+
+            TableCommit commit = table.newCommit(commitUser).withOverwritePartition(partitionSpec);
+            if (lock != null) {
+                commit.withLock(lock);
+            }
+            try {
+                commit.commit(UUID.randomUUID().toString(), write.prepareCommit(true));
+            } finally {
+                commit.close();
+            }
+        } finally {
+            write.close();
+        }
+    }
+}
@@ -19,6 +19,7 @@
 package org.apache.flink.table.store.table.sink;
 
 import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.runtime.util.MemorySegmentPool;
 
 import java.util.List;
 
@@ -30,10 +31,22 @@ public interface TableWrite {
 
     TableWrite withOverwrite(boolean overwrite);
 
+    /**
+     * Use the given {@link MemorySegmentPool} for the write buffers instead of the pool created
+     * from table options. Must be called before writing any record.
+     */
+    TableWrite withMemoryPool(MemorySegmentPool memoryPool);
+
     SinkRecordConverter recordConverter();
 
     SinkRecord write(RowData rowData) throws Exception;
 
+    /**
+     * Writes a record into the given bucket. Used in dynamic bucket mode when buckets are assigned
+     * by parallel {@link org.apache.flink.table.store.file.index.HashBucketAssigner}s.
+     */
+    SinkRecord write(RowData rowData, int bucket) throws Exception;
+
     List<FileCommittable> prepareCommit(boolean endOfInput) throws Exception;
 
     void close() throws Exception;
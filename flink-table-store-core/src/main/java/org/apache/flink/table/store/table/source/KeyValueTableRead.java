@@ -21,6 +21,7 @@ package org.apache.flink.table.store.table.source;
 import org.apache.flink.table.data.RowData;
 import org.apache.flink.table.store.file.KeyValue;
 import org.apache.flink.table.store.file.operation.KeyValueFileStoreRead;
+import org.apache.flink.table.store.file.utils.PrefetchMetrics;
 import org.apache.flink.table.store.file.utils.RecordReader;
 
 import javax.annotation.Nullable;
@@ -43,6 +44,11 @@ public abstract class KeyValueTableRead implements TableRead {
         return new RowDataRecordReader(read.createReader(split));
     }
 
+    @Override
+    public PrefetchMetrics prefetchMetrics() {
+        return read.prefetchMetrics();
+    }
+
     protected abstract RecordReader.RecordIterator<RowData> rowDataRecordIteratorFromKv(
             RecordReader.RecordIterator<KeyValue> kvRecordIterator);
 
@@ -0,0 +1,257 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.table.source;
+
+import org.apache.flink.table.data.GenericRowData;
+import org.apache.flink.table.store.file.data.DataFileMeta;
+import org.apache.flink.table.store.file.predicate.CompareUtils;
+import org.apache.flink.table.store.file.schema.SchemaManager;
+import org.apache.flink.table.store.file.stats.FieldStatsArraySerializer;
+import org.apache.flink.table.store.format.FieldStats;
+import org.apache.flink.table.store.table.AppendOnlyFileStoreTable;
+import org.apache.flink.table.store.table.FileStoreTable;
+import org.apache.flink.table.types.logical.BigIntType;
+import org.apache.flink.table.types.logical.LogicalType;
+import org.apache.flink.table.types.logical.RowType;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Computes {@code COUNT(*)}, {@code COUNT(col)}, {@code MIN(col)} and {@code MAX(col)} of a {@link
+ * FileStoreTable} from the statistics of its data files, without opening them.
+ *
+ * <p>Only {@link AppendOnlyFileStoreTable}s are supported. Files of tables with primary keys may
+ * hold retractions or older versions of their keys, even if they are all in the highest level, so
+ * their statistics do not describe the rows of the table.
+ */
+public class StatsAggregator {
+
+    private final FileStoreTable table;
+    private final RowType rowType;
+
+    public StatsAggregator(FileStoreTable table) {
+        this.table = table;
+        this.rowType = table.schema().logicalRowType();
+    }
+
+    /**
+     * Returns the results of the given aggregate calls in a row, whose field types are described by
+     * {@link #resultType}. Returns empty if the table is not append-only, or if the statistics of
+     * some data file are not exact for some call.
+     */
+    public Optional<GenericRowData> aggregate(List<AggregateCall> calls) {
+        if (!(table instanceof AppendOnlyFileStoreTable)) {
+            return Optional.empty();
+        }
+        for (AggregateCall call : calls) {
+            if (!call.isSupported(rowType)) {
+                return Optional.empty();
+            }
+        }
+
+        Map<Long, Boolean> compatibleSchemas = new HashMap<>();
+        FieldStatsArraySerializer statsSerializer = new FieldStatsArraySerializer(rowType);
+        Object[] results = new Object[calls.size()];
+        for (int i = 0; i < calls.size(); i++) {
+            if (calls.get(i).kind != AggregateKind.MIN && calls.get(i).kind != AggregateKind.MAX) {
+                results[i] = 0L;
+            }
+        }
+
+        for (Split split : table.newScan().plan().splits) {
+            for (DataFileMeta file : split.files()) {
+                FieldStats[] stats = null;
+                for (int i = 0; i < calls.size(); i++) {
+                    AggregateCall call = calls.get(i);
+                    if (call.kind == AggregateKind.COUNT_STAR) {
+                        results[i] = (long) results[i] + file.rowCount();
+                        continue;
+                    }
+
+                    if (stats == null) {
+                        if (!compatibleSchemas.computeIfAbsent(
+                                file.schemaId(), this::isCompatibleSchema)) {
+                            return Optional.empty();
+                        }
+                        stats = file.valueStats().fields(statsSerializer, file.rowCount());
+                    }
+                    FieldStats fieldStats = stats[call.field];
+                    Long nullCount = fieldStats.nullCount();
+                    if (call.kind == AggregateKind.COUNT) {
+                        if (nullCount == null || nullCount < 0) {
+                            // the file format does not record null counts, or reports them as
+                            // negative if they are unknown
+                            return Optional.empty();
+                        }
+                        results[i] = (long) results[i] + file.rowCount() - nullCount;
+                        continue;
+                    }
+
+                    if (nullCount != null && nullCount == file.rowCount()) {
+                        // all values are null
+                        continue;
+                    }
+                    Object value =
+                            call.kind == AggregateKind.MIN
+                                    ? fieldStats.minValue()
+                                    : fieldStats.maxValue();
+                    if (value == null) {
+                        // stats are not collected or are truncated by the file format
+                        return Optional.empty();
+                    }
+                    LogicalType type = rowType.getTypeAt(call.field);
+                    if (results[i] == null) {
+                        results[i] = value;
+                    } else {
+                        int compare = CompareUtils.compareLiteral(type, value, results[i]);
+                        if (call.kind == AggregateKind.MIN ? compare < 0 : compare > 0) {
+                            results[i] = value;
+                        }
+                    }
+                }
+            }
+        }
+        return Optional.of(GenericRowData.of(results));
+    }
+
+    /**
+     * Stats of files written with another schema can be read with the current row type if no column
+     * type is changed since then. Columns added later are read as all nulls.
+     */
+    private boolean isCompatibleSchema(long schemaId) {
+        if (schemaId == table.schema().id()) {
+            return true;
+        }
+        RowType fileRowType = new SchemaManager(table.location()).schema(schemaId).logicalRowType();
+        if (fileRowType.getFieldCount() > rowType.getFieldCount()) {
+            return false;
+        }
+        for (int i = 0; i < fileRowType.getFieldCount(); i++) {
+            if (!fileRowType.getTypeAt(i).copy(true).equals(rowType.getTypeAt(i).copy(true))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Returns the row type of the results of the given aggregate calls. */
+    public RowType resultType(List<AggregateCall> calls) {
+        LogicalType[] types = new LogicalType[calls.size()];
+        for (int i = 0; i < types.length; i++) {
+            AggregateCall call = calls.get(i);
+            types[i] =
+                    call.kind == AggregateKind.MIN || call.kind == AggregateKind.MAX
+                            ? rowType.getTypeAt(call.field).copy(true)
+                            : new BigIntType(false);
+        }
+        return RowType.of(types);
+    }
+
+    /** Kinds of aggregate functions which can be computed from statistics. */
+    public enum AggregateKind {
+        COUNT_STAR,
+        COUNT,
+        MIN,
+        MAX
+    }
+
+    /** An aggregate function call on a field of the table. */
+    public static class AggregateCall {
+
+        private final AggregateKind kind;
+        private final int field;
+
+        private AggregateCall(AggregateKind kind, int field) {
+            this.kind = kind;
+            this.field = field;
+        }
+
+        public static AggregateCall countStar() {
+            return new AggregateCall(AggregateKind.COUNT_STAR, -1);
+        }
+
+        public static AggregateCall count(int field) {
+            return new AggregateCall(AggregateKind.COUNT, field);
+        }
+
+        public static AggregateCall min(int field) {
+            return new AggregateCall(AggregateKind.MIN, field);
+        }
+
+        public static AggregateCall max(int field) {
+            return new AggregateCall(AggregateKind.MAX, field);
+        }
+
+        public AggregateKind kind() {
+            return kind;
+        }
+
+        public int field() {
+            return field;
+        }
+
+        private boolean isSupported(RowType rowType) {
+            if (kind != AggregateKind.MIN && kind != AggregateKind.MAX) {
+                return true;
+            }
+
+            // floating point types are excluded because of NaN, and timestamps because file
+            // formats may keep their stats in a lower precision
+            switch (rowType.getTypeAt(field).getTypeRoot()) {
+                case BOOLEAN:
+                case TINYINT:
+                case SMALLINT:
+                case INTEGER:
+                case BIGINT:
+                case DECIMAL:
+                case DATE:
+                case CHAR:
+                case VARCHAR:
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof AggregateCall)) {
+                return false;
+            }
+            AggregateCall that = (AggregateCall) o;
+            return kind == that.kind && field == that.field;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(kind, field);
+        }
+
+        @Override
+        public String toString() {
+            return kind == AggregateKind.COUNT_STAR
+                    ? "COUNT(*)"
+                    : String.format("%s(%d)", kind, field);
+        }
+    }
+}
@@ -21,6 +21,7 @@ package org.apache.flink.table.store.table.source;
 import org.apache.flink.table.data.RowData;
 import org.apache.flink.table.store.file.operation.FileStoreRead;
 import org.apache.flink.table.store.file.predicate.Predicate;
+import org.apache.flink.table.store.file.utils.PrefetchMetrics;
 import org.apache.flink.table.store.file.utils.RecordReader;
 
 import java.io.IOException;
@@ -40,4 +41,10 @@ public interface TableRead {
     TableRead withProjection(int[][] projection);
 
     RecordReader<RowData> createReader(Split split) throws IOException;
+
+    /**
+     * Metrics of prefetching readers, see {@link
+     * org.apache.flink.table.store.CoreOptions#READ_PREFETCH}.
+     */
+    PrefetchMetrics prefetchMetrics();
 }
@@ -44,6 +44,8 @@ public abstract class TableScan {
     private final FileStorePathFactory pathFactory;
 
     private boolean isIncremental = false;
+    private boolean hasNonPartitionFilter = false;
+    @Nullable private Long limit = null;
 
     protected TableScan(
             FileStoreScan scan, TableSchema tableSchema, FileStorePathFactory pathFactory) {
@@ -86,11 +88,22 @@ public abstract class TableScan {
             scan.withPartitionFilter(PredicateBuilder.and(partitionFilters));
         }
         if (nonPartitionFilters.size() > 0) {
+            hasNonPartitionFilter = true;
             withNonPartitionFilter(PredicateBuilder.and(nonPartitionFilters));
         }
         return this;
     }
 
+    /**
+     * Stops planning splits once the planned splits contain at least {@code limit} records. The
+     * limit is only applied to a full scan without non-partition filters, and only if {@link
+     * #supportsLimitPushDown()}.
+     */
+    public TableScan withLimit(long limit) {
+        this.limit = limit;
+        return this;
+    }
+
     public TableScan withIncremental(boolean isIncremental) {
         this.isIncremental = isIncremental;
         scan.withIncremental(isIncremental);
@@ -99,7 +112,26 @@ public abstract class TableScan {
 
     public Plan plan() {
         FileStoreScan.Plan plan = scan.plan();
-        return new Plan(plan.snapshotId(), generateSplits(plan.groupByPartFiles()));
+        List<Split> splits = generateSplits(plan.groupByPartFiles());
+        if (limit != null && !isIncremental && !hasNonPartitionFilter && supportsLimitPushDown()) {
+            splits = limitSplits(splits, limit);
+        }
+        return new Plan(plan.snapshotId(), splits);
+    }
+
+    private static List<Split> limitSplits(List<Split> splits, long limit) {
+        List<Split> limited = new ArrayList<>();
+        long rowCount = 0;
+        for (Split split : splits) {
+            if (rowCount >= limit) {
+                break;
+            }
+            limited.add(split);
+            for (DataFileMeta file : split.files()) {
+                rowCount += file.rowCount();
+            }
+        }
+        return limited;
     }
 
     private List<Split> generateSplits(
@@ -134,6 +166,15 @@ public abstract class TableScan {
 
     protected abstract SplitGenerator splitGenerator(FileStorePathFactory pathFactory);
 
+    /**
+     * Whether all records in the data files are read out as they are, so that their row counts can
+     * be used to plan only the splits needed by a limit. Records of tables with primary keys are
+     * merged when reading, so their row counts are only upper bounds.
+     */
+    protected boolean supportsLimitPushDown() {
+        return false;
+    }
+
     protected abstract void withNonPartitionFilter(Predicate predicate);
 
     /** Scanning plan containing snapshot ID and input splits. */
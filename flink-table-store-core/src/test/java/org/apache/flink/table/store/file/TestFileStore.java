@@ -135,10 +135,21 @@ public class TestFileStore extends KeyValueFileStore {
 
     public FileStoreExpireImpl newExpire(
             int numRetainedMin, int numRetainedMax, long millisRetained) {
+        return newExpire(numRetainedMin, numRetainedMax, millisRetained, 1, Integer.MAX_VALUE);
+    }
+
+    public FileStoreExpireImpl newExpire(
+            int numRetainedMin,
+            int numRetainedMax,
+            long millisRetained,
+            int deleteThreads,
+            int batchSize) {
         return new FileStoreExpireImpl(
                 numRetainedMin,
                 numRetainedMax,
                 millisRetained,
+                deleteThreads,
+                batchSize,
                 pathFactory(),
                 snapshotManager(),
                 manifestFileFactory(),
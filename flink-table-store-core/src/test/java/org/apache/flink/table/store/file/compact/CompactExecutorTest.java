@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.file.compact;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Test for {@link CompactExecutor}. */
+public class CompactExecutorTest {
+
+    @Test
+    public void testPriority() throws Exception {
+        CompactExecutor executor = new CompactExecutor(1);
+        try {
+            CountDownLatch latch = new CountDownLatch(1);
+            // occupy the only thread, so that following tasks are queued
+            Future<?> blocker =
+                    executor.submit(
+                            () -> {
+                                latch.await();
+                                return null;
+                            });
+
+            List<Integer> order = new ArrayList<>();
+            List<Future<?>> futures = new ArrayList<>();
+            int[] priorities = {1, 5, 3, 5, 0};
+            for (int i = 0; i < priorities.length; i++) {
+                int id = i;
+                futures.add(
+                        executor.submit(
+                                CompactExecutor.prioritized(
+                                        () -> {
+                                            order.add(id);
+                                            return null;
+                                        },
+                                        priorities[i])));
+            }
+            latch.countDown();
+            blocker.get();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+
+            // higher priority first, same priority in submission order
+            assertThat(order).containsExactly(1, 3, 2, 0, 4);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testExecuteRunnable() throws Exception {
+        CompactExecutor executor = new CompactExecutor(2);
+        try {
+            CountDownLatch latch = new CountDownLatch(2);
+            executor.execute(latch::countDown);
+            executor.execute(latch::countDown);
+            latch.await();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
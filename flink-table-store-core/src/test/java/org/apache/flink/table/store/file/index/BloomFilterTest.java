@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.file.index;
+
+import org.apache.flink.core.fs.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link BloomFilter}. */
+public class BloomFilterTest {
+
+    @TempDir java.nio.file.Path tempDir;
+
+    @Test
+    public void testFalsePositiveRate() {
+        Random random = new Random();
+        Set<Integer> added = new HashSet<>();
+        BloomFilter bloomFilter = BloomFilter.create(10000, 0.01);
+        while (added.size() < 10000) {
+            int hash = random.nextInt();
+            added.add(hash);
+            bloomFilter.addHash(hash);
+        }
+
+        for (int hash : added) {
+            assertThat(bloomFilter.testHash(hash)).isTrue();
+        }
+
+        int tested = 0;
+        int falsePositives = 0;
+        while (tested < 100000) {
+            int hash = random.nextInt();
+            if (!added.contains(hash)) {
+                tested++;
+                if (bloomFilter.testHash(hash)) {
+                    falsePositives++;
+                }
+            }
+        }
+        assertThat(falsePositives).isLessThan(2000);
+    }
+
+    @Test
+    public void testEmpty() {
+        BloomFilter bloomFilter = BloomFilter.create(0, 0.01);
+        assertThat(bloomFilter.testHash(0)).isFalse();
+        assertThat(bloomFilter.testHash(42)).isFalse();
+    }
+
+    @Test
+    public void testFold() {
+        Random random = new Random();
+        Set<Integer> added = new HashSet<>();
+        BloomFilter bloomFilter = BloomFilter.create(1000000, 0.01);
+        while (added.size() < 1000) {
+            int hash = random.nextInt();
+            added.add(hash);
+            bloomFilter.addHash(hash);
+        }
+
+        BloomFilter folded = bloomFilter.fold(1000, 0.01);
+        assertThat(folded.sizeInBytes()).isEqualTo(BloomFilter.sizeInBytes(1000, 0.01));
+        assertThat(folded.sizeInBytes()).isLessThan(bloomFilter.sizeInBytes());
+        for (int hash : added) {
+            assertThat(folded.testHash(hash)).isTrue();
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10000; i++) {
+            int hash = random.nextInt();
+            if (!added.contains(hash) && folded.testHash(hash)) {
+                falsePositives++;
+            }
+        }
+        assertThat(falsePositives).isLessThan(200);
+
+        // filters are never folded to a larger size
+        assertThat(folded.fold(1000000, 0.01)).isSameAs(folded);
+    }
+
+    @Test
+    public void testCache() throws IOException {
+        BloomFilter bloomFilter = BloomFilter.create(100, 0.01);
+        bloomFilter.addHash(42);
+        Path path = new Path(tempDir.toString(), "bloom");
+        bloomFilter.write(path);
+
+        BloomFilterCache cache = new BloomFilterCache(1024 * 1024);
+        BloomFilter read = cache.get(path);
+        assertThat(read.testHash(42)).isTrue();
+        assertThat(cache.get(path)).isSameAs(read);
+        assertThat(cache.stats().missCount()).isEqualTo(1);
+        assertThat(cache.stats().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testWriteAndRead() throws IOException {
+        BloomFilter bloomFilter = BloomFilter.create(100, 0.05);
+        for (int i = 0; i < 100; i++) {
+            bloomFilter.addHash(i * 31);
+        }
+        Path path = new Path(tempDir.toString(), "bloom");
+        bloomFilter.write(path);
+
+        BloomFilter read = BloomFilter.read(path);
+        for (int i = 0; i < 1000; i++) {
+            assertThat(read.testHash(i)).isEqualTo(bloomFilter.testHash(i));
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.file.index;
+
+import org.apache.flink.core.fs.Path;
+import org.apache.flink.table.data.GenericRowData;
+import org.apache.flink.table.data.binary.BinaryRowData;
+import org.apache.flink.table.runtime.typeutils.RowDataSerializer;
+import org.apache.flink.table.store.CoreOptions;
+import org.apache.flink.table.store.file.utils.FileStorePathFactory;
+import org.apache.flink.table.types.logical.IntType;
+import org.apache.flink.table.types.logical.RowType;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link HashBucketAssigner}. */
+public class HashBucketAssignerTest {
+
+    private static final RowType PARTITION_TYPE = RowType.of(new IntType());
+
+    @TempDir java.nio.file.Path tempDir;
+
+    private HashIndexFile indexFile;
+
+    @BeforeEach
+    public void before() {
+        indexFile =
+                new HashIndexFile(
+                        new FileStorePathFactory(
+                                new Path(tempDir.toString()),
+                                PARTITION_TYPE,
+                                "default",
+                                CoreOptions.FILE_FORMAT.defaultValue()));
+    }
+
+    @Test
+    public void testAssign() throws IOException {
+        HashBucketAssigner assigner = new HashBucketAssigner(indexFile, 1, 0, 3);
+        for (int hash = 0; hash < 8; hash++) {
+            assertThat(assigner.assign(partition(1), hash)).isEqualTo(hash / 3);
+        }
+        // existing keys keep their buckets
+        assertThat(assigner.assign(partition(1), 4)).isEqualTo(1);
+        // buckets of different partitions are independent
+        assertThat(assigner.assign(partition(2), 100)).isEqualTo(0);
+    }
+
+    @Test
+    public void testLoadPersistedIndex() throws IOException {
+        HashBucketAssigner assigner = new HashBucketAssigner(indexFile, 1, 0, 3);
+        for (int hash = 0; hash < 5; hash++) {
+            assigner.assign(partition(1), hash);
+        }
+        assigner.prepareCommit();
+
+        assigner = new HashBucketAssigner(indexFile, 1, 0, 3);
+        assertThat(assigner.assign(partition(1), 1)).isEqualTo(0);
+        assertThat(assigner.assign(partition(1), 3)).isEqualTo(1);
+        // bucket 1 is not full yet
+        assertThat(assigner.assign(partition(1), 10)).isEqualTo(1);
+        assertThat(assigner.assign(partition(1), 11)).isEqualTo(2);
+    }
+
+    @Test
+    public void testParallelAssigners() throws IOException {
+        HashBucketAssigner assigner0 = new HashBucketAssigner(indexFile, 2, 0, 2);
+        HashBucketAssigner assigner1 = new HashBucketAssigner(indexFile, 2, 1, 2);
+        for (int hash = 0; hash < 20; hash++) {
+            int bucket =
+                    HashBucketAssigner.computeAssigner(hash, 2) == 0
+                            ? assigner0.assign(partition(1), hash)
+                            : assigner1.assign(partition(1), hash);
+            assertThat(bucket % 2).isEqualTo(HashBucketAssigner.computeAssigner(hash, 2));
+        }
+        assigner0.prepareCommit();
+        assigner1.prepareCommit();
+
+        // after rescaling, keys keep their buckets and new buckets do not collide
+        HashBucketAssigner assigner = new HashBucketAssigner(indexFile, 1, 0, 2);
+        assertThat(assigner.assign(partition(1), 0)).isEqualTo(0);
+        assertThat(assigner.assign(partition(1), 1)).isEqualTo(1);
+        assertThat(assigner.assign(partition(1), 19)).isEqualTo(9);
+        assertThat(assigner.assign(partition(1), 20)).isEqualTo(10);
+    }
+
+    @Test
+    public void testMergeIndexFiles() throws IOException {
+        HashBucketAssigner assigner = new HashBucketAssigner(indexFile, 1, 0, 1000);
+        for (int i = 0; i < 20; i++) {
+            assigner.assign(partition(1), i);
+            assigner.prepareCommit();
+        }
+
+        Map<Integer, List<String>> files = indexFile.listFiles(partition(1));
+        assertThat(files).containsOnlyKeys(0);
+        assertThat(files.get(0).size()).isLessThanOrEqualTo(8);
+
+        assigner = new HashBucketAssigner(indexFile, 1, 0, 20);
+        assertThat(assigner.assign(partition(1), 19)).isEqualTo(0);
+        // bucket 0 is full
+        assertThat(assigner.assign(partition(1), 20)).isEqualTo(1);
+    }
+
+    private BinaryRowData partition(int pt) {
+        return new RowDataSerializer(PARTITION_TYPE).toBinaryRow(GenericRowData.of(pt)).copy();
+    }
+}
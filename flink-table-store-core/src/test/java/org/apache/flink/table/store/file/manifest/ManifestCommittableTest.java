@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.file.manifest;
+
+import org.apache.flink.table.store.file.data.DataFileMeta;
+import org.apache.flink.table.store.file.mergetree.Increment;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.apache.flink.table.store.file.manifest.ManifestCommittableSerializerTest.newFile;
+import static org.apache.flink.table.store.file.mergetree.compact.MergeTreeCompactManagerTest.row;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link ManifestCommittable}. */
+public class ManifestCommittableTest {
+
+    @Test
+    public void testMerge() {
+        DataFileMeta file1 = newFile(1, 0);
+        DataFileMeta file2 = newFile(2, 0);
+        DataFileMeta file3 = newFile(3, 0);
+        DataFileMeta compacted1 = newFile(4, 1);
+        DataFileMeta compacted2 = newFile(5, 2);
+
+        ManifestCommittable committable1 = new ManifestCommittable("1");
+        committable1.addFileCommittable(
+                row(0),
+                0,
+                new Increment(
+                        Arrays.asList(file1, file2),
+                        Collections.emptyList(),
+                        Collections.emptyList()));
+        committable1.addLogOffset(0, 10);
+
+        ManifestCommittable committable2 = new ManifestCommittable("2");
+        committable2.addFileCommittable(
+                row(0),
+                0,
+                new Increment(
+                        Collections.singletonList(file3),
+                        Arrays.asList(file1, file2),
+                        Collections.singletonList(compacted1)));
+        committable2.addLogOffset(0, 20);
+
+        ManifestCommittable committable3 = new ManifestCommittable("3");
+        committable3.addFileCommittable(
+                row(0),
+                0,
+                new Increment(
+                        Collections.emptyList(),
+                        Arrays.asList(compacted1, file3),
+                        Collections.singletonList(compacted2)));
+        committable3.addLogOffset(1, 30);
+
+        ManifestCommittable merged =
+                ManifestCommittable.merge(Arrays.asList(committable1, committable2, committable3));
+        assertThat(merged.identifier()).isEqualTo("3");
+        assertThat(merged.logOffsets()).containsEntry(0, 20L).containsEntry(1, 30L);
+        // new files are kept, even if they are compacted later
+        assertThat(merged.newFiles().get(row(0)).get(0)).containsExactly(file1, file2, file3);
+        // compacted1 is both produced and compacted, so it is left out
+        assertThat(merged.compactBefore().get(row(0)).get(0)).containsExactly(file1, file2, file3);
+        assertThat(merged.compactAfter().get(row(0)).get(0)).containsExactly(compacted2);
+        // no snapshot references compacted1, it is deleted after committing
+        assertThat(merged.discardedFiles().get(row(0)).get(0)).containsExactly(compacted1);
+    }
+
+    @Test
+    public void testMergeKeepsUpgradedFiles() {
+        DataFileMeta file = newFile(1, 0);
+        DataFileMeta upgraded = newFile(1, 1);
+        DataFileMeta compacted = newFile(2, 2);
+
+        ManifestCommittable committable1 = new ManifestCommittable("1");
+        committable1.addFileCommittable(
+                row(0),
+                0,
+                new Increment(
+                        Collections.singletonList(file),
+                        Collections.emptyList(),
+                        Collections.emptyList()));
+
+        ManifestCommittable committable2 = new ManifestCommittable("2");
+        committable2.addFileCommittable(
+                row(0),
+                0,
+                new Increment(
+                        Collections.emptyList(),
+                        Collections.singletonList(file),
+                        Collections.singletonList(upgraded)));
+
+        ManifestCommittable committable3 = new ManifestCommittable("3");
+        committable3.addFileCommittable(
+                row(0),
+                0,
+                new Increment(
+                        Collections.emptyList(),
+                        Collections.singletonList(upgraded),
+                        Collections.singletonList(compacted)));
+
+        ManifestCommittable merged =
+                ManifestCommittable.merge(Arrays.asList(committable1, committable2, committable3));
+        assertThat(merged.compactBefore().get(row(0)).get(0)).containsExactly(file);
+        assertThat(merged.compactAfter().get(row(0)).get(0)).containsExactly(compacted);
+        // the upgraded file is the new file, which is still referenced by the append snapshot
+        assertThat(merged.discardedFiles().get(row(0)).get(0)).isEmpty();
+    }
+}
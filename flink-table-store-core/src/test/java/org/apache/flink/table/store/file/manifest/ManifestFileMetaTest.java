@@ -35,6 +35,7 @@ import org.apache.flink.table.types.logical.RowType;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -94,6 +95,48 @@ public class ManifestFileMetaTest {
         }
     }
 
+    @Test
+    public void testTieredMerge() {
+        // suggested size 1000 and merge count 3, so manifests of size 100 are in the same tier
+        ManifestFileMeta full =
+                makeManifest(
+                        IntStream.range(0, 10)
+                                .mapToObj(i -> makeEntry(true, "full-" + i))
+                                .toArray(ManifestEntry[]::new));
+        List<ManifestFileMeta> input = new ArrayList<>();
+        input.add(full);
+        input.add(makeManifest(makeEntry(true, "A")));
+        input.add(makeManifest(makeEntry(true, "B")));
+
+        // not enough manifests of the same tier
+        assertThat(ManifestFileMeta.tieredMerge(input, manifestFile, 1000, 3)).isEqualTo(input);
+
+        input.add(makeManifest(makeEntry(false, "A")));
+        List<ManifestFileMeta> actual = ManifestFileMeta.tieredMerge(input, manifestFile, 1000, 3);
+        assertThat(actual).hasSize(2);
+        // manifests reaching the suggested size are kept without modification
+        assertThat(actual.get(0)).isEqualTo(full);
+        assertSameContent(makeManifest(makeEntry(true, "B")), actual.get(1), manifestFile);
+    }
+
+    @Test
+    public void testFullMerge() {
+        List<ManifestFileMeta> input = new ArrayList<>();
+        createData(3, input, null);
+
+        List<ManifestFileMeta> actual = ManifestFileMeta.fullMerge(input, manifestFile);
+        assertThat(actual).hasSize(1);
+        assertSameContent(
+                makeManifest(
+                        makeEntry(true, "D"),
+                        makeEntry(true, "L"),
+                        makeEntry(true, "0"),
+                        makeEntry(true, "1"),
+                        makeEntry(true, "2")),
+                actual.get(0),
+                manifestFile);
+    }
+
     private void assertSameContent(
             ManifestFileMeta expected, ManifestFileMeta actual, ManifestFile manifestFile) {
         // check meta
@@ -150,7 +193,8 @@ public class ManifestFileMetaTest {
                                 PARTITION_TYPE,
                                 "default",
                                 CoreOptions.FILE_FORMAT.defaultValue()),
-                        Long.MAX_VALUE)
+                        Long.MAX_VALUE,
+                        null)
                 .create();
     }
 
@@ -223,7 +267,11 @@ public class ManifestFileMetaTest {
                 writtenMeta.numAddedFiles(),
                 writtenMeta.numDeletedFiles(),
                 writtenMeta.partitionStats(),
-                0);
+                0,
+                writtenMeta.minBucket(),
+                writtenMeta.maxBucket(),
+                writtenMeta.minTotalBuckets(),
+                writtenMeta.maxTotalBuckets());
     }
 
     private ManifestEntry makeEntry(boolean isAdd, String fileName) {
@@ -29,8 +29,11 @@ import org.apache.flink.table.store.file.utils.FileStorePathFactory;
 import org.apache.flink.table.store.format.FileFormat;
 
 import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import javax.annotation.Nullable;
+
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
@@ -40,6 +43,7 @@ import java.util.stream.Collectors;
 
 import static org.apache.flink.table.store.file.TestKeyValueGenerator.DEFAULT_PART_TYPE;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /** Tests for {@link ManifestFile}. */
 public class ManifestFileTest {
@@ -86,6 +90,50 @@ public class ManifestFileTest {
         }
     }
 
+    @Test
+    public void testReadWithCache() {
+        List<ManifestEntry> entries = generateData();
+        ManifestCache cache = new ManifestCache(64 * 1024 * 1024);
+        ManifestFile manifestFile = createManifestFile(tempDir.toString(), cache);
+
+        List<ManifestFileMeta> metas = manifestFile.write(entries);
+        String fileName = metas.get(0).fileName();
+        List<ManifestEntry> first = manifestFile.read(fileName);
+        List<ManifestEntry> second = manifestFile.read(fileName);
+        assertThat(second).isSameAs(first);
+        assertThat(cache.stats().missCount()).isEqualTo(1);
+        assertThat(cache.stats().hitCount()).isEqualTo(1);
+
+        manifestFile.delete(fileName);
+        assertThatThrownBy(() -> manifestFile.read(fileName)).isInstanceOf(RuntimeException.class);
+    }
+
+    @Test
+    public void testReadWithRowFilter() {
+        List<ManifestEntry> entries = generateData();
+        ManifestFile manifestFile = createManifestFile(tempDir.toString());
+
+        List<ManifestFileMeta> metas = manifestFile.write(entries);
+        int bucket = entries.get(0).bucket();
+        List<ManifestEntry> actual =
+                metas.stream()
+                        .flatMap(
+                                m ->
+                                        manifestFile
+                                                .read(
+                                                        m.fileName(),
+                                                        row ->
+                                                                ManifestEntrySerializer.bucket(row)
+                                                                        == bucket)
+                                                .stream())
+                        .collect(Collectors.toList());
+        assertThat(actual)
+                .isEqualTo(
+                        entries.stream()
+                                .filter(e -> e.bucket() == bucket)
+                                .collect(Collectors.toList()));
+    }
+
     private List<ManifestEntry> generateData() {
         List<ManifestEntry> entries = new ArrayList<>();
         for (int i = 0; i < 100; i++) {
@@ -95,6 +143,10 @@ public class ManifestFileTest {
     }
 
     private ManifestFile createManifestFile(String path) {
+        return createManifestFile(path, null);
+    }
+
+    private ManifestFile createManifestFile(String path, @Nullable ManifestCache cache) {
         FileStorePathFactory pathFactory =
                 new FileStorePathFactory(
                         new Path(path),
@@ -108,7 +160,8 @@ public class ManifestFileTest {
                         DEFAULT_PART_TYPE,
                         avro,
                         pathFactory,
-                        suggestedFileSize)
+                        suggestedFileSize,
+                        cache)
                 .create();
     }
 
@@ -127,6 +180,12 @@ public class ManifestFileTest {
         assertThat(actual.stream().mapToLong(ManifestFileMeta::numDeletedFiles).sum())
                 .isEqualTo(expected.numDeletedFiles());
 
+        // expected bucket range covers all bucket ranges
+        assertThat(actual.stream().mapToInt(ManifestFileMeta::minBucket).min().getAsInt())
+                .isEqualTo(expected.minBucket());
+        assertThat(actual.stream().mapToInt(ManifestFileMeta::maxBucket).max().getAsInt())
+                .isEqualTo(expected.maxBucket());
+
         // check stats
         for (int i = 0; i < expected.partitionStats().fields(null).length; i++) {
             int idx = i;
@@ -18,23 +18,33 @@
 
 package org.apache.flink.table.store.file.manifest;
 
+import org.apache.flink.api.common.serialization.BulkWriter;
 import org.apache.flink.configuration.Configuration;
+import org.apache.flink.core.fs.FSDataOutputStream;
 import org.apache.flink.core.fs.FileSystem;
 import org.apache.flink.core.fs.Path;
+import org.apache.flink.table.data.GenericRowData;
+import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.data.StringData;
 import org.apache.flink.table.store.CoreOptions;
 import org.apache.flink.table.store.file.TestKeyValueGenerator;
 import org.apache.flink.table.store.file.utils.FailingAtomicRenameFileSystem;
 import org.apache.flink.table.store.file.utils.FileStorePathFactory;
+import org.apache.flink.table.store.file.utils.VersionedObjectSerializer;
 import org.apache.flink.table.store.format.FileFormat;
+import org.apache.flink.table.types.logical.RowType;
 
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -78,6 +88,60 @@ public class ManifestListTest {
         }
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = {"avro", "orc"})
+    public void testReadManifestListOfVersion2(String formatIdentifier) throws IOException {
+        FileFormat format = FileFormat.fromIdentifier(formatIdentifier, new Configuration());
+        FileStorePathFactory pathFactory = createPathFactory(tempDir.toString());
+        List<ManifestFileMeta> metas = generateData();
+
+        // manifest lists of version 2 have no bucket range fields
+        RowType v2Type =
+                VersionedObjectSerializer.versionType(
+                        new RowType(ManifestFileMeta.schema().getFields().subList(0, 6)));
+        Path path = pathFactory.newManifestList();
+        try (FSDataOutputStream out =
+                path.getFileSystem().create(path, FileSystem.WriteMode.NO_OVERWRITE)) {
+            BulkWriter<RowData> writer = format.createWriterFactory(v2Type).create(out);
+            for (ManifestFileMeta meta : metas) {
+                writer.addElement(
+                        GenericRowData.of(
+                                2,
+                                StringData.fromString(meta.fileName()),
+                                meta.fileSize(),
+                                meta.numAddedFiles(),
+                                meta.numDeletedFiles(),
+                                meta.partitionStats().toRowData(),
+                                meta.schemaId()));
+            }
+            writer.flush();
+            writer.finish();
+        }
+
+        ManifestList manifestList =
+                new ManifestList.Factory(
+                                TestKeyValueGenerator.DEFAULT_PART_TYPE, format, pathFactory)
+                        .create();
+        List<ManifestFileMeta> expected =
+                metas.stream()
+                        .map(
+                                meta ->
+                                        new ManifestFileMeta(
+                                                meta.fileName(),
+                                                meta.fileSize(),
+                                                meta.numAddedFiles(),
+                                                meta.numDeletedFiles(),
+                                                meta.partitionStats(),
+                                                meta.schemaId()))
+                        .collect(Collectors.toList());
+        List<ManifestFileMeta> actual = manifestList.read(path.getName());
+        assertThat(actual).isEqualTo(expected);
+        assertThat(actual).noneMatch(ManifestFileMeta::hasBucketRange);
+
+        // unknown bucket ranges are kept when the metas are written into a new manifest list
+        assertThat(manifestList.read(manifestList.write(actual))).isEqualTo(expected);
+    }
+
     private List<ManifestFileMeta> generateData() {
         Random random = new Random();
         List<ManifestFileMeta> metas = new ArrayList<>();
@@ -92,13 +156,16 @@ public class ManifestListTest {
     }
 
     private ManifestList createManifestList(String path) {
-        FileStorePathFactory pathFactory =
-                new FileStorePathFactory(
-                        new Path(path),
-                        TestKeyValueGenerator.DEFAULT_PART_TYPE,
-                        "default",
-                        CoreOptions.FILE_FORMAT.defaultValue());
-        return new ManifestList.Factory(TestKeyValueGenerator.DEFAULT_PART_TYPE, avro, pathFactory)
+        return new ManifestList.Factory(
+                        TestKeyValueGenerator.DEFAULT_PART_TYPE, avro, createPathFactory(path))
                 .create();
     }
+
+    private FileStorePathFactory createPathFactory(String path) {
+        return new FileStorePathFactory(
+                new Path(path),
+                TestKeyValueGenerator.DEFAULT_PART_TYPE,
+                "default",
+                CoreOptions.FILE_FORMAT.defaultValue());
+    }
 }
@@ -89,8 +89,12 @@ public class ManifestTestDataGenerator {
 
         long numAddedFiles = 0;
         long numDeletedFiles = 0;
+        int minBucket = Integer.MAX_VALUE;
+        int maxBucket = Integer.MIN_VALUE;
         for (ManifestEntry entry : entries) {
             collector.collect(entry.partition());
+            minBucket = Math.min(minBucket, entry.bucket());
+            maxBucket = Math.max(maxBucket, entry.bucket());
             if (entry.kind() == FileKind.ADD) {
                 numAddedFiles++;
             } else {
@@ -104,7 +108,11 @@ public class ManifestTestDataGenerator {
                 numAddedFiles,
                 numDeletedFiles,
                 serializer.toBinary(collector.extract()),
-                0);
+                0,
+                minBucket,
+                maxBucket,
+                numBuckets,
+                numBuckets);
     }
 
     private void mergeLevelsIfNeeded(BinaryRowData partition, int bucket) {
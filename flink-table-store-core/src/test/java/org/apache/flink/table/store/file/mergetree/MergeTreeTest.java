@@ -25,6 +25,7 @@ import org.apache.flink.core.fs.Path;
 import org.apache.flink.table.data.GenericRowData;
 import org.apache.flink.table.data.RowData;
 import org.apache.flink.table.data.binary.BinaryRowDataUtil;
+import org.apache.flink.table.runtime.util.MemorySegmentPool;
 import org.apache.flink.table.store.CoreOptions;
 import org.apache.flink.table.store.file.KeyValue;
 import org.apache.flink.table.store.file.data.DataFileMeta;
@@ -56,6 +57,8 @@ import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import javax.annotation.Nullable;
+
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -63,11 +66,22 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 import static java.util.Collections.singletonList;
@@ -92,14 +106,17 @@ public class MergeTreeTest {
         path = new Path(tempDir.toString());
         pathFactory = new FileStorePathFactory(path);
         comparator = Comparator.comparingInt(o -> o.getInt(0));
-        recreateMergeTree(1024 * 1024);
+        recreateMergeTree(1024 * 1024, false);
         Path bucketDir = dataFileWriter.pathFactory().toPath("ignore").getParent();
         bucketDir.getFileSystem().mkdirs(bucketDir);
     }
 
-    private void recreateMergeTree(long targetFileSize) {
+    private void recreateMergeTree(long targetFileSize, boolean asyncFlush) {
         Configuration configuration = new Configuration();
-        configuration.set(CoreOptions.WRITE_BUFFER_SIZE, new MemorySize(4096 * 3));
+        // two tables are allocated for async flush, each of them requires at least 3 pages
+        configuration.set(
+                CoreOptions.WRITE_BUFFER_SIZE, new MemorySize(4096 * (asyncFlush ? 6 : 3)));
+        configuration.set(CoreOptions.WRITE_BUFFER_ASYNC_FLUSH, asyncFlush);
         configuration.set(CoreOptions.PAGE_SIZE, new MemorySize(4096));
         configuration.set(CoreOptions.TARGET_FILE_SIZE, new MemorySize(targetFileSize));
         options = new CoreOptions(configuration);
@@ -188,7 +205,7 @@ public class MergeTreeTest {
     @ValueSource(longs = {1, 1024 * 1024})
     public void testCloseUpgrade(long targetFileSize) throws Exception {
         // To generate a large number of upgrade files
-        recreateMergeTree(targetFileSize);
+        recreateMergeTree(targetFileSize, false);
 
         List<TestRecord> expected = new ArrayList<>();
         Random random = new Random();
@@ -219,6 +236,190 @@ public class MergeTreeTest {
         doTestWriteRead(3, 20_000);
     }
 
+    @Test
+    public void testWriteManyWithAsyncFlush() throws Exception {
+        recreateMergeTree(1024 * 1024, true);
+        doTestWriteRead(3, 20_000);
+    }
+
+    @Test
+    public void testWriteBlocksOnlyWhenBothTablesAreFull() throws Exception {
+        recreateMergeTree(1024 * 1024, true);
+        AtomicInteger written = new AtomicInteger(0);
+        List<Integer> writtenAtFlushes = new CopyOnWriteArrayList<>();
+        ExecutorService flushExecutor =
+                new ThreadPoolExecutor(
+                        1, 1, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>()) {
+                    @Override
+                    protected <T> RunnableFuture<T> newTaskFor(Callable<T> callable) {
+                        writtenAtFlushes.add(written.get());
+                        return super.newTaskFor(callable);
+                    }
+                };
+        // flushes can not finish until the gate is opened
+        CountDownLatch gate = new CountDownLatch(1);
+        flushExecutor.execute(
+                () -> {
+                    try {
+                        gate.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+        writer = createMergeTreeWriter(Collections.emptyList(), flushExecutor);
+
+        List<TestRecord> records = generateRandom(20_000);
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        Thread writeThread =
+                new Thread(
+                        () -> {
+                            try {
+                                for (TestRecord record : records) {
+                                    writer.write(
+                                            new KeyValue()
+                                                    .replace(
+                                                            row(record.k),
+                                                            record.kind,
+                                                            row(record.v)));
+                                    written.incrementAndGet();
+                                }
+                            } catch (Throwable t) {
+                                error.set(t);
+                            }
+                        });
+        writeThread.start();
+
+        try {
+            // wait until the writer blocks on the in-flight flush
+            long deadline = System.currentTimeMillis() + 60_000;
+            while (writeThread.getState() != Thread.State.WAITING) {
+                assertThat(writeThread.isAlive()).isTrue();
+                assertThat(System.currentTimeMillis()).isLessThan(deadline);
+                Thread.sleep(10);
+            }
+            assertThat(writtenAtFlushes).hasSize(1);
+            int blockedAt = written.get();
+            Thread.sleep(100);
+            assertThat(written.get()).isEqualTo(blockedAt);
+            // records are written into the second table while the first one is being flushed
+            assertThat(blockedAt).isGreaterThan(writtenAtFlushes.get(0));
+            assertThat(blockedAt).isLessThan(records.size());
+        } finally {
+            gate.countDown();
+            writeThread.join();
+        }
+        assertThat(error.get()).isNull();
+        assertThat(written.get()).isEqualTo(records.size());
+
+        writer.prepareCommit(true);
+        writer.sync();
+        assertRecords(records);
+        writer.close();
+        flushExecutor.shutdownNow();
+    }
+
+    @Test
+    public void testWritersSharingMemoryPoolKeepWritingWhileFlushing() throws Exception {
+        recreateMergeTree(1024 * 1024, true);
+        AtomicInteger written = new AtomicInteger(0);
+        // occupancy of the flushing writer when the flush is submitted, by the record index
+        Map<Integer, Long> occupancyAtFlushes = new ConcurrentHashMap<>();
+        AtomicReference<MergeTreeWriter> flushingWriter = new AtomicReference<>();
+        ExecutorService flushExecutor =
+                new ThreadPoolExecutor(
+                        1, 1, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>()) {
+                    @Override
+                    protected <T> RunnableFuture<T> newTaskFor(Callable<T> callable) {
+                        occupancyAtFlushes.put(
+                                written.get(), flushingWriter.get().memoryOccupancy());
+                        return super.newTaskFor(callable);
+                    }
+                };
+        // flushes can not finish until the gate is opened
+        CountDownLatch gate = new CountDownLatch(1);
+        flushExecutor.execute(
+                () -> {
+                    try {
+                        gate.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+        // the pool is exhausted by both writers before any of them reaches its threshold
+        MemorySegmentPool memoryPool = new HeapMemorySegmentPool(4096 * 16, options.pageSize());
+        List<MergeTreeWriter> writers =
+                Arrays.asList(
+                        createMergeTreeWriter(Collections.emptyList(), flushExecutor, memoryPool),
+                        createMergeTreeWriter(Collections.emptyList(), flushExecutor, memoryPool));
+
+        List<TestRecord> records = generateRandom(20_000);
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        Thread writeThread =
+                new Thread(
+                        () -> {
+                            try {
+                                for (int i = 0; i < records.size(); i++) {
+                                    TestRecord record = records.get(i);
+                                    flushingWriter.set(writers.get(i % 2));
+                                    writers.get(i % 2)
+                                            .write(
+                                                    new KeyValue()
+                                                            .replace(
+                                                                    row(record.k),
+                                                                    record.kind,
+                                                                    row(record.v)));
+                                    written.incrementAndGet();
+                                }
+                            } catch (Throwable t) {
+                                error.set(t);
+                            }
+                        });
+        writeThread.start();
+
+        try {
+            // wait until a writer blocks on its in-flight flush
+            long deadline = System.currentTimeMillis() + 60_000;
+            while (writeThread.getState() != Thread.State.WAITING) {
+                assertThat(writeThread.isAlive()).isTrue();
+                assertThat(System.currentTimeMillis()).isLessThan(deadline);
+                Thread.sleep(10);
+            }
+            int blockedAt = written.get();
+            Thread.sleep(100);
+            assertThat(written.get()).isEqualTo(blockedAt);
+            assertThat(blockedAt).isLessThan(records.size());
+
+            // the blocked writer has filled its second table as much as the one being flushed,
+            // although the other writer holds the rest of the pool
+            int handedOverAt =
+                    occupancyAtFlushes.keySet().stream()
+                            .filter(i -> i % 2 == blockedAt % 2)
+                            .max(Integer::compare)
+                            .orElseThrow(AssertionError::new);
+            long flushingOccupancy = occupancyAtFlushes.get(handedOverAt);
+            long activeOccupancy = writers.get(blockedAt % 2).memoryOccupancy() - flushingOccupancy;
+            assertThat(activeOccupancy).isGreaterThanOrEqualTo(flushingOccupancy);
+        } finally {
+            gate.countDown();
+            writeThread.join();
+        }
+        assertThat(error.get()).isNull();
+        assertThat(written.get()).isEqualTo(records.size());
+
+        for (int i = 0; i < writers.size(); i++) {
+            MergeTreeWriter writer = writers.get(i);
+            writer.prepareCommit(true);
+            writer.sync();
+            List<TestRecord> expected = new ArrayList<>();
+            for (int j = i; j < records.size(); j += 2) {
+                expected.add(records.get(j));
+            }
+            assertRecords(expected, writer.levels().allFiles(), true);
+            writer.close();
+        }
+        flushExecutor.shutdownNow();
+    }
+
     private void doTestWriteRead(int batchNumber) throws Exception {
         doTestWriteRead(batchNumber, 200);
     }
@@ -264,6 +465,21 @@ public class MergeTreeTest {
     }
 
     private MergeTreeWriter createMergeTreeWriter(List<DataFileMeta> files) {
+        return createMergeTreeWriter(files, options.writeBufferAsyncFlush() ? service : null);
+    }
+
+    private MergeTreeWriter createMergeTreeWriter(
+            List<DataFileMeta> files, @Nullable ExecutorService flushExecutor) {
+        return createMergeTreeWriter(
+                files,
+                flushExecutor,
+                new HeapMemorySegmentPool(options.writeBufferSize(), options.pageSize()));
+    }
+
+    private MergeTreeWriter createMergeTreeWriter(
+            List<DataFileMeta> files,
+            @Nullable ExecutorService flushExecutor,
+            MemorySegmentPool memoryPool) {
         long maxSequenceNumber =
                 files.stream().map(DataFileMeta::maxSequenceNumber).max(Long::compare).orElse(-1L);
         MergeTreeWriter writer =
@@ -278,9 +494,11 @@ public class MergeTreeTest {
                         dataFileWriter,
                         options.commitForceCompact(),
                         options.numSortedRunStopTrigger(),
-                        false);
-        writer.setMemoryPool(
-                new HeapMemorySegmentPool(options.writeBufferSize(), options.pageSize()));
+                        false,
+                        flushExecutor,
+                        options.writeBufferSize(),
+                        options.writeBufferAsyncFlushReservedSize());
+        writer.setMemoryPool(memoryPool);
         return writer;
     }
 
@@ -26,9 +26,14 @@ import org.apache.flink.table.store.file.utils.TestReusingRecordReader;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 /** Tests for {@link ConcatRecordReader}. */
 public class ConcatRecordReaderTest extends CombiningRecordReaderTestBase {
 
@@ -47,7 +52,8 @@ public class ConcatRecordReaderTest extends CombiningRecordReaderTestBase {
         return new ConcatRecordReader(
                 readers.stream()
                         .map(r -> (ConcatRecordReader.ReaderSupplier) () -> r)
-                        .collect(Collectors.toList()));
+                        .collect(Collectors.toList()),
+                null);
     }
 
     @Test
@@ -65,4 +71,45 @@ public class ConcatRecordReaderTest extends CombiningRecordReaderTestBase {
                         "",
                         " 12, 60, +, 1200 |  14, 70, -, 1400 |  16, 80, +, 1600 |  18, 90, -, 1800"));
     }
+
+    @Test
+    public void testPrefetchPermitsSharedByReaders() throws IOException {
+        // two sorted runs of a split may open one file ahead in total
+        Semaphore permits = new Semaphore(1);
+        AtomicInteger opened1 = new AtomicInteger();
+        AtomicInteger opened2 = new AtomicInteger();
+        RecordReader<KeyValue> reader1 = ConcatRecordReader.create(suppliers(3, opened1), permits);
+        RecordReader<KeyValue> reader2 = ConcatRecordReader.create(suppliers(3, opened2), permits);
+        assertThat(opened1.get()).isEqualTo(1);
+        assertThat(opened2.get()).isEqualTo(0);
+
+        // the first run reads its first file and opens the second one ahead
+        reader1.readBatch().releaseBatch();
+        assertThat(opened1.get()).isEqualTo(2);
+        assertThat(permits.availablePermits()).isEqualTo(0);
+
+        // no permit left, the second run only opens the file it reads
+        reader2.readBatch().releaseBatch();
+        assertThat(opened2.get()).isEqualTo(1);
+
+        // closing returns the permit
+        reader1.close();
+        assertThat(permits.availablePermits()).isEqualTo(1);
+        reader2.close();
+    }
+
+    private List<ConcatRecordReader.ReaderSupplier<KeyValue>> suppliers(
+            int numReaders, AtomicInteger opened) {
+        List<ConcatRecordReader.ReaderSupplier<KeyValue>> suppliers = new ArrayList<>();
+        for (int i = 0; i < numReaders; i++) {
+            int key = i;
+            suppliers.add(
+                    () -> {
+                        opened.incrementAndGet();
+                        return new TestReusingRecordReader(
+                                ReusingTestData.parse(key + ", " + key + ", +, 100"));
+                    });
+        }
+        return suppliers;
+    }
 }
@@ -18,25 +18,54 @@
 
 package org.apache.flink.table.store.file.mergetree.compact;
 
+import org.apache.flink.table.data.binary.BinaryRowData;
 import org.apache.flink.table.store.file.KeyValue;
 import org.apache.flink.table.store.file.utils.RecordReader;
 import org.apache.flink.table.store.file.utils.ReusingTestData;
 import org.apache.flink.table.store.file.utils.TestReusingRecordReader;
 
+import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
 
+import javax.annotation.Nullable;
+
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.apache.flink.table.store.file.mergetree.compact.MergeTreeCompactManagerTest.row;
+
 /** Tests for {@link SortMergeReader}. */
 public abstract class SortMergeReaderTestBase extends CombiningRecordReaderTestBase {
 
+    private boolean replaceReturnedKeys;
+
     protected abstract MergeFunction createMergeFunction();
 
     @Override
     protected RecordReader<KeyValue> createRecordReader(List<TestReusingRecordReader> readers) {
-        return new SortMergeReader(new ArrayList<>(readers), KEY_COMPARATOR, createMergeFunction());
+        RecordReader<KeyValue> reader =
+                new SortMergeReader(
+                        new ArrayList<>(readers), KEY_COMPARATOR, createMergeFunction());
+        return replaceReturnedKeys ? new KeyReplacingRecordReader(reader) : reader;
+    }
+
+    @RepeatedTest(100)
+    public void testRandomWithReplacedKeys() throws IOException {
+        // callers such as ProjectKeyRecordReader replace the key of a returned KeyValue, so the
+        // merged readers must not compare it anymore
+        replaceReturnedKeys = true;
+        runTest(generateRandomData());
+    }
+
+    @Test
+    public void testReplacedKeys() throws IOException {
+        replaceReturnedKeys = true;
+        runTest(
+                parseData(
+                        "1, 1, +, 100 | 2, 2, +, 200 | 3, 3, +, 300",
+                        "1, 4, +, 100 | 3, 5, +, 300 | 4, 6, +, 400",
+                        "1, 7, +, 100 | 2, 8, +, 200 | 4, 9, +, 400"));
     }
 
     @Test
@@ -71,6 +100,54 @@ public abstract class SortMergeReaderTestBase extends CombiningRecordReaderTestB
                                 + "11, 507, +, 1100 | 12, 508, +, 1200 | 13, 509, +, 1300"));
     }
 
+    /**
+     * A {@link RecordReader} which replaces the key of each returned {@link KeyValue} with a larger
+     * one once the caller asks for the next record.
+     */
+    private static class KeyReplacingRecordReader implements RecordReader<KeyValue> {
+
+        private static final BinaryRowData REPLACED_KEY = row(Integer.MAX_VALUE);
+
+        private final RecordReader<KeyValue> reader;
+
+        private KeyReplacingRecordReader(RecordReader<KeyValue> reader) {
+            this.reader = reader;
+        }
+
+        @Nullable
+        @Override
+        public RecordIterator<KeyValue> readBatch() throws IOException {
+            RecordIterator<KeyValue> batch = reader.readBatch();
+            if (batch == null) {
+                return null;
+            }
+
+            return new RecordIterator<KeyValue>() {
+
+                private KeyValue previous;
+
+                @Override
+                public KeyValue next() throws IOException {
+                    if (previous != null) {
+                        previous.replaceKey(REPLACED_KEY);
+                    }
+                    previous = batch.next();
+                    return previous;
+                }
+
+                @Override
+                public void releaseBatch() {
+                    batch.releaseBatch();
+                }
+            };
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
     /** Tests for {@link SortMergeReader} with {@link DeduplicateMergeFunction}. */
     public static class WithDeduplicateMergeFunction extends SortMergeReaderTestBase {
 
@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.file.mergetree.compact.aggregate;
+
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.table.data.DecimalData;
+import org.apache.flink.table.data.GenericRowData;
+import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.data.StringData;
+import org.apache.flink.table.store.CoreOptions;
+import org.apache.flink.table.types.logical.BigIntType;
+import org.apache.flink.table.types.logical.BooleanType;
+import org.apache.flink.table.types.logical.DecimalType;
+import org.apache.flink.table.types.logical.DoubleType;
+import org.apache.flink.table.types.logical.IntType;
+import org.apache.flink.table.types.logical.RowType;
+import org.apache.flink.table.types.logical.VarCharType;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Tests for {@link AggregateMergeFunction}. */
+public class AggregateMergeFunctionTest {
+
+    private static final RowType ROW_TYPE =
+            new RowType(
+                    Arrays.asList(
+                            new RowType.RowField("k", new IntType(false)),
+                            new RowType.RowField("sum", new BigIntType()),
+                            new RowType.RowField("dec", new DecimalType(10, 2)),
+                            new RowType.RowField("max", new IntType()),
+                            new RowType.RowField("min", new VarCharType()),
+                            new RowType.RowField("last", new DoubleType()),
+                            new RowType.RowField("last_non_null", new DoubleType()),
+                            new RowType.RowField("list", new VarCharType()),
+                            new RowType.RowField("all", new BooleanType()),
+                            new RowType.RowField("any", new BooleanType())));
+
+    @Test
+    public void testAggregate() {
+        Configuration conf = new Configuration();
+        setFunction(conf, "sum", "sum");
+        setFunction(conf, "dec", "sum");
+        setFunction(conf, "max", "max");
+        setFunction(conf, "min", "min");
+        setFunction(conf, "last", "last_value");
+        setFunction(conf, "list", "listagg");
+        conf.setString("fields.list.list-agg-delimiter", ";");
+        setFunction(conf, "all", "bool_and");
+        setFunction(conf, "any", "bool_or");
+        AggregateMergeFunction function =
+                AggregateMergeFunction.create(ROW_TYPE, new CoreOptions(conf));
+
+        function.reset();
+        function.add(row(1, 1L, "1.10", 3, "b", 1.0, 1.0, "x", true, false));
+        function.add(row(1, null, "2.20", 5, "c", 2.0, null, null, null, false));
+        function.add(row(1, 2L, null, 4, "a", null, null, "y", false, true));
+        assertThat(function.getValue())
+                .isEqualTo(row(1, 3L, "3.30", 5, "a", null, 1.0, "x;y", false, true));
+
+        // a copy starts from scratch
+        AggregateMergeFunction copy = (AggregateMergeFunction) function.copy();
+        copy.reset();
+        copy.add(row(2, 5L, "1.00", 1, "z", 3.0, 3.0, "z", true, true));
+        assertThat(copy.getValue())
+                .isEqualTo(row(2, 5L, "1.00", 1, "z", 3.0, 3.0, "z", true, true));
+    }
+
+    @Test
+    public void testDefaultLastNonNullValue() {
+        AggregateMergeFunction function =
+                AggregateMergeFunction.create(ROW_TYPE, new CoreOptions(new Configuration()));
+        function.reset();
+        function.add(row(1, 1L, "1.10", 3, "b", 1.0, 1.0, "x", true, false));
+        function.add(row(1, 2L, null, null, "c", null, 2.0, null, null, true));
+        assertThat(function.getValue())
+                .isEqualTo(row(1, 2L, "1.10", 3, "c", 1.0, 2.0, "x", true, true));
+    }
+
+    @Test
+    public void testDecimalSumOverflow() {
+        Configuration conf = new Configuration();
+        setFunction(conf, "dec", "sum");
+        AggregateMergeFunction function =
+                AggregateMergeFunction.create(ROW_TYPE, new CoreOptions(conf));
+        function.reset();
+        function.add(row(1, null, "99999999.99", null, null, null, null, null, null, null));
+        RowData overflow = row(1, null, "0.01", null, null, null, null, null, null, null);
+        assertThatThrownBy(() -> function.add(overflow))
+                .isInstanceOf(ArithmeticException.class)
+                .hasMessageContaining(
+                        "Sum 100000000.00 overflows the precision of type DECIMAL(10, 2)");
+    }
+
+    @Test
+    public void testInvalidFunction() {
+        Configuration conf = new Configuration();
+        setFunction(conf, "sum", "avg");
+        assertThatThrownBy(() -> AggregateMergeFunction.create(ROW_TYPE, new CoreOptions(conf)))
+                .hasMessageContaining("Unsupported aggregate function 'avg' for field 'sum'");
+
+        Configuration typeMismatch = new Configuration();
+        setFunction(typeMismatch, "min", "sum");
+        assertThatThrownBy(
+                        () ->
+                                AggregateMergeFunction.create(
+                                        ROW_TYPE, new CoreOptions(typeMismatch)))
+                .hasMessageContaining("Aggregate function 'sum' does not support field 'min'");
+    }
+
+    private static void setFunction(Configuration conf, String field, String function) {
+        conf.setString("fields." + field + ".aggregate-function", function);
+    }
+
+    private static RowData row(
+            int k,
+            Long sum,
+            String dec,
+            Integer max,
+            String min,
+            Double last,
+            Double lastNonNull,
+            String list,
+            Boolean all,
+            Boolean any) {
+        return GenericRowData.of(
+                k,
+                sum,
+                dec == null ? null : DecimalData.fromBigDecimal(new BigDecimal(dec), 10, 2),
+                max,
+                StringData.fromString(min),
+                last,
+                lastNonNull,
+                StringData.fromString(list),
+                all,
+                any);
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.file.operation;
+
+import org.apache.flink.table.data.GenericRowData;
+import org.apache.flink.table.data.binary.BinaryRowData;
+import org.apache.flink.table.store.file.TestFileStore;
+import org.apache.flink.table.store.file.TestKeyValueGenerator;
+import org.apache.flink.table.store.file.data.DataFileMeta;
+import org.apache.flink.table.store.file.manifest.FileKind;
+import org.apache.flink.table.store.file.manifest.ManifestCommittable;
+import org.apache.flink.table.store.file.manifest.ManifestEntry;
+import org.apache.flink.table.store.file.mergetree.Increment;
+import org.apache.flink.table.store.file.mergetree.compact.DeduplicateMergeFunction;
+import org.apache.flink.table.store.file.utils.FileUtils;
+import org.apache.flink.table.store.file.utils.SnapshotManager;
+import org.apache.flink.table.store.file.utils.TestAtomicRenameFileSystem;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.UUID;
+
+import static org.apache.flink.table.data.binary.BinaryRowDataUtil.EMPTY_ROW;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Tests for {@link ConflictChecker}. */
+public class ConflictCheckerTest {
+
+    @TempDir java.nio.file.Path tempDir;
+
+    private TestFileStore store;
+    private SnapshotManager snapshotManager;
+    private FileStoreCommit commit;
+    private int commitIdentifier;
+
+    @BeforeEach
+    public void beforeEach() {
+        store =
+                TestFileStore.create(
+                        "avro",
+                        TestAtomicRenameFileSystem.SCHEME + "://" + tempDir.toString(),
+                        1,
+                        TestKeyValueGenerator.NON_PARTITIONED_PART_TYPE,
+                        TestKeyValueGenerator.KEY_TYPE,
+                        TestKeyValueGenerator.NON_PARTITIONED_ROW_TYPE,
+                        new DeduplicateMergeFunction());
+        snapshotManager = store.snapshotManager();
+        commit = store.newCommit(UUID.randomUUID().toString());
+        commitIdentifier = 0;
+    }
+
+    @Test
+    public void testIncrementalCheckDetectsDeletedFile() {
+        DataFileMeta file = newFile("f1", 0, 1, 10);
+        commitFiles(Increment.forAppend(Collections.singletonList(file)));
+
+        ConflictChecker checker =
+                newChecker(new ManifestEntry(FileKind.DELETE, EMPTY_ROW, 0, 1, file));
+        checker.noConflictsOrFail(1);
+
+        // another commit removes the file, which is only visible in the delta manifests
+        commitFiles(Increment.forCompact(Collections.singletonList(file), Collections.emptyList()));
+        assertThatThrownBy(() -> checker.noConflictsOrFail(2))
+                .hasMessageContaining("File deletion conflicts detected");
+        assertThat(checker.numFullScans()).isEqualTo(1);
+    }
+
+    @Test
+    public void testIncrementalCheckDetectsLsmConflictOfIntermediateSnapshot() {
+        commitFiles(Increment.forAppend(Collections.singletonList(newFile("f1", 0, 1, 10))));
+
+        ConflictChecker checker =
+                newChecker(
+                        new ManifestEntry(FileKind.ADD, EMPTY_ROW, 0, 1, newFile("f2", 1, 1, 10)));
+        checker.noConflictsOrFail(1);
+
+        // an overlapping file is added to the same level by snapshot 2, snapshot 3 is unrelated
+        commitFiles(
+                Increment.forCompact(
+                        Collections.emptyList(),
+                        Collections.singletonList(newFile("f3", 1, 5, 15))));
+        commitFiles(Increment.forAppend(Collections.singletonList(newFile("f4", 0, 20, 30))));
+        assertThatThrownBy(() -> checker.noConflictsOrFail(3))
+                .hasMessageContaining("LSM conflicts detected");
+        assertThat(checker.numFullScans()).isEqualTo(1);
+    }
+
+    @Test
+    public void testFullScanWhenIntermediateSnapshotExpired() {
+        DataFileMeta file = newFile("f1", 0, 1, 10);
+        commitFiles(Increment.forAppend(Collections.singletonList(file)));
+
+        ConflictChecker checker =
+                newChecker(new ManifestEntry(FileKind.DELETE, EMPTY_ROW, 0, 1, file));
+        checker.noConflictsOrFail(1);
+
+        commitFiles(Increment.forCompact(Collections.singletonList(file), Collections.emptyList()));
+        commitFiles(Increment.forAppend(Collections.singletonList(newFile("f2", 0, 20, 30))));
+        // mimic the expiration of snapshot 2, its delta manifests can no longer be applied
+        FileUtils.deleteOrWarn(snapshotManager.snapshotPath(2));
+
+        assertThatThrownBy(() -> checker.noConflictsOrFail(3))
+                .hasMessageContaining("File deletion conflicts detected");
+        assertThat(checker.numFullScans()).isEqualTo(2);
+    }
+
+    private ConflictChecker newChecker(ManifestEntry... changes) {
+        return new ConflictChecker(
+                Arrays.asList(changes),
+                store.newScan(),
+                snapshotManager,
+                store.manifestListFactory().create(),
+                store.manifestFileFactory().create(),
+                TestKeyValueGenerator.KEY_COMPARATOR,
+                store.pathFactory());
+    }
+
+    private void commitFiles(Increment increment) {
+        ManifestCommittable committable =
+                new ManifestCommittable(String.valueOf(commitIdentifier++));
+        committable.addFileCommittable(EMPTY_ROW, 0, increment);
+        commit.commit(committable, Collections.emptyMap());
+    }
+
+    private static DataFileMeta newFile(String name, int level, int minShopId, int maxShopId) {
+        return new DataFileMeta(
+                name,
+                1,
+                1,
+                key(minShopId),
+                key(maxShopId),
+                DataFileMeta.EMPTY_KEY_STATS,
+                DataFileMeta.EMPTY_KEY_STATS,
+                0,
+                0,
+                0,
+                level);
+    }
+
+    private static BinaryRowData key(int shopId) {
+        return TestKeyValueGenerator.KEY_SERIALIZER
+                .toBinaryRow(GenericRowData.of(shopId, 0L))
+                .copy();
+    }
+}
@@ -18,13 +18,17 @@
 
 package org.apache.flink.table.store.file.operation;
 
+import org.apache.flink.core.fs.FileStatus;
 import org.apache.flink.core.fs.Path;
+import org.apache.flink.table.data.GenericRowData;
 import org.apache.flink.table.data.binary.BinaryRowData;
 import org.apache.flink.table.store.file.KeyValue;
 import org.apache.flink.table.store.file.Snapshot;
 import org.apache.flink.table.store.file.TestFileStore;
 import org.apache.flink.table.store.file.TestKeyValueGenerator;
+import org.apache.flink.table.store.file.data.DataFileMeta;
 import org.apache.flink.table.store.file.manifest.ManifestCommittable;
+import org.apache.flink.table.store.file.mergetree.Increment;
 import org.apache.flink.table.store.file.mergetree.compact.DeduplicateMergeFunction;
 import org.apache.flink.table.store.file.utils.FailingAtomicRenameFileSystem;
 import org.apache.flink.table.store.file.utils.FileUtils;
@@ -40,7 +44,9 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -339,6 +345,70 @@ public class FileStoreCommitTest {
         assertThat(store.snapshotManager().findLatest()).isEqualTo(snapshot.id() + 1);
     }
 
+    @Test
+    public void testCommitMergedCommittablesDeletesDiscardedFiles() throws Exception {
+        TestFileStore store = createStore(false);
+        BinaryRowData partition = gen.getPartition(gen.next());
+        Path bucketPath = store.pathFactory().bucketPath(partition, 0);
+        DataFileMeta file = newDataFile(bucketPath, "file", 0);
+        DataFileMeta compacted1 = newDataFile(bucketPath, "compacted1", 1, "compacted1-changelog");
+        DataFileMeta compacted2 = newDataFile(bucketPath, "compacted2", 2);
+
+        ManifestCommittable committable1 = new ManifestCommittable("1");
+        committable1.addFileCommittable(
+                partition, 0, Increment.forAppend(Collections.singletonList(file)));
+        ManifestCommittable committable2 = new ManifestCommittable("2");
+        committable2.addFileCommittable(
+                partition,
+                0,
+                Increment.forCompact(
+                        Collections.singletonList(file), Collections.singletonList(compacted1)));
+        ManifestCommittable committable3 = new ManifestCommittable("3");
+        committable3.addFileCommittable(
+                partition,
+                0,
+                Increment.forCompact(
+                        Collections.singletonList(compacted1),
+                        Collections.singletonList(compacted2)));
+
+        store.newCommit(UUID.randomUUID().toString())
+                .commit(
+                        ManifestCommittable.merge(
+                                Arrays.asList(committable1, committable2, committable3)),
+                        Collections.emptyMap());
+
+        // compacted1 is produced and compacted again within the merged committables, no snapshot
+        // references it or its extra files
+        FileStatus[] statuses = bucketPath.getFileSystem().listStatus(bucketPath);
+        assertThat(Arrays.stream(statuses).map(status -> status.getPath().getName()))
+                .containsExactlyInAnyOrder("file", "compacted2");
+    }
+
+    private static DataFileMeta newDataFile(
+            Path bucketPath, String fileName, int level, String... extraFiles) throws IOException {
+        FileUtils.writeFileUtf8(new Path(bucketPath, fileName), "");
+        for (String extraFile : extraFiles) {
+            FileUtils.writeFileUtf8(new Path(bucketPath, extraFile), "");
+        }
+        BinaryRowData key =
+                TestKeyValueGenerator.KEY_SERIALIZER
+                        .toBinaryRow(GenericRowData.of(level, (long) level))
+                        .copy();
+        return new DataFileMeta(
+                fileName,
+                1,
+                1,
+                key,
+                key,
+                DataFileMeta.EMPTY_KEY_STATS,
+                DataFileMeta.EMPTY_KEY_STATS,
+                0,
+                0,
+                0,
+                level,
+                Arrays.asList(extraFiles));
+    }
+
     private TestFileStore createStore(boolean failing) {
         return createStore(failing, 1);
     }
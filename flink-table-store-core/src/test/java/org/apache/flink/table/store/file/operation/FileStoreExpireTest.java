@@ -46,6 +46,7 @@ import java.util.concurrent.ThreadLocalRandom;
 
 import static org.apache.flink.table.data.binary.BinaryRowDataUtil.EMPTY_ROW;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /** Tests for {@link FileStoreExpireImpl}. */
 public class FileStoreExpireTest {
@@ -214,6 +215,97 @@ public class FileStoreExpireTest {
         assertThat(snapshotManager.findEarliest()).isEqualTo(earliestId);
     }
 
+    @Test
+    public void testExpireInBatchesWithDeleteThreads() throws Exception {
+        FileStoreExpire expire = store.newExpire(1, 3, Long.MAX_VALUE, 4, 2);
+
+        List<KeyValue> allData = new ArrayList<>();
+        List<Integer> snapshotPositions = new ArrayList<>();
+        commit(8, allData, snapshotPositions);
+        expire.expire();
+
+        int latestSnapshotId = snapshotManager.latestSnapshotId().intValue();
+        for (int i = 1; i <= latestSnapshotId; i++) {
+            if (i > latestSnapshotId - 3) {
+                assertThat(snapshotManager.snapshotExists(i)).isTrue();
+                assertSnapshot(i, allData, snapshotPositions);
+            } else {
+                assertThat(snapshotManager.snapshotExists(i)).isFalse();
+            }
+        }
+        assertThat(snapshotManager.readHint(SnapshotManager.EARLIEST))
+                .isEqualTo(latestSnapshotId - 2L);
+
+        // the delete threads are kept for the next expiration
+        commit(4, allData, snapshotPositions);
+        expire.expire();
+        expire.close();
+
+        latestSnapshotId = snapshotManager.latestSnapshotId().intValue();
+        for (int i = 1; i <= latestSnapshotId; i++) {
+            if (i > latestSnapshotId - 3) {
+                assertThat(snapshotManager.snapshotExists(i)).isTrue();
+                assertSnapshot(i, allData, snapshotPositions);
+            } else {
+                assertThat(snapshotManager.snapshotExists(i)).isFalse();
+            }
+        }
+    }
+
+    @Test
+    public void testResumeAfterCrashWhileDeletingFiles() throws Exception {
+        FileStoreExpireImpl crashingExpire =
+                new FileStoreExpireImpl(
+                        1,
+                        3,
+                        Long.MAX_VALUE,
+                        1,
+                        2,
+                        store.pathFactory(),
+                        snapshotManager,
+                        store.manifestFileFactory(),
+                        store.manifestListFactory()) {
+                    @Override
+                    void runDeletes(List<Runnable> deletes) {
+                        // the process dies after deleting part of the files of the first batch
+                        deletes.subList(0, deletes.size() / 2).forEach(Runnable::run);
+                        throw new RuntimeException("Artificial crash");
+                    }
+                };
+
+        List<KeyValue> allData = new ArrayList<>();
+        List<Integer> snapshotPositions = new ArrayList<>();
+        commit(6, allData, snapshotPositions);
+        int latestSnapshotId = snapshotManager.latestSnapshotId().intValue();
+        assertThatThrownBy(crashingExpire::expire).hasMessageContaining("Artificial crash");
+
+        // the snapshots of the first batch are gone and all remaining snapshots are readable
+        assertThat(snapshotManager.readHint(SnapshotManager.EARLIEST)).isEqualTo(3L);
+        for (int i = 1; i <= latestSnapshotId; i++) {
+            if (i > 2) {
+                assertThat(snapshotManager.snapshotExists(i)).isTrue();
+                assertSnapshot(i, allData, snapshotPositions);
+            } else {
+                assertThat(snapshotManager.snapshotExists(i)).isFalse();
+            }
+        }
+
+        // the next expiration continues from the earliest remaining snapshot
+        FileStoreExpire expire = store.newExpire(1, 3, Long.MAX_VALUE, 1, 2);
+        expire.expire();
+        for (int i = 1; i <= latestSnapshotId; i++) {
+            if (i > latestSnapshotId - 3) {
+                assertThat(snapshotManager.snapshotExists(i)).isTrue();
+                assertSnapshot(i, allData, snapshotPositions);
+            } else {
+                assertThat(snapshotManager.snapshotExists(i)).isFalse();
+            }
+        }
+
+        // files of the interrupted batch are left to the orphan files cleaning
+        assertThat(store.newOrphanFilesClean().olderThan(Long.MAX_VALUE).clean()).isNotEmpty();
+    }
+
     @Test
     public void testExpireWithTime() throws Exception {
         FileStoreExpire expire = store.newExpire(1, Integer.MAX_VALUE, 1000);
@@ -0,0 +1,285 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.file.predicate;
+
+import org.apache.flink.table.data.DecimalData;
+import org.apache.flink.table.data.GenericRowData;
+import org.apache.flink.table.data.TimestampData;
+import org.apache.flink.table.data.binary.BinaryRowData;
+import org.apache.flink.table.data.binary.BinaryStringData;
+import org.apache.flink.table.runtime.typeutils.RowDataSerializer;
+import org.apache.flink.table.store.codegen.CodeGenUtils;
+import org.apache.flink.table.store.format.FieldStats;
+import org.apache.flink.table.types.logical.BigIntType;
+import org.apache.flink.table.types.logical.BooleanType;
+import org.apache.flink.table.types.logical.DateType;
+import org.apache.flink.table.types.logical.DecimalType;
+import org.apache.flink.table.types.logical.DoubleType;
+import org.apache.flink.table.types.logical.FloatType;
+import org.apache.flink.table.types.logical.IntType;
+import org.apache.flink.table.types.logical.LogicalType;
+import org.apache.flink.table.types.logical.RowType;
+import org.apache.flink.table.types.logical.SmallIntType;
+import org.apache.flink.table.types.logical.TimestampType;
+import org.apache.flink.table.types.logical.TinyIntType;
+import org.apache.flink.table.types.logical.VarBinaryType;
+import org.apache.flink.table.types.logical.VarCharType;
+
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link PredicateEvaluator}s generated by {@link CodeGenUtils}. */
+public class PredicateEvaluatorTest {
+
+    private static final RowType ROW_TYPE =
+            RowType.of(
+                    new BooleanType(),
+                    new TinyIntType(),
+                    new SmallIntType(),
+                    new IntType(),
+                    new BigIntType(),
+                    new FloatType(),
+                    new DoubleType(),
+                    new DateType(),
+                    new VarCharType(10),
+                    new DecimalType(10, 2),
+                    new TimestampType(3),
+                    new VarBinaryType(10));
+
+    private static final float[] FLOATS = {-1.5f, -0.0f, 0.0f, 1.5f, Float.NaN};
+
+    private static final String[] STRINGS = {"", "a", "ab", "abc", "b", "ba", "中"};
+
+    private final Random random = new Random(ThreadLocalRandom.current().nextLong());
+
+    private final RowDataSerializer serializer = new RowDataSerializer(ROW_TYPE);
+
+    @RepeatedTest(10)
+    public void testRandomPredicates() {
+        for (int i = 0; i < 20; i++) {
+            Predicate predicate = randomPredicate(3);
+            PredicateEvaluator evaluator = CodeGenUtils.newPredicateEvaluator(predicate, ROW_TYPE);
+
+            for (int j = 0; j < 50; j++) {
+                GenericRowData row = randomRow();
+                BinaryRowData binaryRow = serializer.toBinaryRow(row).copy();
+                boolean expected = predicate.test(toObjects(row));
+                assertThat(evaluator.test(binaryRow)).as(predicate.toString()).isEqualTo(expected);
+
+                long rowCount = random.nextInt(5) + 1;
+                FieldStats[] stats = randomStats(rowCount);
+                assertThat(evaluator.test(rowCount, stats))
+                        .as(predicate.toString())
+                        .isEqualTo(predicate.test(rowCount, stats));
+            }
+        }
+    }
+
+    @Test
+    public void testLargeIn() {
+        PredicateBuilder builder = new PredicateBuilder(ROW_TYPE);
+        List<Object> ints = new ArrayList<>();
+        List<Object> strings = new ArrayList<>();
+        for (int i = 0; i < 100; i += 2) {
+            ints.add(i);
+            strings.add(BinaryStringData.fromString(String.valueOf(i)));
+        }
+        Predicate predicate = PredicateBuilder.and(builder.in(3, ints), builder.in(8, strings));
+        PredicateEvaluator evaluator = CodeGenUtils.newPredicateEvaluator(predicate, ROW_TYPE);
+
+        for (int i = 0; i < 100; i++) {
+            GenericRowData row = new GenericRowData(ROW_TYPE.getFieldCount());
+            row.setField(3, i);
+            row.setField(8, BinaryStringData.fromString(String.valueOf(i)));
+            assertThat(evaluator.test(serializer.toBinaryRow(row))).isEqualTo(i % 2 == 0);
+        }
+
+        FieldStats[] stats = new FieldStats[ROW_TYPE.getFieldCount()];
+        stats[8] = new FieldStats(null, null, 0);
+        stats[3] = new FieldStats(3, 3, 0);
+        assertThat(evaluator.test(1, stats)).isFalse();
+        stats[3] = new FieldStats(3, 4, 0);
+        assertThat(evaluator.test(1, stats)).isTrue();
+        stats[3] = new FieldStats(100, 200, 0);
+        assertThat(evaluator.test(1, stats)).isFalse();
+    }
+
+    @Test
+    public void testSameShapeSharesClass() {
+        PredicateBuilder builder = new PredicateBuilder(ROW_TYPE);
+        PredicateEvaluator first =
+                CodeGenUtils.newPredicateEvaluator(
+                        PredicateBuilder.and(
+                                builder.equal(3, 1),
+                                builder.equal(8, BinaryStringData.fromString("a"))),
+                        ROW_TYPE);
+        PredicateEvaluator second =
+                CodeGenUtils.newPredicateEvaluator(
+                        PredicateBuilder.and(
+                                builder.equal(3, 2),
+                                builder.equal(8, BinaryStringData.fromString("b"))),
+                        ROW_TYPE);
+        assertThat(second.getClass()).isSameAs(first.getClass());
+
+        GenericRowData row = new GenericRowData(ROW_TYPE.getFieldCount());
+        row.setField(3, 2);
+        row.setField(8, BinaryStringData.fromString("b"));
+        BinaryRowData binaryRow = serializer.toBinaryRow(row);
+        assertThat(first.test(binaryRow)).isFalse();
+        assertThat(second.test(binaryRow)).isTrue();
+    }
+
+    @Test
+    public void testTooManyLeaves() {
+        PredicateBuilder builder = new PredicateBuilder(ROW_TYPE);
+        List<Predicate> predicates = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            predicates.add(builder.equal(4, (long) i));
+        }
+        Predicate predicate = PredicateBuilder.or(predicates);
+        PredicateEvaluator evaluator = CodeGenUtils.newPredicateEvaluator(predicate, ROW_TYPE);
+
+        GenericRowData row = new GenericRowData(ROW_TYPE.getFieldCount());
+        row.setField(4, 999L);
+        assertThat(evaluator.test(serializer.toBinaryRow(row))).isTrue();
+        row.setField(4, 1000L);
+        assertThat(evaluator.test(serializer.toBinaryRow(row))).isFalse();
+    }
+
+    private Predicate randomPredicate(int depth) {
+        if (depth > 0 && random.nextInt(3) == 0) {
+            List<Predicate> children = new ArrayList<>();
+            int numChildren = random.nextInt(3) + 2;
+            for (int i = 0; i < numChildren; i++) {
+                children.add(randomPredicate(depth - 1));
+            }
+            return random.nextBoolean()
+                    ? PredicateBuilder.and(children)
+                    : PredicateBuilder.or(children);
+        }
+
+        int index = random.nextInt(ROW_TYPE.getFieldCount());
+        LogicalType type = ROW_TYPE.getTypeAt(index);
+        String name = ROW_TYPE.getFieldNames().get(index);
+        LeafFunction[] functions = {
+            Equal.INSTANCE,
+            NotEqual.INSTANCE,
+            LessThan.INSTANCE,
+            LessOrEqual.INSTANCE,
+            GreaterThan.INSTANCE,
+            GreaterOrEqual.INSTANCE,
+            IsNull.INSTANCE,
+            IsNotNull.INSTANCE,
+            In.INSTANCE,
+            NotIn.INSTANCE,
+            StartsWith.INSTANCE
+        };
+        LeafFunction function = functions[random.nextInt(functions.length)];
+        if (function == StartsWith.INSTANCE && !(type instanceof VarCharType)) {
+            function = Equal.INSTANCE;
+        }
+
+        List<Object> literals = new ArrayList<>();
+        if (function instanceof In || function instanceof NotIn) {
+            int numLiterals = random.nextInt(30);
+            for (int i = 0; i < numLiterals; i++) {
+                literals.add(random.nextInt(20) == 0 ? null : randomValue(index));
+            }
+        } else if (!(function instanceof LeafUnaryFunction)) {
+            literals.add(random.nextInt(10) == 0 ? null : randomValue(index));
+        }
+        return new LeafPredicate(function, type, index, name, literals);
+    }
+
+    private GenericRowData randomRow() {
+        GenericRowData row = new GenericRowData(ROW_TYPE.getFieldCount());
+        for (int i = 0; i < ROW_TYPE.getFieldCount(); i++) {
+            row.setField(i, random.nextInt(5) == 0 ? null : randomValue(i));
+        }
+        return row;
+    }
+
+    private Object[] toObjects(GenericRowData row) {
+        Object[] objects = new Object[row.getArity()];
+        for (int i = 0; i < objects.length; i++) {
+            objects[i] = row.getField(i);
+        }
+        return objects;
+    }
+
+    private FieldStats[] randomStats(long rowCount) {
+        FieldStats[] stats = new FieldStats[ROW_TYPE.getFieldCount()];
+        for (int i = 0; i < stats.length; i++) {
+            long nullCount = random.nextInt((int) rowCount + 1);
+            if (nullCount == rowCount || random.nextInt(10) == 0) {
+                stats[i] = new FieldStats(null, null, nullCount);
+                continue;
+            }
+            LogicalType type = ROW_TYPE.getTypeAt(i);
+            Object min = randomValue(i);
+            Object max = randomValue(i);
+            if (CompareUtils.compareLiteral(type, min, max) > 0) {
+                Object tmp = min;
+                min = max;
+                max = tmp;
+            }
+            stats[i] = new FieldStats(min, max, nullCount);
+        }
+        return stats;
+    }
+
+    private Object randomValue(int index) {
+        switch (ROW_TYPE.getTypeAt(index).getTypeRoot()) {
+            case BOOLEAN:
+                return random.nextBoolean();
+            case TINYINT:
+                return (byte) (random.nextInt(10) - 5);
+            case SMALLINT:
+                return (short) (random.nextInt(10) - 5);
+            case INTEGER:
+            case DATE:
+                return random.nextInt(10) - 5;
+            case BIGINT:
+                return (long) (random.nextInt(10) - 5);
+            case FLOAT:
+                return FLOATS[random.nextInt(FLOATS.length)];
+            case DOUBLE:
+                return (double) FLOATS[random.nextInt(FLOATS.length)];
+            case VARCHAR:
+                return BinaryStringData.fromString(STRINGS[random.nextInt(STRINGS.length)]);
+            case DECIMAL:
+                return DecimalData.fromBigDecimal(
+                        BigDecimal.valueOf(random.nextInt(10) - 5, 1), 10, 2);
+            case TIMESTAMP_WITHOUT_TIME_ZONE:
+                return TimestampData.fromEpochMillis(random.nextInt(5));
+            case VARBINARY:
+                return new byte[] {(byte) random.nextInt(3)};
+            default:
+                throw new UnsupportedOperationException();
+        }
+    }
+}
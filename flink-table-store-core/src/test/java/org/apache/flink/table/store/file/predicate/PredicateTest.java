@@ -519,4 +519,20 @@ public class PredicateTest {
         assertThat(predicate.test(3, new FieldStats[] {new FieldStats(null, null, 4)}))
                 .isEqualTo(true);
     }
+
+    @Test
+    public void testUnknownNullCount() {
+        PredicateBuilder builder = new PredicateBuilder(RowType.of(new IntType()));
+        FieldStats[] allNullsUnknown = new FieldStats[] {new FieldStats(null, null, null)};
+        FieldStats[] rangeUnknownNulls = new FieldStats[] {new FieldStats(6, 7, null)};
+
+        // the field may contain nulls or only nulls, nothing can be skipped
+        assertThat(builder.isNull(0).test(3, rangeUnknownNulls)).isEqualTo(true);
+        assertThat(builder.isNotNull(0).test(3, allNullsUnknown)).isEqualTo(true);
+        assertThat(builder.equal(0, 5).test(3, allNullsUnknown)).isEqualTo(true);
+        assertThat(builder.in(0, Arrays.asList(1, 5)).test(3, allNullsUnknown)).isEqualTo(true);
+
+        // known min and max still prune
+        assertThat(builder.equal(0, 5).test(3, rangeUnknownNulls)).isEqualTo(false);
+    }
 }
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.file.utils;
+
+import org.apache.flink.table.store.file.KeyValue;
+import org.apache.flink.table.store.file.mergetree.compact.CombiningRecordReaderTestBase;
+import org.apache.flink.table.store.file.mergetree.compact.ConcatRecordReader;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Tests for {@link AsyncRecordReader}. */
+public class AsyncRecordReaderTest extends CombiningRecordReaderTestBase {
+
+    private static final ExecutorService EXECUTOR = AsyncRecordReader.executor(2);
+
+    private final PrefetchMetrics metrics = new PrefetchMetrics();
+
+    @Override
+    protected boolean addOnly() {
+        return false;
+    }
+
+    @Override
+    protected List<ReusingTestData> getExpected(List<ReusingTestData> input) {
+        return input;
+    }
+
+    @Override
+    protected RecordReader<KeyValue> createRecordReader(List<TestReusingRecordReader> readers) {
+        try {
+            return ConcatRecordReader.create(
+                    readers.stream()
+                            .map(
+                                    r ->
+                                            (ConcatRecordReader.ReaderSupplier<KeyValue>)
+                                                    () ->
+                                                            new AsyncRecordReader<>(
+                                                                    () -> r, EXECUTOR, metrics))
+                            .collect(Collectors.toList()),
+                    new Semaphore(1));
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Test
+    public void testMetrics() throws IOException {
+        runTest(parseData("1, 1, +, 100 | 3, 2, +, 300", "", "5, 3, -, 500 | 7, 4, +, 700"));
+        assertThat(metrics.hits() + metrics.misses()).isGreaterThan(0);
+        assertThat(metrics.waitMillis()).isGreaterThanOrEqualTo(0);
+    }
+
+    @Test
+    public void testCloseBeforeExhausted() throws IOException {
+        TestReusingRecordReader inner =
+                new TestReusingRecordReader(
+                        ReusingTestData.parse("1, 1, +, 100 | 3, 2, +, 300 | 5, 3, -, 500"));
+        RecordReader<KeyValue> reader = new AsyncRecordReader<>(() -> inner, EXECUTOR, metrics);
+        RecordReader.RecordIterator<KeyValue> batch = reader.readBatch();
+        assertThat(batch).isNotNull();
+        reader.close();
+        inner.assertCleanUp();
+    }
+
+    @Test
+    public void testFailure() {
+        RecordReader<KeyValue> reader =
+                new AsyncRecordReader<>(
+                        () -> {
+                            throw new IOException("Expected failure.");
+                        },
+                        EXECUTOR,
+                        metrics);
+        assertThatThrownBy(reader::readBatch)
+                .isInstanceOf(IOException.class)
+                .hasMessage("Expected failure.");
+        assertThat(metrics.hits() + metrics.misses()).isEqualTo(1);
+    }
+
+    @Test
+    public void testSharedExecutorGrows() {
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) AsyncRecordReader.executor(1);
+        int maxThreads = executor.getMaximumPoolSize();
+        assertThat(AsyncRecordReader.executor(maxThreads - 1)).isSameAs(executor);
+        assertThat(executor.getMaximumPoolSize()).isEqualTo(maxThreads);
+        assertThat(AsyncRecordReader.executor(maxThreads + 1)).isSameAs(executor);
+        assertThat(executor.getMaximumPoolSize()).isEqualTo(maxThreads + 1);
+        assertThat(executor.getCorePoolSize()).isEqualTo(maxThreads + 1);
+    }
+}
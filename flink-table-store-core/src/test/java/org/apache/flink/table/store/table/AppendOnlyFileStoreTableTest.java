@@ -22,18 +22,26 @@ import org.apache.flink.configuration.Configuration;
 import org.apache.flink.table.data.GenericRowData;
 import org.apache.flink.table.store.CoreOptions;
 import org.apache.flink.table.store.file.WriteMode;
+import org.apache.flink.table.store.file.data.DataFileMeta;
+import org.apache.flink.table.store.file.mergetree.Increment;
 import org.apache.flink.table.store.file.predicate.Predicate;
 import org.apache.flink.table.store.file.predicate.PredicateBuilder;
 import org.apache.flink.table.store.file.schema.SchemaManager;
 import org.apache.flink.table.store.file.schema.TableSchema;
 import org.apache.flink.table.store.file.schema.UpdateSchema;
+import org.apache.flink.table.store.file.stats.FieldStatsArraySerializer;
+import org.apache.flink.table.store.format.FieldStats;
+import org.apache.flink.table.store.table.sink.FileCommittable;
 import org.apache.flink.table.store.table.sink.TableCommit;
 import org.apache.flink.table.store.table.sink.TableWrite;
 import org.apache.flink.table.store.table.source.Split;
+import org.apache.flink.table.store.table.source.StatsAggregator;
+import org.apache.flink.table.store.table.source.StatsAggregator.AggregateCall;
 import org.apache.flink.table.store.table.source.TableRead;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -90,6 +98,107 @@ public class AppendOnlyFileStoreTableTest extends FileStoreTableTestBase {
                                 "2|21|201"));
     }
 
+    @Test
+    public void testBatchLimit() throws Exception {
+        writeData();
+        FileStoreTable table = createFileStoreTable();
+
+        // each partition is a split of 4 or 5 records
+        assertThat(table.newScan().plan().splits).hasSize(2);
+        assertThat(table.newScan().withLimit(1).plan().splits).hasSize(1);
+        assertThat(table.newScan().withLimit(4).plan().splits).hasSize(1);
+        assertThat(table.newScan().withLimit(6).plan().splits).hasSize(2);
+
+        // records of the planned files might be filtered out
+        PredicateBuilder builder = new PredicateBuilder(table.schema().logicalRowType());
+        assertThat(
+                        table.newScan()
+                                .withFilter(builder.greaterThan(2, 0L))
+                                .withLimit(1)
+                                .plan()
+                                .splits)
+                .hasSize(2);
+    }
+
+    @Test
+    public void testAggregateByStats() throws Exception {
+        writeData();
+        FileStoreTable table = createFileStoreTable();
+        TableWrite write = table.newWrite();
+        TableCommit commit = table.newCommit("user");
+        write.write(GenericRowData.of(1, null, 103L));
+        commit.commit("3", write.prepareCommit(true));
+        write.close();
+
+        List<AggregateCall> calls =
+                Arrays.asList(
+                        AggregateCall.countStar(),
+                        AggregateCall.count(1),
+                        AggregateCall.min(1),
+                        AggregateCall.max(1),
+                        AggregateCall.max(2));
+        StatsAggregator aggregator = new StatsAggregator(table);
+        assertThat(aggregator.aggregate(calls)).hasValue(GenericRowData.of(10L, 9L, 10, 22, 202L));
+        assertThat(aggregator.resultType(calls).getFieldCount()).isEqualTo(5);
+    }
+
+    @Test
+    public void testCountWithUnknownNullCount() throws Exception {
+        FileStoreTable table = createFileStoreTable();
+        TableWrite write = table.newWrite();
+        TableCommit commit = table.newCommit("user");
+        write.write(GenericRowData.of(1, 10, 100L));
+        write.write(GenericRowData.of(1, null, 101L));
+
+        // replace the stats as if they came from a file format without null counts
+        FieldStatsArraySerializer serializer = new FieldStatsArraySerializer(ROW_TYPE);
+        List<FileCommittable> committables = new ArrayList<>();
+        for (FileCommittable committable : write.prepareCommit(true)) {
+            List<DataFileMeta> newFiles = new ArrayList<>();
+            for (DataFileMeta file : committable.increment().newFiles()) {
+                FieldStats[] stats = file.valueStats().fields(serializer, file.rowCount());
+                stats[1] = new FieldStats(stats[1].minValue(), stats[1].maxValue(), null);
+                newFiles.add(
+                        DataFileMeta.forAppend(
+                                file.fileName(),
+                                file.fileSize(),
+                                file.rowCount(),
+                                serializer.toBinary(stats),
+                                file.minSequenceNumber(),
+                                file.maxSequenceNumber(),
+                                file.schemaId()));
+            }
+            committables.add(
+                    new FileCommittable(
+                            committable.partition(),
+                            committable.bucket(),
+                            new Increment(
+                                    newFiles, Collections.emptyList(), Collections.emptyList())));
+        }
+        commit.commit("0", committables);
+        write.close();
+
+        StatsAggregator aggregator = new StatsAggregator(table);
+        assertThat(aggregator.aggregate(Collections.singletonList(AggregateCall.countStar())))
+                .hasValue(GenericRowData.of(2L));
+        // COUNT(a) must be answered by reading the data
+        assertThat(aggregator.aggregate(Collections.singletonList(AggregateCall.count(1))))
+                .isEmpty();
+        assertThat(aggregator.aggregate(Collections.singletonList(AggregateCall.count(2))))
+                .hasValue(GenericRowData.of(2L));
+    }
+
+    @Test
+    public void testAggregateByStatsOfEmptyTable() throws Exception {
+        FileStoreTable table = createFileStoreTable();
+        assertThat(
+                        new StatsAggregator(table)
+                                .aggregate(
+                                        Arrays.asList(
+                                                AggregateCall.countStar(), AggregateCall.min(1))))
+                .hasValue(GenericRowData.of(0L, null));
+    }
+
     @Test
     public void testStreamingReadWrite() throws Exception {
         writeData();
@@ -19,6 +19,7 @@
 package org.apache.flink.table.store.table;
 
 import org.apache.flink.configuration.Configuration;
+import org.apache.flink.configuration.MemorySize;
 import org.apache.flink.table.data.GenericRowData;
 import org.apache.flink.table.store.CoreOptions;
 import org.apache.flink.table.store.file.WriteMode;
@@ -30,17 +31,21 @@ import org.apache.flink.table.store.file.schema.UpdateSchema;
 import org.apache.flink.table.store.table.sink.TableCommit;
 import org.apache.flink.table.store.table.sink.TableWrite;
 import org.apache.flink.table.store.table.source.Split;
+import org.apache.flink.table.store.table.source.StatsAggregator;
+import org.apache.flink.table.store.table.source.StatsAggregator.AggregateCall;
 import org.apache.flink.table.store.table.source.TableRead;
 import org.apache.flink.types.RowKind;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /** Tests for {@link ChangelogWithKeyFileStoreTable}. */
 public class ChangelogWithKeyFileStoreTableTest extends FileStoreTableTestBase {
@@ -65,6 +70,83 @@ public class ChangelogWithKeyFileStoreTableTest extends FileStoreTableTestBase {
                 .isEqualTo(Arrays.asList("1|10|200", "1|11|101"));
     }
 
+    @Test
+    public void testDynamicBucket() throws Exception {
+        FileStoreTable table =
+                createFileStoreTable(
+                        conf -> {
+                            conf.set(CoreOptions.BUCKET, CoreOptions.DYNAMIC_BUCKET);
+                            conf.set(CoreOptions.DYNAMIC_BUCKET_TARGET_ROW_NUM, 2L);
+                        });
+        TableWrite write = table.newWrite();
+        TableCommit commit = table.newCommit("user");
+        for (int i = 0; i < 5; i++) {
+            write.write(GenericRowData.of(1, i, 100L + i));
+        }
+        commit.commit("0", write.prepareCommit(true));
+        write.close();
+
+        // a new writer loads the persisted index, so existing keys stay in their buckets
+        write = table.newWrite();
+        write.write(GenericRowData.of(1, 0, 200L));
+        write.write(GenericRowData.of(1, 5, 105L));
+        commit.commit("1", write.prepareCommit(true));
+        write.close();
+
+        List<Split> splits = table.newScan().plan().splits;
+        assertThat(splits.stream().map(Split::bucket).distinct())
+                .containsExactlyInAnyOrder(0, 1, 2);
+        TableRead read = table.newRead();
+        List<String> result = new ArrayList<>();
+        for (int bucket = 0; bucket < 3; bucket++) {
+            result.addAll(getResult(read, splits, binaryRow(1), bucket, BATCH_ROW_TO_STRING));
+        }
+        assertThat(result)
+                .containsExactlyInAnyOrder(
+                        "1|0|200", "1|1|101", "1|2|102", "1|3|103", "1|4|104", "1|5|105");
+    }
+
+    @Test
+    public void testDynamicBucketConflictingWriters() throws Exception {
+        FileStoreTable table =
+                createFileStoreTable(
+                        conf -> {
+                            conf.set(CoreOptions.BUCKET, CoreOptions.DYNAMIC_BUCKET);
+                            conf.set(CoreOptions.DYNAMIC_BUCKET_TARGET_ROW_NUM, 2L);
+                        });
+        TableCommit commit = table.newCommit("user");
+
+        // both writers start from an empty index, the first one assigns key 2 to bucket 1 as
+        // bucket 0 is full, the second one assigns key 2 to bucket 0
+        TableWrite write1 = table.newWrite();
+        TableWrite write2 = table.newWrite();
+        write1.write(GenericRowData.of(1, 0, 100L));
+        write1.write(GenericRowData.of(1, 1, 101L));
+        write1.write(GenericRowData.of(1, 2, 102L));
+        write2.write(GenericRowData.of(1, 2, 202L));
+
+        commit.commit("0", write1.prepareCommit(true));
+        write1.close();
+        assertThatThrownBy(() -> write2.prepareCommit(true))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining(
+                        "A key is assigned to bucket 0 by this writer but to bucket 1 by a concurrent writer");
+        write2.close();
+
+        // the index of the failed writer is discarded, key 2 stays in bucket 1
+        TableWrite write3 = table.newWrite();
+        write3.write(GenericRowData.of(1, 2, 302L));
+        commit.commit("1", write3.prepareCommit(true));
+        write3.close();
+
+        List<Split> splits = table.newScan().plan().splits;
+        TableRead read = table.newRead();
+        assertThat(getResult(read, splits, binaryRow(1), 0, BATCH_ROW_TO_STRING))
+                .containsExactlyInAnyOrder("1|0|100", "1|1|101");
+        assertThat(getResult(read, splits, binaryRow(1), 1, BATCH_ROW_TO_STRING))
+                .containsExactly("1|2|302");
+    }
+
     @Test
     public void testBatchReadWrite() throws Exception {
         writeData();
@@ -78,6 +160,17 @@ public class ChangelogWithKeyFileStoreTableTest extends FileStoreTableTestBase {
                 .isEqualTo(Arrays.asList("2|21|20001", "2|22|202"));
     }
 
+    @Test
+    public void testNoAggregateByStats() throws Exception {
+        writeData();
+        FileStoreTable table = createFileStoreTable();
+        // files may hold retractions and older versions of keys
+        assertThat(
+                        new StatsAggregator(table)
+                                .aggregate(Collections.singletonList(AggregateCall.countStar())))
+                .isEmpty();
+    }
+
     @Test
     public void testBatchProjection() throws Exception {
         writeData();
@@ -246,6 +339,116 @@ public class ChangelogWithKeyFileStoreTableTest extends FileStoreTableTestBase {
                 .hasSameElementsAs(Arrays.asList("1|30|300", "1|40|400"));
     }
 
+    @Test
+    public void testBloomFilter() throws Exception {
+        FileStoreTable table =
+                createFileStoreTable(conf -> conf.set(CoreOptions.BLOOM_FILTER_ENABLED, true));
+
+        TableWrite write = table.newWrite();
+        TableCommit commit = table.newCommit("user");
+
+        // key ranges of all files overlap, so they can not be pruned by key stats
+        write.write(GenericRowData.of(1, 10, 100L));
+        write.write(GenericRowData.of(1, 50, 500L));
+        commit.commit("0", write.prepareCommit(true));
+
+        write.write(GenericRowData.of(1, 20, 200L));
+        write.write(GenericRowData.of(1, 40, 400L));
+        commit.commit("1", write.prepareCommit(true));
+
+        write.write(GenericRowData.of(1, 30, 300L));
+        write.write(GenericRowData.of(1, 60, 600L));
+        commit.commit("2", write.prepareCommit(true));
+
+        write.close();
+
+        PredicateBuilder builder = new PredicateBuilder(ROW_TYPE);
+        TableRead read = table.newRead();
+
+        List<Split> splits = table.newScan().withFilter(builder.equal(1, 30)).plan().splits;
+        assertThat(getResult(read, splits, binaryRow(1), 0, BATCH_ROW_TO_STRING))
+                .hasSameElementsAs(Arrays.asList("1|30|300", "1|60|600"));
+
+        splits =
+                table.newScan()
+                        .withFilter(builder.in(1, Arrays.<Object>asList(20, 30)))
+                        .plan()
+                        .splits;
+        assertThat(getResult(read, splits, binaryRow(1), 0, BATCH_ROW_TO_STRING))
+                .hasSameElementsAs(Arrays.asList("1|20|200", "1|40|400", "1|30|300", "1|60|600"));
+
+        splits = table.newScan().withFilter(builder.equal(1, 35)).plan().splits;
+        assertThat(getResult(read, splits, binaryRow(1), 0, BATCH_ROW_TO_STRING)).isEmpty();
+
+        // range filters can not be answered by bloom filters
+        splits = table.newScan().withFilter(builder.greaterOrEqual(1, 35)).plan().splits;
+        assertThat(getResult(read, splits, binaryRow(1), 0, BATCH_ROW_TO_STRING)).hasSize(6);
+    }
+
+    @Test
+    public void testBloomFilterWithMoreKeysThanExpected() throws Exception {
+        // files of this size are expected to hold very few keys, so the hash codes of the keys are
+        // added into a bloom filter while writing instead of being buffered
+        FileStoreTable table =
+                createFileStoreTable(
+                        conf -> {
+                            conf.set(CoreOptions.BLOOM_FILTER_ENABLED, true);
+                            conf.set(CoreOptions.TARGET_FILE_SIZE, MemorySize.parse("128b"));
+                        });
+
+        TableWrite write = table.newWrite();
+        TableCommit commit = table.newCommit("user");
+        for (int i = 0; i < 100; i++) {
+            write.write(GenericRowData.of(1, i, i * 10L));
+        }
+        commit.commit("0", write.prepareCommit(true));
+        write.close();
+
+        PredicateBuilder builder = new PredicateBuilder(ROW_TYPE);
+        List<Split> splits = table.newScan().withFilter(builder.equal(1, 42)).plan().splits;
+        assertThat(getResult(table.newRead(), splits, binaryRow(1), 0, BATCH_ROW_TO_STRING))
+                .contains("1|42|420");
+    }
+
+    @Test
+    public void testValueFilter() throws Exception {
+        FileStoreTable table = createFileStoreTable();
+
+        TableWrite write = table.newWrite();
+        TableCommit commit = table.newCommit("user");
+
+        write.write(GenericRowData.of(1, 10, 100L));
+        write.write(GenericRowData.of(1, 20, 200L));
+        commit.commit("0", write.prepareCommit(true));
+
+        write.write(GenericRowData.of(1, 30, 300L));
+        write.write(GenericRowData.of(1, 40, 400L));
+        commit.commit("1", write.prepareCommit(true));
+
+        // overlaps with the first file
+        write.write(GenericRowData.of(1, 10, 101L));
+        commit.commit("2", write.prepareCommit(true));
+
+        write.close();
+
+        PredicateBuilder builder = new PredicateBuilder(ROW_TYPE);
+        TableRead read = table.newRead();
+
+        // the second file does not overlap other files and is filtered by value stats
+        List<Split> splits = table.newScan().withFilter(builder.equal(2, 100L)).plan().splits;
+        assertThat(getResult(read, splits, binaryRow(1), 0, BATCH_ROW_TO_STRING))
+                .hasSameElementsAs(Arrays.asList("1|10|101", "1|20|200"));
+
+        // overlapping files are never filtered by value stats
+        splits = table.newScan().withFilter(builder.equal(2, 400L)).plan().splits;
+        assertThat(getResult(read, splits, binaryRow(1), 0, BATCH_ROW_TO_STRING))
+                .hasSameElementsAs(Arrays.asList("1|10|101", "1|20|200", "1|30|300", "1|40|400"));
+
+        splits = table.newScan().withFilter(builder.equal(2, 500L)).plan().splits;
+        assertThat(getResult(read, splits, binaryRow(1), 0, BATCH_ROW_TO_STRING))
+                .hasSameElementsAs(Arrays.asList("1|10|101", "1|20|200"));
+    }
+
     protected FileStoreTable createFileStoreTable(boolean changelogFile) throws Exception {
         return createFileStoreTable(conf -> conf.set(CoreOptions.CHANGELOG_FILE, changelogFile));
     }
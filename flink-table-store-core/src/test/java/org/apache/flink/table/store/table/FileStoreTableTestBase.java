@@ -19,19 +19,31 @@
 package org.apache.flink.table.store.table;
 
 import org.apache.flink.configuration.Configuration;
+import org.apache.flink.configuration.MemorySize;
+import org.apache.flink.core.fs.FileStatus;
+import org.apache.flink.core.fs.FileSystem;
 import org.apache.flink.core.fs.Path;
 import org.apache.flink.table.api.DataTypes;
 import org.apache.flink.table.data.GenericRowData;
 import org.apache.flink.table.data.RowData;
 import org.apache.flink.table.data.binary.BinaryRowData;
 import org.apache.flink.table.data.writer.BinaryRowWriter;
+import org.apache.flink.table.store.CoreOptions;
+import org.apache.flink.table.store.file.AbstractFileStore;
+import org.apache.flink.table.store.file.Snapshot;
+import org.apache.flink.table.store.file.manifest.ManifestFileMeta;
+import org.apache.flink.table.store.file.manifest.ManifestList;
 import org.apache.flink.table.store.file.mergetree.compact.ConcatRecordReader;
 import org.apache.flink.table.store.file.mergetree.compact.ConcatRecordReader.ReaderSupplier;
+import org.apache.flink.table.store.file.operation.FileStoreCommitImpl;
 import org.apache.flink.table.store.file.predicate.PredicateBuilder;
+import org.apache.flink.table.store.file.utils.FileUtils;
 import org.apache.flink.table.store.file.utils.RecordReader;
 import org.apache.flink.table.store.file.utils.RecordReaderIterator;
+import org.apache.flink.table.store.file.utils.SnapshotManager;
 import org.apache.flink.table.store.file.utils.TestAtomicRenameFileSystem;
 import org.apache.flink.table.store.table.sink.TableCommit;
+import org.apache.flink.table.store.table.sink.TableRescale;
 import org.apache.flink.table.store.table.sink.TableWrite;
 import org.apache.flink.table.store.table.source.Split;
 import org.apache.flink.table.store.table.source.TableRead;
@@ -47,14 +59,17 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
 import static org.apache.flink.table.store.CoreOptions.BUCKET;
 import static org.apache.flink.table.store.CoreOptions.BUCKET_KEY;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /** Base test class for {@link FileStoreTable}. */
 public abstract class FileStoreTableTestBase {
@@ -120,6 +135,286 @@ public abstract class FileStoreTableTestBase {
                 .hasSameElementsAs(Collections.singletonList("2|21|201"));
     }
 
+    @Test
+    public void testAsyncExpire() throws Exception {
+        FileStoreTable table =
+                createFileStoreTable(
+                        conf -> {
+                            conf.set(CoreOptions.SNAPSHOT_NUM_RETAINED_MIN, 1);
+                            conf.set(CoreOptions.SNAPSHOT_NUM_RETAINED_MAX, 1);
+                            conf.set(CoreOptions.SNAPSHOT_EXPIRE_ASYNC, true);
+                        });
+
+        TableWrite write = table.newWrite();
+        for (int i = 0; i < 3; i++) {
+            TableCommit commit = table.newCommit("user");
+            write.write(GenericRowData.of(1, i, (long) i));
+            commit.commit(String.valueOf(i), write.prepareCommit(true));
+            // waits for the expiration
+            commit.close();
+
+            long latest = table.snapshotManager().latestSnapshotId();
+            assertThat(table.snapshotManager().findEarliest()).isEqualTo(latest);
+        }
+        write.close();
+    }
+
+    @Test
+    public void testTieredManifestMerge() throws Exception {
+        FileStoreTable table =
+                createFileStoreTable(
+                        conf -> {
+                            conf.set(CoreOptions.MANIFEST_TIERED_MERGE, true);
+                            conf.set(CoreOptions.MANIFEST_MERGE_MIN_COUNT, 2);
+                        });
+
+        TableWrite write = table.newWrite();
+        TableCommit commit = table.newCommit("user");
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            write.write(GenericRowData.of(1, i, (long) i));
+            commit.commit(String.valueOf(i), write.prepareCommit(true));
+            expected.add("1|" + i + "|" + i);
+        }
+        write.close();
+
+        SnapshotManager snapshotManager = table.snapshotManager();
+        Snapshot snapshot = snapshotManager.snapshot(snapshotManager.latestSnapshotId());
+        ManifestList manifestList =
+                ((AbstractFileStore<?>) ((AbstractFileStoreTable) table).store())
+                        .manifestListFactory()
+                        .create();
+        // delta manifests of the commits are merged into fewer manifests
+        assertThat(snapshot.readAllManifests(manifestList)).hasSizeLessThan(10);
+        List<Split> splits = table.newScan().plan().splits;
+        assertThat(getResult(table.newRead(), splits, binaryRow(1), 0, BATCH_ROW_TO_STRING))
+                .hasSameElementsAs(expected);
+    }
+
+    @Test
+    public void testFullManifestMerge() throws Exception {
+        FileStoreTable table =
+                createFileStoreTable(
+                        conf -> {
+                            conf.set(CoreOptions.MANIFEST_TIERED_MERGE, true);
+                            // every manifest reaches the target size
+                            conf.set(CoreOptions.MANIFEST_TARGET_FILE_SIZE, MemorySize.parse("1b"));
+                        });
+
+        Map<String, String> overwritePartition = new HashMap<>();
+        overwritePartition.put("pt", "1");
+        for (int i = 0; i < 10; i++) {
+            TableWrite write = table.newWrite().withOverwrite(true);
+            TableCommit commit = table.newCommit("user").withOverwritePartition(overwritePartition);
+            write.write(GenericRowData.of(1, i, (long) i));
+            commit.commit(String.valueOf(i), write.prepareCommit(true));
+            write.close();
+        }
+
+        SnapshotManager snapshotManager = table.snapshotManager();
+        Snapshot snapshot = snapshotManager.snapshot(snapshotManager.latestSnapshotId());
+        ManifestList manifestList =
+                ((AbstractFileStore<?>) ((AbstractFileStoreTable) table).store())
+                        .manifestListFactory()
+                        .create();
+        // entries of overwritten files are removed by full merges, only the merged manifest and
+        // the manifests of the last overwrite (one entry per manifest) are left
+        assertThat(snapshot.readAllManifests(manifestList)).hasSize(3);
+        List<Split> splits = table.newScan().plan().splits;
+        assertThat(getResult(table.newRead(), splits, binaryRow(1), 0, BATCH_ROW_TO_STRING))
+                .containsExactly("1|9|9");
+    }
+
+    @Test
+    public void testAsyncFullManifestMergeApplied() throws Exception {
+        FileStoreTable table = createAsyncFullManifestMergeTable();
+        AbstractFileStore<?> store =
+                (AbstractFileStore<?>) ((AbstractFileStoreTable) table).store();
+        FileStoreCommitImpl fileStoreCommit = store.newCommit("user");
+        TableCommit commit =
+                new TableCommit(fileStoreCommit, store.newExpire(), store.options())
+                        .withOverwritePartition(Collections.singletonMap("pt", "1"));
+
+        for (int i = 0; i < 10; i++) {
+            overwrite(table, commit, i);
+            // let the next commit find the finished merge
+            fileStoreCommit.waitForFullMerge();
+        }
+        commit.close();
+
+        SnapshotManager snapshotManager = table.snapshotManager();
+        Snapshot snapshot = snapshotManager.snapshot(snapshotManager.latestSnapshotId());
+        // without applying full merges every overwrite would leave a manifest
+        assertThat(snapshot.readAllManifests(store.manifestListFactory().create()))
+                .hasSizeLessThan(10);
+        assertNoUnusedManifests(store);
+        List<Split> splits = table.newScan().plan().splits;
+        assertThat(getResult(table.newRead(), splits, binaryRow(1), 0, BATCH_ROW_TO_STRING))
+                .containsExactly("1|9|9");
+    }
+
+    @Test
+    public void testAsyncFullManifestMergeDiscarded() throws Exception {
+        FileStoreTable table = createAsyncFullManifestMergeTable();
+        AbstractFileStore<?> store =
+                (AbstractFileStore<?>) ((AbstractFileStoreTable) table).store();
+        FileStoreCommitImpl first = store.newCommit("user");
+        FileStoreCommitImpl second = store.newCommit("user");
+        TableCommit firstCommit =
+                new TableCommit(first, store.newExpire(), store.options())
+                        .withOverwritePartition(Collections.singletonMap("pt", "1"));
+        TableCommit secondCommit =
+                new TableCommit(second, store.newExpire(), store.options())
+                        .withOverwritePartition(Collections.singletonMap("pt", "1"));
+
+        int i = 0;
+        do {
+            overwrite(table, firstCommit, i++);
+        } while (!first.waitForFullMerge());
+
+        // the second committer merges the same manifests and applies its result first
+        do {
+            overwrite(table, secondCommit, i++);
+        } while (!second.waitForFullMerge());
+        overwrite(table, secondCommit, i++);
+
+        // the result of the first committer is stale and discarded, then a pending result is
+        // discarded on close
+        overwrite(table, firstCommit, i++);
+        do {
+            overwrite(table, firstCommit, i++);
+        } while (!first.waitForFullMerge());
+        firstCommit.close();
+        secondCommit.close();
+        assertNoUnusedManifests(store);
+
+        List<Split> splits = table.newScan().plan().splits;
+        assertThat(getResult(table.newRead(), splits, binaryRow(1), 0, BATCH_ROW_TO_STRING))
+                .containsExactly("1|" + (i - 1) + "|" + (i - 1));
+    }
+
+    private FileStoreTable createAsyncFullManifestMergeTable() throws Exception {
+        return createFileStoreTable(
+                conf -> {
+                    conf.set(CoreOptions.MANIFEST_TIERED_MERGE, true);
+                    conf.set(CoreOptions.MANIFEST_FULL_MERGE_ASYNC, true);
+                    // every manifest reaches the target size
+                    conf.set(CoreOptions.MANIFEST_TARGET_FILE_SIZE, MemorySize.parse("1b"));
+                    conf.set(CoreOptions.SNAPSHOT_NUM_RETAINED_MIN, Integer.MAX_VALUE);
+                    conf.set(CoreOptions.SNAPSHOT_NUM_RETAINED_MAX, Integer.MAX_VALUE);
+                });
+    }
+
+    private void overwrite(FileStoreTable table, TableCommit commit, int i) throws Exception {
+        TableWrite write = table.newWrite().withOverwrite(true);
+        write.write(GenericRowData.of(1, i, (long) i));
+        commit.commit(String.valueOf(i), write.prepareCommit(true));
+        write.close();
+    }
+
+    /** Checks that every file in the manifest directory is used by some snapshot. */
+    private void assertNoUnusedManifests(AbstractFileStore<?> store) throws Exception {
+        SnapshotManager snapshotManager = store.snapshotManager();
+        ManifestList manifestList = store.manifestListFactory().create();
+        Set<String> used = new HashSet<>();
+        for (long id = snapshotManager.findEarliest();
+                id <= snapshotManager.latestSnapshotId();
+                id++) {
+            Snapshot snapshot = snapshotManager.snapshot(id);
+            used.add(snapshot.baseManifestList());
+            used.add(snapshot.deltaManifestList());
+            for (ManifestFileMeta manifest : snapshot.readAllManifests(manifestList)) {
+                used.add(manifest.fileName());
+            }
+        }
+
+        Path manifestDir = store.pathFactory().toManifestFilePath("dummy").getParent();
+        Set<String> existing = new HashSet<>();
+        for (FileStatus status : manifestDir.getFileSystem().listStatus(manifestDir)) {
+            existing.add(status.getPath().getName());
+        }
+        assertThat(existing).isEqualTo(used);
+    }
+
+    @Test
+    public void testRemoveOrphanFiles() throws Exception {
+        FileStoreTable table = createFileStoreTable();
+
+        TableWrite write = table.newWrite();
+        TableCommit commit = table.newCommit("user");
+        write.write(GenericRowData.of(1, 10, 100L));
+        write.write(GenericRowData.of(2, 20, 200L));
+        commit.commit("0", write.prepareCommit(true));
+        write.close();
+
+        Path orphanDataFile = new Path(table.location(), "pt=1/bucket-0/data-orphan.orc");
+        Path orphanManifest = new Path(table.location(), "manifest/manifest-orphan");
+        Path indexFile = new Path(table.location(), "index/pt=1/index-0");
+        for (Path file : Arrays.asList(orphanDataFile, orphanManifest, indexFile)) {
+            FileUtils.writeFileUtf8(file, "orphan");
+        }
+
+        List<Path> removed =
+                table.newOrphanFilesClean().olderThan(System.currentTimeMillis() + 60_000).clean();
+        assertThat(removed.stream().map(Path::getName))
+                .containsExactlyInAnyOrder(orphanDataFile.getName(), orphanManifest.getName());
+        FileSystem fs = table.location().getFileSystem();
+        assertThat(fs.exists(orphanDataFile)).isFalse();
+        assertThat(fs.exists(orphanManifest)).isFalse();
+        assertThat(fs.exists(indexFile)).isTrue();
+
+        List<Split> splits = table.newScan().plan().splits;
+        TableRead read = table.newRead();
+        assertThat(getResult(read, splits, binaryRow(1), 0, BATCH_ROW_TO_STRING))
+                .containsExactly("1|10|100");
+        assertThat(getResult(read, splits, binaryRow(2), 0, BATCH_ROW_TO_STRING))
+                .containsExactly("2|20|200");
+    }
+
+    @Test
+    public void testRescaleBucket() throws Exception {
+        FileStoreTable table = createFileStoreTable(conf -> conf.set(BUCKET, 2));
+
+        TableWrite write = table.newWrite();
+        write.write(GenericRowData.of(1, 10, 100L));
+        write.write(GenericRowData.of(1, 11, 110L));
+        write.write(GenericRowData.of(1, 12, 120L));
+        write.write(GenericRowData.of(2, 20, 200L));
+        table.newCommit("user").commit("0", write.prepareCommit(true));
+        write.close();
+
+        FileStoreTable rescaledTable = createFileStoreTable(conf -> conf.set(BUCKET, 3));
+        Map<String, String> partition1 = Collections.singletonMap("pt", "1");
+        Map<String, String> partition2 = Collections.singletonMap("pt", "2");
+        TableRescale rescale = rescaledTable.newRescale("rescale");
+        assertThat(rescale.outdatedPartitions()).containsExactlyInAnyOrder(partition1, partition2);
+
+        rescale.rescale(partition1);
+        assertThat(rescale.outdatedPartitions()).containsExactly(partition2);
+
+        List<Split> splits = rescaledTable.newScan().plan().splits;
+        TableRead read = rescaledTable.newRead();
+        List<String> partition1Result = new ArrayList<>();
+        for (int bucket = 0; bucket < 3; bucket++) {
+            partition1Result.addAll(
+                    getResult(read, splits, binaryRow(1), bucket, BATCH_ROW_TO_STRING));
+        }
+        assertThat(partition1Result).containsExactlyInAnyOrder("1|10|100", "1|11|110", "1|12|120");
+        List<String> partition2Result = new ArrayList<>();
+        for (int bucket = 0; bucket < 2; bucket++) {
+            partition2Result.addAll(
+                    getResult(read, splits, binaryRow(2), bucket, BATCH_ROW_TO_STRING));
+        }
+        assertThat(partition2Result).containsExactly("2|20|200");
+
+        // only the rescaled partition accepts writes with the new bucket number
+        TableWrite newWrite = rescaledTable.newWrite();
+        newWrite.write(GenericRowData.of(1, 13, 130L));
+        assertThatThrownBy(() -> newWrite.write(GenericRowData.of(2, 21, 210L)))
+                .hasMessageContaining("previous bucket num is 2");
+        newWrite.close();
+    }
+
     @Test
     public void testBucketFilter() throws Exception {
         FileStoreTable table =
@@ -175,6 +470,35 @@ public abstract class FileStoreTableTestBase {
                 .hasSameElementsAs(Arrays.asList("1|30|300", "1|40|400"));
     }
 
+    @Test
+    public void testReadPrefetch() throws Exception {
+        FileStoreTable table =
+                createFileStoreTable(conf -> conf.set(CoreOptions.READ_PREFETCH, true));
+
+        TableWrite write = table.newWrite();
+        TableCommit commit = table.newCommit("user");
+        for (int i = 0; i < 3; i++) {
+            write.write(GenericRowData.of(1, i * 20 + 10, i * 200L + 100));
+            write.write(GenericRowData.of(1, i * 20 + 20, i * 200L + 200));
+            commit.commit(String.valueOf(i), write.prepareCommit(true));
+        }
+        write.close();
+
+        List<Split> splits = table.newScan().plan().splits;
+        TableRead read = table.newRead();
+        assertThat(getResult(read, splits, binaryRow(1), 0, BATCH_ROW_TO_STRING))
+                .hasSameElementsAs(
+                        Arrays.asList(
+                                "1|10|100",
+                                "1|20|200",
+                                "1|30|300",
+                                "1|40|400",
+                                "1|50|500",
+                                "1|60|600"));
+        assertThat(read.prefetchMetrics().hits() + read.prefetchMetrics().misses())
+                .isGreaterThan(0);
+    }
+
     protected List<String> getResult(
             TableRead read,
             List<Split> splits,
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.format.parquet;
+
+import org.apache.flink.annotation.VisibleForTesting;
+import org.apache.flink.api.common.serialization.BulkWriter;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.connector.file.src.FileSourceSplit;
+import org.apache.flink.connector.file.src.reader.BulkFormat;
+import org.apache.flink.formats.parquet.row.ParquetRowDataBuilder;
+import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.store.file.predicate.Predicate;
+import org.apache.flink.table.store.format.FileFormat;
+import org.apache.flink.table.store.format.FileStatsExtractor;
+import org.apache.flink.table.store.utils.Projection;
+import org.apache.flink.table.types.logical.RowType;
+
+import org.apache.parquet.filter2.predicate.FilterApi;
+import org.apache.parquet.filter2.predicate.FilterPredicate;
+import org.apache.parquet.hadoop.ParquetInputFormat;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.apache.flink.table.store.format.parquet.ParquetFileFormatFactory.IDENTIFIER;
+
+/**
+ * Parquet {@link FileFormat}. Reading is vectorized by Flink {@code ParquetColumnarRowInputFormat},
+ * filters are converted to parquet {@link FilterPredicate}s to skip row groups by their statistics.
+ */
+public class ParquetFileFormat extends FileFormat {
+
+    private static final String UTC_TIMEZONE = "utc-timezone";
+
+    private static final int BATCH_SIZE = 2048;
+
+    private final Configuration formatOptions;
+
+    public ParquetFileFormat(Configuration formatOptions) {
+        super(IDENTIFIER);
+        this.formatOptions = formatOptions;
+    }
+
+    @VisibleForTesting
+    Configuration formatOptions() {
+        return formatOptions;
+    }
+
+    @Override
+    public Optional<FileStatsExtractor> createStatsExtractor(RowType type) {
+        // fall back to collecting stats row by row if the footer cannot provide all of them
+        return ParquetFileStatsExtractor.isSupported(type)
+                ? Optional.of(new ParquetFileStatsExtractor(type))
+                : Optional.empty();
+    }
+
+    @Override
+    public BulkFormat<RowData, FileSourceSplit> createReaderFactory(
+            RowType type, int[][] projection, List<Predicate> filters) {
+        org.apache.hadoop.conf.Configuration conf = getParquetConfiguration(formatOptions);
+
+        FilterPredicate parquetPredicate = null;
+        if (filters != null) {
+            for (Predicate pred : filters) {
+                FilterPredicate converted = ParquetFilterConverter.toParquetPredicate(pred);
+                if (converted != null) {
+                    parquetPredicate =
+                            parquetPredicate == null
+                                    ? converted
+                                    : FilterApi.and(parquetPredicate, converted);
+                }
+            }
+        }
+        if (parquetPredicate != null) {
+            ParquetInputFormat.setFilterPredicate(conf, parquetPredicate);
+        }
+
+        return ParquetInputFormatFactory.create(
+                conf,
+                (RowType) Projection.of(projection).project(type),
+                BATCH_SIZE,
+                formatOptions.getBoolean(UTC_TIMEZONE, false));
+    }
+
+    @Override
+    public BulkWriter.Factory<RowData> createWriterFactory(RowType type) {
+        return ParquetRowDataBuilder.createWriterFactory(
+                type,
+                getParquetConfiguration(formatOptions),
+                formatOptions.getBoolean(UTC_TIMEZONE, false));
+    }
+
+    private static org.apache.hadoop.conf.Configuration getParquetConfiguration(
+            Configuration options) {
+        org.apache.hadoop.conf.Configuration conf = new org.apache.hadoop.conf.Configuration();
+        Properties properties = new Properties();
+        options.addAllToProperties(properties);
+        properties.forEach((k, v) -> conf.set(IDENTIFIER + "." + k, v.toString()));
+        return conf;
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.format.parquet;
+
+import org.apache.flink.core.fs.Path;
+import org.apache.flink.table.data.DecimalData;
+import org.apache.flink.table.data.StringData;
+import org.apache.flink.table.store.format.FieldStats;
+import org.apache.flink.table.store.format.FileStatsExtractor;
+import org.apache.flink.table.types.logical.DecimalType;
+import org.apache.flink.table.types.logical.LogicalType;
+import org.apache.flink.table.types.logical.RowType;
+
+import org.apache.parquet.column.statistics.BinaryStatistics;
+import org.apache.parquet.column.statistics.BooleanStatistics;
+import org.apache.parquet.column.statistics.DoubleStatistics;
+import org.apache.parquet.column.statistics.FloatStatistics;
+import org.apache.parquet.column.statistics.IntStatistics;
+import org.apache.parquet.column.statistics.LongStatistics;
+import org.apache.parquet.column.statistics.Statistics;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
+import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
+import org.apache.parquet.hadoop.metadata.ParquetMetadata;
+
+import javax.annotation.Nullable;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link FileStatsExtractor} for parquet files. The statistics of all row groups in the footer are
+ * merged, so no data pages are read.
+ *
+ * <p>Parquet writers drop the min and max values of a column chunk whose values are too large (for
+ * example long strings), and may not record the null count at all. If any row group lacks min and
+ * max values for a column that is not all null, min and max of the whole file are unknown; if any
+ * row group lacks the null count, the null count of the whole file is unknown.
+ */
+public class ParquetFileStatsExtractor implements FileStatsExtractor {
+
+    private final RowType rowType;
+
+    public ParquetFileStatsExtractor(RowType rowType) {
+        this.rowType = rowType;
+    }
+
+    /**
+     * Returns whether the statistics of all fields can be extracted from the footer. Timestamps are
+     * stored as INT96 without statistics, and nested types have no column chunk of their own.
+     */
+    public static boolean isSupported(RowType rowType) {
+        for (LogicalType type : rowType.getChildren()) {
+            switch (type.getTypeRoot()) {
+                case CHAR:
+                case VARCHAR:
+                case BOOLEAN:
+                case TINYINT:
+                case SMALLINT:
+                case INTEGER:
+                case BIGINT:
+                case FLOAT:
+                case DOUBLE:
+                case DECIMAL:
+                case DATE:
+                    break;
+                default:
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public FieldStats[] extract(Path path) throws IOException {
+        ParquetMetadata footer;
+        try (ParquetFileReader reader = ParquetFileReader.open(new ParquetInputFile(path))) {
+            footer = reader.getFooter();
+        }
+
+        long rowCount = 0;
+        Map<String, MergedStatistics> columnStats = new HashMap<>();
+        for (BlockMetaData block : footer.getBlocks()) {
+            rowCount += block.getRowCount();
+            for (ColumnChunkMetaData column : block.getColumns()) {
+                columnStats
+                        .computeIfAbsent(
+                                column.getPath().toDotString(), k -> new MergedStatistics())
+                        .merge(column.getStatistics(), block.getRowCount());
+            }
+        }
+
+        List<RowType.RowField> fields = rowType.getFields();
+        FieldStats[] result = new FieldStats[fields.size()];
+        for (int i = 0; i < fields.size(); i++) {
+            RowType.RowField field = fields.get(i);
+            result[i] = toFieldStats(field, columnStats.get(field.getName()), rowCount);
+        }
+        return result;
+    }
+
+    private FieldStats toFieldStats(
+            RowType.RowField field, MergedStatistics merged, long rowCount) {
+        if (merged == null) {
+            // no row groups
+            return new FieldStats(null, null, rowCount);
+        }
+
+        Long nullCount = merged.nullCountUnknown ? null : merged.nullCount;
+        Statistics<?> stats = merged.minMax;
+        if (merged.minMaxUnknown || stats == null) {
+            // min and max are dropped by some row group, or all values are null
+            return new FieldStats(null, null, nullCount);
+        }
+
+        switch (field.getType().getTypeRoot()) {
+            case CHAR:
+            case VARCHAR:
+                assertStatsClass(field, stats, BinaryStatistics.class);
+                BinaryStatistics stringStats = (BinaryStatistics) stats;
+                return new FieldStats(
+                        StringData.fromBytes(stringStats.genericGetMin().getBytes()),
+                        StringData.fromBytes(stringStats.genericGetMax().getBytes()),
+                        nullCount);
+            case BOOLEAN:
+                assertStatsClass(field, stats, BooleanStatistics.class);
+                BooleanStatistics boolStats = (BooleanStatistics) stats;
+                return new FieldStats(boolStats.getMin(), boolStats.getMax(), nullCount);
+            case DECIMAL:
+                DecimalType decimalType = (DecimalType) field.getType();
+                return new FieldStats(
+                        toDecimal(stats, stats.genericGetMin(), decimalType),
+                        toDecimal(stats, stats.genericGetMax(), decimalType),
+                        nullCount);
+            case TINYINT:
+                assertStatsClass(field, stats, IntStatistics.class);
+                IntStatistics byteStats = (IntStatistics) stats;
+                return new FieldStats(
+                        (byte) byteStats.getMin(), (byte) byteStats.getMax(), nullCount);
+            case SMALLINT:
+                assertStatsClass(field, stats, IntStatistics.class);
+                IntStatistics shortStats = (IntStatistics) stats;
+                return new FieldStats(
+                        (short) shortStats.getMin(), (short) shortStats.getMax(), nullCount);
+            case INTEGER:
+            case DATE:
+                assertStatsClass(field, stats, IntStatistics.class);
+                IntStatistics intStats = (IntStatistics) stats;
+                return new FieldStats(intStats.getMin(), intStats.getMax(), nullCount);
+            case BIGINT:
+                assertStatsClass(field, stats, LongStatistics.class);
+                LongStatistics longStats = (LongStatistics) stats;
+                return new FieldStats(longStats.getMin(), longStats.getMax(), nullCount);
+            case FLOAT:
+                assertStatsClass(field, stats, FloatStatistics.class);
+                FloatStatistics floatStats = (FloatStatistics) stats;
+                return new FieldStats(floatStats.getMin(), floatStats.getMax(), nullCount);
+            case DOUBLE:
+                assertStatsClass(field, stats, DoubleStatistics.class);
+                DoubleStatistics doubleStats = (DoubleStatistics) stats;
+                return new FieldStats(doubleStats.getMin(), doubleStats.getMax(), nullCount);
+            default:
+                return new FieldStats(null, null, nullCount);
+        }
+    }
+
+    private static DecimalData toDecimal(
+            Statistics<?> stats, Object unscaled, DecimalType decimalType) {
+        int precision = decimalType.getPrecision();
+        int scale = decimalType.getScale();
+        if (stats instanceof IntStatistics || stats instanceof LongStatistics) {
+            return DecimalData.fromUnscaledLong(((Number) unscaled).longValue(), precision, scale);
+        }
+        // fixed length or binary decimals store the big-endian unscaled value
+        BigInteger unscaledValue =
+                new BigInteger(((org.apache.parquet.io.api.Binary) unscaled).getBytes());
+        return DecimalData.fromBigDecimal(new BigDecimal(unscaledValue, scale), precision, scale);
+    }
+
+    /** Statistics of a column merged over all row groups. */
+    private static class MergedStatistics {
+
+        @Nullable private Statistics<?> minMax;
+        private boolean minMaxUnknown;
+        private long nullCount;
+        private boolean nullCountUnknown;
+
+        private void merge(Statistics<?> stats, long chunkRowCount) {
+            // the null count is -1 if it is not written
+            long chunkNullCount = stats.getNumNulls();
+            if (chunkNullCount < 0) {
+                nullCountUnknown = true;
+            } else {
+                nullCount += chunkNullCount;
+            }
+
+            if (stats.hasNonNullValue()) {
+                if (minMax == null) {
+                    minMax = stats.copy();
+                } else {
+                    minMax.mergeStatistics(stats);
+                }
+            } else if (chunkNullCount < 0 || chunkNullCount < chunkRowCount) {
+                // the chunk has non-null values, but min and max are not written
+                minMaxUnknown = true;
+            }
+        }
+    }
+
+    private void assertStatsClass(
+            RowType.RowField field,
+            Statistics<?> stats,
+            Class<? extends Statistics<?>> expectedClass) {
+        if (!expectedClass.isInstance(stats)) {
+            throw new IllegalArgumentException(
+                    "Expecting "
+                            + expectedClass.getName()
+                            + " for field "
+                            + field.asSummaryString()
+                            + " but found "
+                            + stats.getClass().getName());
+        }
+    }
+}
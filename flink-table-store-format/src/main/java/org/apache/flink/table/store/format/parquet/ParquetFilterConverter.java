@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.format.parquet;
+
+import org.apache.flink.table.store.file.predicate.And;
+import org.apache.flink.table.store.file.predicate.CompoundPredicate;
+import org.apache.flink.table.store.file.predicate.Equal;
+import org.apache.flink.table.store.file.predicate.GreaterOrEqual;
+import org.apache.flink.table.store.file.predicate.GreaterThan;
+import org.apache.flink.table.store.file.predicate.In;
+import org.apache.flink.table.store.file.predicate.IsNotNull;
+import org.apache.flink.table.store.file.predicate.IsNull;
+import org.apache.flink.table.store.file.predicate.LeafFunction;
+import org.apache.flink.table.store.file.predicate.LeafPredicate;
+import org.apache.flink.table.store.file.predicate.LessOrEqual;
+import org.apache.flink.table.store.file.predicate.LessThan;
+import org.apache.flink.table.store.file.predicate.NotEqual;
+import org.apache.flink.table.store.file.predicate.Or;
+import org.apache.flink.table.store.file.predicate.Predicate;
+
+import org.apache.parquet.filter2.predicate.FilterApi;
+import org.apache.parquet.filter2.predicate.FilterPredicate;
+import org.apache.parquet.filter2.predicate.Operators;
+import org.apache.parquet.io.api.Binary;
+
+import javax.annotation.Nullable;
+
+import java.util.function.Function;
+
+/** Utility class that provides helper methods to work with Parquet Filter PushDown. */
+public class ParquetFilterConverter {
+
+    @Nullable
+    public static FilterPredicate toParquetPredicate(Predicate expression) {
+        if (expression instanceof CompoundPredicate) {
+            CompoundPredicate compound = (CompoundPredicate) expression;
+            if (compound.function().equals(And.INSTANCE)) {
+                return convertAnd(compound);
+            } else if (compound.function().equals(Or.INSTANCE)) {
+                return convertOr(compound);
+            }
+        } else if (expression instanceof LeafPredicate) {
+            return convertLeaf((LeafPredicate) expression);
+        }
+        return null;
+    }
+
+    @Nullable
+    private static FilterPredicate convertAnd(CompoundPredicate and) {
+        // filters are evaluated on a best-effort basis, so unsupported children can be dropped
+        FilterPredicate result = null;
+        for (Predicate child : and.children()) {
+            FilterPredicate converted = toParquetPredicate(child);
+            if (converted != null) {
+                result = result == null ? converted : FilterApi.and(result, converted);
+            }
+        }
+        return result;
+    }
+
+    @Nullable
+    private static FilterPredicate convertOr(CompoundPredicate or) {
+        FilterPredicate result = null;
+        for (Predicate child : or.children()) {
+            FilterPredicate converted = toParquetPredicate(child);
+            if (converted == null) {
+                return null;
+            }
+            result = result == null ? converted : FilterApi.or(result, converted);
+        }
+        return result;
+    }
+
+    @Nullable
+    private static FilterPredicate convertLeaf(LeafPredicate predicate) {
+        String name = predicate.fieldName();
+        switch (predicate.type().getTypeRoot()) {
+            case TINYINT:
+            case SMALLINT:
+            case INTEGER:
+            case DATE:
+                return convertComparable(
+                        predicate, FilterApi.intColumn(name), o -> ((Number) o).intValue());
+            case BIGINT:
+                return convertComparable(
+                        predicate, FilterApi.longColumn(name), o -> ((Number) o).longValue());
+            case FLOAT:
+                return convertComparable(
+                        predicate, FilterApi.floatColumn(name), o -> ((Number) o).floatValue());
+            case DOUBLE:
+                return convertComparable(
+                        predicate, FilterApi.doubleColumn(name), o -> ((Number) o).doubleValue());
+            case CHAR:
+            case VARCHAR:
+                return convertComparable(
+                        predicate,
+                        FilterApi.binaryColumn(name),
+                        o -> Binary.fromString(o.toString()));
+            case BOOLEAN:
+                return convertEquality(predicate, FilterApi.booleanColumn(name), o -> (Boolean) o);
+            default:
+                return null;
+        }
+    }
+
+    @Nullable
+    private static <T extends Comparable<T>, C extends Operators.Column<T> & Operators.SupportsLtGt>
+            FilterPredicate convertComparable(
+                    LeafPredicate predicate, C column, Function<Object, T> toParquetLiteral) {
+        LeafFunction function = predicate.function();
+        if (function instanceof LessThan) {
+            return literalOrNull(
+                    predicate, lit -> FilterApi.lt(column, toParquetLiteral.apply(lit)));
+        } else if (function instanceof LessOrEqual) {
+            return literalOrNull(
+                    predicate, lit -> FilterApi.ltEq(column, toParquetLiteral.apply(lit)));
+        } else if (function instanceof GreaterThan) {
+            return literalOrNull(
+                    predicate, lit -> FilterApi.gt(column, toParquetLiteral.apply(lit)));
+        } else if (function instanceof GreaterOrEqual) {
+            return literalOrNull(
+                    predicate, lit -> FilterApi.gtEq(column, toParquetLiteral.apply(lit)));
+        }
+        return convertEquality(predicate, column, toParquetLiteral);
+    }
+
+    @Nullable
+    private static <
+                    T extends Comparable<T>,
+                    C extends Operators.Column<T> & Operators.SupportsEqNotEq>
+            FilterPredicate convertEquality(
+                    LeafPredicate predicate, C column, Function<Object, T> toParquetLiteral) {
+        LeafFunction function = predicate.function();
+        if (function instanceof IsNull) {
+            return FilterApi.eq(column, null);
+        } else if (function instanceof IsNotNull) {
+            return FilterApi.notEq(column, null);
+        } else if (function instanceof Equal) {
+            return literalOrNull(
+                    predicate, lit -> FilterApi.eq(column, toParquetLiteral.apply(lit)));
+        } else if (function instanceof NotEqual) {
+            return literalOrNull(
+                    predicate, lit -> FilterApi.notEq(column, toParquetLiteral.apply(lit)));
+        } else if (function instanceof In) {
+            FilterPredicate result = null;
+            for (Object lit : predicate.literals()) {
+                if (lit != null) {
+                    FilterPredicate eq = FilterApi.eq(column, toParquetLiteral.apply(lit));
+                    result = result == null ? eq : FilterApi.or(result, eq);
+                }
+            }
+            return result;
+        }
+        return null;
+    }
+
+    @Nullable
+    private static FilterPredicate literalOrNull(
+            LeafPredicate predicate, Function<Object, FilterPredicate> creator) {
+        Object literal = predicate.literals().get(0);
+        // comparisons with null are never true, leave them to the reader
+        return literal == null ? null : creator.apply(literal);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.format.parquet;
+
+import org.apache.flink.core.fs.FSDataInputStream;
+import org.apache.flink.core.fs.FileSystem;
+import org.apache.flink.core.fs.Path;
+
+import org.apache.parquet.io.DelegatingSeekableInputStream;
+import org.apache.parquet.io.InputFile;
+import org.apache.parquet.io.SeekableInputStream;
+
+import java.io.IOException;
+
+/** A parquet {@link InputFile} reading from a Flink {@link FileSystem}. */
+public class ParquetInputFile implements InputFile {
+
+    private final Path path;
+    private final FileSystem fs;
+    private final long length;
+
+    public ParquetInputFile(Path path) throws IOException {
+        this.path = path;
+        this.fs = path.getFileSystem();
+        this.length = fs.getFileStatus(path).getLen();
+    }
+
+    @Override
+    public long getLength() {
+        return length;
+    }
+
+    @Override
+    public SeekableInputStream newStream() throws IOException {
+        return new FlinkSeekableInputStream(fs.open(path));
+    }
+
+    private static class FlinkSeekableInputStream extends DelegatingSeekableInputStream {
+
+        private final FSDataInputStream in;
+
+        private FlinkSeekableInputStream(FSDataInputStream in) {
+            super(in);
+            this.in = in;
+        }
+
+        @Override
+        public long getPos() throws IOException {
+            return in.getPos();
+        }
+
+        @Override
+        public void seek(long newPos) throws IOException {
+            in.seek(newPos);
+        }
+    }
+}
@@ -53,6 +53,11 @@ public class BulkFileFormatTest {
         testFormatWriteRead(tempDir, "orc", "snappy");
     }
 
+    @Test
+    public void testParquet(@TempDir java.nio.file.Path tempDir) throws IOException {
+        testFormatWriteRead(tempDir, "parquet", "snappy");
+    }
+
     public FileFormat createFileFormat(String format, String codec) {
         Configuration tableOptions = new Configuration();
         tableOptions.setString(format + ".codec", codec);
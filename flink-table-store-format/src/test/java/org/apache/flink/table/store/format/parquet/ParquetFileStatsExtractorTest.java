@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.format.parquet;
+
+import org.apache.flink.api.common.serialization.BulkWriter;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.core.fs.FileSystem;
+import org.apache.flink.core.fs.Path;
+import org.apache.flink.table.data.GenericRowData;
+import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.data.StringData;
+import org.apache.flink.table.store.format.FieldStats;
+import org.apache.flink.table.store.format.FileFormat;
+import org.apache.flink.table.store.format.FileStatsExtractorTestBase;
+import org.apache.flink.table.types.logical.BigIntType;
+import org.apache.flink.table.types.logical.BooleanType;
+import org.apache.flink.table.types.logical.CharType;
+import org.apache.flink.table.types.logical.DateType;
+import org.apache.flink.table.types.logical.DecimalType;
+import org.apache.flink.table.types.logical.DoubleType;
+import org.apache.flink.table.types.logical.FloatType;
+import org.apache.flink.table.types.logical.IntType;
+import org.apache.flink.table.types.logical.RowType;
+import org.apache.flink.table.types.logical.SmallIntType;
+import org.apache.flink.table.types.logical.TinyIntType;
+import org.apache.flink.table.types.logical.VarCharType;
+
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link ParquetFileStatsExtractor}. */
+public class ParquetFileStatsExtractorTest extends FileStatsExtractorTestBase {
+
+    @Test
+    public void testExtractMultipleRowGroupsWithOversizedString() throws Exception {
+        // parquet checks the row group size every 100 rows, so each 100 rows form a row group
+        Configuration options = new Configuration();
+        options.setString("block.size", "1");
+        FileFormat format = FileFormat.fromIdentifier("parquet", options);
+        RowType rowType = RowType.of(new VarCharType(Integer.MAX_VALUE), new IntType());
+
+        char[] chars = new char[5000];
+        Arrays.fill(chars, 'z');
+        String oversized = new String(chars);
+
+        Path path = new Path(tempDir.toString() + "/test");
+        BulkWriter<RowData> writer =
+                format.createWriterFactory(rowType)
+                        .create(
+                                path.getFileSystem()
+                                        .create(path, FileSystem.WriteMode.NO_OVERWRITE));
+        for (int i = 0; i < 250; i++) {
+            // parquet drops the statistics of the second row group, as the oversized string
+            // exceeds the size limit of statistics
+            String string = i == 150 ? oversized : i < 100 ? "b" : "c";
+            writer.addElement(
+                    GenericRowData.of(StringData.fromString(string), i == 200 ? null : i));
+        }
+        writer.finish();
+
+        try (ParquetFileReader reader = ParquetFileReader.open(new ParquetInputFile(path))) {
+            assertThat(reader.getFooter().getBlocks()).hasSize(3);
+        }
+
+        FieldStats[] stats = format.createStatsExtractor(rowType).get().extract(path);
+        assertThat(stats)
+                .containsExactly(new FieldStats(null, null, null), new FieldStats(0, 249, 1L));
+    }
+
+    @Override
+    protected FileFormat createFormat() {
+        return FileFormat.fromIdentifier("parquet", new Configuration());
+    }
+
+    @Override
+    protected RowType rowType() {
+        // timestamps are written as INT96 without statistics, see
+        // ParquetFileStatsExtractor#isSupported
+        return RowType.of(
+                new CharType(8),
+                new VarCharType(8),
+                new BooleanType(),
+                new TinyIntType(),
+                new SmallIntType(),
+                new IntType(),
+                new BigIntType(),
+                new FloatType(),
+                new DoubleType(),
+                new DecimalType(5, 2),
+                new DecimalType(15, 2),
+                new DecimalType(38, 18),
+                new DateType());
+    }
+}
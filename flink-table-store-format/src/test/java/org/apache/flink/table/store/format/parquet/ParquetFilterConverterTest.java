@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.format.parquet;
+
+import org.apache.flink.table.store.file.predicate.Predicate;
+import org.apache.flink.table.store.file.predicate.PredicateBuilder;
+import org.apache.flink.table.types.logical.BigIntType;
+import org.apache.flink.table.types.logical.RowType;
+import org.apache.flink.table.types.logical.TimestampType;
+
+import org.apache.parquet.filter2.predicate.FilterApi;
+import org.apache.parquet.filter2.predicate.FilterPredicate;
+import org.apache.parquet.filter2.predicate.Operators;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Unit Tests for {@link ParquetFilterConverter}. */
+public class ParquetFilterConverterTest {
+
+    @Test
+    public void testApplyPredicate() {
+        PredicateBuilder builder =
+                new PredicateBuilder(
+                        new RowType(
+                                Arrays.asList(
+                                        new RowType.RowField("long1", new BigIntType()),
+                                        new RowType.RowField("ts", new TimestampType(3)))));
+        Operators.LongColumn column = FilterApi.longColumn("long1");
+        test(builder.isNull(0), FilterApi.eq(column, null));
+        test(builder.isNotNull(0), FilterApi.notEq(column, null));
+        test(builder.equal(0, 10L), FilterApi.eq(column, 10L));
+        test(builder.notEqual(0, 10L), FilterApi.notEq(column, 10L));
+        test(builder.lessThan(0, 10L), FilterApi.lt(column, 10L));
+        test(builder.lessOrEqual(0, 10L), FilterApi.ltEq(column, 10L));
+        test(builder.greaterThan(0, 10L), FilterApi.gt(column, 10L));
+        test(builder.greaterOrEqual(0, 10L), FilterApi.gtEq(column, 10L));
+
+        test(
+                builder.in(0, Arrays.asList(1L, 2L, 3L)),
+                FilterApi.or(
+                        FilterApi.or(FilterApi.eq(column, 1L), FilterApi.eq(column, 2L)),
+                        FilterApi.eq(column, 3L)));
+
+        // timestamps are not supported, an AND keeps its convertible side while an OR is dropped
+        Predicate tsPredicate = builder.isNull(1);
+        assertThat(ParquetFilterConverter.toParquetPredicate(tsPredicate)).isNull();
+        test(PredicateBuilder.and(builder.equal(0, 10L), tsPredicate), FilterApi.eq(column, 10L));
+        assertThat(
+                        ParquetFilterConverter.toParquetPredicate(
+                                PredicateBuilder.or(builder.equal(0, 10L), tsPredicate)))
+                .isNull();
+    }
+
+    private void test(Predicate predicate, FilterPredicate parquetPredicate) {
+        assertThat(ParquetFilterConverter.toParquetPredicate(predicate))
+                .hasToString(parquetPredicate.toString());
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.benchmark.micro;
+
+import org.apache.flink.table.data.GenericRowData;
+import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.data.StringData;
+import org.apache.flink.table.data.binary.BinaryRowData;
+import org.apache.flink.table.runtime.typeutils.RowDataSerializer;
+import org.apache.flink.table.store.file.utils.KeyComparatorSupplier;
+import org.apache.flink.table.types.logical.BigIntType;
+import org.apache.flink.table.types.logical.DoubleType;
+import org.apache.flink.table.types.logical.IntType;
+import org.apache.flink.table.types.logical.LogicalType;
+import org.apache.flink.table.types.logical.RowType;
+import org.apache.flink.table.types.logical.VarCharType;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+/** Generates keys and values of the micro benchmarks. */
+public class BenchmarkData {
+
+    public static final RowType VALUE_TYPE =
+            RowType.of(
+                    new LogicalType[] {
+                        new IntType(),
+                        new BigIntType(),
+                        new VarCharType(VarCharType.MAX_LENGTH),
+                        new DoubleType()
+                    },
+                    new String[] {"v_int", "v_bigint", "v_string", "v_double"});
+
+    private final String keyTypeName;
+    private final RowType keyType;
+    private final RowDataSerializer keySerializer;
+    private final RowDataSerializer valueSerializer;
+    private final Random random;
+
+    /**
+     * @param keyTypeName type of the single key field, one of {@code INT}, {@code BIGINT} and
+     *     {@code STRING}
+     */
+    public BenchmarkData(String keyTypeName) {
+        this.keyTypeName = keyTypeName;
+        this.keyType =
+                RowType.of(new LogicalType[] {keyFieldType(keyTypeName)}, new String[] {"k"});
+        this.keySerializer = new RowDataSerializer(keyType);
+        this.valueSerializer = new RowDataSerializer(VALUE_TYPE);
+        // fixed seed so that all runs of a benchmark work on the same data
+        this.random = new Random(42);
+    }
+
+    private static LogicalType keyFieldType(String keyTypeName) {
+        switch (keyTypeName) {
+            case "INT":
+                return new IntType(false);
+            case "BIGINT":
+                return new BigIntType(false);
+            case "STRING":
+                return new VarCharType(false, VarCharType.MAX_LENGTH);
+            default:
+                throw new IllegalArgumentException("Unsupported key type: " + keyTypeName);
+        }
+    }
+
+    public RowType keyType() {
+        return keyType;
+    }
+
+    public Comparator<RowData> keyComparator() {
+        return new KeyComparatorSupplier(keyType).get();
+    }
+
+    public Random random() {
+        return random;
+    }
+
+    /** Returns the i-th key, keys of different i are distinct. */
+    public BinaryRowData key(int i) {
+        Object field;
+        switch (keyTypeName) {
+            case "INT":
+                field = i;
+                break;
+            case "BIGINT":
+                field = (long) i;
+                break;
+            default:
+                field = StringData.fromString("key-" + i);
+        }
+        return keySerializer.toBinaryRow(GenericRowData.of(field)).copy();
+    }
+
+    /** Returns {@code cardinality} distinct keys sorted by the key comparator. */
+    public List<BinaryRowData> sortedKeys(int cardinality) {
+        List<BinaryRowData> keys = new ArrayList<>(cardinality);
+        for (int i = 0; i < cardinality; i++) {
+            keys.add(key(i));
+        }
+        keys.sort(keyComparator());
+        return keys;
+    }
+
+    public BinaryRowData randomValue() {
+        return valueSerializer
+                .toBinaryRow(
+                        GenericRowData.of(
+                                random.nextInt(),
+                                random.nextLong(),
+                                StringData.fromString("value-" + random.nextInt(1000)),
+                                random.nextDouble()))
+                .copy();
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.benchmark.micro;
+
+import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.store.format.FieldStatsCollector;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/** Benchmark for {@link FieldStatsCollector#collect} on the values written by a writer. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class FieldStatsCollectorBenchmark {
+
+    private static final int NUM_RECORDS = 1024;
+
+    @Param({"1", "1000"})
+    private int cardinality;
+
+    private RowData[] values;
+
+    @Setup
+    public void setup() {
+        BenchmarkData data = new BenchmarkData("INT");
+        RowData[] distinct = new RowData[cardinality];
+        for (int i = 0; i < cardinality; i++) {
+            distinct[i] = data.randomValue();
+        }
+        values = new RowData[NUM_RECORDS];
+        for (int i = 0; i < NUM_RECORDS; i++) {
+            values[i] = distinct[data.random().nextInt(cardinality)];
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_RECORDS)
+    public void collect(Blackhole blackhole) {
+        FieldStatsCollector collector = new FieldStatsCollector(BenchmarkData.VALUE_TYPE);
+        for (RowData value : values) {
+            collector.collect(value);
+        }
+        blackhole.consume(collector.extract());
+    }
+}
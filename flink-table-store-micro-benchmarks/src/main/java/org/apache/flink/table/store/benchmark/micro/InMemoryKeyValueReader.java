@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.benchmark.micro;
+
+import org.apache.flink.table.store.file.KeyValue;
+import org.apache.flink.table.store.file.utils.RecordReader;
+
+import javax.annotation.Nullable;
+
+import java.util.List;
+
+/** A {@link RecordReader} returning {@link KeyValue}s held in memory in fixed-size batches. */
+public class InMemoryKeyValueReader implements RecordReader<KeyValue> {
+
+    private static final int BATCH_SIZE = 1024;
+
+    private final List<KeyValue> records;
+    private int nextBatchStart;
+
+    public InMemoryKeyValueReader(List<KeyValue> records) {
+        this.records = records;
+        this.nextBatchStart = 0;
+    }
+
+    @Nullable
+    @Override
+    public RecordIterator<KeyValue> readBatch() {
+        if (nextBatchStart >= records.size()) {
+            return null;
+        }
+        int end = Math.min(nextBatchStart + BATCH_SIZE, records.size());
+        List<KeyValue> batch = records.subList(nextBatchStart, end);
+        nextBatchStart = end;
+        return new RecordIterator<KeyValue>() {
+
+            private int next = 0;
+
+            @Override
+            public KeyValue next() {
+                return next < batch.size() ? batch.get(next++) : null;
+            }
+
+            @Override
+            public void releaseBatch() {}
+        };
+    }
+
+    @Override
+    public void close() {}
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.benchmark.micro;
+
+import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.data.binary.BinaryRowData;
+import org.apache.flink.table.store.file.data.DataFileMeta;
+import org.apache.flink.table.store.file.mergetree.compact.IntervalPartition;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@link IntervalPartition#partition}. Files cover random key ranges of about {@code
+ * cardinality / numFiles * overlap} keys, so a larger overlap produces more sections and runs.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class IntervalPartitionBenchmark {
+
+    @Param({"INT", "BIGINT", "STRING"})
+    private String keyType;
+
+    @Param({"100000"})
+    private int cardinality;
+
+    @Param({"100", "1000"})
+    private int numFiles;
+
+    @Param({"1", "10"})
+    private int overlap;
+
+    private List<DataFileMeta> files;
+    private Comparator<RowData> keyComparator;
+
+    @Setup
+    public void setup() {
+        BenchmarkData data = new BenchmarkData(keyType);
+        Random random = data.random();
+        List<BinaryRowData> keys = data.sortedKeys(cardinality);
+        int rangeSize = Math.max(1, cardinality / numFiles * overlap);
+
+        files = new ArrayList<>(numFiles);
+        for (int i = 0; i < numFiles; i++) {
+            int min = random.nextInt(cardinality);
+            int max = Math.min(cardinality - 1, min + random.nextInt(rangeSize));
+            files.add(
+                    new DataFileMeta(
+                            "data-" + i,
+                            1024,
+                            max - min + 1,
+                            keys.get(min),
+                            keys.get(max),
+                            DataFileMeta.EMPTY_KEY_STATS,
+                            DataFileMeta.EMPTY_KEY_STATS,
+                            i,
+                            i,
+                            0,
+                            0));
+        }
+        keyComparator = data.keyComparator();
+    }
+
+    @Benchmark
+    public void partition(Blackhole blackhole) {
+        blackhole.consume(new IntervalPartition(files, keyComparator).partition());
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.benchmark.micro;
+
+import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.store.file.KeyValue;
+import org.apache.flink.table.store.file.KeyValueSerializer;
+import org.apache.flink.types.RowKind;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/** Benchmark for {@link KeyValueSerializer#toRow} and {@link KeyValueSerializer#fromRow}. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class KeyValueSerializerBenchmark {
+
+    private static final int NUM_RECORDS = 1024;
+
+    @Param({"INT", "BIGINT", "STRING"})
+    private String keyType;
+
+    private KeyValueSerializer serializer;
+    private KeyValue[] keyValues;
+    private RowData[] rows;
+
+    @Setup
+    public void setup() {
+        BenchmarkData data = new BenchmarkData(keyType);
+        serializer = new KeyValueSerializer(data.keyType(), BenchmarkData.VALUE_TYPE);
+        keyValues = new KeyValue[NUM_RECORDS];
+        rows = new RowData[NUM_RECORDS];
+        for (int i = 0; i < NUM_RECORDS; i++) {
+            keyValues[i] =
+                    new KeyValue().replace(data.key(i), i, RowKind.INSERT, data.randomValue());
+            // toRow reuses its result, so keep an independent copy for fromRow
+            rows[i] =
+                    new KeyValueSerializer(data.keyType(), BenchmarkData.VALUE_TYPE)
+                            .toRow(keyValues[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_RECORDS)
+    public void toRow(Blackhole blackhole) {
+        for (KeyValue kv : keyValues) {
+            blackhole.consume(serializer.toRow(kv));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_RECORDS)
+    public void fromRow(Blackhole blackhole) {
+        for (RowData row : rows) {
+            blackhole.consume(serializer.fromRow(row));
+        }
+    }
+}
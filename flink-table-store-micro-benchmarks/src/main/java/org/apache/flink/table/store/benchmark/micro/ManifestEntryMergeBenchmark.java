@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.benchmark.micro;
+
+import org.apache.flink.table.data.binary.BinaryRowData;
+import org.apache.flink.table.store.file.data.DataFileMeta;
+import org.apache.flink.table.store.file.manifest.FileKind;
+import org.apache.flink.table.store.file.manifest.ManifestEntry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@link ManifestEntry#mergeManifestEntries}. A fraction of the added files is
+ * deleted again by later entries, as compaction does.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ManifestEntryMergeBenchmark {
+
+    @Param({"1000", "100000"})
+    private int numFiles;
+
+    @Param({"1", "100"})
+    private int numPartitions;
+
+    @Param({"0.0", "0.5"})
+    private double deleteRatio;
+
+    private List<ManifestEntry> entries;
+
+    @Setup
+    public void setup() {
+        BenchmarkData data = new BenchmarkData("INT");
+        Random random = data.random();
+        BinaryRowData[] partitions = new BinaryRowData[numPartitions];
+        for (int i = 0; i < numPartitions; i++) {
+            partitions[i] = data.key(i);
+        }
+
+        entries = new ArrayList<>();
+        List<ManifestEntry> deletes = new ArrayList<>();
+        for (int i = 0; i < numFiles; i++) {
+            BinaryRowData partition = partitions[random.nextInt(numPartitions)];
+            int bucket = random.nextInt(4);
+            DataFileMeta file = file("data-" + i, data.key(i));
+            entries.add(new ManifestEntry(FileKind.ADD, partition, bucket, 4, file));
+            if (random.nextDouble() < deleteRatio) {
+                deletes.add(new ManifestEntry(FileKind.DELETE, partition, bucket, 4, file));
+            }
+        }
+        entries.addAll(deletes);
+    }
+
+    private static DataFileMeta file(String name, BinaryRowData key) {
+        return new DataFileMeta(
+                name,
+                1024,
+                100,
+                key,
+                key,
+                DataFileMeta.EMPTY_KEY_STATS,
+                DataFileMeta.EMPTY_KEY_STATS,
+                0,
+                100,
+                0,
+                0);
+    }
+
+    @Benchmark
+    public void merge(Blackhole blackhole) {
+        blackhole.consume(ManifestEntry.mergeManifestEntries(entries));
+    }
+}
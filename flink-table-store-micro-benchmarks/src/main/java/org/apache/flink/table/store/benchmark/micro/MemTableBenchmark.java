@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.benchmark.micro;
+
+import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.store.file.KeyValue;
+import org.apache.flink.table.store.file.memory.HeapMemorySegmentPool;
+import org.apache.flink.table.store.file.mergetree.SortBufferMemTable;
+import org.apache.flink.table.store.file.mergetree.compact.DeduplicateMergeFunction;
+import org.apache.flink.types.RowKind;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@link SortBufferMemTable#put} and {@link SortBufferMemTable#mergeIterator}. Each
+ * invocation handles {@link #NUM_RECORDS} records whose keys are drawn from {@code cardinality}
+ * distinct keys, so a lower cardinality means more records are merged.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class MemTableBenchmark {
+
+    private static final int NUM_RECORDS = 100_000;
+
+    @Param({"INT", "BIGINT", "STRING"})
+    private String keyType;
+
+    @Param({"1000", "100000"})
+    private int cardinality;
+
+    private RowData[] keys;
+    private RowData[] values;
+
+    private SortBufferMemTable memTable;
+    private Comparator<RowData> keyComparator;
+    private DeduplicateMergeFunction mergeFunction;
+
+    @Setup
+    public void setup() {
+        BenchmarkData data = new BenchmarkData(keyType);
+        keys = new RowData[NUM_RECORDS];
+        values = new RowData[NUM_RECORDS];
+        for (int i = 0; i < NUM_RECORDS; i++) {
+            keys[i] = data.key(data.random().nextInt(cardinality));
+            values[i] = data.randomValue();
+        }
+
+        memTable =
+                new SortBufferMemTable(
+                        data.keyType(),
+                        BenchmarkData.VALUE_TYPE,
+                        new HeapMemorySegmentPool(256 << 20, 32 << 10));
+        keyComparator = data.keyComparator();
+        mergeFunction = new DeduplicateMergeFunction();
+    }
+
+    /** The merge benchmark sorts the buffer in place, so refill it before each invocation. */
+    @Setup(Level.Invocation)
+    public void fill() throws IOException {
+        memTable.clear();
+        putAll();
+    }
+
+    private void putAll() throws IOException {
+        for (int i = 0; i < NUM_RECORDS; i++) {
+            if (!memTable.put(i, RowKind.INSERT, keys[i], values[i])) {
+                throw new IllegalStateException("Write buffer is too small for the benchmark.");
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_RECORDS)
+    public void put() throws IOException {
+        memTable.clear();
+        putAll();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_RECORDS)
+    public void mergeIterator(Blackhole blackhole) {
+        Iterator<KeyValue> iterator = memTable.mergeIterator(keyComparator, mergeFunction);
+        while (iterator.hasNext()) {
+            blackhole.consume(iterator.next());
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.benchmark.micro;
+
+import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.store.file.KeyValue;
+import org.apache.flink.table.store.file.mergetree.compact.DeduplicateMergeFunction;
+import org.apache.flink.table.store.file.mergetree.compact.SortMergeReader;
+import org.apache.flink.table.store.file.utils.RecordReader;
+import org.apache.flink.types.RowKind;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for N-way merging of sorted runs with {@link SortMergeReader}. Each run contains a key
+ * with probability {@code min(1, 2 / numReaders)}, so every key appears in about two runs and the
+ * total number of records stays roughly the same for different numbers of readers.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SortMergeReaderBenchmark {
+
+    @Param({"INT", "BIGINT", "STRING"})
+    private String keyType;
+
+    @Param({"10000", "100000"})
+    private int cardinality;
+
+    @Param({"2", "8", "32"})
+    private int numReaders;
+
+    private List<List<KeyValue>> runs;
+    private Comparator<RowData> keyComparator;
+
+    @Setup
+    public void setup() {
+        BenchmarkData data = new BenchmarkData(keyType);
+        Random random = data.random();
+        double probability = Math.min(1.0, 2.0 / numReaders);
+
+        runs = new ArrayList<>(numReaders);
+        for (int i = 0; i < numReaders; i++) {
+            runs.add(new ArrayList<>());
+        }
+        long sequenceNumber = 0;
+        for (RowData key : data.sortedKeys(cardinality)) {
+            for (List<KeyValue> run : runs) {
+                if (random.nextDouble() < probability) {
+                    run.add(
+                            new KeyValue()
+                                    .replace(
+                                            key,
+                                            sequenceNumber++,
+                                            RowKind.INSERT,
+                                            data.randomValue()));
+                }
+            }
+        }
+        keyComparator = data.keyComparator();
+    }
+
+    @Benchmark
+    public void merge(Blackhole blackhole) throws IOException {
+        List<RecordReader<KeyValue>> readers = new ArrayList<>(numReaders);
+        for (List<KeyValue> run : runs) {
+            readers.add(new InMemoryKeyValueReader(run));
+        }
+        try (RecordReader<KeyValue> reader =
+                SortMergeReader.create(readers, keyComparator, new DeduplicateMergeFunction())) {
+            RecordReader.RecordIterator<KeyValue> batch;
+            while ((batch = reader.readBatch()) != null) {
+                KeyValue kv;
+                while ((kv = batch.next()) != null) {
+                    blackhole.consume(kv);
+                }
+                batch.releaseBatch();
+            }
+        }
+    }
+}
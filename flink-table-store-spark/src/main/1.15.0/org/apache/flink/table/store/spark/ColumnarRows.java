@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.spark;
+
+import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.data.columnar.ColumnarRowData;
+
+/**
+ * Access to the rows of vectorized batches produced by the columnar file readers. {@link
+ * ColumnarRowData} moved packages between Flink 1.14 and 1.15, so this class is compiled per Flink
+ * version.
+ */
+class ColumnarRows {
+
+    private ColumnarRows() {}
+
+    /** Returns whether the given row is a view of a vectorized batch. */
+    static boolean isColumnar(RowData row) {
+        return row instanceof ColumnarRowData;
+    }
+
+    /** Points the given view of a vectorized batch to the row with the given id. */
+    static void setRowId(RowData row, int rowId) {
+        ((ColumnarRowData) row).setRowId(rowId);
+    }
+}
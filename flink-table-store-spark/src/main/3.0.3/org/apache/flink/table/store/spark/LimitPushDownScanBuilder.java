@@ -0,0 +1,32 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.flink.table.store.spark;
+
+import org.apache.spark.sql.connector.read.ScanBuilder;
+
+/**
+ * A {@link ScanBuilder} accepting the limit pushed down by Spark. Limits are only pushed down since
+ * Spark 3.3, so {@link #applyLimit} is never called with this version.
+ */
+public abstract class LimitPushDownScanBuilder implements ScanBuilder {
+
+    /** Returns true if the limit is pushed down, Spark still applies the limit on the results. */
+    protected abstract boolean applyLimit(int limit);
+}
@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.flink.table.store.spark;
+
+import org.apache.flink.table.store.table.source.StatsAggregator.AggregateCall;
+
+import org.apache.spark.sql.connector.read.ScanBuilder;
+
+import java.util.List;
+
+/**
+ * A {@link ScanBuilder} accepting the aggregates pushed down by Spark. Aggregates are only pushed
+ * down since Spark 3.2, so {@link #applyAggregates} is never called with this version.
+ */
+public abstract class AggregatePushDownScanBuilder extends LimitPushDownScanBuilder {
+
+    protected AggregatePushDownScanBuilder(List<String> fieldNames) {}
+
+    /**
+     * Returns true if the results of the given aggregate calls, without grouping, are produced by
+     * the built scan.
+     */
+    protected abstract boolean applyAggregates(List<AggregateCall> calls);
+}
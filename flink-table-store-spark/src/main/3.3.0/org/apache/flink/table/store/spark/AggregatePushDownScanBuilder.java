@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.flink.table.store.spark;
+
+import org.apache.flink.table.store.table.source.StatsAggregator.AggregateCall;
+
+import org.apache.spark.sql.connector.expressions.Expression;
+import org.apache.spark.sql.connector.expressions.NamedReference;
+import org.apache.spark.sql.connector.expressions.aggregate.AggregateFunc;
+import org.apache.spark.sql.connector.expressions.aggregate.Aggregation;
+import org.apache.spark.sql.connector.expressions.aggregate.Count;
+import org.apache.spark.sql.connector.expressions.aggregate.CountStar;
+import org.apache.spark.sql.connector.expressions.aggregate.Max;
+import org.apache.spark.sql.connector.expressions.aggregate.Min;
+import org.apache.spark.sql.connector.read.ScanBuilder;
+import org.apache.spark.sql.connector.read.SupportsPushDownAggregates;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@link ScanBuilder} accepting the aggregates pushed down by Spark. Only aggregates without
+ * grouping are accepted.
+ */
+public abstract class AggregatePushDownScanBuilder extends LimitPushDownScanBuilder
+        implements SupportsPushDownAggregates {
+
+    private final List<String> fieldNames;
+
+    protected AggregatePushDownScanBuilder(List<String> fieldNames) {
+        this.fieldNames = fieldNames;
+    }
+
+    @Override
+    public boolean pushAggregation(Aggregation aggregation) {
+        if (aggregation.groupByExpressions().length > 0) {
+            return false;
+        }
+
+        List<AggregateCall> calls = new ArrayList<>();
+        for (AggregateFunc function : aggregation.aggregateExpressions()) {
+            if (function instanceof CountStar) {
+                calls.add(AggregateCall.countStar());
+            } else if (function instanceof Count && !((Count) function).isDistinct()) {
+                int field = fieldIndex(((Count) function).column());
+                if (field < 0) {
+                    return false;
+                }
+                calls.add(AggregateCall.count(field));
+            } else if (function instanceof Min) {
+                int field = fieldIndex(((Min) function).column());
+                if (field < 0) {
+                    return false;
+                }
+                calls.add(AggregateCall.min(field));
+            } else if (function instanceof Max) {
+                int field = fieldIndex(((Max) function).column());
+                if (field < 0) {
+                    return false;
+                }
+                calls.add(AggregateCall.max(field));
+            } else {
+                return false;
+            }
+        }
+        return applyAggregates(calls);
+    }
+
+    private int fieldIndex(Expression expression) {
+        if (!(expression instanceof NamedReference)) {
+            return -1;
+        }
+        String[] names = ((NamedReference) expression).fieldNames();
+        return names.length == 1 ? fieldNames.indexOf(names[0]) : -1;
+    }
+
+    /**
+     * Returns true if the results of the given aggregate calls, without grouping, are produced by
+     * the built scan.
+     */
+    protected abstract boolean applyAggregates(List<AggregateCall> calls);
+}
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.spark;
+
+import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.store.table.FileStoreTable;
+import org.apache.flink.table.types.logical.RowType;
+
+import org.apache.spark.sql.catalyst.InternalRow;
+import org.apache.spark.sql.catalyst.expressions.UnsafeProjection;
+import org.apache.spark.sql.connector.read.Batch;
+import org.apache.spark.sql.connector.read.InputPartition;
+import org.apache.spark.sql.connector.read.PartitionReader;
+import org.apache.spark.sql.connector.read.PartitionReaderFactory;
+import org.apache.spark.sql.connector.read.Scan;
+import org.apache.spark.sql.types.StructType;
+
+/**
+ * A Spark {@link Scan} producing the results of the aggregates pushed down to {@link
+ * SparkScanBuilder}, which are computed from the statistics of data files.
+ */
+public class SparkAggregatedScan implements Scan, Batch {
+
+    private final FileStoreTable table;
+    private final RowType resultType;
+    private final RowData result;
+
+    public SparkAggregatedScan(FileStoreTable table, RowType resultType, RowData result) {
+        this.table = table;
+        this.resultType = resultType;
+        this.result = result;
+    }
+
+    @Override
+    public String description() {
+        return String.format("tablestore(%s) aggregated by statistics", table.location().getName());
+    }
+
+    @Override
+    public StructType readSchema() {
+        return SparkTypeUtils.fromFlinkRowType(resultType);
+    }
+
+    @Override
+    public Batch toBatch() {
+        return this;
+    }
+
+    @Override
+    public InputPartition[] planInputPartitions() {
+        InternalRow row =
+                UnsafeProjection.create(readSchema())
+                        .apply(new SparkInternalRow(resultType).replace(result))
+                        .copy();
+        return new InputPartition[] {new ResultPartition(row)};
+    }
+
+    @Override
+    public PartitionReaderFactory createReaderFactory() {
+        return new ResultReaderFactory();
+    }
+
+    private static class ResultPartition implements InputPartition {
+
+        private static final long serialVersionUID = 1L;
+
+        private final InternalRow row;
+
+        private ResultPartition(InternalRow row) {
+            this.row = row;
+        }
+    }
+
+    private static class ResultReaderFactory implements PartitionReaderFactory {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public PartitionReader<InternalRow> createReader(InputPartition partition) {
+            InternalRow row = ((ResultPartition) partition).row;
+            return new PartitionReader<InternalRow>() {
+
+                private boolean consumed = false;
+
+                @Override
+                public boolean next() {
+                    if (consumed) {
+                        return false;
+                    }
+                    consumed = true;
+                    return true;
+                }
+
+                @Override
+                public InternalRow get() {
+                    return row;
+                }
+
+                @Override
+                public void close() {}
+            };
+        }
+    }
+}
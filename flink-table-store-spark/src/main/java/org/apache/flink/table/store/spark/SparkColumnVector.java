@@ -0,0 +1,221 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.spark;
+
+import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.runtime.typeutils.RowDataSerializer;
+import org.apache.flink.table.store.file.utils.RecordReader;
+import org.apache.flink.table.types.logical.BigIntType;
+import org.apache.flink.table.types.logical.LogicalType;
+import org.apache.flink.table.types.logical.RowType;
+
+import org.apache.spark.sql.types.Decimal;
+import org.apache.spark.sql.vectorized.ColumnarArray;
+import org.apache.spark.sql.vectorized.ColumnarBatch;
+import org.apache.spark.sql.vectorized.ColumnarMap;
+import org.apache.spark.unsafe.types.UTF8String;
+
+import javax.annotation.Nullable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+import static org.apache.flink.table.store.utils.TypeUtils.timestampPrecision;
+
+/**
+ * Spark {@link org.apache.spark.sql.vectorized.ColumnVector} to read a field of the rows of a
+ * batch. Rows of vectorized batches produced by columnar file readers are read in place by pointing
+ * the reused row to the requested row id, rows of other readers are copied.
+ *
+ * <p>Only atomic types are supported, see {@link SparkReaderFactory#supportColumnarReads}.
+ */
+public class SparkColumnVector extends org.apache.spark.sql.vectorized.ColumnVector {
+
+    private final LogicalType type;
+    private final int pos;
+    private final IntFunction<RowData> rows;
+    private final int numRows;
+
+    private int numNulls = -1;
+
+    private SparkColumnVector(LogicalType type, int pos, IntFunction<RowData> rows, int numRows) {
+        super(SparkTypeUtils.fromFlinkType(type));
+        this.type = type;
+        this.pos = pos;
+        this.rows = rows;
+        this.numRows = numRows;
+    }
+
+    /**
+     * Wraps the rows of the given batch into a {@link ColumnarBatch}, consuming the iterator.
+     * Returns null if the batch is empty.
+     */
+    @Nullable
+    public static ColumnarBatch toColumnarBatch(
+            RecordReader.RecordIterator<RowData> iterator, RowType rowType) throws IOException {
+        RowData first = iterator.next();
+        if (first == null) {
+            return null;
+        }
+
+        IntFunction<RowData> rows;
+        int numRows;
+        if (ColumnarRows.isColumnar(first)) {
+            // the reused row is a view of the vectorized batch, rows are numbered from 0
+            numRows = 1;
+            while (iterator.next() != null) {
+                numRows++;
+            }
+            rows =
+                    rowId -> {
+                        ColumnarRows.setRowId(first, rowId);
+                        return first;
+                    };
+        } else {
+            RowDataSerializer serializer = new RowDataSerializer(rowType);
+            List<RowData> copied = new ArrayList<>();
+            for (RowData row = first; row != null; row = iterator.next()) {
+                copied.add(serializer.copy(row));
+            }
+            numRows = copied.size();
+            rows = copied::get;
+        }
+
+        SparkColumnVector[] vectors = new SparkColumnVector[rowType.getFieldCount()];
+        for (int i = 0; i < vectors.length; i++) {
+            vectors[i] = new SparkColumnVector(rowType.getTypeAt(i), i, rows, numRows);
+        }
+        ColumnarBatch result = new ColumnarBatch(vectors);
+        result.setNumRows(numRows);
+        return result;
+    }
+
+    @Override
+    public void close() {
+        // the rows are owned and reused by the file reader
+    }
+
+    @Override
+    public boolean hasNull() {
+        return numNulls() > 0;
+    }
+
+    @Override
+    public int numNulls() {
+        if (numNulls < 0) {
+            int count = 0;
+            for (int i = 0; i < numRows; i++) {
+                if (isNullAt(i)) {
+                    count++;
+                }
+            }
+            numNulls = count;
+        }
+        return numNulls;
+    }
+
+    @Override
+    public boolean isNullAt(int rowId) {
+        return rows.apply(rowId).isNullAt(pos);
+    }
+
+    @Override
+    public boolean getBoolean(int rowId) {
+        return rows.apply(rowId).getBoolean(pos);
+    }
+
+    @Override
+    public byte getByte(int rowId) {
+        return rows.apply(rowId).getByte(pos);
+    }
+
+    @Override
+    public short getShort(int rowId) {
+        return rows.apply(rowId).getShort(pos);
+    }
+
+    @Override
+    public int getInt(int rowId) {
+        return rows.apply(rowId).getInt(pos);
+    }
+
+    @Override
+    public long getLong(int rowId) {
+        RowData row = rows.apply(rowId);
+        if (type instanceof BigIntType) {
+            return row.getLong(pos);
+        }
+
+        return SparkInternalRow.fromFlink(row.getTimestamp(pos, timestampPrecision(type)));
+    }
+
+    @Override
+    public float getFloat(int rowId) {
+        return rows.apply(rowId).getFloat(pos);
+    }
+
+    @Override
+    public double getDouble(int rowId) {
+        return rows.apply(rowId).getDouble(pos);
+    }
+
+    @Override
+    public Decimal getDecimal(int rowId, int precision, int scale) {
+        RowData row = rows.apply(rowId);
+        if (row.isNullAt(pos)) {
+            return null;
+        }
+        return SparkInternalRow.fromFlink(row.getDecimal(pos, precision, scale));
+    }
+
+    @Override
+    public UTF8String getUTF8String(int rowId) {
+        RowData row = rows.apply(rowId);
+        if (row.isNullAt(pos)) {
+            return null;
+        }
+        return SparkInternalRow.fromFlink(row.getString(pos));
+    }
+
+    @Override
+    public byte[] getBinary(int rowId) {
+        RowData row = rows.apply(rowId);
+        if (row.isNullAt(pos)) {
+            return null;
+        }
+        return row.getBinary(pos);
+    }
+
+    @Override
+    public ColumnarArray getArray(int rowId) {
+        throw new UnsupportedOperationException("Columnar reads of arrays are not supported.");
+    }
+
+    @Override
+    public ColumnarMap getMap(int ordinal) {
+        throw new UnsupportedOperationException("Columnar reads of maps are not supported.");
+    }
+
+    @Override
+    public org.apache.spark.sql.vectorized.ColumnVector getChild(int ordinal) {
+        throw new UnsupportedOperationException("Columnar reads of rows are not supported.");
+    }
+}
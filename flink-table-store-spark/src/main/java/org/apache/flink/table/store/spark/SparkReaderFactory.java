@@ -17,22 +17,30 @@
 
 package org.apache.flink.table.store.spark;
 
+import org.apache.flink.configuration.Configuration;
 import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.store.CoreOptions;
 import org.apache.flink.table.store.file.predicate.Predicate;
 import org.apache.flink.table.store.file.utils.RecordReader;
 import org.apache.flink.table.store.file.utils.RecordReaderIterator;
+import org.apache.flink.table.store.table.AppendOnlyFileStoreTable;
 import org.apache.flink.table.store.table.FileStoreTable;
 import org.apache.flink.table.store.table.source.TableRead;
 import org.apache.flink.table.store.utils.TypeUtils;
+import org.apache.flink.table.types.logical.LogicalType;
 import org.apache.flink.table.types.logical.RowType;
 
 import org.apache.spark.sql.catalyst.InternalRow;
 import org.apache.spark.sql.connector.read.InputPartition;
 import org.apache.spark.sql.connector.read.PartitionReader;
 import org.apache.spark.sql.connector.read.PartitionReaderFactory;
+import org.apache.spark.sql.vectorized.ColumnarBatch;
+
+import javax.annotation.Nullable;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.util.Arrays;
 import java.util.List;
 
 import static org.apache.flink.table.store.file.predicate.PredicateBuilder.and;
@@ -45,37 +53,52 @@ public class SparkReaderFactory implements PartitionReaderFactory {
     private final FileStoreTable table;
     private final int[] projectedFields;
     private final List<Predicate> predicates;
+    // each partition reader stops once it has read this number of rows
+    @Nullable private final Integer limit;
 
     public SparkReaderFactory(
-            FileStoreTable table, int[] projectedFields, List<Predicate> predicates) {
+            FileStoreTable table,
+            int[] projectedFields,
+            List<Predicate> predicates,
+            @Nullable Integer limit) {
         this.table = table;
         this.projectedFields = projectedFields;
         this.predicates = predicates;
+        this.limit = limit;
     }
 
     private RowType readRowType() {
         return TypeUtils.project(table.schema().logicalRowType(), projectedFields);
     }
 
-    @Override
-    public PartitionReader<InternalRow> createReader(InputPartition partition) {
-        RecordReader<RowData> reader;
+    private RecordReader<RowData> createRecordReader(InputPartition partition) {
         TableRead read = table.newRead().withProjection(projectedFields);
         if (predicates.size() > 0) {
             read.withFilter(and(predicates));
         }
         try {
-            reader = read.createReader(((SparkInputPartition) partition).split());
+            return read.createReader(((SparkInputPartition) partition).split());
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
-        RecordReaderIterator<RowData> iterator = new RecordReaderIterator<>(reader);
+    }
+
+    @Override
+    public PartitionReader<InternalRow> createReader(InputPartition partition) {
+        RecordReaderIterator<RowData> iterator =
+                new RecordReaderIterator<>(createRecordReader(partition));
         SparkInternalRow row = new SparkInternalRow(readRowType());
         return new PartitionReader<InternalRow>() {
 
+            private long numRows;
+
             @Override
             public boolean next() {
+                if (limit != null && numRows >= limit) {
+                    return false;
+                }
                 if (iterator.hasNext()) {
+                    numRows++;
                     row.replace(iterator.next());
                     return true;
                 }
@@ -97,4 +120,103 @@ public class SparkReaderFactory implements PartitionReaderFactory {
             }
         };
     }
+
+    /**
+     * Append only tables never merge records, so the vectorized batches of orc and parquet files
+     * can be handed to Spark as they are. Tables with primary keys go through the row path, as
+     * their files contain key and sequence columns and records must be merged. Only atomic types
+     * are read in columns, {@link SparkColumnVector} does not support nested types.
+     */
+    @Override
+    public boolean supportColumnarReads(InputPartition partition) {
+        if (!(table instanceof AppendOnlyFileStoreTable)) {
+            return false;
+        }
+
+        String format =
+                Configuration.fromMap(table.schema().options()).get(CoreOptions.FILE_FORMAT);
+        if (!Arrays.asList("orc", "parquet").contains(format.toLowerCase())) {
+            return false;
+        }
+
+        for (LogicalType type : readRowType().getChildren()) {
+            if (!supportColumnarType(type)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean supportColumnarType(LogicalType type) {
+        switch (type.getTypeRoot()) {
+            case BOOLEAN:
+            case TINYINT:
+            case SMALLINT:
+            case INTEGER:
+            case DATE:
+            case BIGINT:
+            case FLOAT:
+            case DOUBLE:
+            case DECIMAL:
+            case CHAR:
+            case VARCHAR:
+            case BINARY:
+            case VARBINARY:
+            case TIMESTAMP_WITHOUT_TIME_ZONE:
+            case TIMESTAMP_WITH_LOCAL_TIME_ZONE:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public PartitionReader<ColumnarBatch> createColumnarReader(InputPartition partition) {
+        RecordReader<RowData> reader = createRecordReader(partition);
+        RowType rowType = readRowType();
+        return new PartitionReader<ColumnarBatch>() {
+
+            private RecordReader.RecordIterator<RowData> iterator;
+            private ColumnarBatch batch;
+            private long numRows;
+
+            @Override
+            public boolean next() throws IOException {
+                if (limit != null && numRows >= limit) {
+                    return false;
+                }
+                while (true) {
+                    if (iterator != null) {
+                        iterator.releaseBatch();
+                    }
+                    iterator = reader.readBatch();
+                    if (iterator == null) {
+                        return false;
+                    }
+
+                    batch = SparkColumnVector.toColumnarBatch(iterator, rowType);
+                    if (batch == null) {
+                        // empty batch
+                        continue;
+                    }
+                    numRows += batch.numRows();
+                    return true;
+                }
+            }
+
+            @Override
+            public ColumnarBatch get() {
+                return batch;
+            }
+
+            @Override
+            public void close() throws IOException {
+                if (iterator != null) {
+                    iterator.releaseBatch();
+                    iterator = null;
+                }
+                reader.close();
+            }
+        };
+    }
 }
@@ -22,6 +22,7 @@ import org.apache.flink.table.store.file.data.DataFileMeta;
 import org.apache.flink.table.store.file.predicate.Predicate;
 import org.apache.flink.table.store.table.FileStoreTable;
 import org.apache.flink.table.store.table.source.Split;
+import org.apache.flink.table.store.table.source.TableScan;
 import org.apache.flink.table.store.utils.TypeUtils;
 
 import org.apache.spark.sql.connector.read.Batch;
@@ -32,6 +33,8 @@ import org.apache.spark.sql.connector.read.Statistics;
 import org.apache.spark.sql.connector.read.SupportsReportStatistics;
 import org.apache.spark.sql.types.StructType;
 
+import javax.annotation.Nullable;
+
 import java.util.List;
 import java.util.Objects;
 import java.util.OptionalLong;
@@ -46,13 +49,19 @@ public class SparkScan implements Scan, SupportsReportStatistics {
     protected final FileStoreTable table;
     private final List<Predicate> predicates;
     private final int[] projectedFields;
+    @Nullable private final Integer limit;
 
     private List<Split> splits;
 
-    public SparkScan(FileStoreTable table, List<Predicate> predicates, int[] projectedFields) {
+    public SparkScan(
+            FileStoreTable table,
+            List<Predicate> predicates,
+            int[] projectedFields,
+            @Nullable Integer limit) {
         this.table = table;
         this.predicates = predicates;
         this.projectedFields = projectedFields;
+        this.limit = limit;
     }
 
     @Override
@@ -79,14 +88,18 @@ public class SparkScan implements Scan, SupportsReportStatistics {
 
             @Override
             public PartitionReaderFactory createReaderFactory() {
-                return new SparkReaderFactory(table, projectedFields, predicates);
+                return new SparkReaderFactory(table, projectedFields, predicates, limit);
             }
         };
     }
 
     protected List<Split> splits() {
         if (splits == null) {
-            this.splits = table.newScan().withFilter(predicates).plan().splits;
+            TableScan scan = table.newScan().withFilter(predicates);
+            if (limit != null) {
+                scan.withLimit(limit);
+            }
+            this.splits = scan.plan().splits;
         }
         return splits;
     }
@@ -130,11 +143,12 @@ public class SparkScan implements Scan, SupportsReportStatistics {
         SparkScan that = (SparkScan) o;
         return table.location().equals(that.table.location())
                 && readSchema().equals(that.readSchema())
-                && predicates.equals(that.predicates);
+                && predicates.equals(that.predicates)
+                && Objects.equals(limit, that.limit);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(table.location(), readSchema(), predicates);
+        return Objects.hash(table.location(), readSchema(), predicates, limit);
     }
 }
@@ -18,30 +18,43 @@
 
 package org.apache.flink.table.store.spark;
 
+import org.apache.flink.table.data.GenericRowData;
+import org.apache.flink.table.data.RowData;
 import org.apache.flink.table.store.file.predicate.Predicate;
 import org.apache.flink.table.store.table.FileStoreTable;
+import org.apache.flink.table.store.table.source.StatsAggregator;
+import org.apache.flink.table.store.table.source.StatsAggregator.AggregateCall;
+import org.apache.flink.table.types.logical.RowType;
 
 import org.apache.spark.sql.connector.read.Scan;
-import org.apache.spark.sql.connector.read.ScanBuilder;
 import org.apache.spark.sql.connector.read.SupportsPushDownFilters;
 import org.apache.spark.sql.connector.read.SupportsPushDownRequiredColumns;
 import org.apache.spark.sql.sources.Filter;
 import org.apache.spark.sql.types.StructType;
 
+import javax.annotation.Nullable;
+
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
-/** A Spark {@link ScanBuilder} for table store. */
-public class SparkScanBuilder
-        implements ScanBuilder, SupportsPushDownFilters, SupportsPushDownRequiredColumns {
+/** A Spark {@link org.apache.spark.sql.connector.read.ScanBuilder} for table store. */
+public class SparkScanBuilder extends AggregatePushDownScanBuilder
+        implements SupportsPushDownFilters, SupportsPushDownRequiredColumns {
 
     private final FileStoreTable table;
 
     private List<Predicate> predicates = new ArrayList<>();
     private Filter[] pushedFilters;
     private int[] projectedFields;
+    @Nullable private Integer limit;
+
+    // results of the pushed down aggregates, computed from the statistics of data files
+    @Nullable private RowType aggregatedType;
+    @Nullable private RowData aggregatedRow;
 
     public SparkScanBuilder(FileStoreTable table) {
+        super(table.schema().fieldNames());
         this.table = table;
     }
 
@@ -78,8 +91,33 @@ public class SparkScanBuilder
         this.projectedFields = projected;
     }
 
+    @Override
+    protected boolean applyLimit(int limit) {
+        this.limit = limit;
+        return true;
+    }
+
+    @Override
+    protected boolean applyAggregates(List<AggregateCall> calls) {
+        if (!predicates.isEmpty()) {
+            return false;
+        }
+
+        StatsAggregator aggregator = new StatsAggregator(table);
+        Optional<GenericRowData> result = aggregator.aggregate(calls);
+        if (!result.isPresent()) {
+            return false;
+        }
+        this.aggregatedType = aggregator.resultType(calls);
+        this.aggregatedRow = result.get();
+        return true;
+    }
+
     @Override
     public Scan build() {
-        return new SparkScan(table, predicates, projectedFields);
+        if (aggregatedRow != null) {
+            return new SparkAggregatedScan(table, aggregatedType, aggregatedRow);
+        }
+        return new SparkScan(table, predicates, projectedFields, limit);
     }
 }
@@ -49,9 +49,20 @@ public class SimpleTableTestHelper {
     public SimpleTableTestHelper(
             Path path, RowType rowType, List<String> partitionKeys, List<String> primaryKeys)
             throws Exception {
+        this(path, rowType, partitionKeys, primaryKeys, Collections.emptyMap());
+    }
+
+    public SimpleTableTestHelper(
+            Path path,
+            RowType rowType,
+            List<String> partitionKeys,
+            List<String> primaryKeys,
+            Map<String, String> tableOptions)
+            throws Exception {
         Map<String, String> options = new HashMap<>();
         // orc is shaded, can not find shaded classes in ide
         options.put(CoreOptions.FILE_FORMAT.key(), "avro");
+        options.putAll(tableOptions);
         new SchemaManager(path)
                 .commitNewVersion(
                         new UpdateSchema(rowType, partitionKeys, primaryKeys, options, ""));
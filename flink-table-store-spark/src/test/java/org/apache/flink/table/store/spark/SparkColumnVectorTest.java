@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.flink.table.store.spark;
+
+import org.apache.flink.table.data.GenericRowData;
+import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.data.StringData;
+import org.apache.flink.table.store.file.utils.RecordReader;
+import org.apache.flink.table.types.logical.IntType;
+import org.apache.flink.table.types.logical.RowType;
+import org.apache.flink.table.types.logical.VarCharType;
+
+import org.apache.spark.sql.vectorized.ColumnarBatch;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Test for {@link SparkColumnVector}. */
+public class SparkColumnVectorTest {
+
+    private static final RowType ROW_TYPE =
+            RowType.of(new IntType(), new VarCharType(VarCharType.MAX_LENGTH));
+
+    @Test
+    public void testNonColumnarRows() throws Exception {
+        ColumnarBatch batch =
+                SparkColumnVector.toColumnarBatch(
+                        reusingIterator(
+                                new Object[] {1, StringData.fromString("a")},
+                                new Object[] {null, StringData.fromString("b")},
+                                new Object[] {3, null}),
+                        ROW_TYPE);
+
+        assertThat(batch).isNotNull();
+        assertThat(batch.numRows()).isEqualTo(3);
+        assertThat(batch.column(0).numNulls()).isEqualTo(1);
+        assertThat(batch.column(1).numNulls()).isEqualTo(1);
+        assertThat(batch.column(0).getInt(0)).isEqualTo(1);
+        assertThat(batch.column(0).isNullAt(1)).isTrue();
+        assertThat(batch.column(0).getInt(2)).isEqualTo(3);
+        assertThat(batch.column(1).getUTF8String(0).toString()).isEqualTo("a");
+        assertThat(batch.column(1).getUTF8String(1).toString()).isEqualTo("b");
+        assertThat(batch.column(1).getUTF8String(2)).isNull();
+    }
+
+    @Test
+    public void testEmptyBatch() throws Exception {
+        assertThat(SparkColumnVector.toColumnarBatch(reusingIterator(), ROW_TYPE)).isNull();
+    }
+
+    /** Returns an iterator which reuses its row like file readers do. */
+    private static RecordReader.RecordIterator<RowData> reusingIterator(Object[]... values) {
+        GenericRowData reused = new GenericRowData(ROW_TYPE.getFieldCount());
+        Iterator<Object[]> iterator = Arrays.asList(values).iterator();
+        return new RecordReader.RecordIterator<RowData>() {
+            @Override
+            public RowData next() {
+                if (!iterator.hasNext()) {
+                    return null;
+                }
+                Object[] next = iterator.next();
+                for (int i = 0; i < next.length; i++) {
+                    reused.setField(i, next[i]);
+                }
+                return reused;
+            }
+
+            @Override
+            public void releaseBatch() {}
+        };
+    }
+}
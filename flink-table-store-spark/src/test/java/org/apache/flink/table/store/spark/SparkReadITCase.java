@@ -19,10 +19,13 @@
 package org.apache.flink.table.store.spark;
 
 import org.apache.flink.core.fs.Path;
+import org.apache.flink.table.data.DecimalData;
 import org.apache.flink.table.data.GenericArrayData;
 import org.apache.flink.table.data.GenericRowData;
 import org.apache.flink.table.data.StringData;
 import org.apache.flink.table.data.binary.BinaryStringData;
+import org.apache.flink.table.store.CoreOptions;
+import org.apache.flink.table.store.file.WriteMode;
 import org.apache.flink.table.store.file.schema.ArrayDataType;
 import org.apache.flink.table.store.file.schema.AtomicDataType;
 import org.apache.flink.table.store.file.schema.DataField;
@@ -32,6 +35,8 @@ import org.apache.flink.table.store.table.FileStoreTableFactory;
 import org.apache.flink.table.types.logical.ArrayType;
 import org.apache.flink.table.types.logical.BigIntType;
 import org.apache.flink.table.types.logical.BooleanType;
+import org.apache.flink.table.types.logical.DateType;
+import org.apache.flink.table.types.logical.DecimalType;
 import org.apache.flink.table.types.logical.DoubleType;
 import org.apache.flink.table.types.logical.IntType;
 import org.apache.flink.table.types.logical.RowType;
@@ -51,7 +56,10 @@ import org.junit.jupiter.api.Test;
 
 import java.io.File;
 import java.io.IOException;
+import java.math.BigDecimal;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -228,6 +236,131 @@ public class SparkReadITCase {
         innerTestNestedTypeFilterPushDown(spark.table("table_store.default.t2"));
     }
 
+    @Test
+    public void testColumnarRead() throws Exception {
+        innerTestColumnarRead("orc");
+        innerTestColumnarRead("parquet");
+    }
+
+    private void innerTestColumnarRead(String format) throws Exception {
+        Path tablePath = new Path(warehousePath, "default.db/columnar_" + format);
+        RowType rowType =
+                new RowType(
+                        Arrays.asList(
+                                new RowType.RowField("a", new IntType(false)),
+                                new RowType.RowField("b", new BigIntType()),
+                                new RowType.RowField("c", new VarCharType()),
+                                new RowType.RowField("d", new DecimalType(10, 2)),
+                                new RowType.RowField("e", new DateType()),
+                                new RowType.RowField("f", new BooleanType())));
+        Map<String, String> options = new HashMap<>();
+        options.put(CoreOptions.FILE_FORMAT.key(), format);
+        options.put(CoreOptions.WRITE_MODE.key(), WriteMode.APPEND_ONLY.toString());
+        SimpleTableTestHelper testHelper =
+                new SimpleTableTestHelper(
+                        tablePath,
+                        rowType,
+                        Collections.emptyList(),
+                        Collections.emptyList(),
+                        options);
+        testHelper.write(
+                GenericRowData.of(
+                        1,
+                        2L,
+                        StringData.fromString("1"),
+                        DecimalData.fromBigDecimal(new BigDecimal("1.23"), 10, 2),
+                        100,
+                        true));
+        testHelper.write(GenericRowData.of(3, null, null, null, null, null));
+        testHelper.commit();
+        testHelper.write(
+                GenericRowData.of(
+                        5,
+                        6L,
+                        StringData.fromString("3"),
+                        DecimalData.fromBigDecimal(new BigDecimal("4.56"), 10, 2),
+                        200,
+                        false));
+        testHelper.commit();
+
+        Dataset<Row> dataset = spark.table("table_store.default.columnar_" + format);
+        assertThat(dataset.queryExecution().executedPlan().toString()).contains("ColumnarToRow");
+        assertThat(dataset.orderBy("a").collectAsList().toString())
+                .isEqualTo(
+                        "[[1,2,1,1.23,1970-04-11,true], "
+                                + "[3,null,null,null,null,null], "
+                                + "[5,6,3,4.56,1970-07-20,false]]");
+        assertThat(dataset.select("c", "a").filter("a > 2").orderBy("a").collectAsList())
+                .hasToString("[[null,3], [3,5]]");
+    }
+
+    @Test
+    public void testAggregatePushDown() throws Exception {
+        innerTestAggregatePushDown("orc");
+        innerTestAggregatePushDown("parquet");
+
+        // files of tables with primary keys are not aggregated by statistics
+        Dataset<Row> dataset = spark.sql("SELECT COUNT(*) FROM table_store.default.t1");
+        assertThat(dataset.queryExecution().executedPlan().toString())
+                .doesNotContain("aggregated by statistics");
+        assertThat(dataset.collectAsList()).hasToString("[[2]]");
+    }
+
+    private void innerTestAggregatePushDown(String format) throws Exception {
+        Path tablePath = new Path(warehousePath, "default.db/aggregate_" + format);
+        RowType rowType =
+                new RowType(
+                        Arrays.asList(
+                                new RowType.RowField("a", new IntType(false)),
+                                new RowType.RowField("b", new BigIntType()),
+                                new RowType.RowField("c", new VarCharType()),
+                                new RowType.RowField("d", new DecimalType(10, 2))));
+        Map<String, String> options = new HashMap<>();
+        options.put(CoreOptions.FILE_FORMAT.key(), format);
+        options.put(CoreOptions.WRITE_MODE.key(), WriteMode.APPEND_ONLY.toString());
+        SimpleTableTestHelper testHelper =
+                new SimpleTableTestHelper(
+                        tablePath,
+                        rowType,
+                        Collections.emptyList(),
+                        Collections.emptyList(),
+                        options);
+        testHelper.write(
+                GenericRowData.of(
+                        1,
+                        2L,
+                        StringData.fromString("1"),
+                        DecimalData.fromBigDecimal(new BigDecimal("1.23"), 10, 2)));
+        testHelper.write(GenericRowData.of(3, null, null, null));
+        testHelper.commit();
+        testHelper.write(
+                GenericRowData.of(
+                        5,
+                        6L,
+                        StringData.fromString("3"),
+                        DecimalData.fromBigDecimal(new BigDecimal("4.56"), 10, 2)));
+        testHelper.commit();
+
+        Dataset<Row> dataset =
+                spark.sql(
+                        "SELECT COUNT(*), COUNT(b), MIN(a), MAX(b), MAX(c), MIN(d) "
+                                + "FROM table_store.default.aggregate_"
+                                + format);
+        assertThat(dataset.queryExecution().executedPlan().toString())
+                .contains("aggregated by statistics");
+        assertThat(dataset.collectAsList()).hasToString("[[3,2,1,6,3,1.23]]");
+
+        // filters are not answered from the statistics
+        dataset =
+                spark.sql(
+                        "SELECT COUNT(*), MAX(a) FROM table_store.default.aggregate_"
+                                + format
+                                + " WHERE a < 5");
+        assertThat(dataset.queryExecution().executedPlan().toString())
+                .doesNotContain("aggregated by statistics");
+        assertThat(dataset.collectAsList()).hasToString("[[2,3]]");
+    }
+
     @Test
     public void testSetAndRemoveOption() {
         spark.sql("ALTER TABLE table_store.default.t1 SET TBLPROPERTIES('xyc' 'unknown1')");